@@ -107,6 +107,7 @@ CREATE TABLE public.exposicao
     descricao    VARCHAR(255)                                                                                                    NULL,
     nome         VARCHAR(255)                                                                                                    NOT NULL,
     local_id     int8                                                                                                            NOT NULL,
+    total_obras  int8 DEFAULT 0                                                                                                  NOT NULL,
     created_by   VARCHAR(255)                                                                                                    NOT NULL,
     updated_by   VARCHAR(255)                                                                                                    NOT NULL,
     created_date TIMESTAMP                                                                                                       NOT NULL,
@@ -139,6 +140,7 @@ CREATE TABLE public.mokadex
 (
     id           int8 GENERATED BY DEFAULT AS IDENTITY ( INCREMENT BY 1 MINVALUE 1 MAXVALUE 2147483647 START 1 CACHE 1 NO CYCLE) NOT NULL,
     usuario_id   int8                                                                                                            NOT NULL,
+    versao       int8 DEFAULT 0                                                                                                  NOT NULL,
     created_by   VARCHAR(255)                                                                                                    NOT NULL,
     updated_by   VARCHAR(255)                                                                                                    NOT NULL,
     created_date TIMESTAMP                                                                                                       NOT NULL,
@@ -162,11 +164,22 @@ CREATE TABLE public.imagem
     id            int8 GENERATED BY DEFAULT AS IDENTITY ( INCREMENT BY 1 MINVALUE 1 MAXVALUE 2147483647 START 1 CACHE 1 NO CYCLE) NOT NULL,
     obra_id       int8,
     tamanho_bytes BIGINT,
-    conteudo      bytea                                                                                                           NOT NULL, -- A coluna que armazenará os dados binários
+    conteudo      bytea,                                                                                                                    -- Vazia quando o conteúdo está no armazenamento em disco
     data_upload   TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (obra_id) REFERENCES obra (id)
+    tipo_conteudo VARCHAR(255),
+    hash_conteudo VARCHAR(64),                                                                                            -- SHA-256 do conteúdo, usado como ETag
+    largura       INT,
+    altura        INT,
+    imagem_original_id int8,                                                                                              -- Preenchida nas variantes reduzidas, com a imagem enviada
+    imagem_exibicao_id int8,                                                                                              -- Variante exibida nos cards da obra
+    CONSTRAINT imagem_pkey PRIMARY KEY (id),
+    FOREIGN KEY (obra_id) REFERENCES obra (id),
+    FOREIGN KEY (imagem_original_id) REFERENCES imagem (id) ON DELETE CASCADE,
+    FOREIGN KEY (imagem_exibicao_id) REFERENCES imagem (id) ON DELETE SET NULL
 );
 
+CREATE INDEX idx_imagem_original ON public.imagem (imagem_original_id);
+
 CREATE TABLE public.emblema
 (
     id           int8 GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
@@ -191,6 +204,39 @@ CREATE TABLE public.mokadex_emblema
     CONSTRAINT fk_emblema FOREIGN KEY (emblema_id) REFERENCES emblema (id) ON DELETE CASCADE
 );
 
+CREATE TABLE public.mokadex_exposicao_progresso
+(
+    mokadex_id     int8 NOT NULL,
+    exposicao_id   int8 NOT NULL,
+    total_coletado int8 NOT NULL,
+    CONSTRAINT pk_mokadex_exposicao_progresso PRIMARY KEY (mokadex_id, exposicao_id),
+    CONSTRAINT fk_mokadex FOREIGN KEY (mokadex_id) REFERENCES mokadex (id) ON DELETE CASCADE,
+    CONSTRAINT fk_exposicao FOREIGN KEY (exposicao_id) REFERENCES exposicao (id) ON DELETE CASCADE
+);
+
+CREATE TABLE public.caixa_saida
+(
+    id               int8 GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+    destino          VARCHAR(255)                                                                                                            NOT NULL,
+    chave_roteamento VARCHAR(255)                                                                                                            NOT NULL,
+    tipo_conteudo    VARCHAR(255)                                                                                                            NOT NULL,
+    conteudo         TEXT                                                                                                                    NOT NULL,
+    data_criacao     TIMESTAMP                                                                                                               NOT NULL,
+    CONSTRAINT pk_caixa_saida PRIMARY KEY (id)
+);
+
+CREATE TABLE public.idempotencia_resposta
+(
+    usuario        VARCHAR(255) NOT NULL,
+    chave          VARCHAR(255) NOT NULL,
+    requisicao     TEXT         NOT NULL,
+    status_http    int4         NULL,
+    tipo_conteudo  VARCHAR(255) NULL,
+    conteudo       bytea        NULL,
+    data_expiracao TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_idempotencia_resposta PRIMARY KEY (usuario, chave)
+);
+
 -- public.usario_perfil chaves estrangeiras
 -- {
 -- 	"email":"test@test.com",
@@ -210,3 +256,15 @@ VALUES ('CURATOR', 'system', 'system', NOW(), NOW());
 INSERT INTO public.usuario (email, nome, senha, perfil_id, created_by, updated_by, created_date, updated_date)
 VALUES ('test@test.com', 'teste', '$2a$10$C.g8gn8iC9zu0..ALTIcButWBetd/fyH3a40Dc/sWhFCc3YsiNy6e', 3,
         'system', 'system', NOW(), NOW());
+
+-- Preenche os contadores de obras e de progresso de coleta a partir dos dados existentes; pode ser reexecutado
+UPDATE public.exposicao e
+SET total_obras = (SELECT count(*) FROM public.obra o WHERE o.exposicao_id = e.id);
+
+INSERT INTO public.mokadex_exposicao_progresso (mokadex_id, exposicao_id, total_coletado)
+SELECT mo.mokadex_id, o.exposicao_id, count(*)
+FROM public.mokadex_obra mo
+         JOIN public.obra o ON o.id = mo.obra_id
+WHERE o.exposicao_id IS NOT NULL
+GROUP BY mo.mokadex_id, o.exposicao_id
+ON CONFLICT (mokadex_id, exposicao_id) DO UPDATE SET total_coletado = excluded.total_coletado;
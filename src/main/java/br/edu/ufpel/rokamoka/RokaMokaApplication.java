@@ -11,10 +11,12 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.core.env.Environment;
 import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.TimeZone;
 
 @Slf4j
+@EnableScheduling
 @SpringBootApplication
 @ConfigurationPropertiesScan("br.edu.ufpel.rokamoka.config")
 public class RokaMokaApplication implements ApplicationContextAware, ApplicationListener<ContextClosedEvent> {
@@ -0,0 +1,53 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.dto.artwork.ArtworkQrCodeChangeDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerRestartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener class that applies the artwork QR code changes made through other instances to the
+ * {@link ArtworkQrCodeIndex} of this one, so that their QR codes are not rejected by its filter.
+ *
+ * <p>Changes are received through a queue of this instance alone, which is deleted when its connection drops. Changes
+ * broadcast in the meantime are lost, so the index is rebuilt whenever the consumer is restarted.
+ *
+ * @see ArtworkQrCodeChangeProducer
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtworkQrCodeChangeConsumer {
+
+    static final String LISTENER_ID = "artworkQrCodeChanges";
+
+    private final ArtworkQrCodeIndex artworkQrCodeIndex;
+    private final ArtworkQrCodeChangeProducer artworkQrCodeChangeProducer;
+
+    /**
+     * Applies a change broadcast by any instance, other than this one, to the index.
+     *
+     * @param change The artwork and its current QR code.
+     */
+    @RabbitListener(id = LISTENER_ID, queues = "#{artworksV1QrCodeQueue.name}")
+    public void consumeChange(ArtworkQrCodeChangeDTO change) {
+        if (this.artworkQrCodeChangeProducer.isLocal(change)) {
+            return;
+        }
+        log.debug("Alteração de QR code recebida para a obra [{}]", change.artworkId());
+        this.artworkQrCodeIndex.put(change.artworkId(), change.qrCode(), change.exhibitionId());
+    }
+
+    @EventListener
+    public void onConsumerRestarted(AsyncConsumerRestartedEvent event) {
+        if (event.getSource() instanceof AbstractMessageListenerContainer container
+                && LISTENER_ID.equals(container.getListenerId())) {
+            log.info("Consumidor de alterações de QR code reiniciado; reconstruindo o índice");
+            this.artworkQrCodeIndex.rebuild();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQExchangeConfigProperties;
+import br.edu.ufpel.rokamoka.core.OutboxMessage;
+import br.edu.ufpel.rokamoka.dto.artwork.ArtworkQrCodeChangeDTO;
+import br.edu.ufpel.rokamoka.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+
+/**
+ * Producer class responsible for broadcasting artwork QR code changes to the {@link ArtworkQrCodeIndex} of every
+ * instance.
+ *
+ * <p>Like emblem collection events, changes are stored in the outbox within the caller's transaction and published
+ * afterward by the {@link OutboxRelay}, so a change is broadcast if and only if it commits.
+ *
+ * @see ArtworkQrCodeChangeConsumer
+ */
+@Component
+@RequiredArgsConstructor
+public class ArtworkQrCodeChangeProducer {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RabbitMQExchangeConfigProperties rabbitMQExchangeConfigProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Broadcasts the current QR code of an artwork, once the current transaction commits.
+     *
+     * @param artworkId The ID of the artwork.
+     * @param qrCode The QR code of the artwork; {@code null} if it has none or was deleted.
+     * @param exhibitionId The ID of the exhibition of the artwork, if any.
+     *
+     * @throws org.springframework.transaction.IllegalTransactionStateException If there is no active transaction.
+     */
+    @Transactional(propagation = MANDATORY)
+    public void publishChange(Long artworkId, String qrCode, Long exhibitionId) {
+        var change = new ArtworkQrCodeChangeDTO(this.instanceId, artworkId, qrCode, exhibitionId);
+        this.outboxMessageRepository.save(OutboxMessage.builder()
+                .exchange(this.rabbitMQExchangeConfigProperties.getArtworks())
+                .payloadType(ArtworkQrCodeChangeDTO.class.getName())
+                .payload(this.toJson(change))
+                .build());
+    }
+
+    /**
+     * Tells whether a change was broadcast by this instance, which has already applied it to its own index.
+     *
+     * @param change The received change.
+     *
+     * @return {@code true} if the change comes from this instance.
+     */
+    public boolean isLocal(ArtworkQrCodeChangeDTO change) {
+        return this.instanceId.equals(change.origin());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return this.objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Falha ao serializar mensagem", e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ArtworkQrCodeIndexConfigProperties;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import br.edu.ufpel.rokamoka.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of the artworks by QR code, holding the ID and exhibition of every artwork that has one, so that
+ * scans are resolved without a round trip to the database.
+ *
+ * <p>The index is built at startup. Services that create, change or delete artworks must call
+ * {@link #put(Long, String, Long)} or {@link #remove(Long)}, which apply the change once their transaction commits,
+ * and broadcast it through the {@link ArtworkQrCodeChangeProducer}; the {@link ArtworkQrCodeChangeConsumer} applies
+ * the changes made through other instances. The index is also rebuilt every
+ * {@code cache.artwork-qr-code.refresh-interval}, which brings in any change missed while the broker was unreachable.
+ * Changes applied while a rebuild is loading are replayed on the rebuilt index, so they are never lost.
+ *
+ * <p>A QR code missing from the index is not necessarily unknown: it may belong to an artwork whose change has not
+ * reached this instance yet, so callers fall back to the database on a miss, unless {@link #mightExist(String)}
+ * rules it out. That check is answered by a {@link BloomFilter} over every indexed QR code, which rejects the codes
+ * of no artwork without touching the database; it is rebuilt with the index, and whenever it outgrows its capacity.
+ * The codes of artworks created through another instance are rejected only until their change is delivered, within
+ * about one {@code broker.outbox.fixed-delay}. The filter only rejects anything once the index has been built.
+ *
+ * @see ArtworkQrCodeIndexConfigProperties
+ */
+@Slf4j
+@Component
+public class ArtworkQrCodeIndex {
+
+    private static final int MINIMUM_FILTER_CAPACITY = 1024;
+
+    private final ArtworkRepository artworkRepository;
+    private final ArtworkQrCodeIndexConfigProperties artworkQrCodeIndexConfigProperties;
+
+    private final Counter rejectedCounter;
+    private final Counter falsePositiveCounter;
+
+    private final Object writeLock = new Object();
+    private final Lock rebuildLock = new ReentrantLock();
+    private volatile State state = new State();
+    private List<Consumer<State>> changesDuringRebuild;
+
+    public ArtworkQrCodeIndex(ArtworkRepository artworkRepository,
+            ArtworkQrCodeIndexConfigProperties artworkQrCodeIndexConfigProperties, MeterRegistry meterRegistry) {
+        this.artworkRepository = artworkRepository;
+        this.artworkQrCodeIndexConfigProperties = artworkQrCodeIndexConfigProperties;
+        this.rejectedCounter = Counter.builder("rokamoka.artwork.qrcode.filter.rejected")
+                .description("QR codes rejetados pelo filtro por não pertencerem a nenhuma obra")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("rokamoka.artwork.qrcode.filter.false.positives")
+                .description("QR codes aceitos pelo filtro que não pertencem a nenhuma obra")
+                .register(meterRegistry);
+        Gauge.builder("rokamoka.artwork.qrcode.filter.false.positive.probability", this,
+                        index -> index.state.filter.expectedFalsePositiveProbability())
+                .description("Probabilidade estimada de o filtro aceitar um QR code de nenhuma obra")
+                .register(meterRegistry);
+        Gauge.builder("rokamoka.artwork.qrcode.index.size", this, index -> index.state.entriesByQrCode.size())
+                .description("Obras com QR code no índice em memória")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks up the artwork of a QR code.
+     *
+     * @param qrCode The scanned QR code.
+     *
+     * @return The ID and exhibition of the artwork, or empty if the QR code is not in the index.
+     */
+    public Optional<ArtworkQrCodeDTO> find(String qrCode) {
+        return qrCode == null ? Optional.empty() : Optional.ofNullable(this.state.entriesByQrCode.get(qrCode));
+    }
+
+    /**
+     * Tests, with the filter alone, whether a QR code may belong to an artwork. Rejections are counted.
+     *
+     * @param qrCode The scanned QR code.
+     *
+     * @return {@code false} if no artwork known to this instance has the QR code; {@code true} otherwise, including
+     * while the index has not been built yet.
+     */
+    public boolean mightExist(String qrCode) {
+        var current = this.state;
+        if (qrCode == null || (current.built && !current.filter.mightContain(qrCode))) {
+            this.rejectedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Counts QR codes accepted by {@link #mightExist(String)} that turned out to belong to no artwork.
+     *
+     * @param count The number of such QR codes.
+     */
+    public void recordFalsePositives(int count) {
+        if (count > 0) {
+            this.falsePositiveCounter.increment(count);
+        }
+    }
+
+    /**
+     * Indexes an artwork under its current QR code, replacing any previous one. Inside a transaction, the change is
+     * only applied after it commits.
+     *
+     * @param artworkId The ID of the artwork.
+     * @param qrCode The QR code of the artwork; {@code null} removes the artwork from the index.
+     * @param exhibitionId The ID of the exhibition of the artwork, if any.
+     */
+    public void put(Long artworkId, String qrCode, Long exhibitionId) {
+        if (artworkId == null) {
+            return;
+        }
+        this.afterCommit(() -> this.apply(state -> state.put(new Entry(artworkId, qrCode, exhibitionId))));
+    }
+
+    /**
+     * Removes an artwork from the index. Inside a transaction, the change is only applied after it commits.
+     *
+     * @param artworkId The ID of the deleted artwork.
+     */
+    public void remove(Long artworkId) {
+        if (artworkId == null) {
+            return;
+        }
+        this.afterCommit(() -> this.apply(state -> state.remove(artworkId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        this.rebuild();
+    }
+
+    /**
+     * Rebuilds the index and its filter from the {@code obra} table. Artworks put or removed while the table is read
+     * are replayed onto the new index before it replaces the current one; if the query fails, the current one is kept.
+     */
+    @Scheduled(initialDelayString = "#{@artworkQrCodeIndexConfigProperties.refreshInterval}",
+            fixedDelayString = "#{@artworkQrCodeIndexConfigProperties.refreshInterval}")
+    public void rebuild() {
+        if (!this.rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            synchronized (this.writeLock) {
+                this.changesDuringRebuild = new ArrayList<>();
+            }
+
+            var rebuilt = new State();
+            try {
+                for (ArtworkQrCodeDTO artwork : this.artworkRepository.findAllQrCodeSummaries()) {
+                    rebuilt.put(new Entry(artwork.getId(), artwork.getQrCode(), artwork.getExhibitionId()));
+                }
+                rebuilt.rebuildFilter(this.artworkQrCodeIndexConfigProperties.getFalsePositiveProbability());
+            } catch (Exception e) {
+                synchronized (this.writeLock) {
+                    this.changesDuringRebuild = null;
+                }
+                log.warn("Falha ao reconstruir o índice de QR codes: [{}]", e.getMessage());
+                return;
+            }
+
+            synchronized (this.writeLock) {
+                this.changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                this.changesDuringRebuild = null;
+                this.state = rebuilt;
+            }
+            log.info("Índice de QR codes reconstruído com [{}] obras em [{}] ms", rebuilt.entriesByQrCode.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            this.rebuildLock.unlock();
+        }
+    }
+
+    private void apply(Consumer<State> change) {
+        synchronized (this.writeLock) {
+            change.accept(this.state);
+            if (this.changesDuringRebuild != null) {
+                this.changesDuringRebuild.add(change);
+            }
+            if (this.state.built && this.state.entriesByQrCode.size() > this.state.filter.capacity()) {
+                this.state.rebuildFilter(this.artworkQrCodeIndexConfigProperties.getFalsePositiveProbability());
+            }
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * The ID and exhibition of an indexed artwork.
+     */
+    private record Entry(Long id, String qrCode, Long exhibitionId) implements ArtworkQrCodeDTO {
+
+        @Override
+        public Long getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getQrCode() {
+            return this.qrCode;
+        }
+
+        @Override
+        public Long getExhibitionId() {
+            return this.exhibitionId;
+        }
+    }
+
+    /**
+     * The indexed artworks, by QR code and by ID, and the filter over their QR codes; written under the write lock and
+     * read without it. Removed QR codes stay in the filter until it is rebuilt.
+     */
+    private static final class State {
+
+        private final Map<String, Entry> entriesByQrCode = new ConcurrentHashMap<>();
+        private final Map<Long, String> qrCodesByArtworkId = new ConcurrentHashMap<>();
+        private volatile BloomFilter filter = new BloomFilter(1, 0.5);
+        private volatile boolean built;
+
+        private void put(Entry entry) {
+            this.remove(entry.id());
+            if (entry.qrCode() != null) {
+                this.entriesByQrCode.put(entry.qrCode(), entry);
+                this.qrCodesByArtworkId.put(entry.id(), entry.qrCode());
+                this.filter.put(entry.qrCode());
+            }
+        }
+
+        private void rebuildFilter(double falsePositiveProbability) {
+            var rebuilt = new BloomFilter(Math.max(MINIMUM_FILTER_CAPACITY, this.entriesByQrCode.size() * 2),
+                    falsePositiveProbability);
+            this.entriesByQrCode.keySet().forEach(rebuilt::put);
+            this.filter = rebuilt;
+            this.built = true;
+        }
+
+        private void remove(Long artworkId) {
+            var qrCode = this.qrCodesByArtworkId.remove(artworkId);
+            if (qrCode != null) {
+                this.entriesByQrCode.computeIfPresent(qrCode,
+                        (key, entry) -> entry.id().equals(artworkId) ? null : entry);
+            }
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Listener class for processing emblem collection events from a RabbitMQ queue.
  *
@@ -31,7 +33,8 @@ public class CollectEmblemConsumer {
      * @param collectEmblemDTO The data transfer object containing the necessary IDs for identifying and collecting the
      * emblem.
      */
-    @RabbitListener(queues = "#{@rabbitMQQueueConfigProperties.collectEmblem}")
+    @RabbitListener(queues = "#{@rabbitMQQueueConfigProperties.collectEmblem}",
+            autoStartup = "#{!@rabbitMQConsumerConfigProperties.batchEnabled}")
     public void consumeCollectEmblem(CollectEmblemDTO collectEmblemDTO) {
         log.info("Listener coletar emblema acionado para [{}]", collectEmblemDTO);
 
@@ -42,6 +45,23 @@ public class CollectEmblemConsumer {
         log.info("Listener coletar emblema finalizado para [{}]", collectEmblemDTO);
     }
 
+    /**
+     * Processes a batch of messages from a RabbitMQ queue to handle emblem collection events. Only active when
+     * {@code broker.consumer.batch-enabled} is set; the whole batch is acknowledged once this method returns.
+     *
+     * @param collectEmblemDTOs The data transfer objects of every message in the batch.
+     */
+    @RabbitListener(queues = "#{@rabbitMQQueueConfigProperties.collectEmblem}",
+            containerFactory = "collectEmblemBatchContainerFactory",
+            autoStartup = "#{@rabbitMQConsumerConfigProperties.batchEnabled}")
+    public void consumeCollectEmblemBatch(List<CollectEmblemDTO> collectEmblemDTOs) {
+        log.info("Listener coletar emblema acionado para lote de [{}] mensagens", collectEmblemDTOs.size());
+
+        var awarded = this.mokadexService.collectEmblems(collectEmblemDTOs);
+
+        log.info("Listener coletar emblema finalizado para lote: [{}] emblemas coletados", awarded.size());
+    }
+
     private void tryToCollectEmblem(Long mokadexId, Emblem emblem) {
         try {
             this.mokadexService.collectEmblem(mokadexId, emblem);
@@ -1,37 +1,65 @@
 package br.edu.ufpel.rokamoka.component;
 
 import br.edu.ufpel.rokamoka.config.broker.RabbitMQExchangeConfigProperties;
-import br.edu.ufpel.rokamoka.core.Exhibition;
-import br.edu.ufpel.rokamoka.core.Mokadex;
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQPartitionConfigProperties;
+import br.edu.ufpel.rokamoka.core.OutboxMessage;
 import br.edu.ufpel.rokamoka.dto.emblem.CollectEmblemDTO;
+import br.edu.ufpel.rokamoka.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.hibernate.service.spi.ServiceException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
 
 /**
  * Producer class responsible for publishing emblem collection events to a RabbitMQ exchange.
  *
+ * <p>Events are not sent to the broker directly: they are stored in the outbox within the caller's transaction and
+ * published afterward by the {@link OutboxRelay}. In partitioned mode, they are addressed to the partition of their
+ * Mokadex, so that the events of a Mokadex are consumed in order.
+ *
  * @author MauricioMucci
+ * @see OutboxMessage
  */
 @Component
 @RequiredArgsConstructor
 public class CollectEmblemProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxMessageRepository outboxMessageRepository;
     private final RabbitMQExchangeConfigProperties rabbitMQExchangeConfigProperties;
+    private final RabbitMQPartitionConfigProperties rabbitMQPartitionConfigProperties;
+    private final ObjectMapper objectMapper;
 
     /**
-     * Publishes an emblem collection event to a RabbitMQ exchange.
+     * Publishes an emblem collection event to a RabbitMQ exchange, once the current transaction commits.
+     *
+     * @param mokadexId The ID of the Mokadex that is the source of the emblem collection request.
+     * @param exhibitionId The ID of the target exhibition for the emblem collection.
      *
-     * @param mokadex The {@link Mokadex} object whose ID identifies the source of the emblem collection request.
-     * @param exhibition The {@link Exhibition} object whose ID identifies the target exhibition for the emblem collection.
+     * @throws org.springframework.transaction.IllegalTransactionStateException If there is no active transaction.
      */
-    public void publishCollectEmblem(Mokadex mokadex, Exhibition exhibition) {
-        CollectEmblemDTO collectEmblemDTO = new CollectEmblemDTO(mokadex.getId(), exhibition.getId());
-        this.rabbitTemplate.convertAndSend(
-                this.rabbitMQExchangeConfigProperties.getEmblems(),
-                "",
-                collectEmblemDTO
-        );
+    @Transactional(propagation = MANDATORY)
+    public void publishCollectEmblem(Long mokadexId, Long exhibitionId) {
+        CollectEmblemDTO collectEmblemDTO = new CollectEmblemDTO(mokadexId, exhibitionId);
+        var outboxMessage = OutboxMessage.builder()
+                .exchange(this.rabbitMQExchangeConfigProperties.getEmblems())
+                .payloadType(CollectEmblemDTO.class.getName())
+                .payload(this.toJson(collectEmblemDTO));
+        if (this.rabbitMQPartitionConfigProperties.isEnabled()) {
+            outboxMessage.exchange(this.rabbitMQExchangeConfigProperties.getEmblemsPartitioned())
+                    .routingKey(String.valueOf(this.rabbitMQPartitionConfigProperties.partitionOf(mokadexId)));
+        }
+        this.outboxMessageRepository.save(outboxMessage.build());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return this.objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Falha ao serializar mensagem", e);
+        }
     }
 }
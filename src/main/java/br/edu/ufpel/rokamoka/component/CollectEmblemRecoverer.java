@@ -0,0 +1,103 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQQueueConfigProperties;
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQRetryConfigProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Recoverer for emblem collection messages whose processing failed.
+ *
+ * <p>Instead of being requeued right away, which makes a poison message loop forever, a failed message is republished
+ * to the delay queue of its next attempt, counted by the {@value #RETRY_ATTEMPTS_HEADER} header, from which it returns
+ * to the queue it was consumed from. Once the maximum
+ * number of attempts is reached, it is parked in the dead-letter queue for manual inspection. Messages rejected on
+ * purpose by the listener, with an {@link AmqpRejectAndDontRequeueException}, are discarded as before.
+ *
+ * <p>Registered as the recoverer of the listener retry interceptor (see {@code spring.rabbitmq.listener.simple.retry}),
+ * it applies to both the single and the batch emblem listeners; the original message is acknowledged after being
+ * republished.
+ *
+ * @see RabbitMQRetryConfigProperties
+ */
+@Slf4j
+@Component
+public class CollectEmblemRecoverer implements MessageBatchRecoverer {
+
+    public static final String RETRY_ATTEMPTS_HEADER = "x-retry-attempts";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQQueueConfigProperties rabbitMQQueueConfigProperties;
+    private final RabbitMQRetryConfigProperties rabbitMQRetryConfigProperties;
+
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter discardedCounter;
+
+    public CollectEmblemRecoverer(RabbitTemplate rabbitTemplate,
+            RabbitMQQueueConfigProperties rabbitMQQueueConfigProperties,
+            RabbitMQRetryConfigProperties rabbitMQRetryConfigProperties, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.rabbitMQQueueConfigProperties = rabbitMQQueueConfigProperties;
+        this.rabbitMQRetryConfigProperties = rabbitMQRetryConfigProperties;
+        this.retriedCounter = Counter.builder("rokamoka.broker.emblems.collect.retried")
+                .description("Mensagens de coleta de emblema reenviadas para nova tentativa")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("rokamoka.broker.emblems.collect.dead.lettered")
+                .description("Mensagens de coleta de emblema movidas para a fila de mensagens mortas")
+                .register(meterRegistry);
+        this.discardedCounter = Counter.builder("rokamoka.broker.emblems.collect.discarded")
+                .description("Mensagens de coleta de emblema rejeitadas e descartadas pelo listener")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        messages.forEach(message -> this.recover(message, cause));
+    }
+
+    @Override
+    public void recover(Message message, Throwable cause) {
+        if (ExceptionUtils.indexOfType(cause, AmqpRejectAndDontRequeueException.class) >= 0) {
+            log.warn("Mensagem [{}] descartada: [{}]", message.getMessageProperties().getMessageId(),
+                    ExceptionUtils.getRootCauseMessage(cause));
+            this.discardedCounter.increment();
+            return;
+        }
+
+        var properties = message.getMessageProperties();
+        Integer previousAttempts = properties.getHeader(RETRY_ATTEMPTS_HEADER);
+        int attempts = (previousAttempts == null ? 0 : previousAttempts) + 1;
+        properties.setHeader(RETRY_ATTEMPTS_HEADER, attempts);
+        properties.setHeader(EXCEPTION_MESSAGE_HEADER, ExceptionUtils.getRootCauseMessage(cause));
+
+        String queue = properties.getConsumerQueue() != null
+                       ? properties.getConsumerQueue()
+                       : this.rabbitMQQueueConfigProperties.getCollectEmblem();
+        if (attempts >= this.rabbitMQRetryConfigProperties.getMaxAttempts()) {
+            String dlq = this.rabbitMQQueueConfigProperties.getCollectEmblemDlq();
+            log.error("Mensagem [{}] movida para [{}] após [{}] tentativas", properties.getMessageId(), dlq, attempts,
+                    cause);
+            this.rabbitTemplate.send("", dlq, message);
+            this.deadLetteredCounter.increment();
+            return;
+        }
+
+        String retryQueue = this.rabbitMQRetryConfigProperties.retryQueueName(queue, attempts);
+        log.warn("Mensagem [{}] reenviada para [{}] (tentativa [{}] de [{}]): [{}]", properties.getMessageId(),
+                retryQueue, attempts, this.rabbitMQRetryConfigProperties.getMaxAttempts(),
+                ExceptionUtils.getRootCauseMessage(cause));
+        this.rabbitTemplate.send("", retryQueue, message);
+        this.retriedCounter.increment();
+    }
+}
@@ -0,0 +1,84 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.IdempotencyConfigProperties;
+import br.edu.ufpel.rokamoka.core.IdempotencyRecord;
+import br.edu.ufpel.rokamoka.core.IdempotencyRecordId;
+import br.edu.ufpel.rokamoka.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+/**
+ * {@link IdempotencyStore} backed by the {@code idempotencia_resposta} table, shared by every instance.
+ *
+ * <p>Each operation runs, and commits, in its own transaction, so a key is visible to the other instances as soon as
+ * it is taken, and never as part of the transaction of the request it guards.
+ *
+ * @see IdempotencyRecordRepository
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyConfigProperties idempotencyConfigProperties;
+
+    @Override
+    @Transactional(propagation = REQUIRES_NEW)
+    public Optional<Entry> reserve(String username, String key, String fingerprint) {
+        var now = LocalDateTime.now();
+        var expiresAt = now.plus(this.idempotencyConfigProperties.getLockTimeout(), ChronoUnit.MILLIS);
+        if (this.idempotencyRecordRepository.reserve(username, key, fingerprint, now, expiresAt) > 0) {
+            return Optional.empty();
+        }
+        // Released in between: report it as held, the client retries
+        return Optional.of(this.idempotencyRecordRepository.findById(new IdempotencyRecordId(username, key))
+                .map(DatabaseIdempotencyStore::toEntry)
+                .orElse(new Entry(fingerprint, null)));
+    }
+
+    @Override
+    @Transactional(propagation = REQUIRES_NEW)
+    public void complete(String username, String key, StoredResponse response) {
+        var expiresAt = LocalDateTime.now().plus(this.idempotencyConfigProperties.getTtl(), ChronoUnit.MILLIS);
+        this.idempotencyRecordRepository.complete(username, key, response.status(), response.contentType(),
+                response.body(), expiresAt);
+    }
+
+    @Override
+    @Transactional(propagation = REQUIRES_NEW)
+    public void release(String username, String key) {
+        this.idempotencyRecordRepository.deleteById(new IdempotencyRecordId(username, key));
+    }
+
+    /**
+     * Removes the expired keys, which are otherwise only replaced when the same key is sent again.
+     */
+    @Transactional(propagation = REQUIRES_NEW)
+    @Scheduled(fixedDelayString = "#{@idempotencyConfigProperties.cleanupInterval}")
+    public void deleteExpired() {
+        int deleted = this.idempotencyRecordRepository.deleteAllExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[{}] chaves de idempotência expiradas removidas", deleted);
+        }
+    }
+
+    private static Entry toEntry(IdempotencyRecord idempotencyRecord) {
+        StoredResponse response = idempotencyRecord.getStatus() == null
+                                  ? null
+                                  : new StoredResponse(idempotencyRecord.getStatus(),
+                                          idempotencyRecord.getContentType(), idempotencyRecord.getBody());
+        return new Entry(idempotencyRecord.getFingerprint(), response);
+    }
+}
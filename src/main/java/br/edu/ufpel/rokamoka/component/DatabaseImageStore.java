@@ -0,0 +1,39 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.core.Image;
+import br.edu.ufpel.rokamoka.repository.ImageRepository;
+import br.edu.ufpel.rokamoka.utils.ContentDigest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.util.Optional;
+
+/**
+ * {@link ImageStore} that keeps the content in the {@code conteudo} column of the {@code imagem} table, streamed to
+ * the database as it is read.
+ *
+ * @see ImageRepository#writeContent(Long, InputStream, long)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "storage.image", name = "store", havingValue = "database", matchIfMissing = true)
+public class DatabaseImageStore implements ImageStore {
+
+    private final ImageRepository imageRepository;
+
+    @Override
+    public void write(Image image, InputStream content) {
+        var digestInput = new DigestInputStream(content, ContentDigest.sha256());
+        this.imageRepository.writeContent(image.getId(), digestInput, image.getTamanhoBytes());
+        image.setHashConteudo(ContentDigest.hex(digestInput.getMessageDigest()));
+    }
+
+    @Override
+    public Optional<Resource> read(String hash) {
+        return Optional.empty();
+    }
+}
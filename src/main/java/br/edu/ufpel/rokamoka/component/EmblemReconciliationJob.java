@@ -0,0 +1,78 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.EmblemReconciliationConfigProperties;
+import br.edu.ufpel.rokamoka.service.mokadex.IMokadexService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Background job that awards the emblems missing from exhibitions that have been fully collected.
+ *
+ * <p>Emblems are otherwise only awarded as a side effect of collecting a star, so a lost collection event, or an
+ * emblem created after users had already collected every artwork of its exhibition, would never be fixed. The job
+ * walks every Mokadex in ID ranges of {@code reconciliation.emblem.chunk-size}, awarding each range with a single
+ * set-based statement in its own short transaction.
+ *
+ * @see IMokadexService#awardMissingEmblems(Long, Long)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "reconciliation.emblem", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EmblemReconciliationJob {
+
+    private final IMokadexService mokadexService;
+    private final EmblemReconciliationConfigProperties emblemReconciliationConfigProperties;
+
+    private final Counter awardedCounter;
+    private final Timer durationTimer;
+
+    public EmblemReconciliationJob(IMokadexService mokadexService,
+            EmblemReconciliationConfigProperties emblemReconciliationConfigProperties, MeterRegistry meterRegistry) {
+        this.mokadexService = mokadexService;
+        this.emblemReconciliationConfigProperties = emblemReconciliationConfigProperties;
+        this.awardedCounter = Counter.builder("rokamoka.emblems.reconciliation.awarded")
+                .description("Emblemas pendentes concedidos pela reconciliação")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("rokamoka.emblems.reconciliation.duration")
+                .description("Duração das execuções da reconciliação de emblemas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconciles every Mokadex, range by range. A failed range is logged and skipped, and is reconciled again on the
+     * next run.
+     */
+    @Scheduled(initialDelayString = "#{@emblemReconciliationConfigProperties.initialDelay}",
+            fixedDelayString = "#{@emblemReconciliationConfigProperties.fixedDelay}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        long chunkSize = Math.max(1, this.emblemReconciliationConfigProperties.getChunkSize());
+        long lastMokadexId = this.mokadexService.getLastMokadexId();
+
+        long awarded = 0;
+        int failedChunks = 0;
+        for (long from = 0; from < lastMokadexId; from += chunkSize) {
+            long to = Math.min(from + chunkSize, lastMokadexId);
+            try {
+                awarded += this.mokadexService.awardMissingEmblems(from, to);
+            } catch (Exception e) {
+                failedChunks++;
+                log.warn("Falha ao reconciliar emblemas das mokadex entre [{}] e [{}]: [{}]", from, to,
+                        e.getMessage());
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        this.awardedCounter.increment(awarded);
+        this.durationTimer.record(elapsed);
+        log.info("Reconciliação de emblemas concluída: [{}] emblemas concedidos em [{}] ms, [{}] faixas com falha",
+                awarded, elapsed.toMillis(), failedChunks);
+    }
+}
@@ -0,0 +1,110 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ExhibitionArtworkIndexConfigProperties;
+import br.edu.ufpel.rokamoka.core.Exhibition;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
+import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import br.edu.ufpel.rokamoka.repository.ExhibitionRepository;
+import br.edu.ufpel.rokamoka.utils.LongIdSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the artworks of each {@link Exhibition}, kept as an ID-sorted array of lightweight summaries.
+ *
+ * <p>Entries are loaded on demand with a single scalar query, so no artwork entity (and none of the exhibition,
+ * location and address it eagerly loads) is ever hydrated, and they expire after
+ * {@code cache.exhibition-artwork.ttl}. Services that change the artworks of an exhibition must call
+ * {@link #evict(Long)}, which drops the entry once their transaction commits; the TTL bounds how long other instances,
+ * or a reader racing with the commit, may serve the previous state.
+ *
+ * @see ExhibitionArtworkIndexConfigProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExhibitionArtworkIndex {
+
+    private final ArtworkRepository artworkRepository;
+    private final ExhibitionRepository exhibitionRepository;
+    private final ExhibitionArtworkIndexConfigProperties exhibitionArtworkIndexConfigProperties;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the artworks of an exhibition whose IDs are not in the given set, in ID order.
+     *
+     * @param exhibitionId The ID of the {@link Exhibition}.
+     * @param excludedIds The IDs of the artworks to leave out, e.g. the ones already collected.
+     *
+     * @return The summaries of the remaining artworks.
+     * @throws RokaMokaContentNotFoundException If the exhibition does not exist.
+     */
+    public List<ArtworkOutputDTO> findAllExcept(Long exhibitionId, LongIdSet excludedIds) {
+        var entry = this.getEntry(exhibitionId);
+        var remaining = new ArrayList<ArtworkOutputDTO>(Math.max(0, entry.ids().length - excludedIds.size()));
+        for (int i = 0; i < entry.ids().length; i++) {
+            if (!excludedIds.contains(entry.ids()[i])) {
+                remaining.add(entry.artworks()[i]);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Drops the entry of an exhibition. Inside a transaction, the entry is only dropped after it commits, so that it
+     * is not reloaded from the state being replaced.
+     *
+     * @param exhibitionId The ID of the {@link Exhibition} whose artworks changed.
+     */
+    public void evict(Long exhibitionId) {
+        if (exhibitionId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.entries.remove(exhibitionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ExhibitionArtworkIndex.this.entries.remove(exhibitionId);
+            }
+        });
+    }
+
+    private Entry getEntry(Long exhibitionId) {
+        long now = System.currentTimeMillis();
+        var entry = this.entries.get(exhibitionId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry;
+        }
+
+        List<ArtworkOutputDTO> artworks = this.artworkRepository.findAllSummariesByExhibitionId(exhibitionId);
+        if (artworks.isEmpty() && !this.exhibitionRepository.existsById(exhibitionId)) {
+            throw new RokaMokaContentNotFoundException("Exposição não encontrada");
+        }
+
+        long[] ids = artworks.stream().mapToLong(ArtworkOutputDTO::id).toArray();
+        entry = new Entry(ids, artworks.toArray(ArtworkOutputDTO[]::new),
+                now + this.exhibitionArtworkIndexConfigProperties.getTtl());
+        this.entries.put(exhibitionId, entry);
+
+        log.debug("Índice de obras da exposição [{}] carregado com [{}] obras", exhibitionId, ids.length);
+        return entry;
+    }
+
+    /**
+     * The artworks of an exhibition, with their IDs sorted and aligned by position with their summaries.
+     */
+    private record Entry(long[] ids, ArtworkOutputDTO[] artworks, long expiresAt) {}
+}
@@ -0,0 +1,83 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ImageStoreConfigProperties;
+import br.edu.ufpel.rokamoka.core.Image;
+import br.edu.ufpel.rokamoka.utils.ContentDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.util.Optional;
+
+/**
+ * {@link ImageStore} that keeps the content in files under {@code storage.image.root-directory}, named after their
+ * SHA-256 and spread over two levels of directories ({@code ab/cd/abcd...}).
+ *
+ * <p>Content is streamed to a temporary file, hashed on the way, and then atomically moved in place, so a reader never
+ * sees a partial file; a content that is already present is discarded instead. Files are never removed, since they may
+ * be shared by several images.
+ *
+ * @see ImageStoreConfigProperties
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage.image", name = "store", havingValue = "filesystem")
+public class FileSystemImageStore implements ImageStore {
+
+    private final Path rootDirectory;
+
+    public FileSystemImageStore(ImageStoreConfigProperties imageStoreConfigProperties) throws IOException {
+        this.rootDirectory = Files.createDirectories(Path.of(imageStoreConfigProperties.getRootDirectory()))
+                .toAbsolutePath();
+        log.info("Imagens armazenadas em [{}]", this.rootDirectory);
+    }
+
+    @Override
+    public void write(Image image, InputStream content) throws IOException {
+        Path temporary = Files.createTempFile(this.rootDirectory, "upload-", ".tmp");
+        try {
+            var digestInput = new DigestInputStream(content, ContentDigest.sha256());
+            try (OutputStream output = Files.newOutputStream(temporary)) {
+                digestInput.transferTo(output);
+            }
+            var hash = ContentDigest.hex(digestInput.getMessageDigest());
+
+            Path path = this.resolve(hash);
+            if (Files.notExists(path)) {
+                Files.createDirectories(path.getParent());
+                try {
+                    Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    log.debug("Conteúdo [{}] gravado por outra requisição", hash);
+                }
+            }
+            image.setHashConteudo(hash);
+            image.setConteudo(null);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public Optional<Resource> read(String hash) {
+        Path path = this.resolve(hash);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    private Path resolve(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Hash de imagem inválido: " + hash);
+        }
+        return this.rootDirectory.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+}
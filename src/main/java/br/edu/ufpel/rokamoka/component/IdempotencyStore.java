@@ -0,0 +1,69 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.filter.IdempotencyFilter;
+
+import java.util.Optional;
+
+/**
+ * Keeps the responses given to requests sent with an {@code Idempotency-Key}, per user, so that retries replay them.
+ *
+ * <p>A key goes through two states: held, while its first request is being processed, and completed, once the response
+ * is stored. Both expire: a held key after {@code idempotency.lock-timeout}, so that a request that never finished does
+ * not block its retries forever, and a completed one after {@code idempotency.ttl}.
+ *
+ * @see IdempotencyFilter
+ * @see InMemoryIdempotencyStore
+ * @see DatabaseIdempotencyStore
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Takes a key for a request, unless it is already held or completed.
+     *
+     * @param username The name of the user sending the request.
+     * @param key The key sent by the client.
+     * @param fingerprint The method, URI and body digest of the request.
+     *
+     * @return Empty if the key was taken for this request; otherwise, the entry currently under the key.
+     */
+    Optional<Entry> reserve(String username, String key, String fingerprint);
+
+    /**
+     * Stores the response of the request holding a key.
+     *
+     * @param username The name of the user that sent the request.
+     * @param key The key sent by the client.
+     * @param response The response to replay.
+     */
+    void complete(String username, String key, StoredResponse response);
+
+    /**
+     * Frees a key without storing a response, so that the next retry is processed again.
+     *
+     * @param username The name of the user that sent the request.
+     * @param key The key sent by the client.
+     */
+    void release(String username, String key);
+
+    /**
+     * What is under a key: the request that took it and, once it finished, its response.
+     *
+     * @param fingerprint The method, URI and body digest of the request that took the key.
+     * @param response The response of that request, or {@code null} while it is being processed.
+     */
+    record Entry(String fingerprint, StoredResponse response) {
+
+        public boolean isCompleted() {
+            return this.response != null;
+        }
+    }
+
+    /**
+     * A response as written to the client.
+     *
+     * @param status The HTTP status.
+     * @param contentType The content type, if any.
+     * @param body The body.
+     */
+    record StoredResponse(int status, String contentType, byte[] body) {}
+}
@@ -0,0 +1,156 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ImageRenditionConfigProperties;
+import br.edu.ufpel.rokamoka.event.ImageUploadedEvent;
+import br.edu.ufpel.rokamoka.service.image.IIMageService;
+import br.edu.ufpel.rokamoka.utils.ImageResizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the downscaled variants of the uploaded images in the background, so that uploads return as soon as the
+ * original image is saved.
+ *
+ * <p>Images are queued once the transaction that uploaded them commits, and rendered by a fixed pool of
+ * {@code storage.image.rendition.worker-threads} threads fed by a queue of {@code queue-capacity} images; decoding is
+ * memory-hungry, so neither grows with the load. Images that do not fit in the queue, or that were still queued when
+ * an instance stopped, are picked up by a periodic sweep for images without variants. Until its variants are saved,
+ * an artwork keeps pointing at its original image. An image that cannot be decoded is left pointing at itself for
+ * good, so that the sweep does not decode it again; any other failure leaves it to the sweep to retry.
+ *
+ * @see ImageResizer
+ * @see IIMageService#saveRenditions(Long, java.util.List)
+ */
+@Slf4j
+@Component
+public class ImageRenditionWorker {
+
+    private final IIMageService imageService;
+    private final ImageRenditionConfigProperties imageRenditionConfigProperties;
+    private final ThreadPoolExecutor executor;
+
+    private final Set<Long> pendingImageIds = ConcurrentHashMap.newKeySet();
+    private final Counter renderedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Timer durationTimer;
+
+    public ImageRenditionWorker(IIMageService imageService,
+            ImageRenditionConfigProperties imageRenditionConfigProperties, MeterRegistry meterRegistry) {
+        this.imageService = imageService;
+        this.imageRenditionConfigProperties = imageRenditionConfigProperties;
+        int threads = Math.max(1, imageRenditionConfigProperties.getWorkerThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, imageRenditionConfigProperties.getQueueCapacity())),
+                new CustomizableThreadFactory("image-rendition-"));
+        Gauge.builder("rokamoka.images.rendition.queued", this.executor, e -> e.getQueue().size())
+                .description("Imagens aguardando a geração de variantes")
+                .register(meterRegistry);
+        this.renderedCounter = Counter.builder("rokamoka.images.rendition.rendered")
+                .description("Imagens com variantes geradas")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("rokamoka.images.rendition.rejected")
+                .description("Imagens não enfileiradas por excesso de imagens pendentes")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("rokamoka.images.rendition.failed")
+                .description("Imagens cujas variantes não puderam ser geradas")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("rokamoka.images.rendition.duration")
+                .description("Duração da geração das variantes de uma imagem")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        this.enqueue(event.imageId());
+    }
+
+    /**
+     * Queues the images whose variants are missing, up to the room left in the queue.
+     */
+    @Scheduled(initialDelayString = "#{@imageRenditionConfigProperties.sweepInitialDelay}",
+            fixedDelayString = "#{@imageRenditionConfigProperties.sweepFixedDelay}")
+    public void enqueueMissing() {
+        int room = this.executor.getQueue().remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        int queued = 0;
+        for (Long id : this.imageService.findIdsWithoutRenditions(room)) {
+            if (this.enqueue(id)) {
+                queued++;
+            }
+        }
+        if (queued > 0) {
+            log.info("[{}] imagens sem variantes enfileiradas", queued);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private boolean enqueue(Long imageId) {
+        if (imageId == null || !this.pendingImageIds.add(imageId)) {
+            return false;
+        }
+        try {
+            this.executor.execute(() -> this.render(imageId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            this.pendingImageIds.remove(imageId);
+            this.rejectedCounter.increment();
+            log.warn("Fila de variantes cheia; imagem [{}] aguardará a próxima varredura", imageId);
+            return false;
+        }
+    }
+
+    private void render(Long imageId) {
+        long start = System.nanoTime();
+        try {
+            var metadata = this.imageService.getMetadataOrElseThrow(imageId);
+            try (InputStream input = this.imageService.getContentOrElseThrow(metadata).getInputStream()) {
+                var renditions = ImageResizer.render(input, this.imageRenditionConfigProperties.getWidths(),
+                        this.imageRenditionConfigProperties.getJpegQuality());
+                this.imageService.saveRenditions(imageId, renditions);
+            }
+            this.renderedCounter.increment();
+        } catch (ImageResizer.UnreadableImageException e) {
+            this.failedCounter.increment();
+            log.warn("Imagem [{}] não pôde ser decodificada: [{}]", imageId, e.getMessage());
+            this.skipRenditions(imageId);
+        } catch (Exception e) {
+            log.warn("Falha ao gerar as variantes da imagem [{}]; nova tentativa na próxima varredura: [{}]",
+                    imageId, e.getMessage());
+        } finally {
+            this.pendingImageIds.remove(imageId);
+            this.durationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void skipRenditions(Long imageId) {
+        try {
+            this.imageService.saveRenditions(imageId, List.of());
+        } catch (Exception e) {
+            log.warn("Falha ao marcar a imagem [{}] como sem variantes: [{}]", imageId, e.getMessage());
+        }
+    }
+}
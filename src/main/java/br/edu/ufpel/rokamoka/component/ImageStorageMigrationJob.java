@@ -0,0 +1,73 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ImageStoreConfigProperties;
+import br.edu.ufpel.rokamoka.service.image.IIMageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Background job that moves the content of the images still kept in the {@code imagem} table to the
+ * {@link FileSystemImageStore}, so that the table ends up holding only metadata.
+ *
+ * <p>Images are moved in chunks of {@code storage.image.migration-chunk-size}, each in its own short transaction, until
+ * a chunk comes back partially filled. Images keep being served from the table until their chunk is committed.
+ *
+ * @see IIMageService#migrateToStore(int)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "storage.image", name = "store", havingValue = "filesystem")
+public class ImageStorageMigrationJob {
+
+    private final IIMageService imageService;
+    private final ImageStoreConfigProperties imageStoreConfigProperties;
+
+    private final Counter migratedCounter;
+    private final Timer durationTimer;
+
+    public ImageStorageMigrationJob(IIMageService imageService, ImageStoreConfigProperties imageStoreConfigProperties,
+            MeterRegistry meterRegistry) {
+        this.imageService = imageService;
+        this.imageStoreConfigProperties = imageStoreConfigProperties;
+        this.migratedCounter = Counter.builder("rokamoka.images.migration.migrated")
+                .description("Imagens movidas do banco para o armazenamento em disco")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("rokamoka.images.migration.duration")
+                .description("Duração das execuções da migração de imagens")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves every image still kept in the table, chunk by chunk. A failed chunk stops the run, and is moved again on
+     * the next one.
+     */
+    @Scheduled(initialDelayString = "#{@imageStoreConfigProperties.migrationInitialDelay}",
+            fixedDelayString = "#{@imageStoreConfigProperties.migrationFixedDelay}")
+    public void migrate() {
+        long start = System.nanoTime();
+        int chunkSize = Math.max(1, this.imageStoreConfigProperties.getMigrationChunkSize());
+
+        long migrated = 0;
+        int moved;
+        try {
+            do {
+                moved = this.imageService.migrateToStore(chunkSize);
+                migrated += moved;
+            } while (moved == chunkSize);
+        } catch (Exception e) {
+            log.warn("Falha ao mover imagens para o armazenamento em disco: [{}]", e.getMessage());
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        this.migratedCounter.increment(migrated);
+        this.durationTimer.record(elapsed);
+        log.info("Migração de imagens concluída: [{}] imagens movidas em [{}] ms", migrated, elapsed.toMillis());
+    }
+}
@@ -0,0 +1,42 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.core.Image;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Keeps the content of the images, either in the {@code imagem} table itself or outside of the database, in which case
+ * the table only holds their metadata.
+ *
+ * <p>Content kept outside of the database is addressed by the SHA-256 of its bytes, so identical uploads share it and
+ * it never changes under a given address.
+ *
+ * @see DatabaseImageStore
+ * @see FileSystemImageStore
+ */
+public interface ImageStore {
+
+    /**
+     * Keeps the content of an image, copying it from a stream through a fixed-size buffer so that it is never held in
+     * memory as a whole, and records its SHA-256 in {@link Image#getHashConteudo()}. Stores that keep the content
+     * outside of the database clear {@link Image#getConteudo()}, so that the row only holds the metadata.
+     *
+     * @param image The image, already saved, with {@link Image#getTamanhoBytes()} holding the length of the content.
+     * @param content The content of the image; not closed.
+     *
+     * @throws IOException If reading or writing the content fails.
+     */
+    void write(Image image, InputStream content) throws IOException;
+
+    /**
+     * Opens the content kept outside of the database under a hash.
+     *
+     * @param hash The SHA-256 of the content, in hexadecimal.
+     *
+     * @return The content, or empty if this store does not hold it.
+     */
+    Optional<Resource> read(String hash);
+}
@@ -0,0 +1,66 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.IdempotencyConfigProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link IdempotencyStore} local to this instance, bounded to {@code idempotency.max-entries} keys.
+ *
+ * <p>Keys are kept in access order and the least recently used one is dropped when the bound is reached, so memory
+ * stays constant however many keys clients send. Retries reaching another instance are not recognized; use the
+ * {@code database} store when running more than one.
+ *
+ * @see IdempotencyConfigProperties
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyConfigProperties idempotencyConfigProperties;
+
+    private final Map<Key, Holder> holders = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Holder> eldest) {
+            return this.size() > InMemoryIdempotencyStore.this.idempotencyConfigProperties.getMaxEntries();
+        }
+    };
+
+    @Override
+    public synchronized Optional<Entry> reserve(String username, String key, String fingerprint) {
+        long now = System.currentTimeMillis();
+        var id = new Key(username, key);
+        var holder = this.holders.get(id);
+        if (holder != null && holder.expiresAt() > now) {
+            return Optional.of(holder.entry());
+        }
+        this.holders.put(id, new Holder(new Entry(fingerprint, null),
+                now + this.idempotencyConfigProperties.getLockTimeout()));
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void complete(String username, String key, StoredResponse response) {
+        var id = new Key(username, key);
+        var holder = this.holders.get(id);
+        if (holder != null) {
+            this.holders.put(id, new Holder(new Entry(holder.entry().fingerprint(), response),
+                    System.currentTimeMillis() + this.idempotencyConfigProperties.getTtl()));
+        }
+    }
+
+    @Override
+    public synchronized void release(String username, String key) {
+        this.holders.remove(new Key(username, key));
+    }
+
+    private record Key(String username, String key) {}
+
+    private record Holder(Entry entry, long expiresAt) {}
+}
@@ -0,0 +1,59 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.event.CollectionsRemovedEvent;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import br.edu.ufpel.rokamoka.service.leaderboard.ILeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the collector rankings up to date.
+ *
+ * <p>Collected stars and awarded emblems are added to the rankings after commit. Removals trigger a full rebuild, as
+ * do startup and a periodic schedule, which also brings in the collections made through other instances.
+ *
+ * @see ILeaderboardService
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardUpdater {
+
+    private final ILeaderboardService leaderboardService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStarCollected(StarCollectedEvent event) {
+        this.leaderboardService.recordStar(event.mokadexId(), event.username(), event.exhibitionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmblemAwarded(EmblemAwardedEvent event) {
+        this.leaderboardService.recordEmblem(event.mokadexId(), event.exhibitionId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCollectionsRemoved(CollectionsRemovedEvent event) {
+        this.rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        this.rebuild();
+    }
+
+    @Scheduled(initialDelayString = "#{@leaderboardConfigProperties.rebuildInterval}",
+            fixedDelayString = "#{@leaderboardConfigProperties.rebuildInterval}")
+    public void rebuild() {
+        try {
+            this.leaderboardService.rebuild();
+        } catch (Exception e) {
+            log.warn("Falha ao reconstruir os rankings: [{}]", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.MokadexStreamConfigProperties;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes the changes of each Mokadex to the Server-Sent Events connections opened by its owner.
+ *
+ * <p>Each connection has a bounded buffer drained by a small pool of sender threads shared by all the connections:
+ * publishing an event never blocks on a client, a connection that falls {@code buffer-size} events behind is closed,
+ * and an idle connection holds no thread, so a node can keep tens of thousands of them open. Heartbeats are sent on a
+ * fixed schedule to keep idle connections from being dropped by proxies.
+ *
+ * <p>Events produced by other instances arrive through the {@link MokadexStreamEventConsumer}. Those broadcast while
+ * this instance was disconnected from the broker are not pushed, so clients should refresh their Mokadex whenever they
+ * reconnect.
+ *
+ * @see MokadexStreamConfigProperties
+ * @see MokadexStreamEventProducer
+ */
+@Slf4j
+@Component
+public class MokadexEventStream {
+
+    public static final String STAR_COLLECTED = "star-collected";
+    public static final String EMBLEM_AWARDED = "emblem-awarded";
+
+    private final MokadexStreamConfigProperties mokadexStreamConfigProperties;
+    private final ExecutorService senderExecutor;
+
+    private final Map<Long, ConcurrentLinkedDeque<Connection>> connectionsByMokadexId = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter overflowCounter;
+
+    public MokadexEventStream(MokadexStreamConfigProperties mokadexStreamConfigProperties,
+            MeterRegistry meterRegistry) {
+        this.mokadexStreamConfigProperties = mokadexStreamConfigProperties;
+        this.senderExecutor = Executors.newFixedThreadPool(
+                Math.max(1, mokadexStreamConfigProperties.getSenderThreads()),
+                new CustomizableThreadFactory("mokadex-stream-"));
+        Gauge.builder("rokamoka.mokadex.stream.connections", this.connectionCount, AtomicInteger::get)
+                .description("Conexões SSE de mokadex abertas nesta instância")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("rokamoka.mokadex.stream.overflows")
+                .description("Conexões SSE de mokadex encerradas por excesso de eventos pendentes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a connection that receives the changes of a Mokadex. When the Mokadex already has
+     * {@code max-connections-per-mokadex} open connections, the oldest one is closed.
+     *
+     * @param mokadexId The ID of the Mokadex whose changes are pushed.
+     *
+     * @return The emitter backing the new connection.
+     */
+    public SseEmitter subscribe(Long mokadexId) {
+        var emitter = this.createEmitter(this.mokadexStreamConfigProperties.getTimeout());
+        var connection = new Connection(mokadexId, emitter,
+                new ArrayBlockingQueue<>(Math.max(1, this.mokadexStreamConfigProperties.getBufferSize())));
+
+        emitter.onCompletion(connection::unregister);
+        emitter.onTimeout(connection::close);
+        emitter.onError(error -> connection.unregister());
+
+        var connections = this.connectionsByMokadexId.compute(mokadexId, (id, current) -> {
+            var updated = current == null ? new ConcurrentLinkedDeque<Connection>() : current;
+            updated.addLast(connection);
+            return updated;
+        });
+        this.connectionCount.incrementAndGet();
+        while (connections.size() > Math.max(1, this.mokadexStreamConfigProperties.getMaxConnectionsPerMokadex())) {
+            var oldest = connections.peekFirst();
+            if (oldest == null || oldest == connection) {
+                break;
+            }
+            oldest.close();
+        }
+
+        connection.offer(SseEmitter.event().reconnectTime(this.mokadexStreamConfigProperties.getHeartbeatInterval())
+                .comment("conectado").build());
+        log.debug("Conexão SSE aberta para o mokadex [{}]", mokadexId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStarCollected(StarCollectedEvent event) {
+        this.publish(event.mokadexId(), STAR_COLLECTED, event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmblemAwarded(EmblemAwardedEvent event) {
+        this.publish(event.mokadexId(), EMBLEM_AWARDED, event);
+    }
+
+    @Scheduled(initialDelayString = "#{@mokadexStreamConfigProperties.heartbeatInterval}",
+            fixedDelayString = "#{@mokadexStreamConfigProperties.heartbeatInterval}")
+    public void sendHeartbeats() {
+        if (this.connectionCount.get() == 0) {
+            return;
+        }
+        var heartbeat = SseEmitter.event().comment("heartbeat").build();
+        this.connectionsByMokadexId.values().forEach(connections -> connections.forEach(c -> c.offer(heartbeat)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.connectionsByMokadexId.values().forEach(connections -> connections.forEach(Connection::close));
+        this.senderExecutor.shutdown();
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void publish(Long mokadexId, String name, Object data) {
+        if (mokadexId == null) {
+            return;
+        }
+        var connections = this.connectionsByMokadexId.get(mokadexId);
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+        var event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON).build();
+        connections.forEach(connection -> connection.offer(event));
+    }
+
+    /**
+     * An open connection and the events waiting to be written to it. At most one sender thread drains a connection at
+     * a time, so events are written in the order they were offered.
+     */
+    private final class Connection {
+
+        private final Long mokadexId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(Long mokadexId, SseEmitter emitter, Queue<Set<DataWithMediaType>> buffer) {
+            this.mokadexId = mokadexId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (this.closed.get()) {
+                return;
+            }
+            if (!this.buffer.offer(event)) {
+                log.debug("Conexão SSE do mokadex [{}] encerrada por excesso de eventos pendentes", this.mokadexId);
+                MokadexEventStream.this.overflowCounter.increment();
+                this.close();
+                return;
+            }
+            this.scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (this.draining.compareAndSet(false, true)) {
+                try {
+                    MokadexEventStream.this.senderExecutor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    this.draining.set(false);
+                    this.close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!this.closed.get() && (event = this.buffer.poll()) != null) {
+                    this.emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Falha ao enviar evento SSE ao mokadex [{}]: [{}]", this.mokadexId, e.getMessage());
+                this.unregister();
+                return;
+            } finally {
+                this.draining.set(false);
+            }
+            if (!this.closed.get() && !this.buffer.isEmpty()) {
+                this.scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (this.unregister()) {
+                this.emitter.complete();
+            }
+        }
+
+        private boolean unregister() {
+            if (!this.closed.compareAndSet(false, true)) {
+                return false;
+            }
+            this.buffer.clear();
+            MokadexEventStream.this.connectionCount.decrementAndGet();
+            MokadexEventStream.this.connectionsByMokadexId.computeIfPresent(this.mokadexId, (id, connections) -> {
+                connections.remove(this);
+                return connections.isEmpty() ? null : connections;
+            });
+            return true;
+        }
+    }
+}
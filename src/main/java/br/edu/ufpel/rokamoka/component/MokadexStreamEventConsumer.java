@@ -0,0 +1,47 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.dto.mokadex.MokadexStreamEventDTO;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener class that pushes the Mokadex collection events produced by other instances to the connections open on this
+ * one.
+ *
+ * <p>Events are received through a queue of this instance alone, which is deleted when its connection drops; events
+ * broadcast in the meantime are not pushed.
+ *
+ * @see MokadexStreamEventProducer
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MokadexStreamEventConsumer {
+
+    private final MokadexEventStream mokadexEventStream;
+    private final MokadexStreamEventProducer mokadexStreamEventProducer;
+
+    /**
+     * Pushes an event broadcast by any instance, other than this one, to the connections of its Mokadex.
+     *
+     * @param event The event and the Mokadex it belongs to.
+     */
+    @RabbitListener(queues = "#{mokadexV1StreamQueue.name}")
+    public void consumeEvent(MokadexStreamEventDTO event) {
+        if (this.mokadexStreamEventProducer.isLocal(event)) {
+            return;
+        }
+        log.debug("Evento [{}] recebido para o mokadex [{}]", event.name(), event.mokadexId());
+        switch (event.name()) {
+            case MokadexEventStream.STAR_COLLECTED -> this.mokadexEventStream.onStarCollected(
+                    new StarCollectedEvent(event.mokadexId(), event.username(), event.exhibitionId()));
+            case MokadexEventStream.EMBLEM_AWARDED -> this.mokadexEventStream.onEmblemAwarded(
+                    new EmblemAwardedEvent(event.mokadexId(), event.exhibitionId()));
+            default -> log.debug("Evento [{}] desconhecido ignorado", event.name());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQExchangeConfigProperties;
+import br.edu.ufpel.rokamoka.dto.mokadex.MokadexStreamEventDTO;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Producer class responsible for broadcasting the Mokadex collection events to the {@link MokadexEventStream} of every
+ * instance, so that they reach the clients connected to any of them.
+ *
+ * <p>Events are published straight to the broker rather than through the outbox: they are hints for clients that
+ * refresh their Mokadex whenever they reconnect, and an extra write on every collection would cost more than an
+ * occasional lost event.
+ *
+ * @see MokadexStreamEventConsumer
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MokadexStreamEventProducer {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQExchangeConfigProperties rabbitMQExchangeConfigProperties;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStarCollected(StarCollectedEvent event) {
+        this.broadcast(new MokadexStreamEventDTO(this.instanceId, MokadexEventStream.STAR_COLLECTED,
+                event.mokadexId(), event.username(), event.exhibitionId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmblemAwarded(EmblemAwardedEvent event) {
+        this.broadcast(new MokadexStreamEventDTO(this.instanceId, MokadexEventStream.EMBLEM_AWARDED,
+                event.mokadexId(), null, event.exhibitionId()));
+    }
+
+    /**
+     * Tells whether an event was broadcast by this instance, which has already pushed it to its own connections.
+     *
+     * @param event The received event.
+     *
+     * @return {@code true} if the event comes from this instance.
+     */
+    public boolean isLocal(MokadexStreamEventDTO event) {
+        return this.instanceId.equals(event.origin());
+    }
+
+    private void broadcast(MokadexStreamEventDTO event) {
+        if (event.mokadexId() == null) {
+            return;
+        }
+        try {
+            this.rabbitTemplate.convertAndSend(this.rabbitMQExchangeConfigProperties.getMokadex(), "", event);
+        } catch (AmqpException e) {
+            log.debug("Falha ao difundir o evento [{}] do mokadex [{}]: [{}]", event.name(), event.mokadexId(),
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQOutboxConfigProperties;
+import br.edu.ufpel.rokamoka.service.outbox.IOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background relay that drains the outbox into the broker.
+ *
+ * <p>Runs on the scheduler thread, so broker slowness only holds the connection used by the relay itself, never the
+ * ones serving requests.
+ *
+ * @see IOutboxService
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final IOutboxService outboxService;
+    private final RabbitMQOutboxConfigProperties rabbitMQOutboxConfigProperties;
+
+    /**
+     * Publishes pending messages batch by batch, until a batch comes back partially filled or a publication fails. A
+     * failed batch stays in the outbox and is retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "#{@rabbitMQOutboxConfigProperties.fixedDelay}")
+    public void relay() {
+        int published;
+        do {
+            try {
+                published = this.outboxService.publishPendingBatch();
+            } catch (Exception e) {
+                log.warn("Falha ao publicar mensagens da caixa de saída: [{}]", e.getMessage());
+                return;
+            }
+        } while (published == this.rabbitMQOutboxConfigProperties.getBatchSize());
+    }
+}
@@ -0,0 +1,84 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.QrCodeSigningConfigProperties;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.utils.QrCodeSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Issues and verifies the signed QR codes of the artworks, with the secret of {@code qrcode.signing.secret}.
+ *
+ * <p>A signed QR code carries the ID of its artwork and exhibition, so verifying it resolves the artwork with CPU work
+ * alone. It is issued to the artworks registered without a QR code of their own, and stored as their QR code, so it is
+ * also found by the lookups of the opaque QR codes. Without a secret, nothing is signed nor verified.
+ *
+ * @see QrCodeSignature
+ */
+@Component
+public class QrCodeSigner {
+
+    private final QrCodeSignature signature;
+
+    public QrCodeSigner(QrCodeSigningConfigProperties qrCodeSigningConfigProperties) {
+        var secret = qrCodeSigningConfigProperties.getSecret();
+        this.signature = StringUtils.hasText(secret)
+                ? new QrCodeSignature(secret.getBytes(StandardCharsets.UTF_8))
+                : null;
+    }
+
+    /**
+     * Issues the signed QR code of an artwork.
+     *
+     * @param artworkId The ID of the artwork.
+     * @param exhibitionId The ID of the exhibition of the artwork.
+     *
+     * @return The signed QR code, or empty if signing is disabled or either ID is missing.
+     */
+    public Optional<String> sign(Long artworkId, Long exhibitionId) {
+        if (this.signature == null || artworkId == null || exhibitionId == null) {
+            return Optional.empty();
+        }
+        return Optional.of(this.signature.sign(artworkId, exhibitionId));
+    }
+
+    /**
+     * Resolves a signed QR code to the IDs it carries, without touching the database.
+     *
+     * @param qrCode The scanned QR code.
+     *
+     * @return The ID and exhibition of the artwork, or empty if signing is disabled or the QR code is not validly
+     * signed.
+     */
+    public Optional<ArtworkQrCodeDTO> verify(String qrCode) {
+        if (this.signature == null || !QrCodeSignature.isSigned(qrCode)) {
+            return Optional.empty();
+        }
+        return this.signature.verify(qrCode).map(payload -> new SignedArtwork(payload.artworkId(), qrCode,
+                payload.exhibitionId()));
+    }
+
+    /**
+     * The ID and exhibition carried by a signed QR code.
+     */
+    private record SignedArtwork(Long id, String qrCode, Long exhibitionId) implements ArtworkQrCodeDTO {
+
+        @Override
+        public Long getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getQrCode() {
+            return this.qrCode;
+        }
+
+        @Override
+        public Long getExhibitionId() {
+            return this.exhibitionId;
+        }
+    }
+}
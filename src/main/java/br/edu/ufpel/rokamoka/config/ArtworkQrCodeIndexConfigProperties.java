@@ -0,0 +1,28 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the in-memory index of the artworks by QR code.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache.artwork-qr-code")
+public class ArtworkQrCodeIndexConfigProperties {
+
+    /**
+     * Delay, in milliseconds, between two rebuilds of the index from the database, which bring in any change made
+     * through other instances whose broadcast was missed.
+     */
+    private long refreshInterval = 300000;
+
+    /**
+     * Target probability of the QR code filter accepting a QR code of no artwork, once it holds as many QR codes as it
+     * was sized for; it is sized for twice the indexed QR codes.
+     */
+    private double falsePositiveProbability = 0.01;
+}
@@ -0,0 +1,28 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the job that awards the emblems missing from fully collected exhibitions.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "reconciliation.emblem")
+public class EmblemReconciliationConfigProperties {
+
+    /** Whether the job is scheduled at all. */
+    private boolean enabled = true;
+
+    /** Width of the Mokadex ID range reconciled by each statement, and transaction. */
+    private long chunkSize = 1000;
+
+    /** Delay, in milliseconds, between application startup and the first run. */
+    private long initialDelay = 60000;
+
+    /** Delay, in milliseconds, between the end of a run and the start of the next one. */
+    private long fixedDelay = 3600000;
+}
@@ -0,0 +1,22 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the in-memory index of the artworks of each exhibition.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cache.exhibition-artwork")
+public class ExhibitionArtworkIndexConfigProperties {
+
+    /**
+     * Time, in milliseconds, after which an exhibition is reloaded even if none of its artworks was changed through
+     * this instance.
+     */
+    private long ttl = 300000;
+}
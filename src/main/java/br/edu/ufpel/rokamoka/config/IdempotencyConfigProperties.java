@@ -0,0 +1,48 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the replay of requests sent with an {@code Idempotency-Key} header.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfigProperties {
+
+    /**
+     * Where the responses are kept: {@code memory}, local to each instance, or {@code database}, shared by every
+     * instance.
+     */
+    private StoreType store = StoreType.MEMORY;
+
+    /** Time, in milliseconds, during which a stored response is replayed to retries with the same key. */
+    private long ttl = 86400000;
+
+    /**
+     * Time, in milliseconds, after which a key whose first request never finished (e.g. the instance went down) can be
+     * taken by a retry.
+     */
+    private long lockTimeout = 60000;
+
+    /** Maximum number of keys kept by the in-memory store; the least recently used ones are dropped first. */
+    private int maxEntries = 10000;
+
+    /**
+     * Responses with a larger body, in bytes, are not stored, and retries are processed again; requests with a larger
+     * raw body are processed as if they had no key.
+     */
+    private int maxBodySize = 262144;
+
+    /** Delay, in milliseconds, between two removals of the expired keys of the database store. */
+    private long cleanupInterval = 3600000;
+
+    public enum StoreType {
+        MEMORY,
+        DATABASE
+    }
+}
@@ -0,0 +1,42 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Settings of the downscaled variants generated for the uploaded images.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "storage.image.rendition")
+public class ImageRenditionConfigProperties {
+
+    /** Widths, in pixels, of the variants generated for each image; widths not below the original are skipped. */
+    private List<Integer> widths = List.of(320, 640, 1280);
+
+    /**
+     * Width, in pixels, at which the artwork cards display images. Artworks point at the smallest variant at least
+     * this wide, or at the original image when no variant is.
+     */
+    private int displayWidth = 640;
+
+    /** Quality, between {@code 0} and {@code 1}, of the JPEG variants. */
+    private float jpegQuality = 0.85f;
+
+    /** Number of threads generating variants; each holds one decoded image in memory. */
+    private int workerThreads = 2;
+
+    /** Maximum number of images waiting for their variants; further images are picked up by the sweep. */
+    private int queueCapacity = 256;
+
+    /** Delay, in milliseconds, between application startup and the first sweep for images without variants. */
+    private long sweepInitialDelay = 60000;
+
+    /** Delay, in milliseconds, between the end of a sweep and the start of the next one. */
+    private long sweepFixedDelay = 600000;
+}
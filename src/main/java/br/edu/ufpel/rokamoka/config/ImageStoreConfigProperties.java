@@ -0,0 +1,39 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of where the content of the images is kept.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "storage.image")
+public class ImageStoreConfigProperties {
+
+    /**
+     * Where the content of new images is kept: {@code database}, in the {@code imagem} table, or {@code filesystem},
+     * under {@link #rootDirectory}, addressed by its hash.
+     */
+    private StoreType store = StoreType.DATABASE;
+
+    /** Directory under which the {@code filesystem} store keeps the images. */
+    private String rootDirectory = "images";
+
+    /** Number of images moved out of the database by each transaction of the migration job. */
+    private int migrationChunkSize = 50;
+
+    /** Delay, in milliseconds, between application startup and the first run of the migration job. */
+    private long migrationInitialDelay = 60000;
+
+    /** Delay, in milliseconds, between the end of a run of the migration job and the start of the next one. */
+    private long migrationFixedDelay = 3600000;
+
+    public enum StoreType {
+        DATABASE,
+        FILESYSTEM
+    }
+}
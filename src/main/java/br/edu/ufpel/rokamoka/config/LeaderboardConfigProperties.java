@@ -0,0 +1,25 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the in-memory collector rankings.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "leaderboard")
+public class LeaderboardConfigProperties {
+
+    /** Maximum number of entries returned by a top query. */
+    private int maxLimit = 100;
+
+    /**
+     * Delay, in milliseconds, between the end of a full rebuild and the start of the next one. Rebuilds bring in the
+     * collections made through other instances and the removals, which are not applied incrementally.
+     */
+    private long rebuildInterval = 900000;
+}
@@ -0,0 +1,34 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the Server-Sent Events stream of Mokadex changes.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "stream.mokadex")
+public class MokadexStreamConfigProperties {
+
+    /** Time, in milliseconds, after which a connection is closed; clients are expected to reconnect. */
+    private long timeout = 1800000;
+
+    /** Delay, in milliseconds, between two heartbeats, which keep idle connections open through proxies. */
+    private long heartbeatInterval = 15000;
+
+    /**
+     * Maximum number of events waiting to be written to a single connection. A connection that falls this far behind is
+     * closed instead of buffering without bound.
+     */
+    private int bufferSize = 32;
+
+    /** Maximum number of open connections per Mokadex; opening one more closes the oldest. */
+    private int maxConnectionsPerMokadex = 4;
+
+    /** Number of threads writing events to the connections, shared by all of them. */
+    private int senderThreads = 4;
+}
@@ -0,0 +1,22 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the signed QR codes issued to new artworks.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "qrcode.signing")
+public class QrCodeSigningConfigProperties {
+
+    /**
+     * Key, of at least 16 bytes, of the HMAC that signs the QR codes; shared by every instance. When blank, no QR code
+     * is signed and only the QR codes stored with the artworks are recognized.
+     */
+    private String secret = "";
+}
@@ -69,6 +69,8 @@ public class SecurityConfig {
                                 .hasAnyAuthority(RoleEnum.ADMINISTRATOR.name(), RoleEnum.CURATOR.name())
                                 .requestMatchers("/evaluation/permission/**")
                                 .hasAnyAuthority(RoleEnum.ADMINISTRATOR.name(), RoleEnum.CURATOR.name())
+                                .requestMatchers("/actuator/**")
+                                .hasAuthority(RoleEnum.ADMINISTRATOR.name())
                                 .requestMatchers(this.endpointAccessRules.getEndpointWhiteList())
                                 .permitAll()
                                 .anyRequest()
@@ -0,0 +1,31 @@
+package br.edu.ufpel.rokamoka.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the resumable uploads, sent in chunks and assembled on disk before being attached to an artwork.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "upload")
+public class UploadConfigProperties {
+
+    /** Directory where the chunks of the uploads in progress are appended. */
+    private String directory = System.getProperty("java.io.tmpdir") + "/rokamoka-uploads";
+
+    /** Maximum size, in bytes, of a chunk. */
+    private long maxChunkSize = 8388608;
+
+    /** Maximum size, in bytes, of an uploaded file. */
+    private long maxFileSize = 36700160;
+
+    /** Time, in milliseconds, without receiving a chunk after which an upload is abandoned and its file removed. */
+    private long ttl = 86400000;
+
+    /** Delay, in milliseconds, between two removals of the abandoned uploads. */
+    private long cleanupInterval = 3600000;
+}
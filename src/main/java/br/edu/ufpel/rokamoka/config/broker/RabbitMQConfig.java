@@ -2,18 +2,27 @@ package br.edu.ufpel.rokamoka.config.broker;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 /**
  * @author MauricioMucci
  */
@@ -31,11 +40,107 @@ public class RabbitMQConfig {
         return new Queue(properties.getCollectEmblem());
     }
 
+    @Bean
+    public Queue emblemsV1CollectDlq(RabbitMQQueueConfigProperties properties) {
+        return new Queue(properties.getCollectEmblemDlq());
+    }
+
+    /**
+     * Declares the delay queues of the emblem collection queue.
+     *
+     * @see #retryQueuesOf(String, RabbitMQRetryConfigProperties)
+     */
+    @Bean
+    public Declarables emblemsV1CollectRetryQueues(RabbitMQQueueConfigProperties queueProperties,
+            RabbitMQRetryConfigProperties retryProperties) {
+        return new Declarables(retryQueuesOf(queueProperties.getCollectEmblem(), retryProperties));
+    }
+
+    /**
+     * Builds one delay queue per retry of the given queue. Messages expire from them after the backoff of their attempt
+     * and are dead-lettered, through the default exchange, back to that queue.
+     *
+     * @param queue The name of the queue whose messages are retried.
+     * @param retryProperties The retry settings.
+     *
+     * @return The delay queues, ordered by attempt.
+     * @see br.edu.ufpel.rokamoka.component.CollectEmblemRecoverer
+     */
+    static List<Queue> retryQueuesOf(String queue, RabbitMQRetryConfigProperties retryProperties) {
+        return IntStream.range(1, retryProperties.getMaxAttempts())
+                .mapToObj(attempt -> QueueBuilder.durable(retryProperties.retryQueueName(queue, attempt))
+                        .ttl((int) retryProperties.delayOf(attempt))
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(queue)
+                        .build())
+                .toList();
+    }
+
     @Bean
     public Binding collectEmblemBinding(Queue emblemsV1CollectQueue, FanoutExchange emblemsV1FanoutExchange) {
         return BindingBuilder.bind(emblemsV1CollectQueue).to(emblemsV1FanoutExchange);
     }
 
+    @Bean
+    public FanoutExchange artworksV1FanoutExchange(RabbitMQExchangeConfigProperties properties) {
+        return new FanoutExchange(properties.getArtworks());
+    }
+
+    /**
+     * Declares the queue of this instance for artwork QR code changes. It is exclusive and deleted along with the
+     * connection, so every instance gets its own copy of each change.
+     *
+     * @see br.edu.ufpel.rokamoka.component.ArtworkQrCodeChangeConsumer
+     */
+    @Bean
+    public AnonymousQueue artworksV1QrCodeQueue(RabbitMQQueueConfigProperties properties) {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(properties.getArtworkQrCode() + "."));
+    }
+
+    @Bean
+    public Binding artworkQrCodeBinding(AnonymousQueue artworksV1QrCodeQueue,
+            FanoutExchange artworksV1FanoutExchange) {
+        return BindingBuilder.bind(artworksV1QrCodeQueue).to(artworksV1FanoutExchange);
+    }
+
+    @Bean
+    public FanoutExchange mokadexV1FanoutExchange(RabbitMQExchangeConfigProperties properties) {
+        return new FanoutExchange(properties.getMokadex());
+    }
+
+    /**
+     * Declares the queue of this instance for Mokadex collection events, exclusive like the artwork QR code queue.
+     *
+     * @see br.edu.ufpel.rokamoka.component.MokadexStreamEventConsumer
+     */
+    @Bean
+    public AnonymousQueue mokadexV1StreamQueue(RabbitMQQueueConfigProperties properties) {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(properties.getMokadexStream() + "."));
+    }
+
+    @Bean
+    public Binding mokadexStreamBinding(AnonymousQueue mokadexV1StreamQueue, FanoutExchange mokadexV1FanoutExchange) {
+        return BindingBuilder.bind(mokadexV1StreamQueue).to(mokadexV1FanoutExchange);
+    }
+
+    /**
+     * Container factory for listeners that receive a whole batch of messages at once. The batch is acknowledged after
+     * the listener returns, or rejected as a whole if it throws.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory collectEmblemBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            RabbitMQConsumerConfigProperties properties) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.getBatchSize());
+        factory.setPrefetchCount(properties.getBatchSize());
+        factory.setReceiveTimeout(properties.getBatchReceiveTimeout());
+        return factory;
+    }
+
     @Bean
     public RabbitAdmin rabbitAdmin(ConnectionFactory connectionFactory) {
         return new RabbitAdmin(connectionFactory);
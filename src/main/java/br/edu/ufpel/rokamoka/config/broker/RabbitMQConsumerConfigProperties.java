@@ -0,0 +1,25 @@
+package br.edu.ufpel.rokamoka.config.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the emblem collection consumer.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "broker.consumer")
+public class RabbitMQConsumerConfigProperties {
+
+    /** Whether messages are consumed in batches instead of one at a time. */
+    private boolean batchEnabled = true;
+
+    /** Maximum number of messages delivered to the listener, and acknowledged, at once. */
+    private int batchSize = 100;
+
+    /** Maximum time, in milliseconds, to wait for a batch to fill before delivering it partially filled. */
+    private long batchReceiveTimeout = 1000;
+}
@@ -15,4 +15,13 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQExchangeConfigProperties {
 
     private String emblems;
+
+    /** Direct exchange that routes emblem collection events to their partition queue, in partitioned mode. */
+    private String emblemsPartitioned;
+
+    /** Fanout exchange that broadcasts artwork QR code changes to the QR code index of every instance. */
+    private String artworks;
+
+    /** Fanout exchange that broadcasts Mokadex collection events to the event stream of every instance. */
+    private String mokadex;
 }
@@ -0,0 +1,25 @@
+package br.edu.ufpel.rokamoka.config.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the relay that publishes the messages stored in the outbox.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "broker.outbox")
+public class RabbitMQOutboxConfigProperties {
+
+    /** Maximum number of messages published, and confirmed, at once. */
+    private int batchSize = 100;
+
+    /** Delay, in milliseconds, between the end of a relay run and the start of the next one. */
+    private long fixedDelay = 1000;
+
+    /** Maximum time, in milliseconds, to wait for the broker to confirm a batch. */
+    private long confirmTimeout = 5000;
+}
@@ -0,0 +1,105 @@
+package br.edu.ufpel.rokamoka.config.broker;
+
+import br.edu.ufpel.rokamoka.component.CollectEmblemConsumer;
+import br.edu.ufpel.rokamoka.dto.emblem.CollectEmblemDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.MethodRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Broker topology and listeners of the partitioned mode of emblem collection.
+ *
+ * <p>Declares a direct exchange bound to {@code broker.partition.count} queues, one per partition, with the partition
+ * number as routing key. Each partition queue has its own listener container, limited to a single consumer thread, and
+ * is declared with {@code x-single-active-consumer}, so that even with several application instances only one
+ * consumer processes a given partition at a time. The listeners of the single collection queue keep running in this
+ * mode to drain what was published before it was enabled.
+ *
+ * @see RabbitMQPartitionConfigProperties
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "broker.partition", name = "enabled", havingValue = "true")
+public class RabbitMQPartitionConfig implements RabbitListenerConfigurer {
+
+    private final RabbitMQExchangeConfigProperties exchangeProperties;
+    private final RabbitMQQueueConfigProperties queueProperties;
+    private final RabbitMQRetryConfigProperties retryProperties;
+    private final RabbitMQPartitionConfigProperties partitionProperties;
+    private final RabbitMQConsumerConfigProperties consumerProperties;
+    private final CollectEmblemConsumer collectEmblemConsumer;
+    private final SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory;
+    private final SimpleRabbitListenerContainerFactory collectEmblemBatchContainerFactory;
+
+    @Bean
+    public Declarables emblemsV1PartitionedTopology() {
+        var exchange = new DirectExchange(this.exchangeProperties.getEmblemsPartitioned());
+
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (String queueName : this.partitionQueueNames()) {
+            Queue queue = QueueBuilder.durable(queueName).singleActiveConsumer().build();
+            String partition = queueName.substring(queueName.lastIndexOf('.') + 1);
+            Binding binding = BindingBuilder.bind(queue).to(exchange).with(partition);
+
+            declarables.add(queue);
+            declarables.add(binding);
+            declarables.addAll(RabbitMQConfig.retryQueuesOf(queueName, this.retryProperties));
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * Registers one single-threaded listener container per partition queue, using the batch or the single listener of
+     * {@link CollectEmblemConsumer} according to {@code broker.consumer.batch-enabled}.
+     */
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        boolean batch = this.consumerProperties.isBatchEnabled();
+        Method method = batch
+                        ? ReflectionUtils.findMethod(CollectEmblemConsumer.class, "consumeCollectEmblemBatch", List.class)
+                        : ReflectionUtils.findMethod(CollectEmblemConsumer.class, "consumeCollectEmblem",
+                                CollectEmblemDTO.class);
+        var factory = batch ? this.collectEmblemBatchContainerFactory : this.rabbitListenerContainerFactory;
+
+        var messageHandlerMethodFactory = new DefaultMessageHandlerMethodFactory();
+        messageHandlerMethodFactory.afterPropertiesSet();
+
+        for (String queueName : this.partitionQueueNames()) {
+            var endpoint = new MethodRabbitListenerEndpoint();
+            endpoint.setId("collectEmblem-" + queueName);
+            endpoint.setQueueNames(queueName);
+            endpoint.setConcurrency("1");
+            endpoint.setBean(this.collectEmblemConsumer);
+            endpoint.setMethod(method);
+            endpoint.setMessageHandlerMethodFactory(messageHandlerMethodFactory);
+            registrar.registerEndpoint(endpoint, factory);
+        }
+    }
+
+    private List<String> partitionQueueNames() {
+        List<String> names = new ArrayList<>();
+        for (int partition = 0; partition < this.partitionProperties.getCount(); partition++) {
+            names.add(this.partitionProperties.queueName(this.queueProperties.getCollectEmblemPartition(), partition));
+        }
+        return names;
+    }
+}
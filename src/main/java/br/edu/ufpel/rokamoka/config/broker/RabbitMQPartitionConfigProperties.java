@@ -0,0 +1,53 @@
+package br.edu.ufpel.rokamoka.config.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the partitioned mode of emblem collection.
+ *
+ * <p>In this mode, events are routed by their Mokadex ID to one of {@code count} queues, each consumed by a single
+ * thread, so that the events of a given Mokadex are always processed in order and never concurrently.
+ *
+ * @see RabbitMQPartitionConfig
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "broker.partition")
+public class RabbitMQPartitionConfigProperties {
+
+    /** Whether emblem collection events are routed to partition queues instead of the single collection queue. */
+    private boolean enabled = false;
+
+    /**
+     * Number of partitions. Changing it moves Mokadex entries between partitions, so it should only be done once the
+     * partition queues are drained.
+     */
+    private int count = 4;
+
+    /**
+     * Computes the partition of a Mokadex.
+     *
+     * @param mokadexId The ID of the Mokadex.
+     *
+     * @return The partition number, between {@code 0} and {@code count - 1}.
+     */
+    public int partitionOf(Long mokadexId) {
+        return Math.floorMod(Long.hashCode(mokadexId), this.count);
+    }
+
+    /**
+     * Computes the name of a partition queue.
+     *
+     * @param prefix The prefix of the partition queues.
+     * @param partition The partition number.
+     *
+     * @return The name of the partition queue.
+     */
+    public String queueName(String prefix, int partition) {
+        return prefix + "." + partition;
+    }
+}
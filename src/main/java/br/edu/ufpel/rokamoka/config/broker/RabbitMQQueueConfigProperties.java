@@ -15,4 +15,16 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQQueueConfigProperties {
 
     private String collectEmblem;
+
+    /** Prefix of the partition queues of emblem collection, suffixed by the partition number. */
+    private String collectEmblemPartition;
+
+    /** Parking-lot queue for emblem collection messages that exhausted their retries. */
+    private String collectEmblemDlq;
+
+    /** Prefix of the exclusive queue through which each instance receives the artwork QR code changes. */
+    private String artworkQrCode;
+
+    /** Prefix of the exclusive queue through which each instance receives the Mokadex collection events. */
+    private String mokadexStream;
 }
@@ -0,0 +1,56 @@
+package br.edu.ufpel.rokamoka.config.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the delayed retries of the emblem collection consumer.
+ *
+ * <p>A failed message is moved to the retry queue of its attempt, where it waits for
+ * {@code initialInterval * multiplier^(attempt - 1)} milliseconds (capped at {@code maxInterval}) before going back to
+ * the main queue. Once {@code maxAttempts} deliveries have failed, it is moved to the parking-lot queue.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "broker.retry")
+public class RabbitMQRetryConfigProperties {
+
+    /** Maximum number of deliveries of a message, including the first one. */
+    private int maxAttempts = 4;
+
+    /** Delay, in milliseconds, before the first retry. */
+    private long initialInterval = 1000;
+
+    /** Factor applied to the delay of each subsequent retry. */
+    private double multiplier = 2.0;
+
+    /** Upper bound, in milliseconds, of the delay of any retry. */
+    private long maxInterval = 60000;
+
+    /**
+     * Computes the name of the retry queue for a given attempt.
+     *
+     * @param queue The name of the queue whose messages are retried.
+     * @param attempt The number of the retry, starting at 1.
+     *
+     * @return The name of the retry queue.
+     */
+    public String retryQueueName(String queue, int attempt) {
+        return queue + ".retry." + attempt;
+    }
+
+    /**
+     * Computes how long a message waits before its {@code attempt}-th retry.
+     *
+     * @param attempt The number of the retry, starting at 1.
+     *
+     * @return The delay in milliseconds.
+     */
+    public long delayOf(int attempt) {
+        double delay = this.initialInterval * Math.pow(this.multiplier, attempt - 1);
+        return (long) Math.min(delay, this.maxInterval);
+    }
+}
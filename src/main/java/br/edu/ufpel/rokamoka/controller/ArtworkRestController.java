@@ -5,10 +5,12 @@ import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.dto.GroupValidators.Create;
 import br.edu.ufpel.rokamoka.dto.GroupValidators.Update;
 import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkMetadataOutputDTO;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
 import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
 import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
 import br.edu.ufpel.rokamoka.wrapper.RokaMokaController;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,6 +41,7 @@ public class ArtworkRestController extends RokaMokaController {
 
     private final IArtworkService artworkService;
     private final ArtworkRepository artworkRepository;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Buscar obra por ID",
             description = "Retorna os detalhes de uma obra específica com base no seu ID.")
@@ -66,6 +70,29 @@ public class ArtworkRestController extends RokaMokaController {
         return this.success(dtoList);
     }
 
+    @Operation(summary = "Buscar obras por ID da exposição, em fluxo contínuo",
+            description = """
+                          Retorna todas as obras de uma determinada exposição, no mesmo formato da busca por ID da \
+                          exposição, escrevendo cada obra na resposta à medida que é lida do banco.""")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Obras encontradas")})
+    @GetMapping(path = "/exposicao/{exhibitionId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllByExhibitionId(@PathVariable Long exhibitionId) {
+        return this.successStream(this.objectMapper,
+                action -> this.artworkService.forEachByExhibitionId(exhibitionId, action));
+    }
+
+    @Operation(summary = "Buscar obras por ID da exposição, sem imagens",
+            description = """
+                          Retorna todas as obras de uma determinada exposição com o ID, o tamanho e o hash de suas \
+                          imagens, sem o conteúdo delas.""")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Obras encontradas")})
+    @GetMapping("/exposicao/{exhibitionId}/metadata")
+    public ResponseEntity<ApiResponseWrapper<List<ArtworkMetadataOutputDTO>>> getAllMetadataByExhibitionId(
+            @PathVariable Long exhibitionId) {
+        var dtoList = this.artworkRepository.findAllMetadataByExhibitionId(exhibitionId);
+        return this.success(dtoList);
+    }
+
     @Operation(summary = "Buscar obra por QR Code",
             description = "Retorna os detalhes de uma obra específica com base no seu QR code.")
     @ApiResponses(value = {
@@ -73,7 +100,7 @@ public class ArtworkRestController extends RokaMokaController {
             @ApiResponse(responseCode = "404", description = "Obra não encontrada")})
     @GetMapping("/qrcode/{qrcode}")
     public ResponseEntity<ApiResponseWrapper<ArtworkOutputDTO>> getArtworkByQrCode(@PathVariable String qrcode) {
-        var artwork = this.artworkService.getByQrCodeOrThrow(qrcode);
+        var artwork = this.artworkService.getQrCodeSummaryOrThrow(qrcode);
         var dto = this.artworkRepository.createFullArtworkInfo(artwork.getId());
         return this.success(dto);
     }
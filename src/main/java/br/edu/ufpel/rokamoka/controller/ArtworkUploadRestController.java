@@ -0,0 +1,145 @@
+package br.edu.ufpel.rokamoka.controller;
+
+import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
+import br.edu.ufpel.rokamoka.dto.GroupValidators.Create;
+import br.edu.ufpel.rokamoka.dto.GroupValidators.Update;
+import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.input.UploadInputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.output.UploadOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
+import br.edu.ufpel.rokamoka.service.upload.IUploadService;
+import br.edu.ufpel.rokamoka.wrapper.RokaMokaController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Resumable uploads of artwork images: the client starts an upload, sends the file in numbered chunks, resending only
+ * the chunks whose request failed, and then commits the upload to create or update an artwork with it.
+ */
+@Validated
+@RequiredArgsConstructor
+@Tag(name = "Upload de obra", description = "API para o envio de imagens de obras em partes")
+@RestController
+@RequestMapping("/artwork/upload")
+public class ArtworkUploadRestController extends RokaMokaController {
+
+    private final IUploadService uploadService;
+    private final IArtworkService artworkService;
+    private final ArtworkRepository artworkRepository;
+
+    @Operation(summary = "Iniciar um upload",
+            description = "Inicia o envio em partes de uma imagem, retornando o ID do upload e o tamanho das partes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload iniciado"),
+            @ApiResponse(responseCode = "400", description = "Arquivo acima do tamanho máximo")})
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseWrapper<UploadOutputDTO>> start(@RequestBody @Valid UploadInputDTO input)
+    throws RokaMokaNoUserInContextException, IOException {
+        var dto = this.uploadService.start(input);
+        return this.success(dto);
+    }
+
+    @Operation(summary = "Consultar um upload",
+            description = "Retorna o progresso de um upload, indicando a próxima parte esperada.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload encontrado"),
+            @ApiResponse(responseCode = "404", description = "Upload não encontrado")})
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponseWrapper<UploadOutputDTO>> getStatus(@PathVariable String uploadId)
+    throws RokaMokaNoUserInContextException {
+        var dto = this.uploadService.getStatus(uploadId);
+        return this.success(dto);
+    }
+
+    @Operation(summary = "Enviar uma parte",
+            description = "Anexa uma parte ao upload; reenviar uma parte já recebida não a grava novamente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Parte recebida"),
+            @ApiResponse(responseCode = "400", description = "Parte fora de ordem, vazia ou acima do tamanho máximo"),
+            @ApiResponse(responseCode = "404", description = "Upload não encontrado")})
+    @PutMapping(path = "/{uploadId}/{index}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseWrapper<UploadOutputDTO>> appendChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            InputStream content) throws RokaMokaNoUserInContextException, IOException {
+        var dto = this.uploadService.appendChunk(uploadId, index, content);
+        return this.success(dto);
+    }
+
+    @Operation(summary = "Cadastrar uma obra com um upload",
+            description = "Cria o registro de uma nova obra, usando como imagem o arquivo do upload concluído.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Obra cadastrada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou upload incompleto"),
+            @ApiResponse(responseCode = "404", description = "Upload ou exposição não encontrados")})
+    @PostMapping(path = "/{uploadId}/commit/{exhibitionId}",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseWrapper<ArtworkOutputDTO>> commitRegister(
+            @PathVariable String uploadId,
+            @PathVariable Long exhibitionId,
+            @ModelAttribute @Validated(value = Create.class) ArtworkInputDTO artworkDTO)
+    throws RokaMokaNoUserInContextException, IOException {
+        var image = this.uploadService.getCompletedFile(uploadId);
+        var artwork = this.artworkService.create(exhibitionId, artworkDTO.withImage(image));
+        this.uploadService.discard(uploadId);
+        var dto = this.artworkRepository.createFullArtworkInfo(artwork.getId());
+        return this.success(dto);
+    }
+
+    @Operation(summary = "Atualizar uma obra com um upload",
+            description = "Atualiza o registro de uma obra, usando como imagem o arquivo do upload concluído.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Obra atualizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou upload incompleto"),
+            @ApiResponse(responseCode = "404", description = "Upload ou obra não encontrados")})
+    @PatchMapping(path = "/{uploadId}/commit",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseWrapper<ArtworkOutputDTO>> commitPatch(
+            @PathVariable String uploadId,
+            @ModelAttribute @Validated(value = Update.class) ArtworkInputDTO input)
+    throws RokaMokaNoUserInContextException, IOException {
+        var image = this.uploadService.getCompletedFile(uploadId);
+        var artwork = this.artworkService.update(input.withImage(image));
+        this.uploadService.discard(uploadId);
+        var dto = this.artworkRepository.createFullArtworkInfo(artwork.getId());
+        return this.success(dto);
+    }
+
+    @Operation(summary = "Cancelar um upload", description = "Remove um upload e as partes já recebidas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload removido"),
+            @ApiResponse(responseCode = "404", description = "Upload não encontrado")})
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponseWrapper<Void>> discard(@PathVariable String uploadId)
+    throws RokaMokaNoUserInContextException, IOException {
+        this.uploadService.discard(uploadId);
+        return this.success();
+    }
+}
@@ -0,0 +1,58 @@
+package br.edu.ufpel.rokamoka.controller;
+
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import br.edu.ufpel.rokamoka.service.image.IIMageService;
+import br.edu.ufpel.rokamoka.wrapper.RokaMokaController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@Tag(name = "Imagem", description = "API para download de imagens")
+@RestController
+@RequestMapping("/image")
+public class ImageRestController extends RokaMokaController {
+
+    private final IIMageService imageService;
+
+    @Operation(summary = "Baixar uma imagem",
+            description = """
+                          Retorna o conteúdo binário de uma imagem, com ETag igual ao hash do conteúdo e \
+                          cache de longa duração. Responde 304 quando o If-None-Match corresponde ao ETag e \
+                          206 para requisições com Range""")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Imagem encontrada"),
+            @ApiResponse(responseCode = "206", description = "Parte da imagem solicitada via Range"),
+            @ApiResponse(responseCode = "304", description = "Imagem não modificada"),
+            @ApiResponse(responseCode = "404", description = "Imagem não encontrada")})
+    @GetMapping("/{id}")
+    public ResponseEntity<Resource> download(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var metadata = this.imageService.getMetadataOrElseThrow(id);
+        return this.content('"' + metadata.hash() + '"', ifNoneMatch, mediaType(metadata),
+                () -> this.imageService.getContentOrElseThrow(metadata));
+    }
+
+    private static MediaType mediaType(ImageMetadataDTO metadata) {
+        if (metadata.contentType() == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(metadata.contentType());
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
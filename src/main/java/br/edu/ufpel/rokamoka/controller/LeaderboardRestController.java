@@ -0,0 +1,60 @@
+package br.edu.ufpel.rokamoka.controller;
+
+import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
+import br.edu.ufpel.rokamoka.core.LeaderboardMetric;
+import br.edu.ufpel.rokamoka.dto.leaderboard.LeaderboardEntryDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.service.leaderboard.ILeaderboardService;
+import br.edu.ufpel.rokamoka.wrapper.RokaMokaController;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller providing endpoints for reading the collector rankings.
+ *
+ * @see RokaMokaController
+ * @see ILeaderboardService
+ */
+@Validated
+@RequiredArgsConstructor
+@Tag(name = "Ranking", description = "API para consulta dos rankings de colecionadores")
+@RestController
+@RequestMapping("/leaderboard")
+public class LeaderboardRestController extends RokaMokaController {
+
+    private final ILeaderboardService leaderboardService;
+
+    @Operation(summary = "Endpoint para obter o topo do ranking",
+            description = """
+                          Operação para listar os colecionadores com mais estrelas ou emblemas, globalmente ou em uma \
+                          exposição""")
+    @GetMapping
+    public ResponseEntity<ApiResponseWrapper<List<LeaderboardEntryDTO>>> getTop(
+            @RequestParam(defaultValue = "STARS") LeaderboardMetric metric,
+            @RequestParam(required = false) Long exhibitionId,
+            @RequestParam(defaultValue = "10") int limit) {
+        var output = this.leaderboardService.getTop(metric, exhibitionId, limit);
+        return this.success(output);
+    }
+
+    @Operation(summary = "Endpoint para obter a posição do usuário no ranking",
+            description = """
+                          Operação para obter a posição do usuário logado no ranking de estrelas ou emblemas, \
+                          globalmente ou em uma exposição""")
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponseWrapper<LeaderboardEntryDTO>> getMyRank(
+            @RequestParam(defaultValue = "STARS") LeaderboardMetric metric,
+            @RequestParam(required = false) Long exhibitionId) throws RokaMokaNoUserInContextException {
+        var output = this.leaderboardService.getMyRank(metric, exhibitionId);
+        return this.success(output);
+    }
+}
@@ -3,25 +3,32 @@ package br.edu.ufpel.rokamoka.controller;
 import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
 import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.CollectStarsInputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.CollectStarResultDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexOutputDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexSummaryDTO;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
 import br.edu.ufpel.rokamoka.service.mokadex.IMokadexService;
 import br.edu.ufpel.rokamoka.wrapper.RokaMokaController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * REST Controller providing endpoints for CRUD operations on the {@link Mokadex} resource.
@@ -38,6 +45,7 @@ import java.util.stream.Collectors;
 public class MokadexRestController extends RokaMokaController {
 
     private final IMokadexService mokadexService;
+    private final IArtworkService artworkService;
 
     @Operation(summary = "Endpoint para adicionar obras/estrelas ao mokadex",
             description = """
@@ -46,8 +54,22 @@ public class MokadexRestController extends RokaMokaController {
     @PostMapping(value = "/collect/{qrcode}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponseWrapper<MokadexOutputDTO>> collectStar(
             @PathVariable(value = "qrcode") String qrCode) {
-        var mokadex = this.mokadexService.collectStar(qrCode);
-        var output = this.mokadexService.getMokadexOutputDTOByMokadex(mokadex);
+        var artwork = this.artworkService.resolveQrCodeOrThrow(qrCode);
+        var mokadexId = this.mokadexService.collectStar(artwork);
+        var output = this.mokadexService.readMokadexOutputDTOByMokadexId(mokadexId);
+        return this.success(output);
+    }
+
+    @Operation(summary = "Endpoint para adicionar em lote obras/estrelas ao mokadex",
+            description = """
+                          Operação para enviar os qr codes lidos pelo app enquanto offline, com o horário de cada \
+                          leitura, e adicionar as respectivas obras ao mokadex do usuário logado. Retorna o \
+                          resultado de cada leitura: COLLECTED, DUPLICATE ou UNKNOWN""")
+    @PostMapping(value = "/collect", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseWrapper<List<CollectStarResultDTO>>> collectStars(
+            @RequestBody @Valid CollectStarsInputDTO input) {
+        var output = this.mokadexService.collectStars(input);
         return this.success(output);
     }
 
@@ -56,20 +78,32 @@ public class MokadexRestController extends RokaMokaController {
                           Operação para ler um ID de exposição, e listar todas as suas respectivas obras que ainda \
                           não foram coletadas pelo usuário logado""")
     @GetMapping("/missing/{exhibitionId}")
-    public ResponseEntity<ApiResponseWrapper<Set<ArtworkOutputDTO>>> findMissingStarsByExhibition(
+    public ResponseEntity<ApiResponseWrapper<List<ArtworkOutputDTO>>> findMissingStarsByExhibition(
             @PathVariable Long exhibitionId) {
-        var output = this.mokadexService.getMissingStarsByExhibition(exhibitionId)
-                .stream()
-                .map(ArtworkOutputDTO::new)
-                .collect(Collectors.toUnmodifiableSet());
+        var output = this.mokadexService.getMissingStarSummariesByExhibition(exhibitionId);
         return this.success(output);
     }
 
     @Operation(summary = "Endpoint para obter resumo do Mokadex",
-            description = "Operação para obter contadores de estrelas e emblemas do Mokadex do usuário logado")
+            description = """
+                          Operação para obter contadores de estrelas e emblemas do Mokadex do usuário logado. \
+                          Responde 304 quando o If-None-Match corresponde à versão atual do Mokadex""")
     @GetMapping("/summary")
-    public ResponseEntity<ApiResponseWrapper<MokadexSummaryDTO>> getSummary() throws RokaMokaNoUserInContextException {
-        var output = this.mokadexService.getSummary();
-        return this.success(output);
+    public ResponseEntity<ApiResponseWrapper<MokadexSummaryDTO>> getSummary(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+    throws RokaMokaNoUserInContextException {
+        var eTag = this.mokadexService.getLoggedUserVersion()
+                .map(version -> eTag(version.getMokadexId(), version.getVersion()))
+                .orElse(null);
+        return this.success(eTag, ifNoneMatch, this.mokadexService::getSummary);
+    }
+
+    @Operation(summary = "Endpoint para acompanhar o Mokadex em tempo real",
+            description = """
+                          Fluxo Server-Sent Events que envia ao usuário logado os eventos star-collected e \
+                          emblem-awarded do seu Mokadex, além de heartbeats periódicos""")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return this.mokadexService.openEventStream();
     }
 }
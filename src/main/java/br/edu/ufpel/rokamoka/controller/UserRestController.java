@@ -6,6 +6,7 @@ import br.edu.ufpel.rokamoka.dto.user.input.UserAnonymousRequestDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserInputDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserAnonymousResponseDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
 import br.edu.ufpel.rokamoka.service.user.IUserService;
 import br.edu.ufpel.rokamoka.wrapper.RokaMokaController;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,12 +15,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -66,15 +69,25 @@ public class UserRestController extends RokaMokaController {
     }
 
     /**
-     * Retrieves information about the currently logged-in user.
+     * Retrieves information about the currently logged-in user, or answers {@code 304 Not Modified} when the client
+     * already holds the current version of the user and of its Mokadex.
+     *
+     * @param ifNoneMatch The entity tag of the version held by the client, if any.
      *
      * @return A {@link ResponseEntity} wrapping an {@link ApiResponseWrapper}<{@link UserOutputDTO}>
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
      */
     @Operation(summary = "Visualizar dados do usuário",
-            description = "Retorna alguns dados do usuário logado como: nome, email, perfil e mokadex")
+            description = """
+                          Retorna alguns dados do usuário logado como: nome, email, perfil e mokadex. Responde 304 \
+                          quando o If-None-Match corresponde à versão atual do usuário e do seu mokadex""")
     @GetMapping(value = "/me", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponseWrapper<UserOutputDTO>> getLoggedUserInformation() {
-        UserOutputDTO loggedUserInformation = this.userService.getLoggedUserInformation();
-        return this.success(loggedUserInformation);
+    public ResponseEntity<ApiResponseWrapper<UserOutputDTO>> getLoggedUserInformation(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+    throws RokaMokaNoUserInContextException {
+        String eTag = this.userService.getLoggedUserVersion()
+                .map(version -> eTag(version.getMokadexId(), version.getVersion(), version.getUserUpdatedDate()))
+                .orElse(null);
+        return this.success(eTag, ifNoneMatch, this.userService::getLoggedUserInformation);
     }
 }
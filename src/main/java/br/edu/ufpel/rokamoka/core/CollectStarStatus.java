@@ -0,0 +1,13 @@
+package br.edu.ufpel.rokamoka.core;
+
+/**
+ * The outcome of collecting a single star from a batch of queued scans.
+ */
+public enum CollectStarStatus {
+    /** The artwork was added to the Mokadex. */
+    COLLECTED,
+    /** The artwork was already in the Mokadex, or was collected by an earlier scan of the same batch. */
+    DUPLICATE,
+    /** No artwork has the scanned QR code. */
+    UNKNOWN
+}
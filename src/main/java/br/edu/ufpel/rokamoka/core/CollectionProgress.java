@@ -0,0 +1,34 @@
+package br.edu.ufpel.rokamoka.core;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The number of artworks of an exhibition that have already been collected by a {@link Mokadex}.
+ *
+ * <p>This counter is maintained incrementally in the same transaction as each collect, and is compared against
+ * {@link Exhibition#getArtworkTotal()} to decide whether the exhibition's emblem can be awarded, avoiding a scan of the
+ * {@code mokadex_obra} join table.
+ *
+ * @see CollectionProgressId
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "mokadex_exposicao_progresso")
+public class CollectionProgress {
+
+    @EmbeddedId private CollectionProgressId id;
+
+    @Column(name = "total_coletado", nullable = false) private Long collectedCount;
+}
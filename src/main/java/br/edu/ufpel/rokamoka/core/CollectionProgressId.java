@@ -0,0 +1,26 @@
+package br.edu.ufpel.rokamoka.core;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of {@link CollectionProgress}, made of the Mokadex and the exhibition being tracked.
+ *
+ * @see CollectionProgress
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class CollectionProgressId implements Serializable {
+
+    @Column(name = "mokadex_id", nullable = false) private Long mokadexId;
+    @Column(name = "exposicao_id", nullable = false) private Long exhibitionId;
+}
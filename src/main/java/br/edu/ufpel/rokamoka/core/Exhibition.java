@@ -44,6 +44,15 @@ public class Exhibition extends Auditable {
     @JoinColumn(name = "local_id", nullable = false)
     private Location location;
 
+    /**
+     * Number of artworks in this exhibition. Only ever changed through
+     * {@link br.edu.ufpel.rokamoka.repository.ExhibitionRepository#incrementArtworkTotal(Long, long)}, so that
+     * concurrent artwork changes are not lost when the exhibition itself is saved.
+     */
+    @Default
+    @Column(name = "total_obras", nullable = false, updatable = false)
+    private Long artworkTotal = 0L;
+
     @Default
     @Transient
     private List<Artwork> artworks = new ArrayList<>();
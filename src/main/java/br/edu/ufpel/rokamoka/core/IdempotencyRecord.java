@@ -0,0 +1,47 @@
+package br.edu.ufpel.rokamoka.core;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * The response given to the first request sent with an {@code Idempotency-Key}, replayed to its retries.
+ *
+ * <p>The record is created, without a response, when the first request starts, and holds the key while it is being
+ * processed; the response is filled in once the request finishes.
+ *
+ * @see IdempotencyRecordId
+ * @see br.edu.ufpel.rokamoka.component.DatabaseIdempotencyStore
+ */
+@Getter
+@Setter
+@ToString(of = {"id", "fingerprint", "status"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotencia_resposta")
+public class IdempotencyRecord {
+
+    @EmbeddedId private IdempotencyRecordId id;
+
+    /**
+     * Method, URI and body digest of the first request; a retry with the same key must match them.
+     */
+    @Column(name = "requisicao", nullable = false, columnDefinition = "TEXT") private String fingerprint;
+
+    @Column(name = "status_http") private Integer status;
+
+    @Column(name = "tipo_conteudo") private String contentType;
+
+    @Column(name = "conteudo") private byte[] body;
+
+    @Column(name = "data_expiracao", nullable = false) private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package br.edu.ufpel.rokamoka.core;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite key of {@link IdempotencyRecord}, made of the user and the key sent by the client, so that two users never
+ * share a key.
+ *
+ * @see IdempotencyRecord
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class IdempotencyRecordId implements Serializable {
+
+    @Column(name = "usuario", nullable = false) private String username;
+    @Column(name = "chave", nullable = false) private String key;
+}
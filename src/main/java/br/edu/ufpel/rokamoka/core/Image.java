@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "imagem")
+@DynamicUpdate
 @Builder
 @AllArgsConstructor
 @Getter
@@ -22,12 +26,49 @@ public class Image {
     @Column(name = "tamanho_bytes")
     private Long tamanhoBytes;
 
-    @Column(name = "conteudo", nullable = false)
+    /**
+     * Conteúdo da imagem; vazio quando mantido fora do banco, no {@code ImageStore} configurado. Carregado apenas
+     * quando acessado, para que carregar a imagem não traga o conteúdo junto.
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "conteudo")
     private byte[] conteudo;
 
     @Column(name = "data_upload")
     private LocalDateTime dataUpload;
 
+    @Column(name = "tipo_conteudo")
+    private String tipoConteudo;
+
+    /**
+     * SHA-256 do conteúdo, em hexadecimal; usado como ETag ao servir a imagem.
+     */
+    @Column(name = "hash_conteudo", length = 64)
+    private String hashConteudo;
+
+    @Column(name = "largura")
+    private Integer largura;
+
+    @Column(name = "altura")
+    private Integer altura;
+
+    /**
+     * Imagem da qual esta é uma variante reduzida; vazia para as imagens enviadas.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "imagem_original_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Image imagemOriginal;
+
+    /**
+     * Variante que melhor se ajusta à exibição nos cards, ou a própria imagem quando nenhuma variante é menor; vazia
+     * enquanto as variantes não foram geradas.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "imagem_exibicao_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Image imagemExibicao;
+
     // Construtores
     public Image() {
         this.dataUpload = LocalDateTime.now(); // Define a data de upload ao criar
@@ -38,4 +79,13 @@ public class Image {
         this.tamanhoBytes = tamanhoBytes;
         this.dataUpload = LocalDateTime.now();
     }
+
+    /**
+     * Cria uma imagem cujo conteúdo é gravado à parte, pelo {@code ImageStore}, depois de salva.
+     */
+    public Image(long tamanhoBytes, String tipoConteudo) {
+        this.tamanhoBytes = tamanhoBytes;
+        this.tipoConteudo = tipoConteudo;
+        this.dataUpload = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,5 @@
+package br.edu.ufpel.rokamoka.core;
+
+public enum LeaderboardMetric {
+    STARS, EMBLEMS
+}
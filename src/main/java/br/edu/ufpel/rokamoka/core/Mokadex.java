@@ -1,6 +1,7 @@
 package br.edu.ufpel.rokamoka.core;
 
 import br.edu.ufpel.rokamoka.core.audit.Auditable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
@@ -10,17 +11,24 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.MapKey;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.Hibernate;
 import org.hibernate.proxy.HibernateProxy;
 
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 
 @Getter
 @Setter
@@ -35,19 +43,60 @@ public class Mokadex extends Auditable {
 
     @OneToOne(fetch = FetchType.EAGER) private User usuario;
 
+    /**
+     * Version of the collections of this Mokadex, increased whenever a star or an emblem is added or removed. Only ever
+     * changed through the {@link br.edu.ufpel.rokamoka.repository.MokadexRepository} statements that touch the join
+     * tables, so that concurrent collections are not lost when the Mokadex itself is saved.
+     */
+    @Column(name = "versao", nullable = false, updatable = false)
+    private Long version = 0L;
+
+    /*
+     * The collections are keyed by the ID of their elements, so that loading, adding and membership checks do not go
+     * through the entity hashCode, which is a per-class constant and would put every element in the same bucket.
+     * Only persisted artworks and emblems can be collected, as the join tables reference them by ID.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "mokadex_emblema", joinColumns = @JoinColumn(name = "mokadex_id", referencedColumnName = "id",
             foreignKey = @ForeignKey(name = "fk_mokadex")),
             inverseJoinColumns = @JoinColumn(name = "emblema_id", referencedColumnName = "id",
                     foreignKey = @ForeignKey(name = "fk_emblema")))
-    private Set<Emblem> emblems = new HashSet<>();
+    @MapKey(name = "id")
+    private Map<Long, Emblem> emblems = new HashMap<>();
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "mokadex_obra", joinColumns = @JoinColumn(name = "mokadex_id", referencedColumnName = "id",
             foreignKey = @ForeignKey(name = "fk_mokadex")),
             inverseJoinColumns = @JoinColumn(name = "obra_id", referencedColumnName = "id",
                     foreignKey = @ForeignKey(name = "fk_obra")))
-    private Set<Artwork> artworks = new HashSet<>();
+    @MapKey(name = "id")
+    private Map<Long, Artwork> artworks = new HashMap<>();
+
+    /**
+     * @return The emblems of this Mokadex, as a set view keyed by their IDs.
+     */
+    public Set<Emblem> getEmblems() {
+        return this.emblems == null ? null : new IdKeyedSet<>(Emblem.class, this.emblems, Emblem::getId);
+    }
+
+    public void setEmblems(Collection<Emblem> emblems) {
+        this.emblems = byId(Emblem.class, emblems, Emblem::getId);
+    }
+
+    /**
+     * @return The artworks of this Mokadex, as a set view keyed by their IDs.
+     */
+    public Set<Artwork> getArtworks() {
+        return this.artworks == null ? null : new IdKeyedSet<>(Artwork.class, this.artworks, Artwork::getId);
+    }
+
+    public void setArtworks(Collection<Artwork> artworks) {
+        this.artworks = byId(Artwork.class, artworks, Artwork::getId);
+    }
 
     @Override
     public final int hashCode() {
@@ -69,24 +118,87 @@ public class Mokadex extends Auditable {
     }
 
     public boolean containsArtwork(Artwork artwork) {
-        return this.artworks.contains(artwork);
+        return artwork != null && this.artworks != null && this.getArtworks().contains(artwork);
     }
 
+    /**
+     * @throws IllegalArgumentException If the artwork is not persisted yet.
+     */
     public boolean addArtwork(Artwork artwork) {
-        if (artwork == null || this.artworks == null) {
-            return false;
-        }
-        return this.artworks.add(artwork);
+        return artwork != null && this.artworks != null && this.getArtworks().add(artwork);
     }
 
     public boolean containsEmblem(Emblem emblem) {
-        return this.emblems.contains(emblem);
+        return emblem != null && this.emblems != null && this.getEmblems().contains(emblem);
     }
 
+    /**
+     * @throws IllegalArgumentException If the emblem is not persisted yet.
+     */
     public boolean addEmblem(Emblem emblem) {
-        if (emblem == null || this.emblems == null) {
-            return false;
+        return emblem != null && this.emblems != null && this.getEmblems().add(emblem);
+    }
+
+    private static <T> Map<Long, T> byId(Class<T> type, Collection<? extends T> elements, Function<T, Long> idOf) {
+        if (elements == null) {
+            return null;
+        }
+        var set = new IdKeyedSet<>(type, new HashMap<>(), idOf);
+        set.addAll(elements);
+        return set.elementsById;
+    }
+
+    /**
+     * A set view of a collection of this Mokadex, keyed by the IDs of its elements. Like the {@code equals} of the
+     * entities, it considers two elements with the same ID to be the same.
+     *
+     * @param <T> The type of the elements.
+     */
+    private static final class IdKeyedSet<T> extends AbstractSet<T> {
+
+        private final Class<T> type;
+        private final Map<Long, T> elementsById;
+        private final Function<T, Long> idOf;
+
+        private IdKeyedSet(Class<T> type, Map<Long, T> elementsById, Function<T, Long> idOf) {
+            this.type = type;
+            this.elementsById = elementsById;
+            this.idOf = idOf;
+        }
+
+        @Override
+        public int size() {
+            return this.elementsById.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Long id = this.idOfElement(o);
+            return id != null && this.elementsById.containsKey(id);
+        }
+
+        @Override
+        public boolean add(T element) {
+            Long id = this.idOf.apply(element);
+            if (id == null) {
+                throw new IllegalArgumentException("Somente entidades persistidas podem ser adicionadas ao Mokadex");
+            }
+            return this.elementsById.putIfAbsent(id, element) == null;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            Long id = this.idOfElement(o);
+            return id != null && this.elementsById.remove(id) != null;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return this.elementsById.values().iterator();
+        }
+
+        private Long idOfElement(Object o) {
+            return this.type.isInstance(o) ? this.idOf.apply(this.type.cast(o)) : null;
         }
-        return this.emblems.add(emblem);
     }
 }
@@ -0,0 +1,58 @@
+package br.edu.ufpel.rokamoka.core;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * A message waiting to be published to the broker.
+ *
+ * <p>Messages are written in the same transaction as the change that originated them, and are later published, and
+ * removed, by a background relay. A rolled back transaction therefore never reaches the broker, and the request that
+ * produced the message never waits on it.
+ *
+ * @see br.edu.ufpel.rokamoka.component.OutboxRelay
+ */
+@Getter
+@Setter
+@Builder
+@ToString(of = {"id", "exchange", "payloadType"})
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "caixa_saida")
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "destino", nullable = false) private String exchange;
+
+    @Default
+    @Column(name = "chave_roteamento", nullable = false)
+    private String routingKey = "";
+
+    /**
+     * Fully qualified class name of the payload, sent as the type header expected by the JSON message converter.
+     */
+    @Column(name = "tipo_conteudo", nullable = false) private String payloadType;
+
+    @Column(name = "conteudo", nullable = false, columnDefinition = "TEXT") private String payload;
+
+    @Default
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
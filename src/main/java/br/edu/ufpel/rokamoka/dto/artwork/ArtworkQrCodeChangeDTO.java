@@ -0,0 +1,14 @@
+package br.edu.ufpel.rokamoka.dto.artwork;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A Data Transfer Object (DTO) for broadcasting a change of the QR code of an artwork to every instance.
+ *
+ * @param origin The ID of the instance where the artwork was changed.
+ * @param artworkId The unique identifier for the artwork.
+ * @param qrCode The current QR code of the artwork; {@code null} if it has none or was deleted.
+ * @param exhibitionId The unique identifier for the exhibition of the artwork, if any.
+ */
+public record ArtworkQrCodeChangeDTO(@NotNull String origin, @NotNull Long artworkId, String qrCode,
+        Long exhibitionId) {}
@@ -14,4 +14,16 @@ public record ArtworkInputDTO(
         String descricao,
         String link,
         String qrCode,
-        MultipartFile image) {}
+        MultipartFile image) {
+
+    /**
+     * Copies this input with another image, such as one assembled from a resumable upload.
+     *
+     * @param image The image to attach to the artwork.
+     *
+     * @return A copy of this input whose only difference is the image.
+     */
+    public ArtworkInputDTO withImage(MultipartFile image) {
+        return new ArtworkInputDTO(this.id, this.nome, this.nomeArtista, this.descricao, this.link, this.qrCode, image);
+    }
+}
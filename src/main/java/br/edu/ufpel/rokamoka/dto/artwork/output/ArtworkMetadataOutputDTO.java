@@ -0,0 +1,23 @@
+package br.edu.ufpel.rokamoka.dto.artwork.output;
+
+/**
+ * The summary of an artwork with the metadata of its image instead of the image itself, for clients that only list
+ * artworks as text or that decide on their own which images to download.
+ *
+ * @param imageId The ID of the uploaded image, served by {@code GET /image/{id}}, or {@code null} if it has none.
+ * @param imageSize The size of the uploaded image, in bytes.
+ * @param imageContentType The media type of the uploaded image, if known.
+ * @param imageHash The SHA-256 of the uploaded image, in hexadecimal; {@code null} for images uploaded before it was
+ * recorded.
+ */
+public record ArtworkMetadataOutputDTO(
+        Long id,
+        String nome,
+        String descricao,
+        String nomeArtista,
+        String qrCode,
+        String link,
+        Long imageId,
+        Long imageSize,
+        String imageContentType,
+        String imageHash) {}
@@ -1,10 +1,10 @@
 package br.edu.ufpel.rokamoka.dto.artwork.output;
 
 import br.edu.ufpel.rokamoka.core.Artwork;
-import br.edu.ufpel.rokamoka.core.Image;
-
-import java.util.Base64;
 
+/**
+ * @param image The path of the image of the artwork, served by {@code GET /image/{id}}, or {@code null} if it has none.
+ */
 public record ArtworkOutputDTO(
         Long id,
         String nome,
@@ -14,6 +14,12 @@ public record ArtworkOutputDTO(
         String link,
         String image) {
 
+    public static final String IMAGE_PATH = "/image/";
+
+    public ArtworkOutputDTO(Long id, String nome, String descricao, String nomeArtista, String qrCode, String link) {
+        this(id, nome, descricao, nomeArtista, qrCode, link, (String) null);
+    }
+
     public ArtworkOutputDTO(Artwork artwork) {
         this(
                 artwork.getId(),
@@ -22,17 +28,11 @@ public record ArtworkOutputDTO(
                 artwork.getNomeArtista(),
                 artwork.getQrCode(),
                 artwork.getLink(),
-                null);
+                (String) null);
     }
 
-    public ArtworkOutputDTO(Artwork artwork, Image image) {
-        this(
-                artwork.getId(),
-                artwork.getNome(),
-                artwork.getDescricao(),
-                artwork.getNomeArtista(),
-                artwork.getQrCode(),
-                artwork.getLink(),
-                image == null ? null : Base64.getEncoder().encodeToString(image.getConteudo()));
+    public ArtworkOutputDTO(Long id, String nome, String descricao, String nomeArtista, String qrCode, String link,
+            Long imageId) {
+        this(id, nome, descricao, nomeArtista, qrCode, link, imageId == null ? null : IMAGE_PATH + imageId);
     }
 }
@@ -0,0 +1,15 @@
+package br.edu.ufpel.rokamoka.dto.artwork.output;
+
+/**
+ * A projection of the fields needed to collect an artwork from its QR code.
+ *
+ * @see br.edu.ufpel.rokamoka.repository.ArtworkRepository#findAllQrCodeSummariesByQrCodeIn(java.util.Collection)
+ */
+public interface ArtworkQrCodeDTO {
+
+    Long getId();
+
+    String getQrCode();
+
+    Long getExhibitionId();
+}
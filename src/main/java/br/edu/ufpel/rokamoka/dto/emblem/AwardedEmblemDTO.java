@@ -0,0 +1,13 @@
+package br.edu.ufpel.rokamoka.dto.emblem;
+
+/**
+ * A projection of an emblem that has just been awarded to a Mokadex.
+ */
+public interface AwardedEmblemDTO {
+
+    Long getMokadexId();
+
+    Long getEmblemId();
+
+    Long getExhibitionId();
+}
@@ -0,0 +1,12 @@
+package br.edu.ufpel.rokamoka.dto.image.output;
+
+/**
+ * What is needed to answer a request for an image without reading its content.
+ *
+ * @param id The ID of the image.
+ * @param size The size of the content, in bytes.
+ * @param contentType The media type of the content, if known.
+ * @param hash The SHA-256 of the content, in hexadecimal.
+ * @param storedInDatabase Whether the content is kept in the {@code imagem} table rather than in the image store.
+ */
+public record ImageMetadataDTO(Long id, Long size, String contentType, String hash, boolean storedInDatabase) {}
@@ -0,0 +1,13 @@
+package br.edu.ufpel.rokamoka.dto.leaderboard;
+
+/**
+ * A projection of how many items of an exhibition a Mokadex has collected.
+ */
+public interface CollectionCountDTO {
+
+    Long getMokadexId();
+
+    Long getExhibitionId();
+
+    Long getTotal();
+}
@@ -0,0 +1,3 @@
+package br.edu.ufpel.rokamoka.dto.leaderboard;
+
+public record LeaderboardEntryDTO(int rank, Long mokadexId, String username, long score) {}
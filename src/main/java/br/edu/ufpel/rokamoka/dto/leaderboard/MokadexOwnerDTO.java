@@ -0,0 +1,11 @@
+package br.edu.ufpel.rokamoka.dto.leaderboard;
+
+/**
+ * A projection of a Mokadex and the name of the user that owns it.
+ */
+public interface MokadexOwnerDTO {
+
+    Long getMokadexId();
+
+    String getUsername();
+}
@@ -0,0 +1,15 @@
+package br.edu.ufpel.rokamoka.dto.mokadex;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A Data Transfer Object (DTO) for broadcasting a Mokadex collection event to the event stream of every instance.
+ *
+ * @param origin The ID of the instance where the event was produced.
+ * @param name The name of the event, as pushed to the clients.
+ * @param mokadexId The unique identifier for the Mokadex.
+ * @param username The name of the user that owns the Mokadex, if the event carries it.
+ * @param exhibitionId The unique identifier for the exhibition of the collected star or awarded emblem.
+ */
+public record MokadexStreamEventDTO(@NotNull String origin, @NotNull String name, @NotNull Long mokadexId,
+        String username, Long exhibitionId) {}
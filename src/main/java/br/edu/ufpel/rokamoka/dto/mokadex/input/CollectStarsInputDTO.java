@@ -0,0 +1,19 @@
+package br.edu.ufpel.rokamoka.dto.mokadex.input;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) for collecting several stars at once, from the scans queued by the app while offline.
+ *
+ * @param scans The queued scans, at most {@value #MAX_SCANS}.
+ *
+ * @see QueuedScanDTO
+ */
+public record CollectStarsInputDTO(@NotEmpty @Size(max = MAX_SCANS) List<@Valid QueuedScanDTO> scans) {
+
+    public static final int MAX_SCANS = 500;
+}
@@ -0,0 +1,13 @@
+package br.edu.ufpel.rokamoka.dto.mokadex.input;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.Instant;
+
+/**
+ * A Data Transfer Object (DTO) representing a QR code scanned by the app while offline and replayed later.
+ *
+ * @param qrCode The scanned QR code, referring to an artwork.
+ * @param scannedAt When the scan happened on the client, if known; scans are applied in this order.
+ */
+public record QueuedScanDTO(@NotBlank String qrCode, Instant scannedAt) {}
@@ -0,0 +1,17 @@
+package br.edu.ufpel.rokamoka.dto.mokadex.output;
+
+import br.edu.ufpel.rokamoka.core.CollectStarStatus;
+
+import java.time.Instant;
+
+/**
+ * A Data Transfer Object (DTO) representing the outcome of a single scan of a batch collection.
+ *
+ * @param qrCode The scanned QR code.
+ * @param scannedAt When the scan happened on the client, as sent by it.
+ * @param status Whether the star was collected, was a duplicate, or did not match any artwork.
+ * @param artworkId The ID of the scanned artwork, or {@code null} if the QR code is unknown.
+ *
+ * @see br.edu.ufpel.rokamoka.dto.mokadex.input.QueuedScanDTO
+ */
+public record CollectStarResultDTO(String qrCode, Instant scannedAt, CollectStarStatus status, Long artworkId) {}
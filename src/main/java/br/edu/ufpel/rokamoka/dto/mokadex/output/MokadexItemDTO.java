@@ -0,0 +1,43 @@
+package br.edu.ufpel.rokamoka.dto.mokadex.output;
+
+/**
+ * A projection of an item held in a Mokadex, either a collected artwork or an awarded emblem, flattened together with
+ * the exhibition it belongs to.
+ *
+ * <p>Fields that only apply to artworks are {@code null} for emblems.
+ *
+ * @see br.edu.ufpel.rokamoka.utils.mokadex.MokadexItemsBuilder
+ */
+public interface MokadexItemDTO {
+
+    String ARTWORK = "ARTWORK";
+    String EMBLEM = "EMBLEM";
+
+    String getKind();
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    String getArtistName();
+
+    String getQrCode();
+
+    String getLink();
+
+    Long getExhibitionId();
+
+    String getExhibitionName();
+
+    String getExhibitionDescription();
+
+    Long getExhibitionArtworkTotal();
+
+    String getLocationName();
+
+    default boolean isEmblem() {
+        return EMBLEM.equals(this.getKind());
+    }
+}
@@ -0,0 +1,18 @@
+package br.edu.ufpel.rokamoka.dto.mokadex.output;
+
+import java.time.LocalDateTime;
+
+/**
+ * A projection of what identifies the current state of a Mokadex and of its owner, used to answer conditional requests
+ * without querying the collections.
+ *
+ * @see br.edu.ufpel.rokamoka.core.Mokadex#getVersion()
+ */
+public interface MokadexVersionDTO {
+
+    Long getMokadexId();
+
+    Long getVersion();
+
+    LocalDateTime getUserUpdatedDate();
+}
@@ -0,0 +1,14 @@
+package br.edu.ufpel.rokamoka.dto.upload.input;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * A Data Transfer Object (DTO) for starting a resumable upload.
+ *
+ * @param fileName The name of the file being uploaded.
+ * @param contentType The media type of the file.
+ * @param size The total size of the file, in bytes.
+ */
+public record UploadInputDTO(@NotBlank String fileName, @NotBlank String contentType, @NotNull @Positive Long size) {}
@@ -0,0 +1,14 @@
+package br.edu.ufpel.rokamoka.dto.upload.output;
+
+/**
+ * The progress of a resumable upload, telling the client which chunk to send next.
+ *
+ * @param id The ID of the upload.
+ * @param size The total size of the file, in bytes.
+ * @param receivedBytes The number of bytes received so far.
+ * @param nextChunk The index of the next chunk expected, starting at {@code 0}.
+ * @param maxChunkSize The maximum size of a chunk, in bytes.
+ * @param complete Whether every byte was received and the upload can be committed.
+ */
+public record UploadOutputDTO(String id, long size, long receivedBytes, int nextChunk, long maxChunkSize,
+                              boolean complete) {}
@@ -39,4 +39,15 @@ public record UserOutputDTO(
                 mokadex
         );
     }
+
+    public UserOutputDTO(UserProfileDTO profile, MokadexOutputDTO mokadex) {
+        this(
+                profile.getNome(),
+                profile.getFirstName(),
+                profile.getLastName(),
+                profile.getEmail(),
+                profile.getRole() == null ? null : profile.getRole().getDescription(),
+                mokadex
+        );
+    }
 }
@@ -0,0 +1,23 @@
+package br.edu.ufpel.rokamoka.dto.user.output;
+
+import br.edu.ufpel.rokamoka.core.RoleEnum;
+
+/**
+ * A projection of the profile fields of a user, together with the ID of its Mokadex, if any.
+ *
+ * @see UserOutputDTO
+ */
+public interface UserProfileDTO {
+
+    String getNome();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    RoleEnum getRole();
+
+    Long getMokadexId();
+}
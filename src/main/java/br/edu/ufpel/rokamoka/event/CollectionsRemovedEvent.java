@@ -0,0 +1,8 @@
+package br.edu.ufpel.rokamoka.event;
+
+/**
+ * Published when artworks or emblems are removed, taking their collections away from every Mokadex that held them.
+ *
+ * @param exhibitionId The ID of the exhibition the removed artworks or emblems belonged to.
+ */
+public record CollectionsRemovedEvent(Long exhibitionId) {}
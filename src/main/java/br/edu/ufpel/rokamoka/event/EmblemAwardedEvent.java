@@ -0,0 +1,9 @@
+package br.edu.ufpel.rokamoka.event;
+
+/**
+ * Published when an emblem is awarded to a Mokadex.
+ *
+ * @param mokadexId The ID of the Mokadex that received the emblem.
+ * @param exhibitionId The ID of the exhibition the emblem belongs to.
+ */
+public record EmblemAwardedEvent(Long mokadexId, Long exhibitionId) {}
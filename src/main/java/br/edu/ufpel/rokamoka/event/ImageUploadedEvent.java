@@ -0,0 +1,8 @@
+package br.edu.ufpel.rokamoka.event;
+
+/**
+ * Published when an image is uploaded for an artwork.
+ *
+ * @param imageId The ID of the uploaded image.
+ */
+public record ImageUploadedEvent(Long imageId) {}
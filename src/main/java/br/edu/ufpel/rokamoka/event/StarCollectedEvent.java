@@ -0,0 +1,10 @@
+package br.edu.ufpel.rokamoka.event;
+
+/**
+ * Published when an artwork is collected for the first time in a Mokadex.
+ *
+ * @param mokadexId The ID of the Mokadex that collected the artwork.
+ * @param username The name of the user that owns the Mokadex.
+ * @param exhibitionId The ID of the exhibition the artwork belongs to.
+ */
+public record StarCollectedEvent(Long mokadexId, String username, Long exhibitionId) {}
@@ -0,0 +1,341 @@
+package br.edu.ufpel.rokamoka.filter;
+
+import br.edu.ufpel.rokamoka.component.IdempotencyStore;
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.StoredResponse;
+import br.edu.ufpel.rokamoka.config.IdempotencyConfigProperties;
+import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
+import br.edu.ufpel.rokamoka.context.ServiceContext;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentDuplicatedException;
+import br.edu.ufpel.rokamoka.utils.ContentDigest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.BadRequestException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * This filter replays the response of a mutating request to its retries, when the client sends an
+ * {@code Idempotency-Key} header.
+ *
+ * <p>The first request with a given key, for a given user, is processed as usual and its response is stored; a retry
+ * with the same key gets the stored response back, marked with {@code Idempotent-Replayed: true}, without reaching the
+ * services. A retry sent while the first request is still being processed is answered with {@code 409 Conflict}, and
+ * the reuse of a key for a different method, URI or body with {@code 422 Unprocessable Entity}. Only successful
+ * responses are stored, so that a failed request is processed again on retry.
+ *
+ * <p>The body is identified by its SHA-256: that of the raw body, read ahead and handed over again to the rest of the
+ * chain, or that of the parts and parameters of form submissions, which the container keeps once parsed. Raw bodies
+ * larger than {@code idempotency.max-body-size} are not read ahead; such requests are passed along untouched.
+ *
+ * <p>It runs after the security filters, which authenticate the user the keys belong to, and before the
+ * {@link ServiceContextFilter}, so that replays do not load the user either.
+ *
+ * @see IdempotencyStore
+ * @see IdempotencyConfigProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+public class IdempotencyFilter implements Filter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyConfigProperties idempotencyConfigProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Replays the stored response of the request, if any; otherwise, processes the request and stores its response.
+     * Requests without the header, with a safe method, or from an anonymous user are passed along untouched.
+     *
+     * @param request the incoming {@link ServletRequest}
+     * @param response the outgoing {@link ServletResponse}
+     * @param chain the {@link FilterChain} to pass the request and response to the next filter
+     *
+     * @throws IOException if an I/O error occurs during processing
+     * @throws ServletException if a servlet-specific error occurs during processing
+     */
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        var httpRequest = (HttpServletRequest) request;
+        var httpResponse = (HttpServletResponse) response;
+
+        String key = httpRequest.getHeader(IDEMPOTENCY_KEY);
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (key == null || !MUTATING_METHODS.contains(httpRequest.getMethod()) || auth == null
+            || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            this.writeError(httpResponse, HttpStatus.BAD_REQUEST, new BadRequestException(
+                    "Cabeçalho " + IDEMPOTENCY_KEY + " deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres"));
+            return;
+        }
+
+        var bufferedRequest = httpRequest;
+        String bodyDigest;
+        if (isForm(httpRequest)) {
+            bodyDigest = formDigest(httpRequest);
+        } else {
+            bufferedRequest = new BufferedBodyRequest(httpRequest, this.idempotencyConfigProperties.getMaxBodySize());
+            bodyDigest = ((BufferedBodyRequest) bufferedRequest).digest();
+        }
+        if (bodyDigest == null) {
+            log.warn("Corpo grande demais para a chave de idempotência [{}]; requisição processada sem ela", key);
+            chain.doFilter(bufferedRequest, response);
+            return;
+        }
+
+        String username = auth.getName();
+        String fingerprint = fingerprint(httpRequest, bodyDigest);
+        var entry = this.idempotencyStore.reserve(username, key, fingerprint);
+        if (entry.isPresent()) {
+            if (!entry.get().fingerprint().equals(fingerprint)) {
+                this.writeError(httpResponse, HttpStatus.UNPROCESSABLE_ENTITY, new RokaMokaContentDuplicatedException(
+                        "Chave de idempotência já utilizada em outra requisição"));
+            } else if (!entry.get().isCompleted()) {
+                this.writeError(httpResponse, HttpStatus.CONFLICT, new RokaMokaContentDuplicatedException(
+                        "Requisição com a mesma chave de idempotência ainda em processamento"));
+            } else {
+                log.info("Repetindo resposta da chave de idempotência [{}] para o usuário [{}]", key, username);
+                replay(httpResponse, entry.get().response());
+            }
+            return;
+        }
+
+        var cachingResponse = new ContentCachingResponseWrapper(httpResponse);
+        boolean stored = false;
+        try {
+            chain.doFilter(bufferedRequest, cachingResponse);
+            stored = this.store(httpRequest, cachingResponse, username, key);
+        } finally {
+            if (!stored) {
+                this.idempotencyStore.release(username, key);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private boolean store(HttpServletRequest request, ContentCachingResponseWrapper response, String username,
+            String key) {
+        if (request.isAsyncStarted() || !HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) {
+            return false;
+        }
+        if (response.getContentSize() > this.idempotencyConfigProperties.getMaxBodySize()) {
+            log.warn("Resposta de [{}] bytes não armazenada para a chave de idempotência [{}]",
+                    response.getContentSize(), key);
+            return false;
+        }
+        this.idempotencyStore.complete(username, key,
+                new StoredResponse(response.getStatus(), response.getContentType(), response.getContentAsByteArray()));
+        return true;
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse storedResponse) throws IOException {
+        response.setStatus(storedResponse.status());
+        if (storedResponse.contentType() != null) {
+            response.setContentType(storedResponse.contentType());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, Boolean.TRUE.toString());
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, IDEMPOTENT_REPLAYED);
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+    }
+
+    /**
+     * Writes an error with the same structure as the ones of the controllers. The request never reaches the other
+     * filters, so the context created here is also cleared here.
+     */
+    private void writeError(HttpServletResponse response, HttpStatus status, Exception e) throws IOException {
+        log.warn("Requisição com chave de idempotência rejeitada: [{}]", e.getMessage());
+        try {
+            ServiceContext ctx = ServiceContext.newContext();
+            ctx.setException(e);
+            ctx.setHttpStatus(status);
+            ctx.setEndTime(System.currentTimeMillis());
+
+            response.setStatus(status.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            this.objectMapper.writeValue(response.getOutputStream(), new ApiResponseWrapper<Void>(ctx));
+        } finally {
+            ServiceContext.clearContext();
+        }
+    }
+
+    private static String fingerprint(HttpServletRequest request, String bodyDigest) {
+        String query = request.getQueryString();
+        return request.getMethod() + " " + request.getRequestURI() + (query == null ? "" : "?" + query) + " "
+               + bodyDigest;
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && (contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)
+                                       || contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE));
+    }
+
+    /**
+     * Digests the parts of a multipart request, in the order they were sent, or the parameters of any other form, in
+     * the order of their names. Files are read from wherever the container keeps them, so they are never held in
+     * memory as a whole.
+     *
+     * @return The SHA-256 of the form, or {@code null} if the multipart request is over the upload limits.
+     */
+    private static String formDigest(HttpServletRequest request) throws IOException, ServletException {
+        var digest = ContentDigest.sha256();
+        if (request.getContentType().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            var output = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+            Collection<Part> parts;
+            try {
+                parts = request.getParts();
+            } catch (IllegalStateException e) {
+                return null;
+            }
+            for (Part part : parts) {
+                update(digest, part.getName());
+                update(digest, part.getSubmittedFileName());
+                try (InputStream content = part.getInputStream()) {
+                    content.transferTo(output);
+                }
+                update(digest, null);
+            }
+        } else {
+            new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+                update(digest, name);
+                for (String value : values) {
+                    update(digest, value);
+                }
+            });
+        }
+        return ContentDigest.hex(digest);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    /**
+     * A request whose body is read ahead, up to a limit, so that it can be digested before being handed over to the
+     * rest of the chain. A body over the limit is handed over as well, the bytes read ahead followed by the rest.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final boolean complete;
+        private ServletInputStream inputStream;
+
+        private BufferedBodyRequest(HttpServletRequest request, int maxBodySize) throws IOException {
+            super(request);
+            long length = request.getContentLengthLong();
+            if (length > maxBodySize) {
+                this.head = new byte[0];
+                this.complete = false;
+            } else {
+                this.head = request.getInputStream().readNBytes(maxBodySize + 1);
+                this.complete = this.head.length <= maxBodySize;
+            }
+        }
+
+        /**
+         * @return The SHA-256 of the body, or {@code null} if it is larger than the limit.
+         */
+        private String digest() {
+            return this.complete ? ContentDigest.sha256Hex(this.head) : null;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (this.inputStream == null) {
+                InputStream content = this.complete
+                                      ? new ByteArrayInputStream(this.head)
+                                      : new SequenceInputStream(new ByteArrayInputStream(this.head),
+                                              super.getInputStream());
+                this.inputStream = new ServletInputStream() {
+                    private boolean finished;
+
+                    @Override
+                    public int read() throws IOException {
+                        int read = content.read();
+                        this.finished = read < 0;
+                        return read;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int read = content.read(buffer, offset, length);
+                        this.finished = read < 0;
+                        return read;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return this.finished;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+            return this.inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = this.getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(this.getInputStream(), charset));
+        }
+    }
+}
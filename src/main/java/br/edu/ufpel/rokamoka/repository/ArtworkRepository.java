@@ -1,32 +1,139 @@
 package br.edu.ufpel.rokamoka.repository;
 
 import br.edu.ufpel.rokamoka.core.Artwork;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkMetadataOutputDTO;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ArtworkRepository extends JpaRepository<Artwork, Long> {
 
+    /**
+     * Retrieves the summary of an artwork together with the path of its image, selecting only scalar columns so that
+     * the content of the image is never read. The path points at the variant of the image sized for display, once it
+     * has been generated.
+     *
+     * @param id The ID of the artwork.
+     *
+     * @return The artwork summary.
+     */
     @Query("""
-           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO(a, i)
-           FROM Artwork a LEFT JOIN FETCH a.images i
+           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO(
+               a.id, a.nome, a.descricao, a.nomeArtista, a.qrCode, a.link, COALESCE(i.imagemExibicao.id, i.id))
+           FROM Artwork a LEFT JOIN a.images i
            WHERE a.id = ?1
            """)
     ArtworkOutputDTO createFullArtworkInfo(Long id);
 
+    /**
+     * Retrieves the summaries of several artworks together with the paths of their images sized for display, ordered
+     * by ID, without reading the content of any image.
+     *
+     * @param ids The IDs of the artworks.
+     *
+     * @return The artwork summaries.
+     */
     @Query("""
-           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO(a, i)
-           FROM Artwork a LEFT JOIN FETCH a.images i
+           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO(
+               a.id, a.nome, a.descricao, a.nomeArtista, a.qrCode, a.link, COALESCE(i.imagemExibicao.id, i.id))
+           FROM Artwork a LEFT JOIN a.images i
            WHERE a.id IN ?1
            ORDER BY a.id
            """)
     List<ArtworkOutputDTO> createFullArtworkInfo(Set<Long> ids);
 
+    /**
+     * Streams the summaries of all artworks of an exhibition together with the paths of their images sized for display,
+     * ordered by ID, reading the rows from the database in batches as the stream is consumed, so that the whole list is
+     * never held in memory. The stream must be consumed, and closed, within the transaction that opened it.
+     *
+     * @param exhibitionId The ID of the exhibition.
+     *
+     * @return The artwork summaries.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO(
+               a.id, a.nome, a.descricao, a.nomeArtista, a.qrCode, a.link, COALESCE(i.imagemExibicao.id, i.id))
+           FROM Artwork a LEFT JOIN a.images i
+           WHERE a.exhibition.id = ?1
+           ORDER BY a.id
+           """)
+    Stream<ArtworkOutputDTO> streamAllByExhibitionId(Long exhibitionId);
+
+    /**
+     * Retrieves the summaries of all artworks of an exhibition, ordered by ID, selecting only scalar columns so that no
+     * artwork entity, nor anything it eagerly loads, is hydrated.
+     *
+     * @param exhibitionId The ID of the exhibition.
+     *
+     * @return The artwork summaries, without images.
+     */
+    @Query("""
+           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO(
+               a.id, a.nome, a.descricao, a.nomeArtista, a.qrCode, a.link)
+           FROM Artwork a
+           WHERE a.exhibition.id = ?1
+           ORDER BY a.id
+           """)
+    List<ArtworkOutputDTO> findAllSummariesByExhibitionId(Long exhibitionId);
+
+    /**
+     * Retrieves the summaries of all artworks of an exhibition together with the metadata of their uploaded images,
+     * ordered by ID, selecting only scalar columns so that neither the content of the images nor any entity is loaded.
+     *
+     * @param exhibitionId The ID of the exhibition.
+     *
+     * @return The artwork summaries, one row per artwork.
+     */
+    @Query("""
+           SELECT NEW br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkMetadataOutputDTO(
+               a.id, a.nome, a.descricao, a.nomeArtista, a.qrCode, a.link,
+               i.id, i.tamanhoBytes, i.tipoConteudo, i.hashConteudo)
+           FROM Artwork a LEFT JOIN a.images i
+           WHERE a.exhibition.id = ?1
+           ORDER BY a.id
+           """)
+    List<ArtworkMetadataOutputDTO> findAllMetadataByExhibitionId(Long exhibitionId);
+
     Optional<Artwork> findByQrCode(String qrCode);
 
+    /**
+     * Retrieves, with a single query, the ID and exhibition of every artwork whose QR code is among the given ones,
+     * without hydrating any artwork entity.
+     *
+     * @param qrCodes The QR codes to look up.
+     *
+     * @return One summary per matching artwork; QR codes that match no artwork are absent.
+     */
+    @Query("""
+           SELECT a.id AS id, a.qrCode AS qrCode, e.id AS exhibitionId
+           FROM Artwork a LEFT JOIN a.exhibition e
+           WHERE a.qrCode IN ?1
+           """)
+    List<ArtworkQrCodeDTO> findAllQrCodeSummariesByQrCodeIn(Collection<String> qrCodes);
+
+    /**
+     * Retrieves the ID and exhibition of every artwork that has a QR code, without hydrating any artwork entity.
+     *
+     * @return One summary per artwork with a QR code.
+     */
+    @Query("""
+           SELECT a.id AS id, a.qrCode AS qrCode, e.id AS exhibitionId
+           FROM Artwork a LEFT JOIN a.exhibition e
+           WHERE a.qrCode IS NOT NULL
+           """)
+    List<ArtworkQrCodeDTO> findAllQrCodeSummaries();
+
     List<Artwork> findByExhibition_Id(Long exhibitionId);
 }
@@ -0,0 +1,100 @@
+package br.edu.ufpel.rokamoka.repository;
+
+import br.edu.ufpel.rokamoka.core.CollectionProgress;
+import br.edu.ufpel.rokamoka.core.CollectionProgressId;
+import br.edu.ufpel.rokamoka.core.Exhibition;
+import br.edu.ufpel.rokamoka.core.Mokadex;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Repository interface for managing the {@link CollectionProgress} resource.
+ *
+ * @see JpaRepository
+ */
+public interface CollectionProgressRepository extends JpaRepository<CollectionProgress, CollectionProgressId> {
+
+    /**
+     * Increments by one the number of collected artworks of an exhibition in a Mokadex, creating the counter if it
+     * does not exist yet.
+     *
+     * @param mokadexId The ID of the {@link Mokadex} that collected the artwork.
+     * @param exhibitionId The ID of the {@link Exhibition} the collected artwork belongs to.
+     *
+     * @return The number of affected rows.
+     */
+    @Modifying
+    @Query(value = """
+                   INSERT INTO mokadex_exposicao_progresso (mokadex_id, exposicao_id, total_coletado)
+                   VALUES (:mokadexId, :exhibitionId, 1)
+                   ON CONFLICT (mokadex_id, exposicao_id)
+                   DO UPDATE SET total_coletado = mokadex_exposicao_progresso.total_coletado + 1""",
+            nativeQuery = true)
+    int incrementCollectedCount(Long mokadexId, Long exhibitionId);
+
+    /**
+     * Increments the number of collected artworks of several exhibitions in a Mokadex with a single statement,
+     * creating the counters that do not exist yet.
+     *
+     * @param mokadexId The ID of the {@link Mokadex} that collected the artworks.
+     * @param exhibitionIds The IDs of the exhibitions, without duplicates, aligned by position with {@code deltas}.
+     * @param deltas The number of artworks collected in each exhibition.
+     *
+     * @return The number of affected rows.
+     */
+    @Modifying
+    @Query(value = """
+                   INSERT INTO mokadex_exposicao_progresso (mokadex_id, exposicao_id, total_coletado)
+                   SELECT :mokadexId, u.exposicao_id, u.delta
+                   FROM unnest(CAST(:exhibitionIds AS int8[]), CAST(:deltas AS int8[])) AS u(exposicao_id, delta)
+                   ON CONFLICT (mokadex_id, exposicao_id)
+                   DO UPDATE SET total_coletado = mokadex_exposicao_progresso.total_coletado
+                                                  + EXCLUDED.total_coletado""",
+            nativeQuery = true)
+    int incrementCollectedCounts(Long mokadexId, Long[] exhibitionIds, Long[] deltas);
+
+    /**
+     * Decrements by one the counter of every Mokadex that has collected the given artwork. Must be called before the
+     * artwork is removed, while its rows in {@code mokadex_obra} still exist.
+     *
+     * @param artworkId The ID of the artwork about to be removed.
+     * @param exhibitionId The ID of the {@link Exhibition} the artwork belongs to.
+     *
+     * @return The number of affected rows.
+     */
+    @Modifying
+    @Query(value = """
+                   UPDATE mokadex_exposicao_progresso SET total_coletado = total_coletado - 1
+                   WHERE exposicao_id = :exhibitionId
+                   AND mokadex_id IN (SELECT mo.mokadex_id FROM mokadex_obra mo WHERE mo.obra_id = :artworkId)""",
+            nativeQuery = true)
+    int decrementCollectedCountByArtwork(Long artworkId, Long exhibitionId);
+
+    /**
+     * Removes all counters of a specific exhibition.
+     *
+     * @param exhibitionId The ID of the {@link Exhibition} whose counters are removed.
+     *
+     * @return The number of affected rows.
+     */
+    @Modifying
+    @Query("DELETE FROM CollectionProgress p WHERE p.id.exhibitionId = :exhibitionId")
+    int deleteAllByExhibitionId(Long exhibitionId);
+
+    /**
+     * Checks whether a Mokadex has collected every artwork of an exhibition, by comparing its counter with the
+     * exhibition's artwork total. An exhibition without artworks is never complete.
+     *
+     * @param mokadexId The ID of the {@link Mokadex} to check.
+     * @param exhibitionId The ID of the {@link Exhibition} to check.
+     *
+     * @return {@code true} if all artworks from the specified exhibition are collected in the given Mokadex;
+     * {@code false} otherwise.
+     */
+    @Query("""
+           SELECT COUNT(p) > 0 FROM CollectionProgress p, Exhibition e
+           WHERE e.id = p.id.exhibitionId AND p.id.mokadexId = :mokadexId AND p.id.exhibitionId = :exhibitionId
+           AND e.artworkTotal > 0 AND p.collectedCount >= e.artworkTotal""")
+    boolean hasCollectedAllArtworksInExhibition(Long mokadexId, Long exhibitionId);
+}
@@ -3,6 +3,8 @@ package br.edu.ufpel.rokamoka.repository;
 import br.edu.ufpel.rokamoka.core.Emblem;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,4 +31,13 @@ public interface EmblemRepository extends JpaRepository<Emblem, Long> {
      * @return An {@link Optional} containing the {@link Emblem} if found, or an empty {@link Optional} otherwise.
      */
     Optional<Emblem> findEmblemByExhibitionId(Long exhibitionId);
+
+    /**
+     * Retrieves the {@link Emblem} entities associated with any of the specified exhibition IDs.
+     *
+     * @param exhibitionIds The unique identifiers of the exhibitions whose emblems need to be retrieved.
+     *
+     * @return A {@link List} with the emblems found; exhibitions without an emblem are simply absent from it.
+     */
+    List<Emblem> findAllByExhibition_IdIn(Collection<Long> exhibitionIds);
 }
@@ -3,6 +3,7 @@ package br.edu.ufpel.rokamoka.repository;
 import br.edu.ufpel.rokamoka.core.Exhibition;
 import br.edu.ufpel.rokamoka.dto.exhibition.output.ExhibitionOutputDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -16,4 +17,9 @@ public interface ExhibitionRepository extends JpaRepository<Exhibition, Long> {
            GROUP BY e
            """)
     List<ExhibitionOutputDTO> findAllExhibitionAndCountArtworks();
+
+    @Modifying
+    @Query(value = "UPDATE exposicao SET total_obras = total_obras + :delta WHERE id = :exhibitionId",
+            nativeQuery = true)
+    int incrementArtworkTotal(Long exhibitionId, long delta);
 }
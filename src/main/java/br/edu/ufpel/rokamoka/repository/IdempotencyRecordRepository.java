@@ -0,0 +1,70 @@
+package br.edu.ufpel.rokamoka.repository;
+
+import br.edu.ufpel.rokamoka.core.IdempotencyRecord;
+import br.edu.ufpel.rokamoka.core.IdempotencyRecordId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for managing the {@link IdempotencyRecord} resource.
+ *
+ * @see JpaRepository
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecordId> {
+
+    /**
+     * Takes a key for a request, either because nobody holds it or because its previous record has expired, with a
+     * single statement, so that two instances never take the same key.
+     *
+     * @param username The name of the user sending the request.
+     * @param key The key sent by the client.
+     * @param fingerprint The method, URI and body digest of the request.
+     * @param now The current time.
+     * @param expiresAt The time after which the key can be taken again if the request never finishes.
+     *
+     * @return {@code 1} if the key was taken, {@code 0} if it is held by an unexpired record.
+     */
+    @Modifying
+    @Query(value = """
+                   INSERT INTO idempotencia_resposta (usuario, chave, requisicao, data_expiracao)
+                   VALUES (:username, :key, :fingerprint, :expiresAt)
+                   ON CONFLICT (usuario, chave)
+                   DO UPDATE SET requisicao = EXCLUDED.requisicao, status_http = NULL, tipo_conteudo = NULL,
+                                 conteudo = NULL, data_expiracao = EXCLUDED.data_expiracao
+                   WHERE idempotencia_resposta.data_expiracao < :now""", nativeQuery = true)
+    int reserve(String username, String key, String fingerprint, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * Stores the response of the request holding a key.
+     *
+     * @param username The name of the user that sent the request.
+     * @param key The key sent by the client.
+     * @param status The HTTP status of the response.
+     * @param contentType The content type of the response, if any.
+     * @param body The body of the response.
+     * @param expiresAt The time until which the response is replayed.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = """
+                   UPDATE idempotencia_resposta
+                   SET status_http = :status, tipo_conteudo = :contentType, conteudo = :body,
+                       data_expiracao = :expiresAt
+                   WHERE usuario = :username AND chave = :key""", nativeQuery = true)
+    int complete(String username, String key, int status, String contentType, byte[] body, LocalDateTime expiresAt);
+
+    /**
+     * Removes the records that are no longer replayed.
+     *
+     * @param now The current time.
+     *
+     * @return The number of removed rows.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM idempotencia_resposta WHERE data_expiracao < :now", nativeQuery = true)
+    int deleteAllExpired(LocalDateTime now);
+}
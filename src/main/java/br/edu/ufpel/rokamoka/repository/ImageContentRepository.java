@@ -0,0 +1,67 @@
+package br.edu.ufpel.rokamoka.repository;
+
+import br.edu.ufpel.rokamoka.core.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Reads and writes the content of the images as streams, which the derived queries of {@link ImageRepository} cannot
+ * do without holding it in a {@code byte[]}.
+ *
+ * @see ImageContentRepositoryImpl
+ */
+public interface ImageContentRepository {
+
+    /**
+     * Streams the content of an image into its {@code conteudo} column.
+     *
+     * @param id The ID of the image, already saved.
+     * @param content The content; read up to {@code length} bytes and not closed.
+     * @param length The length of the content, in bytes.
+     */
+    void writeContent(Long id, InputStream content, long length);
+
+    /**
+     * Streams the content kept in the {@code conteudo} column of an image to a reader, one image at a time and without
+     * loading it into the persistence context.
+     *
+     * @param id The ID of the image.
+     * @param reader The reader of the content; the stream is only valid while it runs.
+     *
+     * @return {@code false} if the image does not exist or its content is not kept in the table.
+     * @throws IOException If the reader fails.
+     */
+    boolean readContent(Long id, ContentReader reader) throws IOException;
+
+    /**
+     * Reads a slice of the content kept in the {@code conteudo} column of an image, so that it can be streamed without
+     * ever being held in memory as a whole. Runs on its own when there is no transaction, holding a connection only for
+     * the query.
+     *
+     * @param id The ID of the image.
+     * @param offset The position of the first byte of the slice, from {@code 0}.
+     * @param length The maximum length of the slice, in bytes.
+     *
+     * @return The slice, shorter than {@code length} at the end of the content, or empty if the image does not exist
+     * or its content is not kept in the table.
+     */
+    Optional<byte[]> readContentSlice(Long id, long offset, int length);
+
+    /**
+     * Detaches an image from the persistence context, once its changes have been flushed.
+     *
+     * @param image The image to detach.
+     */
+    void detach(Image image);
+
+    /**
+     * Reads the content of an image while it is streamed from the database.
+     */
+    @FunctionalInterface
+    interface ContentReader {
+
+        void read(InputStream content) throws IOException;
+    }
+}
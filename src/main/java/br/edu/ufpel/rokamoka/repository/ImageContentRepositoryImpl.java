@@ -0,0 +1,82 @@
+package br.edu.ufpel.rokamoka.repository;
+
+import br.edu.ufpel.rokamoka.core.Image;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Implementation of {@link ImageContentRepository} binding and reading the content as JDBC streams, which the driver
+ * copies through a fixed-size buffer.
+ */
+class ImageContentRepositoryImpl implements ImageContentRepository {
+
+    private static final String WRITE_CONTENT = "UPDATE imagem SET conteudo = ? WHERE id = ?";
+    private static final String READ_CONTENT = "SELECT conteudo FROM imagem WHERE id = ?";
+    private static final String READ_CONTENT_SLICE =
+            "SELECT substring(conteudo FROM CAST(:offset AS int4) + 1 FOR :length) FROM imagem WHERE id = :id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void writeContent(Long id, InputStream content, long length) {
+        this.entityManager.unwrap(Session.class).doWork(connection -> {
+            try (var statement = connection.prepareStatement(WRITE_CONTENT)) {
+                statement.setBinaryStream(1, content, length);
+                statement.setLong(2, id);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public boolean readContent(Long id, ContentReader reader) throws IOException {
+        try {
+            return this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                try (var statement = connection.prepareStatement(READ_CONTENT)) {
+                    statement.setLong(1, id);
+                    try (var resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            return false;
+                        }
+                        try (InputStream content = resultSet.getBinaryStream(1)) {
+                            if (content == null) {
+                                return false;
+                            }
+                            reader.read(content);
+                            return true;
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<byte[]> readContentSlice(Long id, long offset, int length) {
+        List<byte[]> slices = this.entityManager.createNativeQuery(READ_CONTENT_SLICE, byte[].class)
+                .setParameter("offset", offset)
+                .setParameter("length", length)
+                .setParameter("id", id)
+                .getResultList();
+        return slices.stream().filter(Objects::nonNull).findFirst();
+    }
+
+    @Override
+    public void detach(Image image) {
+        this.entityManager.detach(image);
+    }
+}
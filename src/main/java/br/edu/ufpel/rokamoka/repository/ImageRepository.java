@@ -1,7 +1,90 @@
 package br.edu.ufpel.rokamoka.repository;
 
 import br.edu.ufpel.rokamoka.core.Image;
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface ImageRepository extends JpaRepository<Image, Long> {
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageRepository extends JpaRepository<Image, Long>, ImageContentRepository {
+
+    /**
+     * Retrieves the metadata of an image without reading its content.
+     *
+     * @param id The ID of the image.
+     *
+     * @return The metadata of the image, if it exists; the hash is {@code null} for images uploaded before it was
+     * recorded.
+     */
+    @Query("""
+           SELECT NEW br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO(
+               i.id, i.tamanhoBytes, i.tipoConteudo, i.hashConteudo,
+               CASE WHEN i.conteudo IS NOT NULL THEN true ELSE false END)
+           FROM Image i
+           WHERE i.id = ?1
+           """)
+    Optional<ImageMetadataDTO> findMetadataById(Long id);
+
+    /**
+     * Retrieves only the content of an image.
+     *
+     * @param id The ID of the image.
+     *
+     * @return The content of the image, if it exists and is kept in the {@code imagem} table.
+     */
+    @Query("SELECT i.conteudo FROM Image i WHERE i.id = ?1")
+    Optional<byte[]> findContentById(Long id);
+
+    /**
+     * Retrieves the length of the content of an image without reading it.
+     *
+     * @param id The ID of the image.
+     *
+     * @return The length of the content, in bytes, if the image exists and its content is kept in the {@code imagem}
+     * table.
+     */
+    @Query(value = "SELECT octet_length(conteudo) FROM imagem WHERE id = ?1 AND conteudo IS NOT NULL",
+            nativeQuery = true)
+    Optional<Long> findContentLengthById(Long id);
+
+    /**
+     * Records the hash of an image uploaded before it was recorded.
+     *
+     * @param id The ID of the image.
+     * @param hash The SHA-256 of the content, in hexadecimal.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = "UPDATE imagem SET hash_conteudo = :hash WHERE id = :id AND hash_conteudo IS NULL",
+            nativeQuery = true)
+    int updateHash(Long id, String hash);
+
+    /**
+     * Retrieves the IDs of the images whose content is still kept in the {@code imagem} table.
+     *
+     * @param limit The maximum number of IDs to retrieve.
+     *
+     * @return The IDs, in ascending order.
+     */
+    @Query("SELECT i.id FROM Image i WHERE i.conteudo IS NOT NULL ORDER BY i.id")
+    List<Long> findIdsStoredInDatabase(Limit limit);
+
+    /**
+     * Retrieves the IDs of the uploaded images whose downscaled variants have not been generated yet.
+     *
+     * @param limit The maximum number of IDs to retrieve.
+     *
+     * @return The IDs, in ascending order.
+     */
+    @Query("""
+           SELECT i.id FROM Image i
+           WHERE i.imagemExibicao IS NULL AND i.imagemOriginal IS NULL
+           ORDER BY i.id
+           """)
+    List<Long> findIdsWithoutRenditions(Limit limit);
 }
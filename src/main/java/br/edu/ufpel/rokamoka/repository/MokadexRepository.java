@@ -3,9 +3,17 @@ package br.edu.ufpel.rokamoka.repository;
 import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.core.User;
+import br.edu.ufpel.rokamoka.dto.emblem.AwardedEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.leaderboard.CollectionCountDTO;
+import br.edu.ufpel.rokamoka.dto.leaderboard.MokadexOwnerDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexItemDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,18 +37,186 @@ public interface MokadexRepository extends JpaRepository<Mokadex, Long> {
     Optional<Mokadex> findMokadexByUsername(String username);
 
     /**
-     * Checks if all artworks from a specific exhibition have been collected in a specified Mokadex.
+     * Retrieves only the ID of the Mokadex associated with a specific username, without hydrating the Mokadex entity
+     * or any of its collections.
      *
-     * @param mokadexId The ID of the mokadex to check for artworks.
-     * @param exhibitionId The ID of the exhibition containing the artworks to verify.
+     * @param username The username of the {@link User} associated with the desired Mokadex.
+     *
+     * @return An {@link Optional} containing the Mokadex ID if found, or an empty {@link Optional} otherwise.
+     */
+    @Query(value = "SELECT m.id FROM Mokadex m WHERE m.usuario.nome = :username")
+    Optional<Long> findMokadexIdByUsername(String username);
+
+    /**
+     * Retrieves the version stamp of the Mokadex owned by the specified user, without touching its collections.
      *
-     * @return {@code true} if all artworks from the specified exhibition are collected in the given Mokadex;
-     * {@code false} otherwise.
+     * @param username The username of the {@link User} whose Mokadex is being queried.
+     *
+     * @return An {@link Optional} containing the version stamp, or empty if the user has no Mokadex.
      */
     @Query("""
-           SELECT COUNT(a1) = 0 FROM Artwork a1 WHERE a1.exhibition.id = :exhibitionId AND
-           NOT EXISTS (SELECT 1 FROM Mokadex m JOIN m.artworks a2 WHERE a1.id = a2.id and m.id = :mokadexId)""")
-    boolean hasCollectedAllArtworksInExhibition(Long mokadexId, Long exhibitionId);
+           SELECT m.id AS mokadexId, m.version AS version, u.updatedDate AS userUpdatedDate
+           FROM Mokadex m JOIN m.usuario u
+           WHERE u.nome = :username""")
+    Optional<MokadexVersionDTO> findVersionByUsername(String username);
+
+    /**
+     * Inserts a single artwork (star) into the {@code mokadex_obra} join table, ignoring the row if it already exists,
+     * and increases the version of the Mokadex in the same statement when the row is inserted.
+     *
+     * @param mokadexId The ID of the Mokadex collecting the artwork.
+     * @param artworkId The ID of the artwork being collected.
+     *
+     * @return {@code 1} if the artwork was collected by this call, {@code 0} if it was already present in the Mokadex.
+     */
+    @Modifying
+    @Query(value = """
+                   WITH inserted AS (
+                       INSERT INTO mokadex_obra (mokadex_id, obra_id) VALUES (:mokadexId, :artworkId)
+                       ON CONFLICT DO NOTHING
+                       RETURNING mokadex_id)
+                   UPDATE mokadex SET versao = versao + 1 WHERE id IN (SELECT mokadex_id FROM inserted)""",
+            nativeQuery = true)
+    int insertArtwork(Long mokadexId, Long artworkId);
+
+    /**
+     * Inserts several artworks (stars) into a Mokadex with a single statement, ignoring those already present, and
+     * increases the version of the Mokadex in the same statement when any is inserted.
+     *
+     * @param mokadexId The ID of the Mokadex collecting the artworks.
+     * @param artworkIds The IDs of the artworks being collected, without duplicates.
+     *
+     * @return The IDs of the artworks that were collected by this call.
+     */
+    @Query(value = """
+                   WITH inserted AS (
+                       INSERT INTO mokadex_obra (mokadex_id, obra_id)
+                       SELECT :mokadexId, u.obra_id FROM unnest(CAST(:artworkIds AS int8[])) AS u(obra_id)
+                       ON CONFLICT DO NOTHING
+                       RETURNING obra_id),
+                   bumped AS (
+                       UPDATE mokadex SET versao = versao + 1
+                       WHERE id = :mokadexId AND EXISTS (SELECT 1 FROM inserted))
+                   SELECT obra_id FROM inserted""", nativeQuery = true)
+    List<Long> insertArtworks(Long mokadexId, Long[] artworkIds);
+
+    /**
+     * Increases the version of a Mokadex.
+     *
+     * @param mokadexId The ID of the Mokadex whose collections changed.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = "UPDATE mokadex SET versao = versao + 1 WHERE id = :mokadexId", nativeQuery = true)
+    int incrementVersion(Long mokadexId);
+
+    /**
+     * Increases the version of every Mokadex that collected any of the given artworks. When the artworks are being
+     * removed, must run before, while their rows in {@code mokadex_obra} still exist.
+     *
+     * @param artworkIds The IDs of the artworks that changed or are about to be removed.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = """
+                   UPDATE mokadex SET versao = versao + 1
+                   WHERE id IN (SELECT mo.mokadex_id FROM mokadex_obra mo WHERE mo.obra_id IN (:artworkIds))""",
+            nativeQuery = true)
+    int incrementVersionByArtworkIds(Collection<Long> artworkIds);
+
+    /**
+     * Increases the version of every Mokadex that collected any artwork of the given exhibition, whose details and
+     * artwork total are embedded in their collections.
+     *
+     * @param exhibitionId The ID of the exhibition that changed.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = """
+                   UPDATE mokadex SET versao = versao + 1
+                   WHERE id IN (SELECT p.mokadex_id FROM mokadex_exposicao_progresso p
+                                WHERE p.exposicao_id = :exhibitionId)""", nativeQuery = true)
+    int incrementVersionByExhibitionId(Long exhibitionId);
+
+    /**
+     * Increases the version of every Mokadex that holds the given emblem. Must run before the emblem is removed, while
+     * its rows in {@code mokadex_emblema} still exist.
+     *
+     * @param emblemId The ID of the emblem about to be removed.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying
+    @Query(value = """
+                   UPDATE mokadex SET versao = versao + 1
+                   WHERE id IN (SELECT me.mokadex_id FROM mokadex_emblema me WHERE me.emblema_id = :emblemId)""",
+            nativeQuery = true)
+    int incrementVersionByEmblemId(Long emblemId);
+
+    /**
+     * Inserts several emblems, each into its own Mokadex, with a single statement that also increases the version of
+     * every Mokadex that received one. Pairs whose emblem was already collected, or whose Mokadex no longer exists, are
+     * skipped.
+     *
+     * @param mokadexIds The IDs of the Mokadex entries, aligned by position with {@code emblemIds}.
+     * @param emblemIds The IDs of the emblems to insert, aligned by position with {@code mokadexIds}.
+     *
+     * @return The pairs that were actually inserted.
+     */
+    @Query(value = """
+                   WITH inserted AS (
+                       INSERT INTO mokadex_emblema (mokadex_id, emblema_id)
+                       SELECT u.mokadex_id, u.emblema_id
+                       FROM unnest(CAST(:mokadexIds AS int8[]), CAST(:emblemIds AS int8[])) AS u(mokadex_id, emblema_id)
+                       JOIN mokadex m ON m.id = u.mokadex_id
+                       ON CONFLICT DO NOTHING
+                       RETURNING mokadex_id, emblema_id),
+                   bumped AS (
+                       UPDATE mokadex SET versao = versao + 1 WHERE id IN (SELECT mokadex_id FROM inserted))
+                   SELECT i.mokadex_id AS mokadexId, i.emblema_id AS emblemId, em.exposicao_id AS exhibitionId
+                   FROM inserted i JOIN emblema em ON em.id = i.emblema_id""", nativeQuery = true)
+    List<AwardedEmblemDTO> insertEmblems(Long[] mokadexIds, Long[] emblemIds);
+
+    /**
+     * Retrieves the highest Mokadex ID, used as the upper bound when walking every Mokadex in ID ranges.
+     *
+     * @return The highest Mokadex ID, or {@code 0} if there is no Mokadex.
+     */
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Mokadex m")
+    Long findMaxId();
+
+    /**
+     * Awards, with a single statement, every emblem whose exhibition has been fully collected but that is missing from
+     * the Mokadex, considering only the Mokadex entries in the given ID range. Coverage is taken from the
+     * {@code mokadex_exposicao_progresso} counters compared with the exhibition's artwork total. The version of every
+     * Mokadex that received an emblem is increased in the same statement.
+     *
+     * @param fromMokadexId The lower bound of the Mokadex ID range, exclusive.
+     * @param toMokadexId The upper bound of the Mokadex ID range, inclusive.
+     *
+     * @return The emblems awarded.
+     */
+    @Query(value = """
+                   WITH inserted AS (
+                       INSERT INTO mokadex_emblema (mokadex_id, emblema_id)
+                       SELECT p.mokadex_id, em.id
+                       FROM mokadex_exposicao_progresso p
+                       JOIN exposicao e ON e.id = p.exposicao_id
+                       JOIN emblema em ON em.exposicao_id = p.exposicao_id
+                       WHERE p.mokadex_id > :fromMokadexId AND p.mokadex_id <= :toMokadexId
+                       AND e.total_obras > 0 AND p.total_coletado >= e.total_obras
+                       AND NOT EXISTS (SELECT 1 FROM mokadex_emblema me
+                                       WHERE me.mokadex_id = p.mokadex_id AND me.emblema_id = em.id)
+                       ON CONFLICT DO NOTHING
+                       RETURNING mokadex_id, emblema_id),
+                   bumped AS (
+                       UPDATE mokadex SET versao = versao + 1 WHERE id IN (SELECT mokadex_id FROM inserted))
+                   SELECT i.mokadex_id AS mokadexId, i.emblema_id AS emblemId, em.exposicao_id AS exhibitionId
+                   FROM inserted i JOIN emblema em ON em.id = i.emblema_id""", nativeQuery = true)
+    List<AwardedEmblemDTO> insertMissingEmblems(Long fromMokadexId, Long toMokadexId);
 
     /**
      * Retrieves all artworks from a specific exhibition that are not yet collected in a specified Mokadex.
@@ -56,6 +232,80 @@ public interface MokadexRepository extends JpaRepository<Mokadex, Long> {
            NOT EXISTS (SELECT 1 FROM Mokadex m JOIN m.artworks a2 WHERE a1.id = a2.id and m.id = :mokadexId)""")
     Set<Artwork> findAllMissingStars(Long mokadexId, Long exhibitionId);
 
+    /**
+     * Retrieves only the IDs of the artworks of a specific exhibition that have been collected in the Mokadex of a
+     * user.
+     *
+     * @param username The username of the {@link User} associated with the Mokadex.
+     * @param exhibitionId The ID of the exhibition whose collected artworks are retrieved.
+     *
+     * @return The IDs of the collected artworks; empty if none was collected or the user has no Mokadex.
+     */
+    @Query("""
+           SELECT a.id FROM Mokadex m JOIN m.artworks a
+           WHERE m.usuario.nome = :username AND a.exhibition.id = :exhibitionId""")
+    List<Long> findCollectedArtworkIds(String username, Long exhibitionId);
+
+    /**
+     * Retrieves every artwork and emblem held in a Mokadex, flattened together with their exhibition and its location,
+     * so that the whole Mokadex can be presented without hydrating any entity. Rows are ordered by exhibition, then
+     * artworks before emblems, then by ID.
+     *
+     * @param mokadexId The ID of the Mokadex.
+     *
+     * @return One row per collected artwork and per awarded emblem.
+     */
+    @Query(value = """
+                   SELECT 'ARTWORK' AS kind, o.id AS id, o.nome AS name, o.descricao AS description,
+                          o.nome_artista AS artistName, o.qr_code AS qrCode, o.link AS link,
+                          e.id AS exhibitionId, e.nome AS exhibitionName, e.descricao AS exhibitionDescription,
+                          e.total_obras AS exhibitionArtworkTotal, l.nome AS locationName
+                   FROM mokadex_obra mo
+                   JOIN obra o ON o.id = mo.obra_id
+                   JOIN exposicao e ON e.id = o.exposicao_id
+                   JOIN local l ON l.id = e.local_id
+                   WHERE mo.mokadex_id = :mokadexId
+                   UNION ALL
+                   SELECT 'EMBLEM', em.id, em.nome, em.descricao, NULL, NULL, NULL,
+                          e.id, e.nome, e.descricao, e.total_obras, l.nome
+                   FROM mokadex_emblema me
+                   JOIN emblema em ON em.id = me.emblema_id
+                   JOIN exposicao e ON e.id = em.exposicao_id
+                   JOIN local l ON l.id = e.local_id
+                   WHERE me.mokadex_id = :mokadexId
+                   ORDER BY exhibitionId, kind, id""", nativeQuery = true)
+    List<MokadexItemDTO> findAllItemsByMokadexId(Long mokadexId);
+
+    /**
+     * Counts, straight from the join tables, how many artworks of each exhibition every Mokadex has collected.
+     *
+     * @return One row per Mokadex and exhibition with at least one collected artwork.
+     */
+    @Query(value = """
+                   SELECT mo.mokadex_id AS mokadexId, o.exposicao_id AS exhibitionId, COUNT(*) AS total
+                   FROM mokadex_obra mo JOIN obra o ON o.id = mo.obra_id
+                   GROUP BY mo.mokadex_id, o.exposicao_id""", nativeQuery = true)
+    List<CollectionCountDTO> countArtworksByMokadexAndExhibition();
+
+    /**
+     * Counts, straight from the join tables, how many emblems of each exhibition every Mokadex has collected.
+     *
+     * @return One row per Mokadex and exhibition with at least one collected emblem.
+     */
+    @Query(value = """
+                   SELECT me.mokadex_id AS mokadexId, em.exposicao_id AS exhibitionId, COUNT(*) AS total
+                   FROM mokadex_emblema me JOIN emblema em ON em.id = me.emblema_id
+                   GROUP BY me.mokadex_id, em.exposicao_id""", nativeQuery = true)
+    List<CollectionCountDTO> countEmblemsByMokadexAndExhibition();
+
+    /**
+     * Retrieves the ID of every Mokadex together with the name of its owner.
+     *
+     * @return One row per Mokadex.
+     */
+    @Query("SELECT m.id AS mokadexId, m.usuario.nome AS username FROM Mokadex m")
+    List<MokadexOwnerDTO> findAllOwners();
+
     /**
      * Retrieves the count of distinct artworks (stars) associated with a Mokadex entity
      * for a specific user identified by their username.
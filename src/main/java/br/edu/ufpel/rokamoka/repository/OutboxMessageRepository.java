@@ -0,0 +1,26 @@
+package br.edu.ufpel.rokamoka.repository;
+
+import br.edu.ufpel.rokamoka.core.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing the {@link OutboxMessage} resource.
+ *
+ * @see JpaRepository
+ */
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Locks and retrieves the oldest pending messages. Rows already locked by another relay are skipped, so concurrent
+     * relays (e.g. one per application instance) never publish the same batch.
+     *
+     * @param batchSize The maximum number of messages to retrieve.
+     *
+     * @return The locked messages, in insertion order.
+     */
+    @Query(value = "SELECT * FROM caixa_saida ORDER BY id LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxMessage> lockNextBatch(int batchSize);
+}
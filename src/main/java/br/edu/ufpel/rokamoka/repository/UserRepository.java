@@ -1,7 +1,9 @@
 package br.edu.ufpel.rokamoka.repository;
 
 import br.edu.ufpel.rokamoka.core.User;
+import br.edu.ufpel.rokamoka.dto.user.output.UserProfileDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -25,6 +27,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByNome(String nome);
 
+    /**
+     * Retrieves only the profile fields of the user with the specified name, together with the ID of its Mokadex,
+     * without hydrating the User entity.
+     *
+     * @param nome The name of the user to retrieve.
+     * @return An Optional containing the profile, whose Mokadex ID is {@code null} if the user has no Mokadex yet, or an
+     * empty Optional if no user is found with the given name.
+     */
+    @Query("""
+           SELECT u.nome AS nome, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, r.name AS role,
+                  m.id AS mokadexId
+           FROM User u LEFT JOIN u.role r LEFT JOIN Mokadex m ON m.usuario = u
+           WHERE u.nome = :nome""")
+    Optional<UserProfileDTO> findProfileByNome(String nome);
+
     /**
      * Retrieves an Optional containing a User with the specified email.
      *
@@ -1,21 +1,38 @@
 package br.edu.ufpel.rokamoka.service.artwork;
 
+import br.edu.ufpel.rokamoka.component.ArtworkQrCodeChangeProducer;
+import br.edu.ufpel.rokamoka.component.ArtworkQrCodeIndex;
+import br.edu.ufpel.rokamoka.component.ExhibitionArtworkIndex;
+import br.edu.ufpel.rokamoka.component.QrCodeSigner;
 import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.core.Exhibition;
+import br.edu.ufpel.rokamoka.core.Image;
 import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.event.CollectionsRemovedEvent;
+import br.edu.ufpel.rokamoka.event.ImageUploadedEvent;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import br.edu.ufpel.rokamoka.repository.CollectionProgressRepository;
 import br.edu.ufpel.rokamoka.repository.EmblemRepository;
 import br.edu.ufpel.rokamoka.repository.ExhibitionRepository;
+import br.edu.ufpel.rokamoka.repository.MokadexRepository;
 import br.edu.ufpel.rokamoka.service.image.IIMageService;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.springframework.transaction.annotation.Propagation.REQUIRED;
 
@@ -26,8 +43,15 @@ public class ArtworkService implements IArtworkService {
     private final ArtworkRepository artworkRepository;
     private final ExhibitionRepository exhibitionRepository;
     private final EmblemRepository emblemRepository;
+    private final CollectionProgressRepository collectionProgressRepository;
+    private final MokadexRepository mokadexRepository;
 
     private final IIMageService imageService;
+    private final ExhibitionArtworkIndex exhibitionArtworkIndex;
+    private final ArtworkQrCodeIndex artworkQrCodeIndex;
+    private final ArtworkQrCodeChangeProducer artworkQrCodeChangeProducer;
+    private final QrCodeSigner qrCodeSigner;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(propagation = REQUIRED)
@@ -45,30 +69,44 @@ public class ArtworkService implements IArtworkService {
                 .images(images)
                 .exhibition(exhibition)
                 .build();
-        return this.artworkRepository.save(artwork);
+        artwork = this.artworkRepository.save(artwork);
+        artwork.setQrCode(this.qrCodeOrSigned(artwork.getQrCode(), artwork.getId(), exhibition.getId()));
+        this.exhibitionRepository.incrementArtworkTotal(exhibition.getId(), 1);
+        this.mokadexRepository.incrementVersionByExhibitionId(exhibition.getId());
+        this.exhibitionArtworkIndex.evict(exhibition.getId());
+        this.indexQrCode(artwork.getId(), artwork.getQrCode(), exhibition.getId());
+        this.publishUploaded(images);
+        return artwork;
     }
 
     @Override
     @Transactional(propagation = REQUIRED)
     public Artwork update(ArtworkInputDTO input) {
         var artwork = this.getArtworkOrElseThrow(input.id());
+        this.mokadexRepository.incrementVersionByArtworkIds(List.of(input.id()));
 
         artwork.setLink(input.link());
         artwork.setDescricao(input.descricao());
 
         var exhibition = artwork.getExhibition();
+        if (exhibition != null) {
+            this.exhibitionArtworkIndex.evict(exhibition.getId());
+        }
         if (exhibition != null && this.emblemRepository.existsEmblemByExhibitionId(exhibition.getId())) {
             return artwork;
         }
 
         artwork.setNome(input.nome());
         artwork.setNomeArtista(input.nomeArtista());
-        artwork.setQrCode(input.qrCode());
+        var exhibitionId = exhibition == null ? null : exhibition.getId();
+        artwork.setQrCode(this.qrCodeOrSigned(input.qrCode(), artwork.getId(), exhibitionId));
+        this.indexQrCode(artwork.getId(), artwork.getQrCode(), exhibitionId);
 
         var images = this.imageService.upload(input.image());
         if (!CollectionUtils.isEmpty(images)) {
             artwork.getImages().clear();
             artwork.getImages().addAll(images);
+            this.publishUploaded(images);
         }
 
         return artwork;
@@ -78,7 +116,18 @@ public class ArtworkService implements IArtworkService {
     @Transactional(propagation = REQUIRED)
     public ArtworkOutputDTO delete(Long id) {
         var artwork = this.getArtworkOrElseThrow(id);
+
+        var exhibition = artwork.getExhibition();
+        if (exhibition != null) {
+            this.collectionProgressRepository.decrementCollectedCountByArtwork(artwork.getId(), exhibition.getId());
+            this.mokadexRepository.incrementVersionByExhibitionId(exhibition.getId());
+            this.exhibitionRepository.incrementArtworkTotal(exhibition.getId(), -1);
+            this.exhibitionArtworkIndex.evict(exhibition.getId());
+            this.eventPublisher.publishEvent(new CollectionsRemovedEvent(exhibition.getId()));
+        }
+
         this.artworkRepository.delete(artwork);
+        this.indexQrCode(artwork.getId(), null, null);
         return new ArtworkOutputDTO(artwork);
     }
 
@@ -88,10 +137,77 @@ public class ArtworkService implements IArtworkService {
         return this.artworkRepository.findById(id).orElseThrow(RokaMokaContentNotFoundException::new);
     }
 
+    /**
+     * Resolves a scanned QR code to the ID and exhibition of its artwork: a signed QR code from its signature alone,
+     * verified once and without touching the database, and any other QR code through
+     * {@link #getQrCodeSummaryOrThrow(String)}. Meant to run before any transaction is opened for the QR code.
+     *
+     * @param qrCode The scanned QR code.
+     *
+     * @return The ID and exhibition of the artwork. An artwork resolved from a signed QR code may have been deleted
+     * since.
+     * @throws RokaMokaContentNotFoundException If no artwork has the QR code.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public Artwork getByQrCodeOrThrow(String qrCode) {
-        return this.findByQrCode(qrCode).orElseThrow(RokaMokaContentNotFoundException::new);
+    public ArtworkQrCodeDTO resolveQrCodeOrThrow(String qrCode) {
+        var signed = this.qrCodeSigner.verify(qrCode);
+        return signed.isPresent() ? signed.get() : this.getQrCodeSummaryOrThrow(qrCode);
+    }
+
+    /**
+     * Resolves a QR code to the ID and exhibition of its artwork, from the {@link ArtworkQrCodeIndex}. Only a QR code
+     * missing from the index, and not ruled out by its filter, is looked up in the database, and the result is then
+     * indexed. This method opens no transaction of its own, so a QR code found in, or rejected by, the index never
+     * touches the database.
+     *
+     * @param qrCode The scanned QR code.
+     *
+     * @return The ID and exhibition of the artwork.
+     * @throws RokaMokaContentNotFoundException If no artwork has the QR code.
+     */
+    @Override
+    public ArtworkQrCodeDTO getQrCodeSummaryOrThrow(String qrCode) {
+        var indexed = this.artworkQrCodeIndex.find(qrCode);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+        if (this.qrCodeSigner.verify(qrCode).isEmpty() && !this.artworkQrCodeIndex.mightExist(qrCode)) {
+            throw new RokaMokaContentNotFoundException();
+        }
+        var summaries = this.findAndIndex(List.of(qrCode));
+        if (summaries.isEmpty()) {
+            throw new RokaMokaContentNotFoundException();
+        }
+        return summaries.get(0);
+    }
+
+    /**
+     * Resolves several QR codes at once, from the {@link ArtworkQrCodeIndex}, looking up only the ones missing from it,
+     * and not ruled out by its filter, in the database, with a single query.
+     *
+     * @param qrCodes The scanned QR codes.
+     *
+     * @return One summary per QR code that matches an artwork; QR codes that match none are absent.
+     */
+    @Override
+    public List<ArtworkQrCodeDTO> findAllByQrCodes(Collection<String> qrCodes) {
+        if (qrCodes.isEmpty()) {
+            return List.of();
+        }
+        var summaries = new ArrayList<ArtworkQrCodeDTO>(qrCodes.size());
+        var missing = new LinkedHashSet<String>();
+        for (String qrCode : new LinkedHashSet<>(qrCodes)) {
+            var indexed = this.artworkQrCodeIndex.find(qrCode);
+            if (indexed.isPresent()) {
+                summaries.add(indexed.get());
+            } else if (this.artworkQrCodeIndex.mightExist(qrCode)) {
+                missing.add(qrCode);
+            }
+        }
+        if (!missing.isEmpty()) {
+            summaries.addAll(this.findAndIndex(missing));
+        }
+        return summaries;
     }
 
     @Override
@@ -100,11 +216,36 @@ public class ArtworkService implements IArtworkService {
         return this.artworkRepository.findByExhibition_Id(exhibitionId);
     }
 
+    /**
+     * Hands the summaries of all artworks of an exhibition, ordered by ID, to {@code action} one at a time, as they are
+     * read from the database, so that the whole list is never held in memory.
+     *
+     * @param exhibitionId The ID of the exhibition.
+     * @param action Receives each artwork summary; called within the read-only transaction of this method.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByExhibitionId(Long exhibitionId, Consumer<? super ArtworkOutputDTO> action) {
+        try (Stream<ArtworkOutputDTO> artworks = this.artworkRepository.streamAllByExhibitionId(exhibitionId)) {
+            artworks.forEach(action);
+        }
+    }
+
     @Override
     @Transactional(propagation = REQUIRED)
     public List<ArtworkOutputDTO> addArtworksToExhibition(List<ArtworkInputDTO> inputList, Exhibition exhibition) {
         var artworks = inputList.stream().map(a -> new Artwork(a, exhibition)).toList();
         artworks = this.artworkRepository.saveAll(artworks);
+        if (exhibition != null && !artworks.isEmpty()) {
+            this.exhibitionRepository.incrementArtworkTotal(exhibition.getId(), artworks.size());
+            this.mokadexRepository.incrementVersionByExhibitionId(exhibition.getId());
+            this.exhibitionArtworkIndex.evict(exhibition.getId());
+        }
+        for (Artwork artwork : artworks) {
+            var exhibitionId = exhibition == null ? null : exhibition.getId();
+            artwork.setQrCode(this.qrCodeOrSigned(artwork.getQrCode(), artwork.getId(), exhibitionId));
+            this.indexQrCode(artwork.getId(), artwork.getQrCode(), exhibitionId);
+        }
         return artworks.stream().map(ArtworkOutputDTO::new).toList();
     }
 
@@ -112,11 +253,56 @@ public class ArtworkService implements IArtworkService {
     @Transactional(propagation = REQUIRED)
     public List<ArtworkOutputDTO> deleteByExhibitionId(Long exhibitionId) {
         var artworks = this.getAllArtworkByExhibitionId(exhibitionId);
-        this.artworkRepository.deleteAllById(artworks.stream().map(Artwork::getId).toList());
+        var artworkIds = artworks.stream().map(Artwork::getId).toList();
+        this.collectionProgressRepository.deleteAllByExhibitionId(exhibitionId);
+        if (!artworkIds.isEmpty()) {
+            this.mokadexRepository.incrementVersionByArtworkIds(artworkIds);
+        }
+        this.artworkRepository.deleteAllById(artworkIds);
+        artworkIds.forEach(artworkId -> this.indexQrCode(artworkId, null, null));
+        if (!artworks.isEmpty()) {
+            this.exhibitionRepository.incrementArtworkTotal(exhibitionId, -artworks.size());
+        }
+        this.exhibitionArtworkIndex.evict(exhibitionId);
+        this.eventPublisher.publishEvent(new CollectionsRemovedEvent(exhibitionId));
         return artworks.stream().map(ArtworkOutputDTO::new).toList();
     }
 
-    private Optional<Artwork> findByQrCode(String qrCode) {
-        return this.artworkRepository.findByQrCode(qrCode);
+    /**
+     * Keeps the QR code given to an artwork, or, when none is given, issues its signed QR code, if signing is enabled.
+     * Signing is deterministic, so an artwork keeps the same signed QR code across updates.
+     */
+    private String qrCodeOrSigned(String qrCode, Long artworkId, Long exhibitionId) {
+        if (StringUtils.hasText(qrCode)) {
+            return qrCode;
+        }
+        return this.qrCodeSigner.sign(artworkId, exhibitionId).orElse(qrCode);
+    }
+
+    /**
+     * Applies a change of the QR code of an artwork to the index of this instance and broadcasts it to the others, both
+     * once the current transaction commits.
+     */
+    private void indexQrCode(Long artworkId, String qrCode, Long exhibitionId) {
+        if (qrCode == null) {
+            this.artworkQrCodeIndex.remove(artworkId);
+        } else {
+            this.artworkQrCodeIndex.put(artworkId, qrCode, exhibitionId);
+        }
+        this.artworkQrCodeChangeProducer.publishChange(artworkId, qrCode, exhibitionId);
+    }
+
+    private List<ArtworkQrCodeDTO> findAndIndex(Collection<String> qrCodes) {
+        var summaries = this.artworkRepository.findAllQrCodeSummariesByQrCodeIn(qrCodes);
+        summaries.forEach(summary -> this.artworkQrCodeIndex.put(summary.getId(), summary.getQrCode(),
+                summary.getExhibitionId()));
+        this.artworkQrCodeIndex.recordFalsePositives(qrCodes.size() - summaries.size());
+        return summaries;
+    }
+
+    private void publishUploaded(Set<Image> images) {
+        if (images != null) {
+            images.forEach(image -> this.eventPublisher.publishEvent(new ImageUploadedEvent(image.getId())));
+        }
     }
 }
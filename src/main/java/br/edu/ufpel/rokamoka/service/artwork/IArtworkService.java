@@ -4,8 +4,11 @@ import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.core.Exhibition;
 import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IArtworkService {
 
@@ -17,10 +20,16 @@ public interface IArtworkService {
 
     Artwork getArtworkOrElseThrow(Long id);
 
-    Artwork getByQrCodeOrThrow(String qrCode);
+    ArtworkQrCodeDTO resolveQrCodeOrThrow(String qrCode);
+
+    ArtworkQrCodeDTO getQrCodeSummaryOrThrow(String qrCode);
+
+    List<ArtworkQrCodeDTO> findAllByQrCodes(Collection<String> qrCodes);
 
     List<Artwork> getAllArtworkByExhibitionId(Long exhibitionId);
 
+    void forEachByExhibitionId(Long exhibitionId, Consumer<? super ArtworkOutputDTO> action);
+
     List<ArtworkOutputDTO> addArtworksToExhibition(List<ArtworkInputDTO> inputList, Exhibition exhibition);
 
     List<ArtworkOutputDTO> deleteByExhibitionId(Long exhibitionId);
@@ -2,11 +2,14 @@ package br.edu.ufpel.rokamoka.service.emblem;
 
 import static org.springframework.transaction.annotation.Propagation.REQUIRED;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -17,6 +20,7 @@ import br.edu.ufpel.rokamoka.core.Emblem;
 import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.dto.emblem.input.EmblemInputDTO;
 import br.edu.ufpel.rokamoka.dto.emblem.output.EmblemOutputDTO;
+import br.edu.ufpel.rokamoka.event.CollectionsRemovedEvent;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaForbiddenException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
@@ -47,6 +51,7 @@ public class EmblemService implements IEmblemService {
     private final IArtworkService artworkService;
     private final ArtworkRepository artworkRepository;
     private final IExhibitionService exhibitionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Emblem findById(Long emblemId) {
@@ -81,6 +86,16 @@ public class EmblemService implements IEmblemService {
         return maybeEmblem;
     }
 
+    @Override
+    public List<Emblem> findAllByExhibitionIds(Collection<Long> exhibitionIds) {
+        if (exhibitionIds.isEmpty()) {
+            return List.of();
+        }
+        List<Emblem> emblems = this.emblemRepository.findAllByExhibition_IdIn(exhibitionIds);
+        log.info("[{}] emblemas encontrados para [{}] exposições", emblems.size(), exhibitionIds.size());
+        return emblems;
+    }
+
 
     @Override
     public Emblem create(EmblemInputDTO emblemInputDTO) {
@@ -99,7 +114,9 @@ public class EmblemService implements IEmblemService {
     @Transactional(propagation = REQUIRED)
     public Emblem delete(@NotNull Long emblemId) {
         Emblem emblem = this.emblemRepository.findById(emblemId).orElseThrow(RokaMokaContentNotFoundException::new);
+        this.mokadexRepository.incrementVersionByEmblemId(emblem.getId());
         this.emblemRepository.delete(emblem);
+        this.eventPublisher.publishEvent(new CollectionsRemovedEvent(emblem.getExhibition().getId()));
         return emblem;
     }
 
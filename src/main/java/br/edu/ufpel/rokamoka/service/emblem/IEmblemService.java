@@ -1,5 +1,7 @@
 package br.edu.ufpel.rokamoka.service.emblem;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import br.edu.ufpel.rokamoka.core.Emblem;
@@ -22,6 +24,8 @@ public interface IEmblemService {
 
     Optional<Emblem> findByExhibitionId(Long exhibitionId);
 
+    List<Emblem> findAllByExhibitionIds(Collection<Long> exhibitionIds);
+
     Emblem create(@Valid EmblemInputDTO emblemInputDTO);
 
     Emblem delete(@NotNull Long emblemId);
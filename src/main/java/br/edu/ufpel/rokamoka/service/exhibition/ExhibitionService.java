@@ -9,6 +9,7 @@ import br.edu.ufpel.rokamoka.dto.exhibition.input.ExhibitionInputDTO;
 import br.edu.ufpel.rokamoka.dto.exhibition.output.ExhibitionOutputDTO;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.repository.ExhibitionRepository;
+import br.edu.ufpel.rokamoka.repository.MokadexRepository;
 import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
 import br.edu.ufpel.rokamoka.service.location.ILocationService;
 import br.edu.ufpel.rokamoka.utils.exhibition.ExhibitionBuilder;
@@ -25,6 +26,7 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRED;
 public class ExhibitionService implements IExhibitionService {
 
     private final ExhibitionRepository exhibitionRepository;
+    private final MokadexRepository mokadexRepository;
     private final IArtworkService artworkService;
     private final ILocationService locationService;
 
@@ -85,6 +87,7 @@ public class ExhibitionService implements IExhibitionService {
 
         exhibition = new ExhibitionBuilder(exhibition, location, input).update();
         exhibition = this.exhibitionRepository.save(exhibition);
+        this.mokadexRepository.incrementVersionByExhibitionId(exhibition.getId());
         return new ExhibitionOutputDTO(exhibition);
     }
 
@@ -0,0 +1,113 @@
+package br.edu.ufpel.rokamoka.service.image;
+
+import br.edu.ufpel.rokamoka.repository.ImageRepository;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The content of an image kept in the {@code imagem} table, read in slices of {@value #SLICE_SIZE} bytes as it is
+ * consumed. Each slice is fetched with its own short query, so a slow client never holds a database connection, and
+ * skipping bytes, as {@code Range} requests do, fetches nothing. Every call to {@link #getInputStream()} opens a new
+ * stream from the start of the content.
+ *
+ * @see ImageRepository#readContentSlice(Long, long, int)
+ */
+final class DatabaseContentResource extends AbstractResource {
+
+    static final int SLICE_SIZE = 256 * 1024;
+
+    private final ImageRepository imageRepository;
+    private final Long id;
+    private final long length;
+
+    DatabaseContentResource(ImageRepository imageRepository, Long id, long length) {
+        this.imageRepository = imageRepository;
+        this.id = id;
+        this.length = length;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return this.length;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Conteúdo da imagem [" + this.id + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new SliceInputStream();
+    }
+
+    /**
+     * Reads the content one slice at a time, keeping only the current slice in memory.
+     */
+    private final class SliceInputStream extends InputStream {
+
+        private byte[] slice = new byte[0];
+        private long sliceOffset;
+        private long position;
+
+        @Override
+        public int read() throws IOException {
+            if (!this.fill()) {
+                return -1;
+            }
+            return this.slice[(int) (this.position++ - this.sliceOffset)] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int count) throws IOException {
+            if (count == 0) {
+                return 0;
+            }
+            if (!this.fill()) {
+                return -1;
+            }
+            int start = (int) (this.position - this.sliceOffset);
+            int read = Math.min(count, this.slice.length - start);
+            System.arraycopy(this.slice, start, buffer, offset, read);
+            this.position += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long count) {
+            long skipped = Math.max(0, Math.min(count, DatabaseContentResource.this.length - this.position));
+            this.position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long buffered = this.sliceOffset + this.slice.length - this.position;
+            return buffered > 0 ? (int) buffered : 0;
+        }
+
+        private boolean fill() throws IOException {
+            if (this.position >= this.sliceOffset && this.position < this.sliceOffset + this.slice.length) {
+                return true;
+            }
+            long remaining = DatabaseContentResource.this.length - this.position;
+            if (remaining <= 0) {
+                return false;
+            }
+            this.slice = DatabaseContentResource.this.imageRepository
+                    .readContentSlice(DatabaseContentResource.this.id, this.position,
+                            (int) Math.min(SLICE_SIZE, remaining))
+                    .orElseThrow(() -> new IOException("Imagem [" + DatabaseContentResource.this.id
+                            + "] removida durante a leitura"));
+            this.sliceOffset = this.position;
+            return this.slice.length > 0;
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package br.edu.ufpel.rokamoka.service.image;
 
 import br.edu.ufpel.rokamoka.core.Image;
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import br.edu.ufpel.rokamoka.utils.ImageResizer.Rendition;
+import org.springframework.core.io.Resource;
 import org.springframework.lang.Nullable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.Set;
 
 public interface IIMageService {
 
     @Nullable
     Set<Image> upload(MultipartFile image);
+
+    ImageMetadataDTO getMetadataOrElseThrow(Long id);
+
+    Resource getContentOrElseThrow(ImageMetadataDTO metadata);
+
+    int migrateToStore(int chunkSize);
+
+    List<Long> findIdsWithoutRenditions(int limit);
+
+    void saveRenditions(Long id, List<Rendition> renditions);
 }
@@ -1,35 +1,205 @@
 package br.edu.ufpel.rokamoka.service.image;
 
+import br.edu.ufpel.rokamoka.component.ImageStore;
+import br.edu.ufpel.rokamoka.config.ImageRenditionConfigProperties;
 import br.edu.ufpel.rokamoka.core.Image;
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.repository.ImageRepository;
+import br.edu.ufpel.rokamoka.utils.ContentDigest;
+import br.edu.ufpel.rokamoka.utils.ImageResizer.Rendition;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static org.springframework.transaction.annotation.Propagation.REQUIRED;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageService implements IIMageService {
 
     private final ImageRepository imageRepository;
+    private final ImageStore imageStore;
+    private final ImageRenditionConfigProperties imageRenditionConfigProperties;
 
+    /**
+     * Saves an uploaded image, streaming its content to the {@link ImageStore} so that it is never held in memory as a
+     * whole; the hash of the content is computed on the way.
+     *
+     * @param image The uploaded image.
+     *
+     * @return The saved image, or {@code null} if no image was uploaded.
+     */
     @Nullable
     @Override
+    @Transactional(propagation = REQUIRED)
     public Set<Image> upload(MultipartFile image) {
         if (image == null || image.getSize() == 0) {
             return null;
         }
-        try {
-            var imageSize = image.getSize();
-            var imageBytes = image.getBytes();
-            var savedImage = this.imageRepository.save(new Image(imageBytes, imageSize));
+        try (InputStream content = image.getInputStream()) {
+            var savedImage = this.imageRepository.save(new Image(image.getSize(), image.getContentType()));
+            this.imageStore.write(savedImage, content);
             return new HashSet<>(Set.of(savedImage));
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Retrieves the metadata of an image without reading its content. Images uploaded before their hash was recorded
+     * have it computed, and stored, on their first retrieval.
+     *
+     * @param id The ID of the image.
+     *
+     * @return The metadata of the image, hash included.
+     * @throws RokaMokaContentNotFoundException If the image does not exist.
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public ImageMetadataDTO getMetadataOrElseThrow(Long id) {
+        var metadata = this.imageRepository.findMetadataById(id)
+                .orElseThrow(() -> new RokaMokaContentNotFoundException("Imagem não encontrada"));
+        if (metadata.hash() != null) {
+            return metadata;
+        }
+
+        var hash = ContentDigest.sha256Hex(this.findContentInDatabaseOrElseThrow(id));
+        this.imageRepository.updateHash(id, hash);
+        log.info("Hash da imagem [{}] registrado", id);
+        return new ImageMetadataDTO(metadata.id(), metadata.size(), metadata.contentType(), hash,
+                metadata.storedInDatabase());
+    }
+
+    /**
+     * Retrieves the content of an image, from the {@code imagem} table or from the {@link ImageStore}, where it is
+     * addressed by its hash. Content kept in the table is read in slices as the returned resource is consumed.
+     *
+     * @param metadata The metadata of the image.
+     *
+     * @return The content of the image.
+     * @throws RokaMokaContentNotFoundException If the content of the image is missing.
+     * @see DatabaseContentResource
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Resource getContentOrElseThrow(ImageMetadataDTO metadata) {
+        if (metadata.storedInDatabase()) {
+            long length = this.imageRepository.findContentLengthById(metadata.id())
+                    .orElseThrow(() -> new RokaMokaContentNotFoundException("Imagem não encontrada"));
+            return new DatabaseContentResource(this.imageRepository, metadata.id(), length);
+        }
+        return this.imageStore.read(metadata.hash())
+                .orElseThrow(() -> new RokaMokaContentNotFoundException("Imagem não encontrada"));
+    }
+
+    /**
+     * Moves the content of the next images still kept in the {@code imagem} table to the {@link ImageStore}, leaving
+     * only their metadata in the table. Images uploaded before their hash was recorded have it recorded as well, by
+     * the store.
+     *
+     * <p>Images are moved one at a time: the content is streamed from the table to the store, and the image is flushed
+     * and detached before the next one, so memory does not grow with the size of the chunk.
+     *
+     * @param chunkSize The maximum number of images to move.
+     *
+     * @return The number of images moved; lower than {@code chunkSize} once every image has been moved.
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public int migrateToStore(int chunkSize) {
+        List<Long> ids = this.imageRepository.findIdsStoredInDatabase(Limit.of(chunkSize));
+        for (Long id : ids) {
+            this.imageRepository.findById(id).ifPresent(this::moveToStore);
+        }
+        log.debug("Conteúdo de [{}] imagens movido para o armazenamento", ids.size());
+        return ids.size();
+    }
+
+    /**
+     * Retrieves the IDs of the uploaded images whose downscaled variants have not been generated yet.
+     *
+     * @param limit The maximum number of IDs to retrieve.
+     *
+     * @return The IDs, in ascending order.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIdsWithoutRenditions(int limit) {
+        return this.imageRepository.findIdsWithoutRenditions(Limit.of(limit));
+    }
+
+    /**
+     * Saves the downscaled variants of an uploaded image and points the image at the one sized for display: the
+     * narrowest variant at least {@code storage.image.rendition.display-width} wide, or the image itself when no
+     * variant is. Variants already generated, by another worker, are kept as they are.
+     *
+     * @param id The ID of the uploaded image.
+     * @param renditions The variants of the image; empty if the image cannot be downscaled.
+     *
+     * @throws RokaMokaContentNotFoundException If the image does not exist.
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public void saveRenditions(Long id, List<Rendition> renditions) {
+        var original = this.imageRepository.findById(id)
+                .orElseThrow(() -> new RokaMokaContentNotFoundException("Imagem não encontrada"));
+        if (original.getImagemExibicao() != null) {
+            return;
+        }
+
+        Image display = original;
+        for (Rendition rendition : renditions) {
+            var image = new Image(rendition.content().length, rendition.contentType());
+            image.setLargura(rendition.width());
+            image.setAltura(rendition.height());
+            image.setImagemOriginal(original);
+            image = this.imageRepository.save(image);
+            this.writeToStore(image, rendition.content());
+
+            if (rendition.width() >= this.imageRenditionConfigProperties.getDisplayWidth()
+                    && (display == original || rendition.width() < display.getLargura())) {
+                display = image;
+            }
+        }
+        original.setImagemExibicao(display);
+        log.info("[{}] variantes geradas para a imagem [{}]", renditions.size(), id);
+    }
+
+    private void moveToStore(Image image) {
+        try {
+            this.imageRepository.readContent(image.getId(), content -> this.imageStore.write(image, content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.imageRepository.flush();
+        this.imageRepository.detach(image);
+    }
+
+    private byte[] findContentInDatabaseOrElseThrow(Long id) {
+        return this.imageRepository.findContentById(id)
+                .orElseThrow(() -> new RokaMokaContentNotFoundException("Imagem não encontrada"));
+    }
+
+    private void writeToStore(Image image, byte[] content) {
+        try {
+            this.imageStore.write(image, new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
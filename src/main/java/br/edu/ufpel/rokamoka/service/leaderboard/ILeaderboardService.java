@@ -0,0 +1,30 @@
+package br.edu.ufpel.rokamoka.service.leaderboard;
+
+import br.edu.ufpel.rokamoka.core.LeaderboardMetric;
+import br.edu.ufpel.rokamoka.dto.leaderboard.LeaderboardEntryDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.List;
+
+/**
+ * Service interface for ranking collectors by the stars and emblems held in their Mokadex.
+ *
+ * @see LeaderboardService
+ */
+@Validated
+public interface ILeaderboardService {
+
+    List<LeaderboardEntryDTO> getTop(@NotNull LeaderboardMetric metric, Long exhibitionId, @Positive int limit);
+
+    LeaderboardEntryDTO getMyRank(@NotNull LeaderboardMetric metric, Long exhibitionId)
+    throws RokaMokaNoUserInContextException;
+
+    void recordStar(@NotNull Long mokadexId, String username, Long exhibitionId);
+
+    void recordEmblem(@NotNull Long mokadexId, Long exhibitionId);
+
+    void rebuild();
+}
@@ -0,0 +1,243 @@
+package br.edu.ufpel.rokamoka.service.leaderboard;
+
+import br.edu.ufpel.rokamoka.config.LeaderboardConfigProperties;
+import br.edu.ufpel.rokamoka.context.ServiceContext;
+import br.edu.ufpel.rokamoka.core.LeaderboardMetric;
+import br.edu.ufpel.rokamoka.dto.leaderboard.CollectionCountDTO;
+import br.edu.ufpel.rokamoka.dto.leaderboard.LeaderboardEntryDTO;
+import br.edu.ufpel.rokamoka.dto.leaderboard.MokadexOwnerDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.repository.MokadexRepository;
+import br.edu.ufpel.rokamoka.utils.ScoreRanking;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation of the {@link ILeaderboardService} interface, keeping every ranking in memory.
+ *
+ * <p>There is one {@link ScoreRanking} per metric, globally and per exhibition. They are rebuilt from the
+ * {@code mokadex_obra} and {@code mokadex_emblema} join tables, and otherwise updated incrementally as stars are
+ * collected and emblems awarded, so reading the top of a ranking or the rank of a user never touches the database. The
+ * rankings only see the collections made through this instance between rebuilds; removals are not tracked
+ * incrementally and require a rebuild.
+ *
+ * @see MokadexRepository#countArtworksByMokadexAndExhibition()
+ * @see MokadexRepository#countEmblemsByMokadexAndExhibition()
+ */
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class LeaderboardService implements ILeaderboardService {
+
+    private final MokadexRepository mokadexRepository;
+    private final LeaderboardConfigProperties leaderboardConfigProperties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private State state = new State();
+    private List<Consumer<State>> changesDuringRebuild;
+
+    /**
+     * Retrieves the first entries of a ranking.
+     *
+     * @param metric What the collectors are ranked by.
+     * @param exhibitionId The ID of the exhibition to rank by, or {@code null} for the global ranking.
+     * @param limit The maximum number of entries to return, capped at {@code leaderboard.max-limit}.
+     *
+     * @return Up to {@code limit} entries, from the highest score down; empty if nobody is ranked yet.
+     */
+    @Override
+    public List<LeaderboardEntryDTO> getTop(@NotNull LeaderboardMetric metric, Long exhibitionId,
+            @Positive int limit) {
+        this.lock.readLock().lock();
+        try {
+            var ranking = this.state.rankings.get(new RankingKey(metric, exhibitionId));
+            if (ranking == null) {
+                return List.of();
+            }
+            return ranking.top(Math.min(limit, this.leaderboardConfigProperties.getMaxLimit()))
+                    .stream()
+                    .map(entry -> new LeaderboardEntryDTO(entry.rank(), entry.id(),
+                            this.state.usernamesByMokadexId.get(entry.id()), entry.score()))
+                    .toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the position of the logged user in a ranking.
+     *
+     * @param metric What the collectors are ranked by.
+     * @param exhibitionId The ID of the exhibition to rank by, or {@code null} for the global ranking.
+     *
+     * @return The entry of the logged user; its rank is {@code 0} if the user has not collected anything that counts
+     * towards the ranking.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     */
+    @Override
+    public LeaderboardEntryDTO getMyRank(@NotNull LeaderboardMetric metric, Long exhibitionId)
+    throws RokaMokaNoUserInContextException {
+        var username = ServiceContext.getContext().getUsernameOrThrow();
+
+        this.lock.readLock().lock();
+        try {
+            Long mokadexId = this.state.mokadexIdsByUsername.get(username);
+            var ranking = this.state.rankings.get(new RankingKey(metric, exhibitionId));
+            if (mokadexId != null && ranking != null) {
+                return new LeaderboardEntryDTO(ranking.rankOf(mokadexId), mokadexId, username,
+                        ranking.scoreOf(mokadexId));
+            }
+            return new LeaderboardEntryDTO(0, mokadexId, username, 0);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a collected star to the global and exhibition star rankings of a Mokadex.
+     *
+     * @param mokadexId The ID of the Mokadex that collected the star.
+     * @param username The name of the user that owns the Mokadex, if known.
+     * @param exhibitionId The ID of the exhibition the star belongs to.
+     */
+    @Override
+    public void recordStar(@NotNull Long mokadexId, String username, Long exhibitionId) {
+        this.apply(state -> {
+            if (username != null) {
+                state.registerOwner(mokadexId, username);
+            }
+            state.increment(LeaderboardMetric.STARS, mokadexId, exhibitionId, 1);
+        });
+    }
+
+    /**
+     * Adds an awarded emblem to the global and exhibition emblem rankings of a Mokadex.
+     *
+     * @param mokadexId The ID of the Mokadex that received the emblem.
+     * @param exhibitionId The ID of the exhibition the emblem belongs to.
+     */
+    @Override
+    public void recordEmblem(@NotNull Long mokadexId, Long exhibitionId) {
+        this.apply(state -> state.increment(LeaderboardMetric.EMBLEMS, mokadexId, exhibitionId, 1));
+    }
+
+    /**
+     * Rebuilds every ranking from the join tables. Stars and emblems recorded while the counts are queried are
+     * replayed onto the new rankings before they replace the current ones; one whose collection the counts already
+     * include is counted twice until the next rebuild, rather than lost. Rebuilds run one at a time.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        this.rebuildLock.lock();
+        try {
+            long start = System.nanoTime();
+            this.lock.writeLock().lock();
+            try {
+                this.changesDuringRebuild = new ArrayList<>();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+
+            State rebuilt;
+            try {
+                rebuilt = this.queryState();
+            } catch (RuntimeException e) {
+                this.lock.writeLock().lock();
+                try {
+                    this.changesDuringRebuild = null;
+                } finally {
+                    this.lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            this.lock.writeLock().lock();
+            try {
+                this.changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                this.changesDuringRebuild = null;
+                this.state = rebuilt;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+
+            log.info("Rankings reconstruídos para [{}] mokadex em [{}] ms", rebuilt.usernamesByMokadexId.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            this.rebuildLock.unlock();
+        }
+    }
+
+    private State queryState() {
+        var rebuilt = new State();
+        for (MokadexOwnerDTO owner : this.mokadexRepository.findAllOwners()) {
+            rebuilt.registerOwner(owner.getMokadexId(), owner.getUsername());
+        }
+        for (CollectionCountDTO count : this.mokadexRepository.countArtworksByMokadexAndExhibition()) {
+            rebuilt.increment(LeaderboardMetric.STARS, count.getMokadexId(), count.getExhibitionId(), count.getTotal());
+        }
+        for (CollectionCountDTO count : this.mokadexRepository.countEmblemsByMokadexAndExhibition()) {
+            rebuilt.increment(LeaderboardMetric.EMBLEMS, count.getMokadexId(), count.getExhibitionId(),
+                    count.getTotal());
+        }
+        return rebuilt;
+    }
+
+    private void apply(Consumer<State> change) {
+        this.lock.writeLock().lock();
+        try {
+            change.accept(this.state);
+            if (this.changesDuringRebuild != null) {
+                this.changesDuringRebuild.add(change);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Identifies a ranking; a {@code null} exhibition stands for the global ranking.
+     */
+    private record RankingKey(LeaderboardMetric metric, Long exhibitionId) {}
+
+    /**
+     * Every ranking, together with the owners of the ranked Mokadex entries.
+     */
+    private static final class State {
+
+        private final Map<RankingKey, ScoreRanking> rankings = new HashMap<>();
+        private final Map<Long, String> usernamesByMokadexId = new HashMap<>();
+        private final Map<String, Long> mokadexIdsByUsername = new HashMap<>();
+
+        private void registerOwner(Long mokadexId, String username) {
+            this.usernamesByMokadexId.put(mokadexId, username);
+            this.mokadexIdsByUsername.put(username, mokadexId);
+        }
+
+        private void increment(LeaderboardMetric metric, Long mokadexId, Long exhibitionId, long delta) {
+            this.rankings.computeIfAbsent(new RankingKey(metric, null), key -> new ScoreRanking())
+                    .increment(mokadexId, delta);
+            if (exhibitionId != null) {
+                this.rankings.computeIfAbsent(new RankingKey(metric, exhibitionId), key -> new ScoreRanking())
+                        .increment(mokadexId, delta);
+            }
+        }
+    }
+}
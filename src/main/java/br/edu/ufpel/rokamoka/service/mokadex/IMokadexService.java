@@ -4,13 +4,24 @@ import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.core.Emblem;
 import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.core.User;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.AwardedEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.CollectEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.CollectStarsInputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.CollectStarResultDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexOutputDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexSummaryDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -28,11 +39,27 @@ public interface IMokadexService {
 
     MokadexOutputDTO getMokadexOutputDTOByMokadex(@NotNull Mokadex mokadex);
 
-    Mokadex collectStar(@NotBlank String qrCode);
+    MokadexOutputDTO readMokadexOutputDTOByMokadexId(@NotNull Long mokadexId);
+
+    Long collectStar(@NotNull ArtworkQrCodeDTO artwork);
+
+    List<CollectStarResultDTO> collectStars(@NotNull @Valid CollectStarsInputDTO input);
 
     Mokadex collectEmblem(Long mokadexId, Emblem emblem);
 
+    List<AwardedEmblemDTO> collectEmblems(@NotNull Collection<CollectEmblemDTO> collectEmblemDTOs);
+
+    Long getLastMokadexId();
+
+    int awardMissingEmblems(@NotNull Long fromMokadexId, @NotNull Long toMokadexId);
+
     Set<Artwork> getMissingStarsByExhibition(@NotNull Long exhibitionId);
 
+    List<ArtworkOutputDTO> getMissingStarSummariesByExhibition(@NotNull Long exhibitionId);
+
     MokadexSummaryDTO getSummary() throws RokaMokaNoUserInContextException;
+
+    Optional<MokadexVersionDTO> getLoggedUserVersion() throws RokaMokaNoUserInContextException;
+
+    SseEmitter openEventStream();
 }
@@ -1,34 +1,65 @@
 package br.edu.ufpel.rokamoka.service.mokadex;
 
 import br.edu.ufpel.rokamoka.component.CollectEmblemProducer;
+import br.edu.ufpel.rokamoka.component.ExhibitionArtworkIndex;
+import br.edu.ufpel.rokamoka.component.MokadexEventStream;
 import br.edu.ufpel.rokamoka.context.ServiceContext;
 import br.edu.ufpel.rokamoka.core.Artwork;
+import br.edu.ufpel.rokamoka.core.CollectStarStatus;
+import br.edu.ufpel.rokamoka.core.CollectionProgress;
 import br.edu.ufpel.rokamoka.core.Emblem;
-import br.edu.ufpel.rokamoka.core.Exhibition;
 import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.core.User;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.AwardedEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.CollectEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.CollectStarsInputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.QueuedScanDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.CollectStarResultDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexOutputDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexSummaryDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentDuplicatedException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.repository.CollectionProgressRepository;
 import br.edu.ufpel.rokamoka.repository.MokadexRepository;
 import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
 import br.edu.ufpel.rokamoka.service.emblem.IEmblemService;
 import br.edu.ufpel.rokamoka.service.exhibition.IExhibitionService;
+import br.edu.ufpel.rokamoka.utils.LongIdSet;
 import br.edu.ufpel.rokamoka.utils.mokadex.MokadexCollectionsBuilder;
 import br.edu.ufpel.rokamoka.utils.mokadex.MokadexEmblemsBuilder;
-import jakarta.validation.constraints.NotBlank;
+import br.edu.ufpel.rokamoka.utils.mokadex.MokadexItemsBuilder;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.springframework.transaction.annotation.Propagation.REQUIRED;
 
@@ -45,12 +76,18 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRED;
 @RequiredArgsConstructor
 public class MokadexService implements IMokadexService {
 
+    private static final String ARTWORK_FOREIGN_KEY = "fk_obra";
+
     private final MokadexRepository mokadexRepository;
+    private final CollectionProgressRepository collectionProgressRepository;
 
     private final IEmblemService emblemService;
     private final IArtworkService artworkService;
     private final IExhibitionService exhibitionService;
     private final CollectEmblemProducer collectEmblemProducer;
+    private final ExhibitionArtworkIndex exhibitionArtworkIndex;
+    private final MokadexEventStream mokadexEventStream;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Mokadex findById(@NotNull Long mokadexId) {
@@ -94,35 +131,156 @@ public class MokadexService implements IMokadexService {
     }
 
     /**
-     * Tries to collect a star represented by the QR code and associates it with the current user's Mokadex.
+     * Returns a {@link MokadexOutputDTO} for the Mokadex identified by the given ID, built from a single projection
+     * query over its artworks and emblems instead of walking the entity graph.
+     *
+     * @param mokadexId The unique identifier of the Mokadex.
      *
-     * @param qrCode The QR code of the artwork to be collected. Must not be blank.
+     * @return A {@link MokadexOutputDTO} containing the collections and emblems; both empty if the Mokadex holds
+     * nothing or does not exist.
+     * @see MokadexRepository#findAllItemsByMokadexId(Long)
+     * @see MokadexItemsBuilder
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MokadexOutputDTO readMokadexOutputDTOByMokadexId(@NotNull Long mokadexId) {
+        log.info("Construindo {} a partir dos itens do mokadex [{}]", MokadexOutputDTO.class.getSimpleName(),
+                mokadexId);
+        return new MokadexItemsBuilder(this.mokadexRepository.findAllItemsByMokadexId(mokadexId)).build();
+    }
+
+    /**
+     * Tries to collect the star of an artwork and associates it with the current user's Mokadex.
      *
-     * @return The updated Mokadex after the artwork has been successfully added.
-     * @throws RokaMokaContentNotFoundException If the artwork corresponding to the QR code is not found.
+     * <p>The Mokadex aggregate is never loaded: only its ID is resolved, and the star is written with a single
+     * conflict-aware insert into the join table. The artwork comes already resolved from its QR code, by
+     * {@link IArtworkService#resolveQrCodeOrThrow(String)}, before this transaction is opened. Whether the artwork was
+     * already collected is taken from the row count of that insert, and whether an artwork resolved from a signed QR
+     * code still exists from its foreign key. In the same transaction, the exhibition's {@link CollectionProgress}
+     * counter of the Mokadex is incremented, so that emblem eligibility is decided by comparing it with the
+     * exhibition's artwork total.
+     *
+     * <p>Emblem collection events are stored in the outbox as part of this transaction, which is why it is not rolled
+     * back when the artwork had already been collected.
+     *
+     * @param artwork The ID and exhibition of the artwork to be collected.
+     *
+     * @return The ID of the Mokadex in which the artwork has been collected.
+     * @throws RokaMokaContentNotFoundException If the artwork no longer exists, as with a signed QR code of an artwork
+     * since deleted.
      * @throws RokaMokaContentDuplicatedException If the artwork has already been collected and is present in the user's
      * Mokadex.
-     * @throws ServiceException If there is an internal error while adding the artwork to the Mokadex.
+     * @throws ServiceException If the logged user has no Mokadex.
+     * @see MokadexRepository#insertArtwork(Long, Long)
      */
     @Override
-    @Transactional(propagation = REQUIRED)
-    public Mokadex collectStar(@NotBlank String qrCode) {
-        var mokadex = this.getMokadexByLoggedUser();
-        var artwork = this.artworkService.getByQrCodeOrThrow(qrCode);
+    @Transactional(propagation = REQUIRED, noRollbackFor = RokaMokaContentDuplicatedException.class)
+    public Long collectStar(@NotNull ArtworkQrCodeDTO artwork) {
+        var mokadexId = this.getMokadexIdByLoggedUser();
+        var exhibitionId = artwork.getExhibitionId();
 
-        if (mokadex.containsArtwork(artwork)) {
-            this.sendMessageToBrokerIfReady(mokadex, artwork.getExhibition());
-            throw new RokaMokaContentDuplicatedException("Obra já foi coletada");
+        int inserted;
+        try {
+            inserted = this.mokadexRepository.insertArtwork(mokadexId, artwork.getId());
+        } catch (DataIntegrityViolationException e) {
+            if (violatesArtworkForeignKey(e)) {
+                throw new RokaMokaContentNotFoundException();
+            }
+            throw e;
         }
-        if (!mokadex.addArtwork(artwork)) {
-            throw new ServiceException("Erro ao coletar estrela na mokadex");
+        if (inserted == 0) {
+            this.sendMessageToBrokerIfReady(mokadexId, exhibitionId);
+            throw new RokaMokaContentDuplicatedException("Obra já foi coletada");
         }
 
+        this.collectionProgressRepository.incrementCollectedCount(mokadexId, exhibitionId);
+        this.eventPublisher.publishEvent(
+                new StarCollectedEvent(mokadexId, ServiceContext.getContext().getUser().getUsername(), exhibitionId));
+
         log.info("Estrela coletada com sucesso!");
-        mokadex = this.mokadexRepository.save(mokadex);
-        this.sendMessageToBrokerIfReady(mokadex, artwork.getExhibition());
+        this.sendMessageToBrokerIfReady(mokadexId, exhibitionId);
 
-        return mokadex;
+        return mokadexId;
+    }
+
+    /**
+     * Collects, for the logged user, the stars of a batch of scans queued by the app while offline.
+     *
+     * <p>Scans are applied in the order they happened on the client. Every scanned artwork is resolved with a single
+     * query and every new star is inserted with a single statement, as are the collection progress counters. Emblem
+     * readiness is then evaluated once per exhibition that received a new star, instead of once per scan.
+     *
+     * @param input The queued scans.
+     *
+     * @return One result per scan, in the order of the request.
+     * @throws ServiceException If the logged user has no Mokadex.
+     * @see MokadexRepository#insertArtworks(Long, Long[])
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public List<CollectStarResultDTO> collectStars(@NotNull @Valid CollectStarsInputDTO input) {
+        var mokadexId = this.getMokadexIdByLoggedUser();
+        var username = ServiceContext.getContext().getUser().getUsername();
+        var scans = input.scans();
+
+        var qrCodes = scans.stream().map(QueuedScanDTO::qrCode).collect(Collectors.toSet());
+        var artworksByQrCode = this.artworkService.findAllByQrCodes(qrCodes)
+                .stream()
+                .collect(Collectors.toMap(ArtworkQrCodeDTO::getQrCode, Function.identity()));
+
+        var order = IntStream.range(0, scans.size())
+                .boxed()
+                .sorted(Comparator.comparing(i -> scans.get(i).scannedAt(),
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        var artworkIds = new LinkedHashSet<Long>();
+        for (int i : order) {
+            var artwork = artworksByQrCode.get(scans.get(i).qrCode());
+            if (artwork != null) {
+                artworkIds.add(artwork.getId());
+            }
+        }
+
+        Set<Long> insertedIds = artworkIds.isEmpty()
+                                ? Set.of()
+                                : Set.copyOf(this.mokadexRepository.insertArtworks(mokadexId,
+                                        artworkIds.toArray(Long[]::new)));
+
+        var results = new CollectStarResultDTO[scans.size()];
+        var collectedIds = new HashSet<Long>();
+        var collectedByExhibitionId = new LinkedHashMap<Long, Long>();
+        for (int i : order) {
+            var scan = scans.get(i);
+            var artwork = artworksByQrCode.get(scan.qrCode());
+            if (artwork == null) {
+                results[i] = new CollectStarResultDTO(scan.qrCode(), scan.scannedAt(), CollectStarStatus.UNKNOWN, null);
+                continue;
+            }
+            if (insertedIds.contains(artwork.getId()) && collectedIds.add(artwork.getId())) {
+                results[i] = new CollectStarResultDTO(scan.qrCode(), scan.scannedAt(), CollectStarStatus.COLLECTED,
+                        artwork.getId());
+                if (artwork.getExhibitionId() != null) {
+                    collectedByExhibitionId.merge(artwork.getExhibitionId(), 1L, Long::sum);
+                }
+                this.eventPublisher.publishEvent(
+                        new StarCollectedEvent(mokadexId, username, artwork.getExhibitionId()));
+            } else {
+                results[i] = new CollectStarResultDTO(scan.qrCode(), scan.scannedAt(), CollectStarStatus.DUPLICATE,
+                        artwork.getId());
+            }
+        }
+
+        if (!collectedByExhibitionId.isEmpty()) {
+            this.collectionProgressRepository.incrementCollectedCounts(mokadexId,
+                    collectedByExhibitionId.keySet().toArray(Long[]::new),
+                    collectedByExhibitionId.values().toArray(Long[]::new));
+        }
+        collectedByExhibitionId.keySet()
+                .forEach(exhibitionId -> this.sendMessageToBrokerIfReady(mokadexId, exhibitionId));
+
+        log.info("[{}] de [{}] estrelas coletadas em lote para o mokadex [{}]", collectedIds.size(), scans.size(),
+                mokadexId);
+        return List.of(results);
     }
 
     /**
@@ -148,7 +306,96 @@ public class MokadexService implements IMokadexService {
             throw new ServiceException("Erro ao coletar emblema na mokadex");
         }
 
-        return this.mokadexRepository.save(mokadex);
+        mokadex = this.mokadexRepository.save(mokadex);
+        this.mokadexRepository.incrementVersion(mokadexId);
+        var exhibitionId = emblem.getExhibition() == null ? null : emblem.getExhibition().getId();
+        this.eventPublisher.publishEvent(new EmblemAwardedEvent(mokadexId, exhibitionId));
+        return mokadex;
+    }
+
+    /**
+     * Collects several emblems at once, each into its own Mokadex.
+     *
+     * <p>Requests are deduplicated by Mokadex and exhibition, the emblems are resolved with a single lookup for all the
+     * exhibitions involved, and every award is written with one multi-row insert. Requests whose exhibition has no
+     * emblem, whose emblem was already collected or whose Mokadex no longer exists are skipped instead of failing the
+     * whole batch.
+     *
+     * @param collectEmblemDTOs The emblem collection requests, possibly containing duplicates.
+     *
+     * @return The awards that were actually written.
+     * @see MokadexRepository#insertEmblems(Long[], Long[])
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public List<AwardedEmblemDTO> collectEmblems(@NotNull Collection<CollectEmblemDTO> collectEmblemDTOs) {
+        Set<CollectEmblemDTO> requests = collectEmblemDTOs.stream()
+                .filter(Objects::nonNull)
+                .filter(dto -> dto.mokadexId() != null && dto.exhibitionId() != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> exhibitionIds = requests.stream().map(CollectEmblemDTO::exhibitionId).collect(Collectors.toSet());
+        Map<Long, Long> emblemIdByExhibitionId = this.emblemService.findAllByExhibitionIds(exhibitionIds)
+                .stream()
+                .collect(Collectors.toMap(emblem -> emblem.getExhibition().getId(), Emblem::getId));
+
+        List<CollectEmblemDTO> eligible =
+                requests.stream().filter(dto -> emblemIdByExhibitionId.containsKey(dto.exhibitionId())).toList();
+        if (eligible.isEmpty()) {
+            log.info("Nenhum emblema encontrado para [{}] solicitações", requests.size());
+            return List.of();
+        }
+
+        Long[] mokadexIds = eligible.stream().map(CollectEmblemDTO::mokadexId).toArray(Long[]::new);
+        Long[] emblemIds = eligible.stream()
+                .map(dto -> emblemIdByExhibitionId.get(dto.exhibitionId()))
+                .toArray(Long[]::new);
+        List<AwardedEmblemDTO> awarded = this.mokadexRepository.insertEmblems(mokadexIds, emblemIds);
+        awarded.forEach(this::publishEmblemAwarded);
+
+        log.info("[{}] emblemas coletados a partir de [{}] solicitações", awarded.size(), collectEmblemDTOs.size());
+        return awarded;
+    }
+
+    /**
+     * Retrieves the highest Mokadex ID, so that every Mokadex can be walked in ID ranges.
+     *
+     * @return The highest Mokadex ID, or {@code 0} if there is no Mokadex.
+     */
+    @Override
+    public Long getLastMokadexId() {
+        return this.mokadexRepository.findMaxId();
+    }
+
+    /**
+     * Awards the emblems that are missing from the Mokadex entries in the given ID range even though every artwork of
+     * their exhibition has been collected. This happens when an emblem collection event is lost, or when the emblem is
+     * created after the exhibition was already completed.
+     *
+     * <p>The awards are written with one set-based insert for the whole range, so that the caller can keep each
+     * transaction short by walking the Mokadex entries range by range.
+     *
+     * @param fromMokadexId The lower bound of the Mokadex ID range, exclusive.
+     * @param toMokadexId The upper bound of the Mokadex ID range, inclusive.
+     *
+     * @return The number of emblems awarded.
+     * @see MokadexRepository#insertMissingEmblems(Long, Long)
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public int awardMissingEmblems(@NotNull Long fromMokadexId, @NotNull Long toMokadexId) {
+        var awardedEmblems = this.mokadexRepository.insertMissingEmblems(fromMokadexId, toMokadexId);
+        awardedEmblems.forEach(this::publishEmblemAwarded);
+
+        int awarded = awardedEmblems.size();
+        if (awarded > 0) {
+            log.info("[{}] emblemas pendentes concedidos para as mokadex entre [{}] e [{}]", awarded, fromMokadexId,
+                    toMokadexId);
+        }
+        return awarded;
     }
 
     /**
@@ -169,6 +416,26 @@ public class MokadexService implements IMokadexService {
         return this.mokadexRepository.findAllMissingStars(mokadex.getId(), exhibition.getId());
     }
 
+    /**
+     * Retrieves the summaries of the artworks of a specific exhibition that are not yet present in the user's Mokadex
+     * collection, in ID order.
+     *
+     * <p>Unlike {@link #getMissingStarsByExhibition(Long)}, no entity is loaded: the artworks of the exhibition come
+     * from the {@link ExhibitionArtworkIndex}, and the only query issued, once the exhibition is indexed, fetches the
+     * IDs of the artworks the user has collected in it, which are then subtracted from the index.
+     *
+     * @param exhibitionId The unique identifier of the exhibition to retrieve missing stars from.
+     *
+     * @return The summaries of the missing stars, without images.
+     * @throws RokaMokaContentNotFoundException If the specified exhibition cannot be found.
+     */
+    @Override
+    public List<ArtworkOutputDTO> getMissingStarSummariesByExhibition(@NotNull Long exhibitionId) {
+        var user = ServiceContext.getContext().getUser();
+        var collectedIds = this.mokadexRepository.findCollectedArtworkIds(user.getUsername(), exhibitionId);
+        return this.exhibitionArtworkIndex.findAllExcept(exhibitionId, LongIdSet.of(collectedIds, Function.identity()));
+    }
+
     /**
      * Retrieves a summary of the user's Mokadex, including the count of emblems and stars.
      *
@@ -182,6 +449,36 @@ public class MokadexService implements IMokadexService {
         return new MokadexSummaryDTO(emblemCount, starCount);
     }
 
+    /**
+     * Retrieves the version stamp of the logged user's Mokadex, which changes whenever a star or an emblem is added to
+     * or removed from it, without querying its collections.
+     *
+     * @return An {@link Optional} containing the version stamp, or empty if the logged user has no Mokadex yet.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @see MokadexRepository#findVersionByUsername(String)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MokadexVersionDTO> getLoggedUserVersion() throws RokaMokaNoUserInContextException {
+        var username = ServiceContext.getContext().getUsernameOrThrow();
+        return this.mokadexRepository.findVersionByUsername(username);
+    }
+
+    /**
+     * Opens a Server-Sent Events connection that receives the stars collected and the emblems awarded to the logged
+     * user's Mokadex.
+     *
+     * @return The emitter backing the connection.
+     * @throws ServiceException If the logged user has no Mokadex.
+     * @see MokadexEventStream#subscribe(Long)
+     */
+    @Override
+    public SseEmitter openEventStream() {
+        var mokadexId = this.getMokadexIdByLoggedUser();
+        log.info("Abrindo fluxo de eventos do mokadex [{}]", mokadexId);
+        return this.mokadexEventStream.subscribe(mokadexId);
+    }
+
     /**
      * Retrieves an {@link Optional} containing the {@link Mokadex} associated with the specified {@link User}.
      *
@@ -228,12 +525,29 @@ public class MokadexService implements IMokadexService {
                 .orElseThrow(() -> new ServiceException("Mokadex não encontrado para usuário logado"));
     }
 
-    private void sendMessageToBrokerIfReady(Mokadex mokadex, Exhibition exhibition) {
-        if (!this.emblemService.existsEmblemByExhibitionId(exhibition.getId())) {
-            throw new ServiceException("Emblema não foi criado");
+    private Long getMokadexIdByLoggedUser() {
+        var user = ServiceContext.getContext().getUser();
+        return this.mokadexRepository.findMokadexIdByUsername(user.getUsername())
+                .orElseThrow(() -> new ServiceException("Mokadex não encontrado para usuário logado"));
+    }
+
+    private void publishEmblemAwarded(AwardedEmblemDTO awardedEmblem) {
+        this.eventPublisher.publishEvent(
+                new EmblemAwardedEvent(awardedEmblem.getMokadexId(), awardedEmblem.getExhibitionId()));
+    }
+
+    private static boolean violatesArtworkForeignKey(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+               && ARTWORK_FOREIGN_KEY.equalsIgnoreCase(violation.getConstraintName());
+    }
+
+    private void sendMessageToBrokerIfReady(Long mokadexId, Long exhibitionId) {
+        if (!this.emblemService.existsEmblemByExhibitionId(exhibitionId)) {
+            log.info("Exposição [{}] ainda não possui emblema", exhibitionId);
+            return;
         }
-        if (this.mokadexRepository.hasCollectedAllArtworksInExhibition(mokadex.getId(), exhibition.getId())) {
-            this.collectEmblemProducer.publishCollectEmblem(mokadex, exhibition);
+        if (this.collectionProgressRepository.hasCollectedAllArtworksInExhibition(mokadexId, exhibitionId)) {
+            this.collectEmblemProducer.publishCollectEmblem(mokadexId, exhibitionId);
         }
     }
 }
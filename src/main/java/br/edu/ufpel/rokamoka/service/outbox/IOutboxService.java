@@ -0,0 +1,13 @@
+package br.edu.ufpel.rokamoka.service.outbox;
+
+import br.edu.ufpel.rokamoka.core.OutboxMessage;
+
+/**
+ * Service interface for relaying the {@link OutboxMessage} resource to the broker.
+ *
+ * @see OutboxService
+ */
+public interface IOutboxService {
+
+    int publishPendingBatch();
+}
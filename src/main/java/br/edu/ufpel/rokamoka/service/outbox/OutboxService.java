@@ -0,0 +1,77 @@
+package br.edu.ufpel.rokamoka.service.outbox;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQOutboxConfigProperties;
+import br.edu.ufpel.rokamoka.core.OutboxMessage;
+import br.edu.ufpel.rokamoka.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.springframework.transaction.annotation.Propagation.REQUIRED;
+
+/**
+ * Service implementation of the {@link IOutboxService} interface for publishing the pending {@link OutboxMessage}
+ * resources.
+ *
+ * @see OutboxMessageRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService implements IOutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQOutboxConfigProperties rabbitMQOutboxConfigProperties;
+
+    /**
+     * Publishes the oldest pending messages of the outbox and removes them.
+     *
+     * <p>The batch is locked, sent over a single channel and only removed after the broker confirms every message of
+     * it. If any confirmation is negative or does not arrive in time, the transaction is rolled back and the whole
+     * batch is published again on the next run; consumers must therefore tolerate duplicates.
+     *
+     * @return The number of messages published.
+     * @throws org.springframework.amqp.AmqpException If the broker is unavailable or does not confirm the batch.
+     */
+    @Override
+    @Transactional(propagation = REQUIRED)
+    public int publishPendingBatch() {
+        List<OutboxMessage> batch =
+                this.outboxMessageRepository.lockNextBatch(this.rabbitMQOutboxConfigProperties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        this.rabbitTemplate.invoke(operations -> {
+            batch.forEach(message -> operations.send(message.getExchange(), message.getRoutingKey(),
+                    this.toAmqpMessage(message)));
+            operations.waitForConfirmsOrDie(this.rabbitMQOutboxConfigProperties.getConfirmTimeout());
+            return null;
+        });
+        this.outboxMessageRepository.deleteAllInBatch(batch);
+
+        log.info("[{}] mensagens da caixa de saída publicadas", batch.size());
+        return batch.size();
+    }
+
+    private Message toAmqpMessage(OutboxMessage message) {
+        return MessageBuilder.withBody(message.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId("outbox-" + message.getId())
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, message.getPayloadType())
+                .build();
+    }
+}
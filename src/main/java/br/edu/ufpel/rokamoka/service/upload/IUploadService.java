@@ -0,0 +1,38 @@
+package br.edu.ufpel.rokamoka.service.upload;
+
+import br.edu.ufpel.rokamoka.dto.upload.input.UploadInputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.output.UploadOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.apache.coyote.BadRequestException;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for resumable uploads, whose content is sent in numbered chunks that can be retried one by one.
+ *
+ * @see UploadService
+ */
+@Validated
+public interface IUploadService {
+
+    UploadOutputDTO start(@Valid UploadInputDTO input) throws RokaMokaNoUserInContextException, IOException;
+
+    UploadOutputDTO getStatus(@NotBlank String uploadId) throws RokaMokaNoUserInContextException;
+
+    UploadOutputDTO appendChunk(@NotBlank String uploadId, @PositiveOrZero int index, @NotNull InputStream content)
+    throws RokaMokaNoUserInContextException, IOException;
+
+    MultipartFile getCompletedFile(@NotBlank String uploadId)
+    throws RokaMokaNoUserInContextException, BadRequestException;
+
+    void discard(@NotBlank String uploadId) throws RokaMokaNoUserInContextException, IOException;
+
+    void deleteExpired();
+}
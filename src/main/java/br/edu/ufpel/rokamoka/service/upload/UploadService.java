@@ -0,0 +1,360 @@
+package br.edu.ufpel.rokamoka.service.upload;
+
+import br.edu.ufpel.rokamoka.config.UploadConfigProperties;
+import br.edu.ufpel.rokamoka.context.ServiceContext;
+import br.edu.ufpel.rokamoka.dto.upload.input.UploadInputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.output.UploadOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.BadRequestException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation of the {@link IUploadService} interface, assembling each upload in a file of
+ * {@code upload.directory}.
+ *
+ * <p>Chunks must arrive in order, each one appended right after the bytes already received; a chunk that was already
+ * received is acknowledged without being written again, so a client that lost a response can simply resend it. A
+ * chunk that fails halfway is discarded by truncating the file, so only that chunk needs to be retried. The uploads in
+ * progress are tracked in memory, so every chunk of an upload must reach the same instance; uploads that stop
+ * receiving chunks for {@code upload.ttl} milliseconds are removed, together with their file.
+ */
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class UploadService implements IUploadService {
+
+    private static final String FILE_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 65536;
+
+    private final UploadConfigProperties uploadConfigProperties;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    /**
+     * Starts an upload owned by the logged user, creating the empty file its chunks are appended to.
+     *
+     * @param input The name, media type and total size of the file.
+     *
+     * @return The progress of the new upload, expecting its first chunk.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @throws BadRequestException If the file is larger than {@code upload.max-file-size}.
+     * @throws IOException If creating the file fails.
+     */
+    @Override
+    public UploadOutputDTO start(@Valid UploadInputDTO input) throws RokaMokaNoUserInContextException, IOException {
+        var username = ServiceContext.getContext().getUsernameOrThrow();
+        if (input.size() > this.uploadConfigProperties.getMaxFileSize()) {
+            throw new BadRequestException("O arquivo excede o tamanho máximo de [%d] bytes".formatted(
+                    this.uploadConfigProperties.getMaxFileSize()));
+        }
+
+        var id = UUID.randomUUID().toString();
+        var directory = Path.of(this.uploadConfigProperties.getDirectory());
+        Files.createDirectories(directory);
+        var path = Files.createFile(directory.resolve(id + FILE_SUFFIX));
+
+        var upload = new Upload(id, username, input.fileName(), input.contentType(), input.size(), path);
+        this.uploads.put(id, upload);
+        log.info("Upload [{}] de [{}] bytes iniciado pelo usuário [{}]", id, input.size(), username);
+        return this.toOutput(upload);
+    }
+
+    /**
+     * Retrieves the progress of an upload of the logged user, so that a client resuming it knows which chunk to send.
+     *
+     * @param uploadId The ID of the upload.
+     *
+     * @return The progress of the upload.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @throws RokaMokaContentNotFoundException If the upload does not exist, has expired or belongs to another user.
+     */
+    @Override
+    public UploadOutputDTO getStatus(@NotBlank String uploadId) throws RokaMokaNoUserInContextException {
+        var upload = this.getUploadOrElseThrow(uploadId);
+        synchronized (upload) {
+            return this.toOutput(upload);
+        }
+    }
+
+    /**
+     * Appends a chunk to an upload of the logged user.
+     *
+     * @param uploadId The ID of the upload.
+     * @param index The index of the chunk, starting at {@code 0}.
+     * @param content The content of the chunk; not closed.
+     *
+     * @return The progress of the upload, including this chunk.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @throws RokaMokaContentNotFoundException If the upload does not exist, has expired or belongs to another user.
+     * @throws BadRequestException If the chunk skips a chunk not yet received, is empty, is larger than
+     * {@code upload.max-chunk-size} or goes past the declared size of the file.
+     * @throws IOException If reading the chunk or writing the file fails.
+     */
+    @Override
+    public UploadOutputDTO appendChunk(@NotBlank String uploadId, @PositiveOrZero int index,
+            @NotNull InputStream content) throws RokaMokaNoUserInContextException, IOException {
+        var upload = this.getUploadOrElseThrow(uploadId);
+        synchronized (upload) {
+            if (upload.discarded) {
+                throw new RokaMokaContentNotFoundException("Upload não encontrado");
+            }
+            if (index < upload.nextChunk) {
+                skip(content, this.uploadConfigProperties.getMaxChunkSize());
+                return this.toOutput(upload);
+            }
+            if (index > upload.nextChunk) {
+                throw new BadRequestException("Parte [%d] fora de ordem; a próxima parte esperada é [%d]".formatted(
+                        index, upload.nextChunk));
+            }
+
+            long limit = Math.min(this.uploadConfigProperties.getMaxChunkSize(), upload.size - upload.receivedBytes);
+            try (FileChannel channel = FileChannel.open(upload.path, StandardOpenOption.WRITE)) {
+                channel.truncate(upload.receivedBytes);
+                channel.position(upload.receivedBytes);
+                long written;
+                try {
+                    written = copy(content, channel, limit + 1);
+                } catch (IOException e) {
+                    channel.truncate(upload.receivedBytes);
+                    throw e;
+                }
+                if (written == 0 || written > limit) {
+                    channel.truncate(upload.receivedBytes);
+                    throw new BadRequestException(written == 0
+                                                  ? "A parte [%d] está vazia".formatted(index)
+                                                  : "A parte [%d] excede o tamanho permitido de [%d] bytes".formatted(
+                                                          index, limit));
+                }
+                upload.receivedBytes += written;
+                upload.nextChunk++;
+            }
+            return this.toOutput(upload);
+        }
+    }
+
+    /**
+     * Retrieves the assembled file of a complete upload of the logged user, to be attached to an artwork.
+     *
+     * @param uploadId The ID of the upload.
+     *
+     * @return The assembled file, read from disk; it remains valid until the upload is discarded.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @throws RokaMokaContentNotFoundException If the upload does not exist, has expired or belongs to another user.
+     * @throws BadRequestException If some bytes of the file were not received yet.
+     */
+    @Override
+    public MultipartFile getCompletedFile(@NotBlank String uploadId)
+    throws RokaMokaNoUserInContextException, BadRequestException {
+        var upload = this.getUploadOrElseThrow(uploadId);
+        synchronized (upload) {
+            if (upload.receivedBytes != upload.size) {
+                throw new BadRequestException("Upload incompleto: [%d] de [%d] bytes recebidos".formatted(
+                        upload.receivedBytes, upload.size));
+            }
+            return new AssembledFile(upload.fileName, upload.contentType, upload.size, upload.path);
+        }
+    }
+
+    /**
+     * Removes an upload of the logged user, together with its file.
+     *
+     * @param uploadId The ID of the upload.
+     *
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @throws RokaMokaContentNotFoundException If the upload does not exist, has expired or belongs to another user.
+     * @throws IOException If deleting the file fails.
+     */
+    @Override
+    public void discard(@NotBlank String uploadId) throws RokaMokaNoUserInContextException, IOException {
+        var upload = this.getUploadOrElseThrow(uploadId);
+        this.discard(upload);
+    }
+
+    /**
+     * Removes the uploads that did not receive a chunk for {@code upload.ttl} milliseconds, as well as the files left
+     * behind by a previous run of the application.
+     */
+    @Override
+    @Scheduled(initialDelayString = "#{@uploadConfigProperties.cleanupInterval}",
+            fixedDelayString = "#{@uploadConfigProperties.cleanupInterval}")
+    public void deleteExpired() {
+        var directory = Path.of(this.uploadConfigProperties.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long expiresBefore = System.currentTimeMillis() - this.uploadConfigProperties.getTtl();
+
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                var fileName = path.getFileName().toString();
+                if (!fileName.endsWith(FILE_SUFFIX) || Files.getLastModifiedTime(path).toMillis() >= expiresBefore) {
+                    continue;
+                }
+                var upload = this.uploads.get(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()));
+                if (upload != null) {
+                    this.discard(upload);
+                } else {
+                    Files.deleteIfExists(path);
+                }
+                deleted++;
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao remover uploads expirados: [{}]", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("[{}] uploads expirados removidos", deleted);
+        }
+    }
+
+    private Upload getUploadOrElseThrow(String uploadId) throws RokaMokaNoUserInContextException {
+        var username = ServiceContext.getContext().getUsernameOrThrow();
+        var upload = this.uploads.get(uploadId);
+        if (upload == null || !upload.username.equals(username)) {
+            throw new RokaMokaContentNotFoundException("Upload não encontrado");
+        }
+        return upload;
+    }
+
+    private void discard(Upload upload) throws IOException {
+        synchronized (upload) {
+            upload.discarded = true;
+            this.uploads.remove(upload.id, upload);
+            Files.deleteIfExists(upload.path);
+        }
+    }
+
+    /**
+     * Copies a chunk through a fixed buffer, so that its size does not matter, stopping after {@code maxBytes} bytes.
+     * Unlike {@link FileChannel#transferFrom}, a failure to read is always thrown, even after some bytes were written.
+     */
+    private static long copy(InputStream content, FileChannel channel, long maxBytes) throws IOException {
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long written = 0;
+        int read;
+        while ((read = content.read(buffer.array(), 0, (int) Math.min(BUFFER_SIZE, maxBytes - written))) > 0) {
+            buffer.limit(read);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            written += read;
+        }
+        return written;
+    }
+
+    /**
+     * Reads and drops up to {@code maxBytes} bytes of a chunk that was already received, so that the connection can
+     * be reused for the next chunk.
+     */
+    private static void skip(InputStream content, long maxBytes) throws IOException {
+        var buffer = new byte[BUFFER_SIZE];
+        long skipped = 0;
+        int read;
+        while ((read = content.read(buffer, 0, (int) Math.min(BUFFER_SIZE, maxBytes - skipped))) > 0) {
+            skipped += read;
+        }
+    }
+
+    private UploadOutputDTO toOutput(Upload upload) {
+        return new UploadOutputDTO(upload.id, upload.size, upload.receivedBytes, upload.nextChunk,
+                this.uploadConfigProperties.getMaxChunkSize(), upload.receivedBytes == upload.size);
+    }
+
+    /**
+     * An upload in progress; its mutable fields are guarded by the upload itself.
+     */
+    private static final class Upload {
+
+        private final String id;
+        private final String username;
+        private final String fileName;
+        private final String contentType;
+        private final long size;
+        private final Path path;
+
+        private long receivedBytes;
+        private int nextChunk;
+        private boolean discarded;
+
+        private Upload(String id, String username, String fileName, String contentType, long size, Path path) {
+            this.id = id;
+            this.username = username;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.size = size;
+            this.path = path;
+        }
+    }
+
+    /**
+     * The file of a complete upload, handed to the services that take a {@link MultipartFile}.
+     */
+    private record AssembledFile(String fileName, String contentType, long size, Path path) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "image";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return this.fileName;
+        }
+
+        @Override
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return this.size;
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(this.path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(this.path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(this.path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
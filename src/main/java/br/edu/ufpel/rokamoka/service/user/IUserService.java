@@ -5,14 +5,18 @@ import br.edu.ufpel.rokamoka.core.User;
 import br.edu.ufpel.rokamoka.dto.authentication.input.AuthForgotPasswordDTO;
 import br.edu.ufpel.rokamoka.dto.authentication.input.AuthResetPasswordDTO;
 import br.edu.ufpel.rokamoka.dto.authentication.output.AuthOutputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserAnonymousRequestDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserInputDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserAnonymousResponseDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.Optional;
+
 /**
  * Service interface for managing and retrieving information related to {@link User}.
  *
@@ -36,6 +40,8 @@ public interface IUserService {
 
     UserOutputDTO getLoggedUserInformation();
 
+    Optional<MokadexVersionDTO> getLoggedUserVersion() throws RokaMokaNoUserInContextException;
+
     User getByNome(String nome);
 
     User getByEmail(String email);
@@ -2,7 +2,6 @@ package br.edu.ufpel.rokamoka.service.user;
 
 import br.edu.ufpel.rokamoka.context.ServiceContext;
 import br.edu.ufpel.rokamoka.core.Device;
-import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.core.Role;
 import br.edu.ufpel.rokamoka.core.RoleEnum;
 import br.edu.ufpel.rokamoka.core.User;
@@ -10,10 +9,12 @@ import br.edu.ufpel.rokamoka.dto.authentication.input.AuthForgotPasswordDTO;
 import br.edu.ufpel.rokamoka.dto.authentication.input.AuthResetPasswordDTO;
 import br.edu.ufpel.rokamoka.dto.authentication.output.AuthOutputDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexOutputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserAnonymousRequestDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserInputDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserAnonymousResponseDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserOutputDTO;
+import br.edu.ufpel.rokamoka.dto.user.output.UserProfileDTO;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentDuplicatedException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaForbiddenException;
@@ -194,17 +195,37 @@ public class UserService implements IUserService {
      * @return A {@code UserOutputDTO} containing the information of the logged-in user. If a Mokadex is associated with
      * the user, its details will also be included; otherwise, only basic user details are provided.
      * @throws RokaMokaContentNotFoundException If the logged user cannot be found in the repository.
+     * @see UserRepository#findProfileByNome(String)
+     * @see MokadexService#readMokadexOutputDTOByMokadexId(Long)
      */
     @Override
     public UserOutputDTO getLoggedUserInformation() {
         log.info("Buscando as informações do usuário logado");
 
-        User loggedUser = this.findLoggedUser();
-        Mokadex mokadex = this.mokadexService.getOrCreateMokadexByUser(loggedUser);
-        MokadexOutputDTO mokadexOutputDTO = this.mokadexService.getMokadexOutputDTOByMokadex(mokadex);
+        String username = ServiceContext.getContext().getUser().getUsername();
+        UserProfileDTO profile = this.userRepository.findProfileByNome(username)
+                .orElseThrow(() -> new RokaMokaContentNotFoundException("Usuário logado não encontrado"));
+
+        Long mokadexId = profile.getMokadexId();
+        if (mokadexId == null) {
+            mokadexId = this.mokadexService.getOrCreateMokadexByUser(this.findLoggedUser()).getId();
+        }
+        MokadexOutputDTO mokadexOutputDTO = this.mokadexService.readMokadexOutputDTOByMokadexId(mokadexId);
 
         log.info("Informações do usuário logado retornadas com sucesso");
-        return new UserOutputDTO(loggedUser, mokadexOutputDTO);
+        return new UserOutputDTO(profile, mokadexOutputDTO);
+    }
+
+    /**
+     * Retrieves the version stamp of the logged user and of its Mokadex, without querying the Mokadex collections.
+     *
+     * @return An {@link Optional} containing the version stamp, or empty if the logged user has no Mokadex yet.
+     * @throws RokaMokaNoUserInContextException If there is no logged user.
+     * @see MokadexService#getLoggedUserVersion()
+     */
+    @Override
+    public Optional<MokadexVersionDTO> getLoggedUserVersion() throws RokaMokaNoUserInContextException {
+        return this.mokadexService.getLoggedUserVersion();
     }
 
     @Override
@@ -0,0 +1,113 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over strings: a fixed-size bit array answering whether a string may have been added to it.
+ *
+ * <p>A negative answer is definite, while a positive one is wrong with a probability that grows as the filter fills
+ * up, close to the target given at construction until {@link #capacity()} strings have been added. Strings cannot be
+ * removed; a filter holding removed strings only answers falsely positive more often, and should be rebuilt.
+ *
+ * <p>Each string is hashed twice, with different seeds, and its bit positions are derived from both hashes by double
+ * hashing. Instances are thread-safe; lookups take no lock.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger setBits = new AtomicInteger();
+
+    /**
+     * Creates a filter sized for a number of strings.
+     *
+     * @param capacity The number of strings expected to be added; at least {@code 1}.
+     * @param falsePositiveProbability The target probability, between {@code 0} and {@code 1}, exclusive, of a
+     * positive answer for a string never added, once {@code capacity} strings have been added.
+     *
+     * @throws IllegalArgumentException If an argument is out of range.
+     */
+    public BloomFilter(int capacity, double falsePositiveProbability) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+        long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / capacity * LN2));
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds a string to this filter.
+     *
+     * @param value The string to add.
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < this.hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, this.bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((this.words.getAndAccumulate(index, mask, (word, m) -> word | m) & mask) == 0) {
+                this.setBits.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Tests whether a string may have been added to this filter.
+     *
+     * @param value The string to test.
+     *
+     * @return {@code false} if the string has definitely never been added; {@code true} otherwise.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < this.hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, this.bitCount);
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of strings this filter was sized for.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Estimates the probability of a positive answer for a string never added, from the share of bits set so far.
+     *
+     * @return The current false positive probability, between {@code 0} and {@code 1}.
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) this.setBits.get() / this.bitCount, this.hashCount);
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        hash ^= value.length();
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,44 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes the SHA-256 digests that identify the content of the images, in lowercase hexadecimal.
+ */
+public final class ContentDigest {
+
+    private ContentDigest() {
+        throw new IllegalStateException("ContentDigest is a utility class; thus, it should not be instantiated");
+    }
+
+    /**
+     * Creates a new SHA-256 digest, to be fed as the content is read, e.g. through a
+     * {@link java.security.DigestInputStream}.
+     *
+     * @return A new digest.
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Completes a digest and formats it.
+     *
+     * @param digest The digest fed with the whole content.
+     *
+     * @return The digest, in hexadecimal.
+     */
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256Hex(byte[] content) {
+        return HexFormat.of().formatHex(sha256().digest(content));
+    }
+}
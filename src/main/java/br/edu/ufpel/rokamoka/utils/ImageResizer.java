@@ -0,0 +1,208 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Generates downscaled variants of an image with the {@code ImageIO} codecs of the JDK.
+ *
+ * <p>The image is decoded once, sub-sampled while decoding when it is more than twice as wide as the largest variant,
+ * so that a large photo never needs to be held in memory at full resolution. Variants are then produced from the
+ * largest down, each one scaled from the previous one by successive halvings, which keeps bilinear interpolation from
+ * skipping pixels. Images with transparency are encoded as PNG and all others as JPEG.
+ *
+ * <p>Content the codecs reject is reported as an {@link UnreadableImageException}, apart from failures of the input
+ * itself, which are thrown unchanged since reading it again may succeed.
+ */
+public final class ImageResizer {
+
+    public static final String JPEG = "image/jpeg";
+    public static final String PNG = "image/png";
+
+    private ImageResizer() {
+        throw new IllegalStateException("ImageResizer is a utility class; thus, it should not be instantiated");
+    }
+
+    /**
+     * Generates the variants of an image narrower than the original.
+     *
+     * @param input The encoded image; not closed.
+     * @param widths The widths of the variants, in pixels.
+     * @param jpegQuality The quality, between {@code 0} and {@code 1}, of the JPEG variants.
+     *
+     * @return The variants, from the widest down; empty if no width is below the image's own.
+     * @throws UnreadableImageException If the format of the image is not supported or its content is corrupt.
+     * @throws IOException If reading the input fails.
+     */
+    public static List<Rendition> render(InputStream input, Collection<Integer> widths, float jpegQuality)
+    throws IOException {
+        var source = new SourceInputStream(input);
+        try (ImageInputStream stream = new MemoryCacheImageInputStream(source)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                source.rethrowFailure();
+                throw new UnreadableImageException("Formato de imagem não suportado", null);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                List<Integer> targetWidths = widths.stream()
+                        .filter(Objects::nonNull)
+                        .filter(width -> width > 0 && width < sourceWidth)
+                        .distinct()
+                        .sorted(Comparator.reverseOrder())
+                        .toList();
+                if (targetWidths.isEmpty()) {
+                    return List.of();
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (targetWidths.get(0) * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                boolean transparent = image.getColorModel().hasAlpha();
+                var renditions = new ArrayList<Rendition>(targetWidths.size());
+                for (int width : targetWidths) {
+                    int height = Math.max(1, (int) Math.round((double) width * sourceHeight / sourceWidth));
+                    image = scale(image, width, height, transparent);
+                    renditions.add(transparent
+                            ? new Rendition(width, height, PNG, encodePng(image))
+                            : new Rendition(width, height, JPEG, encodeJpeg(image, jpegQuality)));
+                }
+                return renditions;
+            } catch (IIOException | RuntimeException e) {
+                source.rethrowFailure();
+                throw new UnreadableImageException("Imagem corrompida", e);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height, boolean transparent) {
+        BufferedImage scaled = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            var target = new BufferedImage(currentWidth, currentHeight,
+                    transparent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = target.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(scaled, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            scaled = target;
+        } while (currentWidth != width || currentHeight != height);
+        return scaled;
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        var output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Math.max(0f, Math.min(1f, quality)));
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * A downscaled variant of an image.
+     *
+     * @param width The width, in pixels.
+     * @param height The height, in pixels.
+     * @param contentType The media type of the content.
+     * @param content The encoded variant.
+     */
+    public record Rendition(int width, int height, String contentType, byte[] content) {}
+
+    /**
+     * Thrown when the content cannot be decoded as an image, which reading it again would not change.
+     */
+    public static class UnreadableImageException extends IOException {
+
+        public UnreadableImageException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Remembers the failure of the input, which the codecs either swallow or wrap like a decoding error.
+     */
+    private static final class SourceInputStream extends FilterInputStream {
+
+        private IOException failure;
+
+        private SourceInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                this.failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException e) {
+                this.failure = e;
+                throw e;
+            }
+        }
+
+        private void rethrowFailure() throws IOException {
+            if (this.failure != null) {
+                throw this.failure;
+            }
+        }
+    }
+}
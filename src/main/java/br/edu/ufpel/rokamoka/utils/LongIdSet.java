@@ -0,0 +1,105 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * A compact set of {@code long} identifiers kept in a sorted primitive array.
+ *
+ * <p>Membership is answered with a binary search, without boxing and without relying on the {@code hashCode} of the
+ * entities the identifiers came from, which is a per-class constant in this project.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @see br.edu.ufpel.rokamoka.component.ExhibitionArtworkIndex
+ */
+public final class LongIdSet {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids;
+    private int size;
+
+    public LongIdSet() {
+        this.ids = EMPTY;
+    }
+
+    private LongIdSet(long[] ids, int size) {
+        this.ids = ids;
+        this.size = size;
+    }
+
+    /**
+     * Builds a set holding the identifiers extracted from every element of the given collection. Elements without an
+     * identifier (e.g. not yet persisted entities) are ignored.
+     *
+     * @param elements The elements to index; may be {@code null}.
+     * @param idExtractor The function that extracts the identifier from an element.
+     * @param <T> The type of the elements.
+     *
+     * @return A new {@code LongIdSet} with the distinct identifiers found.
+     */
+    public static <T> LongIdSet of(Collection<T> elements, Function<? super T, Long> idExtractor) {
+        if (elements == null || elements.isEmpty()) {
+            return new LongIdSet();
+        }
+
+        long[] buffer = new long[elements.size()];
+        int count = 0;
+        for (T element : elements) {
+            Long id = element == null ? null : idExtractor.apply(element);
+            if (id != null) {
+                buffer[count++] = id;
+            }
+        }
+        Arrays.sort(buffer, 0, count);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || buffer[distinct - 1] != buffer[i]) {
+                buffer[distinct++] = buffer[i];
+            }
+        }
+        return new LongIdSet(buffer, distinct);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(this.ids, 0, this.size, id) >= 0;
+    }
+
+    /**
+     * Adds an identifier to this set, keeping the backing array sorted.
+     *
+     * @param id The identifier to add.
+     *
+     * @return {@code true} if the identifier was not present; {@code false} otherwise.
+     */
+    public boolean add(long id) {
+        int index = Arrays.binarySearch(this.ids, 0, this.size, id);
+        if (index >= 0) {
+            return false;
+        }
+
+        int insertionPoint = -(index + 1);
+        if (this.size == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, Math.max(8, this.size + (this.size >> 1)));
+        }
+        System.arraycopy(this.ids, insertionPoint, this.ids, insertionPoint + 1, this.size - insertionPoint);
+        this.ids[insertionPoint] = id;
+        this.size++;
+        return true;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(this.ids, this.size);
+    }
+}
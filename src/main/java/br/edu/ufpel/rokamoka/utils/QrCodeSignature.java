@@ -0,0 +1,123 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Signs and verifies self-describing QR codes, which carry the ID of an artwork and of its exhibition, so that they can
+ * be resolved without a lookup.
+ *
+ * <p>A signed QR code reads {@code RK1.<artworkId>.<exhibitionId>.<tag>}, where the IDs are written in decimal and the
+ * tag is the first {@value #TAG_LENGTH} bytes of the HMAC-SHA256 of everything before it, encoded in unpadded
+ * base64url. Signing is deterministic: the same IDs always produce the same QR code.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class QrCodeSignature {
+
+    public static final String PREFIX = "RK1.";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int TAG_LENGTH = 8;
+    private static final int MINIMUM_SECRET_LENGTH = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    /**
+     * @param secret The key of the HMAC; at least {@value #MINIMUM_SECRET_LENGTH} bytes long.
+     *
+     * @throws IllegalArgumentException If the secret is too short.
+     */
+    public QrCodeSignature(byte[] secret) {
+        if (secret == null || secret.length < MINIMUM_SECRET_LENGTH) {
+            throw new IllegalArgumentException("secret must be at least " + MINIMUM_SECRET_LENGTH + " bytes long");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    /**
+     * Signs the IDs of an artwork and of its exhibition.
+     *
+     * @param artworkId The ID of the artwork.
+     * @param exhibitionId The ID of the exhibition of the artwork.
+     *
+     * @return The signed QR code.
+     */
+    public String sign(long artworkId, long exhibitionId) {
+        String payload = PREFIX + artworkId + '.' + exhibitionId;
+        return payload + '.' + ENCODER.encodeToString(this.tag(payload));
+    }
+
+    /**
+     * Verifies a QR code signed by {@link #sign(long, long)} with the same secret.
+     *
+     * @param qrCode The scanned QR code.
+     *
+     * @return The IDs carried by the QR code, or empty if it is not a signed QR code or its tag does not match.
+     */
+    public Optional<Payload> verify(String qrCode) {
+        if (qrCode == null || !qrCode.startsWith(PREFIX)) {
+            return Optional.empty();
+        }
+        int tagSeparator = qrCode.lastIndexOf('.');
+        int idSeparator = qrCode.indexOf('.', PREFIX.length());
+        if (idSeparator < 0 || idSeparator >= tagSeparator) {
+            return Optional.empty();
+        }
+
+        byte[] tag;
+        try {
+            tag = DECODER.decode(qrCode.substring(tagSeparator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        String payload = qrCode.substring(0, tagSeparator);
+        if (tag.length != TAG_LENGTH || !MessageDigest.isEqual(tag, this.tag(payload))) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Payload(Long.parseLong(qrCode, PREFIX.length(), idSeparator, 10),
+                    Long.parseLong(qrCode, idSeparator + 1, tagSeparator, 10)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tests whether a QR code has the format of a signed QR code, without verifying it.
+     *
+     * @param qrCode The QR code.
+     *
+     * @return {@code true} if the QR code starts with {@value #PREFIX}; {@code false} otherwise.
+     */
+    public static boolean isSigned(String qrCode) {
+        return qrCode != null && qrCode.startsWith(PREFIX);
+    }
+
+    private byte[] tag(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.key);
+            return Arrays.copyOf(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)), TAG_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    /**
+     * The IDs carried by a signed QR code.
+     *
+     * @param artworkId The ID of the artwork.
+     * @param exhibitionId The ID of the exhibition of the artwork.
+     */
+    public record Payload(long artworkId, long exhibitionId) {}
+}
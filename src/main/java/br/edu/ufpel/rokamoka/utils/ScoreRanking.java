@@ -0,0 +1,163 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * An ordered ranking of non-negative scores keyed by {@code long} identifiers, updated in place.
+ *
+ * <p>Entries are kept in a tree ordered by score, highest first, and then by identifier, so that the top of the ranking
+ * is read without sorting. Ranks follow the competition convention (tied scores share a rank and the next rank is
+ * skipped) and are answered from a Fenwick tree of how many entries hold each score, so neither reading the rank of an
+ * identifier nor updating a score depends on the number of entries.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class ScoreRanking {
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingLong(Entry::score).reversed().thenComparingLong(Entry::id);
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final TreeSet<Entry> ordered = new TreeSet<>(ORDER);
+
+    /** Fenwick tree over the number of entries per score; index {@code score + 1} holds the entries with that score. */
+    private long[] countsByScore = new long[16];
+
+    /**
+     * Adds {@code delta} to the score of an identifier, entering it in the ranking with a score of zero if absent.
+     * Scores never drop below zero; an identifier whose score reaches zero stays in the ranking.
+     *
+     * @param id The identifier whose score changes.
+     * @param delta The amount to add, possibly negative.
+     *
+     * @return The new score.
+     */
+    public long increment(long id, long delta) {
+        Long previous = this.scores.get(id);
+        long score = Math.max(0, (previous == null ? 0 : previous) + delta);
+        if (previous != null) {
+            if (previous == score) {
+                return score;
+            }
+            this.ordered.remove(new Entry(id, previous));
+            this.updateCount(previous, -1);
+        }
+        this.scores.put(id, score);
+        this.ordered.add(new Entry(id, score));
+        this.updateCount(score, 1);
+        return score;
+    }
+
+    /**
+     * Returns the score of an identifier, or {@code 0} if it is not ranked.
+     *
+     * @param id The identifier.
+     *
+     * @return The score of the identifier.
+     */
+    public long scoreOf(long id) {
+        return this.scores.getOrDefault(id, 0L);
+    }
+
+    /**
+     * Returns the rank of an identifier, starting at {@code 1}; tied scores share the same rank.
+     *
+     * @param id The identifier.
+     *
+     * @return The rank of the identifier, or {@code 0} if it is not ranked.
+     */
+    public int rankOf(long id) {
+        Long score = this.scores.get(id);
+        if (score == null) {
+            return 0;
+        }
+        return (int) (this.scores.size() - this.countUpTo(score)) + 1;
+    }
+
+    /**
+     * Returns the first entries of the ranking, with their ranks.
+     *
+     * @param limit The maximum number of entries to return.
+     *
+     * @return Up to {@code limit} entries, from the highest score down.
+     */
+    public List<RankedEntry> top(int limit) {
+        var top = new ArrayList<RankedEntry>(Math.min(Math.max(limit, 0), this.ordered.size()));
+        int position = 0;
+        int rank = 0;
+        long previousScore = -1;
+        for (Entry entry : this.ordered) {
+            if (position == limit) {
+                break;
+            }
+            position++;
+            if (entry.score() != previousScore) {
+                rank = position;
+                previousScore = entry.score();
+            }
+            top.add(new RankedEntry(rank, entry.id(), entry.score()));
+        }
+        return top;
+    }
+
+    public int size() {
+        return this.scores.size();
+    }
+
+    private void updateCount(long score, long delta) {
+        int index = Math.toIntExact(score + 1);
+        if (index >= this.countsByScore.length) {
+            this.growTo(index);
+        }
+        for (int i = index; i < this.countsByScore.length; i += i & -i) {
+            this.countsByScore[i] += delta;
+        }
+    }
+
+    private long countUpTo(long score) {
+        long count = 0;
+        for (int i = (int) Math.min(score + 1, this.countsByScore.length - 1); i > 0; i -= i & -i) {
+            count += this.countsByScore[i];
+        }
+        return count;
+    }
+
+    /**
+     * Grows the Fenwick tree so that it can hold {@code index}, rebuilding it from the per-score counts, which are
+     * recovered from the current tree.
+     */
+    private void growTo(int index) {
+        int length = this.countsByScore.length;
+        long[] counts = new long[length];
+        for (int i = 1; i < length; i++) {
+            counts[i] = this.countUpTo(i - 1) - (i == 1 ? 0 : this.countUpTo(i - 2));
+        }
+
+        int newLength = Integer.highestOneBit(index) << 1;
+        long[] tree = Arrays.copyOf(counts, newLength);
+        for (int i = 1; i < newLength; i++) {
+            int parent = i + (i & -i);
+            if (parent < newLength) {
+                tree[parent] += tree[i];
+            }
+        }
+        this.countsByScore = tree;
+    }
+
+    private record Entry(long id, long score) {}
+
+    /**
+     * An entry of the ranking together with its rank.
+     *
+     * @param rank The rank, starting at {@code 1}.
+     * @param id The identifier.
+     * @param score The score.
+     */
+    public record RankedEntry(int rank, long id, long score) {}
+}
@@ -0,0 +1,64 @@
+package br.edu.ufpel.rokamoka.utils.mokadex;
+
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.output.EmblemOutputDTO;
+import br.edu.ufpel.rokamoka.dto.exhibition.output.ExhibitionOutputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.CollectionDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexItemDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexOutputDTO;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Responsible for constructing a {@code MokadexOutputDTO} from the flattened {@link MokadexItemDTO} rows of a Mokadex,
+ * without any entity involved.
+ *
+ * <p>Collected artworks are grouped by exhibition in a single pass, keeping the order of the rows. As with
+ * {@link MokadexCollectionsBuilder}, the number of artworks of each collection is the number of artworks collected in
+ * it.
+ *
+ * @see MokadexItemDTO
+ * @see MokadexOutputDTO
+ */
+public record MokadexItemsBuilder(List<MokadexItemDTO> items) {
+
+    /**
+     * Constructs the {@code MokadexOutputDTO} holding every collection and emblem found in the rows.
+     *
+     * @return A {@code MokadexOutputDTO} whose sets are unmodifiable.
+     */
+    public MokadexOutputDTO build() {
+        Map<Long, Set<ArtworkOutputDTO>> artworksByExhibitionId = new LinkedHashMap<>();
+        Map<Long, MokadexItemDTO> exhibitionRowById = new LinkedHashMap<>();
+        Set<EmblemOutputDTO> emblems = new LinkedHashSet<>();
+
+        for (MokadexItemDTO item : this.items) {
+            if (item.isEmblem()) {
+                emblems.add(new EmblemOutputDTO(item.getId(), item.getName(), item.getDescription(),
+                        this.toExhibition(item, item.getExhibitionArtworkTotal()), List.of()));
+                continue;
+            }
+            exhibitionRowById.putIfAbsent(item.getExhibitionId(), item);
+            artworksByExhibitionId.computeIfAbsent(item.getExhibitionId(), id -> new LinkedHashSet<>())
+                    .add(new ArtworkOutputDTO(item.getId(), item.getName(), item.getDescription(), item.getArtistName(),
+                            item.getQrCode(), item.getLink()));
+        }
+
+        Set<CollectionDTO> collections = new LinkedHashSet<>();
+        artworksByExhibitionId.forEach((exhibitionId, artworks) -> collections.add(new CollectionDTO(
+                this.toExhibition(exhibitionRowById.get(exhibitionId), (long) artworks.size()),
+                Collections.unmodifiableSet(artworks))));
+
+        return new MokadexOutputDTO(Collections.unmodifiableSet(collections), Collections.unmodifiableSet(emblems));
+    }
+
+    private ExhibitionOutputDTO toExhibition(MokadexItemDTO item, Long numberOfArtworks) {
+        return new ExhibitionOutputDTO(item.getExhibitionId(), item.getExhibitionName(),
+                item.getExhibitionDescription(), numberOfArtworks, item.getLocationName());
+    }
+}
@@ -3,13 +3,35 @@ package br.edu.ufpel.rokamoka.wrapper;
 import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
 import br.edu.ufpel.rokamoka.context.ServiceContext;
 import br.edu.ufpel.rokamoka.utils.DateUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
+import static org.springframework.http.HttpHeaders.ETAG;
 
 /**
  * <p>The {@code RokaMokaController} uses {@link ServiceContext} to maintain execution metadata
@@ -25,6 +47,11 @@ import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS
  *   <li>Standardized success responses for both empty and data-bearing payloads.</li>
  *   <li>Error response handling with HTTP status customization and exception details.</li>
  *   <li>Automatic population of execution-specific headers.</li>
+ *   <li>Conditional responses, answering {@code 304 Not Modified} when the client already holds the current version
+ *   of a resource.</li>
+ *   <li>Cacheable binary content, such as images, outside of the {@link ApiResponseWrapper}.</li>
+ *   <li>Large lists written to the client as they are produced, with the structure of the {@link ApiResponseWrapper}.
+ *   </li>
  * </ul>
  *
  * @author mauriciomucci
@@ -40,6 +67,13 @@ public abstract class RokaMokaController {
     private static final String EXECUTION_END_TIME = "Execution-End-Time";
     private static final String EXECUTION_ELAPSED_TIME = "Execution-Elapsed-Time";
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
     private static HttpHeaders buildResponseHeaders(ServiceContext ctx) {
         HttpHeaders headers = new HttpHeaders();
         headers.add(
@@ -49,7 +83,8 @@ public abstract class RokaMokaController {
                         EXECUTION_UUID,
                         EXECUTION_START_TIME,
                         EXECUTION_END_TIME,
-                        EXECUTION_ELAPSED_TIME));
+                        EXECUTION_ELAPSED_TIME,
+                        ETAG));
         headers.add(EXECUTION_UUID, ctx.getExecutionUUID());
         headers.add(EXECUTION_START_TIME, DateUtils.formatDateTimeMillis(ctx.getStartTime()));
         headers.add(EXECUTION_END_TIME, DateUtils.formatDateTimeMillis(ctx.getEndTime()));
@@ -83,6 +118,155 @@ public abstract class RokaMokaController {
         return ResponseEntity.ok().headers(headers).body(body);
     }
 
+    /**
+     * Builds a success response whose body is a list written to the client element by element, as {@code elements}
+     * produces them, so that neither the list nor its serialized form is ever held in memory as a whole. The body has
+     * the same structure as the one built by {@link #success(Object)}; the execution headers, however, are sent before
+     * the list is written, so they do not account for the time spent writing it.
+     *
+     * <p>{@code elements} is called after the handler returns, on a thread of the asynchronous request executor, so it
+     * must not rely on state bound to the request thread, such as a transaction opened by the handler.
+     *
+     * @param objectMapper Serializes each element.
+     * @param elements Produces the elements of the list, in order.
+     * @param <T> The type of the elements.
+     *
+     * @return A {@code 200 OK} response whose body is written once the handler returns.
+     */
+    protected <T> ResponseEntity<StreamingResponseBody> successStream(ObjectMapper objectMapper,
+            ResponseElements<T> elements) {
+        log.info("Sucesso ao executar APIResponse<Stream>");
+
+        ServiceContext ctx = ServiceContext.getContext();
+        ctx.setEndTime(System.currentTimeMillis());
+
+        HttpHeaders headers = buildResponseHeaders(ctx);
+        ApiResponseWrapper<Void> wrapper = new ApiResponseWrapper<>(ctx);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        // A failure halfway must leave the body truncated, so that the client does not take a partial list for a
+        // complete one; hence the generator must not close the open array and object on its own.
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("body");
+                try {
+                    elements.forEach(element -> {
+                        try {
+                            writer.writeValue(generator, element);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                generator.writeEndArray();
+                generator.writeNumberField("httpStatus", wrapper.getHttpStatus());
+                generator.writeStringField("exception", wrapper.getException());
+                generator.writeStringField("exceptionMessage", wrapper.getExceptionMessage());
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().headers(headers).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Builds a conditional success response for a resource whose current version is known up front.
+     *
+     * <p>When {@code ifNoneMatch} matches {@code eTag}, the client already holds the current version and a
+     * {@code 304 Not Modified} response is returned without ever calling {@code response}. Otherwise, the response is
+     * built as in {@link #success(Object)} and tagged with {@code eTag}.
+     *
+     * @param eTag The entity tag of the current version of the resource, or {@code null} if it is unknown, in which
+     * case the response is always built.
+     * @param ifNoneMatch The value of the {@code If-None-Match} request header, if any.
+     * @param response Supplies the response body; only called when the client does not hold the current version.
+     * @param <T> The type of the response body.
+     * @param <E> The type of the exception thrown while supplying the response body.
+     *
+     * @return A {@code 304 Not Modified} response, or a {@code 200 OK} response tagged with {@code eTag}.
+     * @throws E If supplying the response body fails.
+     * @see #eTag(Object...)
+     */
+    protected <T, E extends Exception> ResponseEntity<ApiResponseWrapper<T>> success(String eTag, String ifNoneMatch,
+            ResponseSupplier<T, E> response) throws E {
+        if (eTag == null) {
+            return this.success(response.get());
+        }
+
+        if (matches(ifNoneMatch, eTag)) {
+            log.info("Recurso não modificado desde a versão [{}]", eTag);
+
+            ServiceContext ctx = ServiceContext.getContext();
+            ctx.setEndTime(System.currentTimeMillis());
+
+            HttpHeaders headers = buildResponseHeaders(ctx);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(headers)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+
+        ResponseEntity<ApiResponseWrapper<T>> ok = this.success(response.get());
+        return ResponseEntity.ok()
+                .headers(ok.getHeaders())
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ok.getBody());
+    }
+
+    /**
+     * Builds a conditional response carrying binary content that never changes under the same entity tag, such as an
+     * image addressed by the hash of its bytes.
+     *
+     * <p>When {@code ifNoneMatch} matches {@code eTag}, a {@code 304 Not Modified} response is returned without ever
+     * calling {@code content}. Otherwise, the content is returned with a long-lived, private {@code Cache-Control}, so
+     * that clients keep it while shared caches, which cannot tell authenticated users apart, do not; {@code Range}
+     * requests are answered with {@code 206 Partial Content} by the message converters.
+     *
+     * <p>Content kept in a file is handed over to the connector whenever it supports {@code sendfile}, so that the file
+     * is copied to the socket by the operating system ({@link java.nio.channels.FileChannel#transferTo}) without ever
+     * passing through the heap. Partial requests still go through the message converters.
+     *
+     * @param eTag The strong entity tag of the content.
+     * @param ifNoneMatch The value of the {@code If-None-Match} request header, if any.
+     * @param mediaType The media type of the content.
+     * @param content Supplies the content; only called when the client does not hold it yet.
+     * @param <E> The type of the exception thrown while supplying the content.
+     *
+     * @return A {@code 304 Not Modified} response, or a {@code 200 OK} response with the content.
+     * @throws E If supplying the content fails.
+     */
+    protected <E extends Exception> ResponseEntity<Resource> content(String eTag, String ifNoneMatch,
+            MediaType mediaType, ResponseSupplier<Resource, E> content) throws E {
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(IMMUTABLE).build();
+        }
+        var ok = ResponseEntity.ok().eTag(eTag).cacheControl(IMMUTABLE).contentType(mediaType);
+        Resource resource = content.get();
+        long sentLength = sendFile(resource);
+        if (sentLength >= 0) {
+            return ok.contentLength(sentLength).header(ACCEPT_RANGES, "bytes").build();
+        }
+        return ok.body(resource);
+    }
+
+    /**
+     * Builds a weak entity tag out of the values that identify the version of a resource. The tag is weak because the
+     * response body also carries execution metadata, which differs between two responses for the same version.
+     *
+     * @param parts The values identifying the version, in a fixed order.
+     *
+     * @return The entity tag, e.g. {@code W/"12.3"}.
+     */
+    protected static String eTag(Object... parts) {
+        return Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(".", "W/\"", "\""));
+    }
+
     protected ResponseEntity<ApiResponseWrapper<Void>> error(Exception e, HttpStatus status) {
         log.error("", e);
 
@@ -96,4 +280,69 @@ public abstract class RokaMokaController {
 
         return ResponseEntity.status(status).headers(headers).body(body);
     }
+
+    /**
+     * Asks the connector to send a whole file on its own, through the request attributes of Tomcat's {@code sendfile}
+     * support, if the connector supports it and the request is a plain {@code GET}.
+     *
+     * @return The length of the file handed over to the connector, or {@code -1} if the file must be written by the
+     * message converters.
+     */
+    private static long sendFile(Resource resource) {
+        if (!resource.isFile()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return -1;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                || !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(HttpHeaders.RANGE) != null) {
+            return -1;
+        }
+        try {
+            File file = resource.getFile();
+            long length = file.length();
+            request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+            return length;
+        } catch (IOException e) {
+            log.warn("Arquivo [{}] não pode ser enviado diretamente: [{}]", resource, e.getMessage());
+            return -1;
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(opaqueTag));
+    }
+
+    /**
+     * Produces the elements of a list response, handing each one to the given action as soon as it is available.
+     *
+     * @param <T> The type of the elements.
+     */
+    @FunctionalInterface
+    protected interface ResponseElements<T> {
+
+        void forEach(Consumer<? super T> action);
+    }
+
+    /**
+     * Supplies a response body, possibly throwing the checked exceptions of the underlying service call.
+     *
+     * @param <T> The type of the response body.
+     * @param <E> The type of the exception thrown.
+     */
+    @FunctionalInterface
+    protected interface ResponseSupplier<T, E extends Exception> {
+
+        T get() throws E;
+    }
 }
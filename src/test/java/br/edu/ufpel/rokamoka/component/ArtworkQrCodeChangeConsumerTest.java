@@ -0,0 +1,89 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.dto.artwork.ArtworkQrCodeChangeDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerRestartedEvent;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link ArtworkQrCodeChangeConsumer}, with a mocked index and producer.
+ *
+ * @see ArtworkQrCodeChangeConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+class ArtworkQrCodeChangeConsumerTest {
+
+    @InjectMocks
+    private ArtworkQrCodeChangeConsumer consumer;
+
+    @Mock
+    private ArtworkQrCodeIndex artworkQrCodeIndex;
+    @Mock
+    private ArtworkQrCodeChangeProducer artworkQrCodeChangeProducer;
+
+    private static AsyncConsumerRestartedEvent restartOf(String listenerId) {
+        var container = mock(SimpleMessageListenerContainer.class);
+        when(container.getListenerId()).thenReturn(listenerId);
+        return new AsyncConsumerRestartedEvent(container, new Object(), new Object());
+    }
+
+    //region consumeChange
+    @Test
+    void consumeChange_shouldIndexArtwork_whenChangeComesFromAnotherInstance() {
+        // Arrange
+        var change = new ArtworkQrCodeChangeDTO("outra", 1L, "QRCODE", 10L);
+        when(this.artworkQrCodeChangeProducer.isLocal(change)).thenReturn(false);
+
+        // Act
+        this.consumer.consumeChange(change);
+
+        // Assert
+        verify(this.artworkQrCodeIndex).put(1L, "QRCODE", 10L);
+    }
+
+    @Test
+    void consumeChange_shouldIgnoreChange_whenChangeComesFromThisInstance() {
+        // Arrange
+        var change = new ArtworkQrCodeChangeDTO("esta", 1L, "QRCODE", 10L);
+        when(this.artworkQrCodeChangeProducer.isLocal(change)).thenReturn(true);
+
+        // Act
+        this.consumer.consumeChange(change);
+
+        // Assert
+        verifyNoInteractions(this.artworkQrCodeIndex);
+    }
+    //endregion
+
+    //region onConsumerRestarted
+    @Test
+    void onConsumerRestarted_shouldRebuildIndex_whenChangeConsumerIsRestarted() {
+        // Act
+        this.consumer.onConsumerRestarted(restartOf(ArtworkQrCodeChangeConsumer.LISTENER_ID));
+
+        // Assert
+        verify(this.artworkQrCodeIndex).rebuild();
+    }
+
+    @Test
+    void onConsumerRestarted_shouldNotRebuildIndex_whenAnotherConsumerIsRestarted() {
+        // Act
+        this.consumer.onConsumerRestarted(restartOf("collectEmblem"));
+
+        // Assert
+        verify(this.artworkQrCodeIndex, never()).rebuild();
+        verify(this.artworkQrCodeIndex, never()).put(any(), any(), any());
+    }
+    //endregion
+}
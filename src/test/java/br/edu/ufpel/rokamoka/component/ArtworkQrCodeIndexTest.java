@@ -0,0 +1,227 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ArtworkQrCodeIndexConfigProperties;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link ArtworkQrCodeIndex}, with a mocked repository and a simple meter registry.
+ *
+ * @see ArtworkQrCodeIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class ArtworkQrCodeIndexTest {
+
+    @Mock
+    private ArtworkRepository artworkRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArtworkQrCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.index = new ArtworkQrCodeIndex(this.artworkRepository, new ArtworkQrCodeIndexConfigProperties(),
+                this.meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ArtworkQrCodeDTO summary(Long id, String qrCode, Long exhibitionId) {
+        var summary = mock(ArtworkQrCodeDTO.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getQrCode()).thenReturn(qrCode);
+        when(summary.getExhibitionId()).thenReturn(exhibitionId);
+        return summary;
+    }
+
+    private double counter(String name) {
+        return this.meterRegistry.get(name).counter().count();
+    }
+
+    private double gauge(String name) {
+        return this.meterRegistry.get(name).gauge().value();
+    }
+
+    //region mightExist
+    @Test
+    void mightExist_shouldAcceptAnyQrCode_whenIndexIsNotBuilt() {
+        // Act & Assert
+        assertTrue(this.index.mightExist("QRCODE"));
+        assertTrue(this.index.mightExist("DESCONHECIDO"));
+        assertEquals(0, this.counter("rokamoka.artwork.qrcode.filter.rejected"));
+    }
+
+    @Test
+    void mightExist_shouldRejectUnknownQrCode_whenIndexIsBuilt() {
+        // Arrange
+        var artwork = summary(1L, "QRCODE", 10L);
+        when(this.artworkRepository.findAllQrCodeSummaries()).thenReturn(List.of(artwork));
+
+        // Act
+        this.index.rebuild();
+
+        // Assert
+        assertTrue(this.index.mightExist("QRCODE"));
+        assertFalse(this.index.mightExist("DESCONHECIDO"));
+        assertEquals(1, this.counter("rokamoka.artwork.qrcode.filter.rejected"));
+    }
+
+    @Test
+    void mightExist_shouldRejectAndCount_whenQrCodeIsNull() {
+        // Act & Assert
+        assertFalse(this.index.mightExist(null));
+        assertEquals(1, this.counter("rokamoka.artwork.qrcode.filter.rejected"));
+    }
+
+    @Test
+    void mightExist_shouldAcceptQrCode_whenArtworkIsPutAfterRebuild() {
+        // Arrange
+        when(this.artworkRepository.findAllQrCodeSummaries()).thenReturn(List.of());
+        this.index.rebuild();
+
+        // Act
+        this.index.put(2L, "NOVO", 10L);
+
+        // Assert
+        assertTrue(this.index.mightExist("NOVO"));
+        assertEquals(0, this.counter("rokamoka.artwork.qrcode.filter.rejected"));
+    }
+    //endregion
+
+    //region recordFalsePositives
+    @Test
+    void recordFalsePositives_shouldIncrementCounter_whenCountIsPositive() {
+        // Act
+        this.index.recordFalsePositives(3);
+        this.index.recordFalsePositives(0);
+
+        // Assert
+        assertEquals(3, this.counter("rokamoka.artwork.qrcode.filter.false.positives"));
+    }
+    //endregion
+
+    //region put & remove
+    @Test
+    void put_shouldReplacePreviousQrCode_whenArtworkIsAlreadyIndexed() {
+        // Act
+        this.index.put(1L, "ANTIGO", 10L);
+        this.index.put(1L, "NOVO", 10L);
+
+        // Assert
+        assertTrue(this.index.find("ANTIGO").isEmpty());
+        assertEquals(1L, this.index.find("NOVO").orElseThrow().getId());
+        assertEquals(1, this.gauge("rokamoka.artwork.qrcode.index.size"));
+    }
+
+    @Test
+    void remove_shouldUnindexArtwork_whenArtworkIsIndexed() {
+        // Arrange
+        this.index.put(1L, "QRCODE", 10L);
+
+        // Act
+        this.index.remove(1L);
+
+        // Assert
+        assertTrue(this.index.find("QRCODE").isEmpty());
+        assertEquals(0, this.gauge("rokamoka.artwork.qrcode.index.size"));
+    }
+
+    @Test
+    void put_shouldApplyChangeAfterCommit_whenTransactionIsActive() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        this.index.put(1L, "QRCODE", 10L);
+
+        // Assert
+        assertTrue(this.index.find("QRCODE").isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(10L, this.index.find("QRCODE").orElseThrow().getExhibitionId());
+    }
+
+    @Test
+    void put_shouldGrowFilter_whenIndexOutgrowsItsCapacity() {
+        // Arrange
+        when(this.artworkRepository.findAllQrCodeSummaries()).thenReturn(List.of());
+        this.index.rebuild();
+        var probability = new ArtworkQrCodeIndexConfigProperties().getFalsePositiveProbability();
+
+        // Act
+        IntStream.rangeClosed(1, 1025).forEach(id -> this.index.put((long) id, "QR-" + id, 10L));
+
+        // Assert
+        assertTrue(IntStream.rangeClosed(1, 1025).allMatch(id -> this.index.mightExist("QR-" + id)));
+        assertTrue(this.gauge("rokamoka.artwork.qrcode.filter.false.positive.probability") < probability / 2);
+        assertEquals(1025, this.gauge("rokamoka.artwork.qrcode.index.size"));
+    }
+    //endregion
+
+    //region rebuild
+    @Test
+    void rebuild_shouldReplayChanges_whenTheyAreAppliedDuringRebuild() {
+        // Arrange
+        var artworkA = summary(1L, "A", 10L);
+        var artworkB = summary(2L, "B", 10L);
+        when(this.artworkRepository.findAllQrCodeSummaries()).thenAnswer(inv -> {
+            this.index.put(3L, "C", 20L);
+            this.index.remove(2L);
+            return List.of(artworkA, artworkB);
+        });
+
+        // Act
+        this.index.rebuild();
+
+        // Assert
+        assertTrue(this.index.find("A").isPresent());
+        assertTrue(this.index.find("B").isEmpty());
+        assertEquals(3L, this.index.find("C").orElseThrow().getId());
+        assertTrue(this.index.mightExist("C"));
+        assertEquals(2, this.gauge("rokamoka.artwork.qrcode.index.size"));
+    }
+
+    @Test
+    void rebuild_shouldKeepCurrentIndex_whenQueryFails() {
+        // Arrange
+        var artworkA = summary(1L, "A", 10L);
+        when(this.artworkRepository.findAllQrCodeSummaries())
+                .thenReturn(List.of(artworkA))
+                .thenThrow(new IllegalStateException("falha"));
+        this.index.rebuild();
+
+        // Act
+        this.index.rebuild();
+        this.index.put(2L, "B", 10L);
+
+        // Assert
+        assertTrue(this.index.find("A").isPresent());
+        assertTrue(this.index.find("B").isPresent());
+        assertFalse(this.index.mightExist("DESCONHECIDO"));
+    }
+    //endregion
+}
@@ -0,0 +1,162 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.Entry;
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.StoredResponse;
+import br.edu.ufpel.rokamoka.config.IdempotencyConfigProperties;
+import br.edu.ufpel.rokamoka.core.IdempotencyRecord;
+import br.edu.ufpel.rokamoka.core.IdempotencyRecordId;
+import br.edu.ufpel.rokamoka.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link DatabaseIdempotencyStore}, with the statements of the {@link IdempotencyRecordRepository} mocked.
+ *
+ * @see DatabaseIdempotencyStore
+ */
+@ExtendWith(MockitoExtension.class)
+class DatabaseIdempotencyStoreTest {
+
+    private static final String USERNAME = "usuario";
+    private static final String KEY = "chave";
+    private static final String FINGERPRINT = "POST /mokadex/collect abc";
+    private static final IdempotencyRecordId ID = new IdempotencyRecordId(USERNAME, KEY);
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyConfigProperties properties;
+    private DatabaseIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new IdempotencyConfigProperties();
+        this.store = new DatabaseIdempotencyStore(this.idempotencyRecordRepository, this.properties);
+    }
+
+    //region reserve
+    @Test
+    void reserve_shouldTakeKeyUntilLockTimeout_whenStatementTakesIt() {
+        // Arrange
+        var expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        var before = LocalDateTime.now();
+        when(this.idempotencyRecordRepository.reserve(eq(USERNAME), eq(KEY), eq(FINGERPRINT),
+                any(LocalDateTime.class), expiresAt.capture())).thenReturn(1);
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertFalse(expiresAt.getValue().isBefore(before.plus(this.properties.getLockTimeout(), ChronoUnit.MILLIS)));
+    }
+
+    @Test
+    void reserve_shouldReturnHeldEntry_whenKeyIsBeingProcessed() {
+        // Arrange
+        when(this.idempotencyRecordRepository.reserve(eq(USERNAME), eq(KEY), eq("PUT /outra def"),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(this.idempotencyRecordRepository.findById(ID)).thenReturn(Optional.of(
+                new IdempotencyRecord(ID, FINGERPRINT, null, null, null, LocalDateTime.now().plusMinutes(1))));
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, "PUT /outra def");
+
+        // Assert
+        assertEquals(Optional.of(new Entry(FINGERPRINT, null)), result);
+    }
+
+    @Test
+    void reserve_shouldReturnStoredResponse_whenKeyIsCompleted() {
+        // Arrange
+        byte[] body = {1, 2};
+        when(this.idempotencyRecordRepository.reserve(eq(USERNAME), eq(KEY), eq(FINGERPRINT),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(this.idempotencyRecordRepository.findById(ID)).thenReturn(Optional.of(
+                new IdempotencyRecord(ID, FINGERPRINT, 201, "application/json", body, LocalDateTime.now())));
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isCompleted());
+        assertEquals(new StoredResponse(201, "application/json", body), result.get().response());
+    }
+
+    @Test
+    void reserve_shouldReportKeyAsHeld_whenItIsReleasedInBetween() {
+        // Arrange
+        when(this.idempotencyRecordRepository.reserve(eq(USERNAME), eq(KEY), eq(FINGERPRINT),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+        when(this.idempotencyRecordRepository.findById(ID)).thenReturn(Optional.empty());
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Assert
+        assertEquals(Optional.of(new Entry(FINGERPRINT, null)), result);
+    }
+    //endregion
+
+    //region complete
+    @Test
+    void complete_shouldStoreResponseUntilTtl_whenCalled() {
+        // Arrange
+        var response = new StoredResponse(201, "application/json", new byte[] {1});
+        var expiresAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        var before = LocalDateTime.now();
+
+        // Act
+        this.store.complete(USERNAME, KEY, response);
+
+        // Assert
+        verify(this.idempotencyRecordRepository).complete(eq(USERNAME), eq(KEY), eq(201), eq("application/json"),
+                eq(response.body()), expiresAt.capture());
+        assertFalse(expiresAt.getValue().isBefore(before.plus(this.properties.getTtl(), ChronoUnit.MILLIS)));
+    }
+    //endregion
+
+    //region release
+    @Test
+    void release_shouldDeleteRecord_whenCalled() {
+        // Act
+        this.store.release(USERNAME, KEY);
+
+        // Assert
+        verify(this.idempotencyRecordRepository).deleteById(ID);
+    }
+    //endregion
+
+    //region deleteExpired
+    @Test
+    void deleteExpired_shouldDeleteRecordsExpiredByNow_whenCalled() {
+        // Arrange
+        var before = LocalDateTime.now();
+        var now = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(this.idempotencyRecordRepository.deleteAllExpired(now.capture())).thenReturn(2);
+
+        // Act
+        this.store.deleteExpired();
+
+        // Assert
+        assertFalse(now.getValue().isBefore(before));
+    }
+    //endregion
+}
@@ -0,0 +1,166 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.ImageRenditionConfigProperties;
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import br.edu.ufpel.rokamoka.event.ImageUploadedEvent;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
+import br.edu.ufpel.rokamoka.service.image.IIMageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link ImageRenditionWorker}, including what is left behind when the variants of an image cannot be
+ * generated.
+ *
+ * @see ImageRenditionWorker
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionWorkerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final ImageMetadataDTO METADATA = new ImageMetadataDTO(1L, 3L, "image/png", "hash", true);
+    private static final byte[] NOT_AN_IMAGE = "not an image".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private IIMageService imageService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageRenditionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.worker = new ImageRenditionWorker(this.imageService, new ImageRenditionConfigProperties(),
+                this.meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.worker.shutdown();
+    }
+
+    private double count(String name) {
+        return this.meterRegistry.get(name).counter().count();
+    }
+
+    private long renderings() {
+        return this.meterRegistry.get("rokamoka.images.rendition.duration").timer().count();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+    //region onImageUploaded
+    @Test
+    void onImageUploaded_shouldSaveRenditions_whenImageIsRendered() throws IOException {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(METADATA);
+        when(this.imageService.getContentOrElseThrow(METADATA)).thenReturn(new ByteArrayResource(png(800, 600)));
+
+        // Act
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+
+        // Assert
+        verify(this.imageService, timeout(TIMEOUT.toMillis())).saveRenditions(eq(1L),
+                argThat(renditions -> !renditions.isEmpty()));
+        await().atMost(TIMEOUT).until(() -> this.count("rokamoka.images.rendition.rendered") == 1);
+    }
+
+    @Test
+    void onImageUploaded_shouldSaveImageWithoutRenditions_whenImageCannotBeDecoded() {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(METADATA);
+        when(this.imageService.getContentOrElseThrow(METADATA)).thenReturn(new ByteArrayResource(NOT_AN_IMAGE));
+
+        // Act
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+
+        // Assert
+        verify(this.imageService, timeout(TIMEOUT.toMillis())).saveRenditions(1L, List.of());
+        await().atMost(TIMEOUT).until(() -> this.count("rokamoka.images.rendition.failed") == 1);
+    }
+
+    @Test
+    void onImageUploaded_shouldLeaveImageToSweep_whenContentCannotBeRead() {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(METADATA);
+        when(this.imageService.getContentOrElseThrow(METADATA)).thenReturn(new ByteArrayResource(new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("Conexão encerrada");
+            }
+        });
+
+        // Act
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+
+        // Assert
+        await().atMost(TIMEOUT).until(() -> this.renderings() == 1);
+        verify(this.imageService, never()).saveRenditions(any(), anyList());
+        assertEquals(0, this.count("rokamoka.images.rendition.failed"));
+    }
+
+    @Test
+    void onImageUploaded_shouldLeaveImageToSweep_whenDatabaseIsUnavailable() {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenThrow(new IllegalStateException("Banco indisponível"));
+
+        // Act
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+        await().atMost(TIMEOUT).until(() -> this.renderings() == 1);
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+
+        // Assert
+        await().atMost(TIMEOUT).until(() -> this.renderings() == 2);
+        verify(this.imageService, never()).saveRenditions(any(), anyList());
+    }
+
+    @Test
+    void onImageUploaded_shouldRequeueImage_whenMarkingItWithoutRenditionsAlsoFails() {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(METADATA);
+        when(this.imageService.getContentOrElseThrow(METADATA)).thenReturn(new ByteArrayResource(NOT_AN_IMAGE));
+        doThrow(new RokaMokaContentNotFoundException()).when(this.imageService).saveRenditions(any(), anyList());
+
+        // Act
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+        await().atMost(TIMEOUT).until(() -> this.renderings() == 1);
+        this.worker.onImageUploaded(new ImageUploadedEvent(1L));
+
+        // Assert
+        await().atMost(TIMEOUT).until(() -> this.renderings() == 2);
+        verify(this.imageService, times(2)).saveRenditions(1L, List.of());
+    }
+    //endregion
+}
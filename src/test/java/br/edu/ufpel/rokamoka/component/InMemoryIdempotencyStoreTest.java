@@ -0,0 +1,172 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.Entry;
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.StoredResponse;
+import br.edu.ufpel.rokamoka.config.IdempotencyConfigProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link InMemoryIdempotencyStore}: the states a key goes through, their expiration and the bound on the
+ * number of keys.
+ *
+ * @see InMemoryIdempotencyStore
+ */
+class InMemoryIdempotencyStoreTest {
+
+    private static final String USERNAME = "usuario";
+    private static final String KEY = "chave";
+    private static final String FINGERPRINT = "POST /mokadex/collect abc";
+    private static final StoredResponse RESPONSE = new StoredResponse(201, "application/json", new byte[] {1, 2});
+
+    private IdempotencyConfigProperties properties;
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new IdempotencyConfigProperties();
+        this.store = new InMemoryIdempotencyStore(this.properties);
+    }
+
+    //region reserve
+    @Test
+    void reserve_shouldTakeKey_whenKeyIsFree() {
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void reserve_shouldReturnHeldEntry_whenKeyIsBeingProcessed() {
+        // Arrange
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, "PUT /outra def");
+
+        // Assert
+        assertEquals(Optional.of(new Entry(FINGERPRINT, null)), result);
+        assertFalse(result.get().isCompleted());
+    }
+
+    @Test
+    void reserve_shouldTakeKeyOfEachUserSeparately_whenUsersSendSameKey() {
+        // Arrange
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Act
+        var result = this.store.reserve("outro", KEY, FINGERPRINT);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void reserve_shouldTakeKeyAgain_whenLockTimeoutHasPassed() throws InterruptedException {
+        // Arrange
+        this.properties.setLockTimeout(1);
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+        Thread.sleep(10);
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void reserve_shouldDropLeastRecentlyUsedKey_whenMaxEntriesIsReached() {
+        // Arrange
+        this.properties.setMaxEntries(2);
+        this.store.reserve(USERNAME, "a", FINGERPRINT);
+        this.store.reserve(USERNAME, "b", FINGERPRINT);
+        this.store.reserve(USERNAME, "a", FINGERPRINT);
+
+        // Act
+        this.store.reserve(USERNAME, "c", FINGERPRINT);
+
+        // Assert
+        assertTrue(this.store.reserve(USERNAME, "a", FINGERPRINT).isPresent());
+        assertTrue(this.store.reserve(USERNAME, "b", FINGERPRINT).isEmpty());
+    }
+    //endregion
+
+    //region complete
+    @Test
+    void complete_shouldStoreResponse_whenKeyIsHeld() {
+        // Arrange
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Act
+        this.store.complete(USERNAME, KEY, RESPONSE);
+
+        // Assert
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+        assertTrue(result.isPresent());
+        assertTrue(result.get().isCompleted());
+        assertEquals(FINGERPRINT, result.get().fingerprint());
+        assertEquals(RESPONSE, result.get().response());
+    }
+
+    @Test
+    void complete_shouldKeepResponseForTtl_whenLockTimeoutIsShorter() throws InterruptedException {
+        // Arrange
+        this.properties.setLockTimeout(1);
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Act
+        this.store.complete(USERNAME, KEY, RESPONSE);
+        Thread.sleep(10);
+
+        // Assert
+        assertTrue(this.store.reserve(USERNAME, KEY, FINGERPRINT).isPresent());
+    }
+
+    @Test
+    void complete_shouldLetKeyBeTakenAgain_whenTtlHasPassed() throws InterruptedException {
+        // Arrange
+        this.properties.setTtl(1);
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+        this.store.complete(USERNAME, KEY, RESPONSE);
+        Thread.sleep(10);
+
+        // Act
+        var result = this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void complete_shouldIgnoreResponse_whenKeyIsNotHeld() {
+        // Act
+        this.store.complete(USERNAME, KEY, RESPONSE);
+
+        // Assert
+        assertTrue(this.store.reserve(USERNAME, KEY, FINGERPRINT).isEmpty());
+    }
+    //endregion
+
+    //region release
+    @Test
+    void release_shouldFreeKey_whenKeyIsHeld() {
+        // Arrange
+        this.store.reserve(USERNAME, KEY, FINGERPRINT);
+
+        // Act
+        this.store.release(USERNAME, KEY);
+
+        // Assert
+        assertTrue(this.store.reserve(USERNAME, KEY, FINGERPRINT).isEmpty());
+    }
+    //endregion
+}
@@ -0,0 +1,273 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.MokadexStreamConfigProperties;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link MokadexEventStream} connections: their bounded buffers, their closing on overflow and send failures,
+ * and their removal once the emitter completes or times out.
+ *
+ * @see MokadexEventStream
+ */
+class MokadexEventStreamTest {
+
+    private static final Long MOKADEX_ID = 1L;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private MokadexStreamConfigProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MokadexEventStream eventStream;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new MokadexStreamConfigProperties();
+        this.properties.setBufferSize(2);
+        this.properties.setMaxConnectionsPerMokadex(2);
+        this.properties.setSenderThreads(1);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.eventStream = new MokadexEventStream(this.properties, this.meterRegistry) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                var emitter = new RecordingEmitter();
+                MokadexEventStreamTest.this.emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.eventStream.shutdown();
+    }
+
+    private double openConnections() {
+        return this.meterRegistry.get("rokamoka.mokadex.stream.connections").gauge().value();
+    }
+
+    private double overflows() {
+        return this.meterRegistry.get("rokamoka.mokadex.stream.overflows").counter().count();
+    }
+
+    //region subscribe
+    @Test
+    void subscribe_shouldSendConnectedCommentAndPublishedEvents_whenConnectionIsOpen() {
+        // Arrange
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+        await().atMost(TIMEOUT).until(() -> emitter.sent.size() == 1);
+
+        // Act
+        this.eventStream.onStarCollected(new StarCollectedEvent(MOKADEX_ID, "teste", 10L));
+        this.eventStream.onEmblemAwarded(new EmblemAwardedEvent(MOKADEX_ID, 10L));
+        this.eventStream.onStarCollected(new StarCollectedEvent(2L, "outro", 10L));
+
+        // Assert
+        await().atMost(TIMEOUT).until(() -> emitter.sent.size() == 3);
+        assertTrue(emitter.text(0).contains(":conectado"));
+        assertTrue(emitter.text(1).contains("event:" + MokadexEventStream.STAR_COLLECTED));
+        assertTrue(emitter.text(2).contains("event:" + MokadexEventStream.EMBLEM_AWARDED));
+        assertEquals(1, this.openConnections());
+    }
+
+    @Test
+    void subscribe_shouldCloseOldestConnection_whenMokadexExceedsMaxConnections() {
+        // Arrange
+        var first = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+        this.eventStream.subscribe(MOKADEX_ID);
+
+        // Act
+        this.eventStream.subscribe(MOKADEX_ID);
+
+        // Assert
+        assertTrue(first.completed);
+        assertEquals(2, this.openConnections());
+    }
+    //endregion
+
+    //region offer
+    @Test
+    void offer_shouldCloseConnectionAndCountOverflow_whenBufferIsFull() throws InterruptedException {
+        // Arrange
+        var gate = new CountDownLatch(1);
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+        emitter.block(gate);
+        this.eventStream.onStarCollected(new StarCollectedEvent(MOKADEX_ID, "teste", 10L));
+        await().atMost(TIMEOUT).until(() -> emitter.blocked);
+
+        // Act
+        for (int i = 0; i < this.properties.getBufferSize() + 1; i++) {
+            this.eventStream.onStarCollected(new StarCollectedEvent(MOKADEX_ID, "teste", 10L));
+        }
+
+        // Assert
+        assertTrue(emitter.completed);
+        assertEquals(1, this.overflows());
+        assertEquals(0, this.openConnections());
+
+        gate.countDown();
+        TimeUnit.MILLISECONDS.sleep(50);
+        this.eventStream.onStarCollected(new StarCollectedEvent(MOKADEX_ID, "teste", 10L));
+        assertTrue(emitter.sent.size() <= 2);
+    }
+    //endregion
+
+    //region drain
+    @Test
+    void drain_shouldUnregisterConnectionWithoutCompletingIt_whenSendFails() {
+        // Arrange
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+        await().atMost(TIMEOUT).until(() -> emitter.sent.size() == 1);
+        emitter.failure = new IOException("Broken pipe");
+
+        // Act
+        this.eventStream.onStarCollected(new StarCollectedEvent(MOKADEX_ID, "teste", 10L));
+
+        // Assert
+        await().atMost(TIMEOUT).until(() -> this.openConnections() == 0);
+        assertFalse(emitter.completed);
+
+        emitter.failure = null;
+        this.eventStream.onStarCollected(new StarCollectedEvent(MOKADEX_ID, "teste", 10L));
+        this.eventStream.sendHeartbeats();
+        assertEquals(1, emitter.sent.size());
+    }
+    //endregion
+
+    //region callbacks
+    @Test
+    void onCompletion_shouldUnregisterConnection_whenEmitterCompletes() {
+        // Arrange
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+
+        // Act
+        emitter.completionCallback.run();
+
+        // Assert
+        assertEquals(0, this.openConnections());
+        assertFalse(emitter.completed);
+    }
+
+    @Test
+    void onTimeout_shouldCompleteAndUnregisterConnection_whenEmitterTimesOut() {
+        // Arrange
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+
+        // Act
+        emitter.timeoutCallback.run();
+
+        // Assert
+        assertEquals(0, this.openConnections());
+        assertTrue(emitter.completed);
+    }
+
+    @Test
+    void onError_shouldUnregisterConnection_whenEmitterFails() {
+        // Arrange
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+
+        // Act
+        emitter.errorCallback.accept(new IOException("Connection reset"));
+
+        // Assert
+        assertEquals(0, this.openConnections());
+    }
+    //endregion
+
+    //region sendHeartbeats
+    @Test
+    void sendHeartbeats_shouldSendHeartbeatComment_whenConnectionIsOpen() {
+        // Arrange
+        var emitter = (RecordingEmitter) this.eventStream.subscribe(MOKADEX_ID);
+
+        // Act
+        this.eventStream.sendHeartbeats();
+
+        // Assert
+        await().atMost(TIMEOUT).until(() -> emitter.sent.size() == 2);
+        assertTrue(emitter.text(1).contains(":heartbeat"));
+    }
+    //endregion
+
+    /**
+     * An emitter that records what is sent to it and the callbacks registered on it, instead of writing to a response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        private volatile Runnable completionCallback;
+        private volatile Runnable timeoutCallback;
+        private volatile Consumer<Throwable> errorCallback;
+        private volatile boolean completed;
+        private volatile IOException failure;
+        private volatile CountDownLatch gate;
+        private volatile boolean blocked;
+
+        private void block(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        private String text(int index) {
+            var builder = new StringBuilder();
+            this.sent.get(index).forEach(data -> builder.append(data.getData()));
+            return builder.toString();
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            var currentGate = this.gate;
+            if (currentGate != null && !this.sent.isEmpty()) {
+                this.blocked = true;
+                try {
+                    currentGate.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (this.failure != null) {
+                throw this.failure;
+            }
+            this.sent.add(items);
+        }
+
+        @Override
+        public void complete() {
+            this.completed = true;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            this.timeoutCallback = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            this.errorCallback = callback;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.dto.mokadex.MokadexStreamEventDTO;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link MokadexStreamEventConsumer}, with a mocked event stream and producer.
+ *
+ * @see MokadexStreamEventConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+class MokadexStreamEventConsumerTest {
+
+    @InjectMocks
+    private MokadexStreamEventConsumer consumer;
+
+    @Mock
+    private MokadexEventStream mokadexEventStream;
+    @Mock
+    private MokadexStreamEventProducer mokadexStreamEventProducer;
+
+    //region consumeEvent
+    @Test
+    void consumeEvent_shouldPushStar_whenEventComesFromAnotherInstance() {
+        // Arrange
+        var event = new MokadexStreamEventDTO("outra", MokadexEventStream.STAR_COLLECTED, 1L, "ana", 10L);
+        when(this.mokadexStreamEventProducer.isLocal(event)).thenReturn(false);
+
+        // Act
+        this.consumer.consumeEvent(event);
+
+        // Assert
+        verify(this.mokadexEventStream).onStarCollected(new StarCollectedEvent(1L, "ana", 10L));
+    }
+
+    @Test
+    void consumeEvent_shouldPushEmblem_whenEventComesFromAnotherInstance() {
+        // Arrange
+        var event = new MokadexStreamEventDTO("outra", MokadexEventStream.EMBLEM_AWARDED, 1L, null, 10L);
+        when(this.mokadexStreamEventProducer.isLocal(event)).thenReturn(false);
+
+        // Act
+        this.consumer.consumeEvent(event);
+
+        // Assert
+        verify(this.mokadexEventStream).onEmblemAwarded(new EmblemAwardedEvent(1L, 10L));
+    }
+
+    @Test
+    void consumeEvent_shouldIgnoreEvent_whenEventComesFromThisInstance() {
+        // Arrange
+        var event = new MokadexStreamEventDTO("esta", MokadexEventStream.STAR_COLLECTED, 1L, "ana", 10L);
+        when(this.mokadexStreamEventProducer.isLocal(event)).thenReturn(true);
+
+        // Act
+        this.consumer.consumeEvent(event);
+
+        // Assert
+        verifyNoInteractions(this.mokadexEventStream);
+    }
+    //endregion
+}
@@ -0,0 +1,84 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQExchangeConfigProperties;
+import br.edu.ufpel.rokamoka.dto.mokadex.MokadexStreamEventDTO;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the {@link MokadexStreamEventProducer}, with a mocked {@link RabbitTemplate}.
+ *
+ * @see MokadexStreamEventProducer
+ */
+@ExtendWith(MockitoExtension.class)
+class MokadexStreamEventProducerTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private MokadexStreamEventProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        var exchanges = new RabbitMQExchangeConfigProperties();
+        exchanges.setMokadex("mokadex.v1");
+        this.producer = new MokadexStreamEventProducer(this.rabbitTemplate, exchanges);
+    }
+
+    //region onStarCollected & onEmblemAwarded
+    @Test
+    void onStarCollected_shouldBroadcastLocalEvent_whenStarIsCollected() {
+        // Arrange
+        var captor = ArgumentCaptor.forClass(MokadexStreamEventDTO.class);
+
+        // Act
+        this.producer.onStarCollected(new StarCollectedEvent(1L, "ana", 10L));
+
+        // Assert
+        verify(this.rabbitTemplate).convertAndSend(eq("mokadex.v1"), eq(""), captor.capture());
+        var event = captor.getValue();
+        assertEquals(MokadexEventStream.STAR_COLLECTED, event.name());
+        assertEquals("ana", event.username());
+        assertTrue(this.producer.isLocal(event));
+    }
+
+    @Test
+    void onEmblemAwarded_shouldSwallowFailure_whenBrokerIsUnavailable() {
+        // Arrange
+        doThrow(new AmqpConnectException(new ConnectException("recusada")))
+                .when(this.rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> this.producer.onEmblemAwarded(new EmblemAwardedEvent(1L, 10L)));
+    }
+    //endregion
+
+    //region isLocal
+    @Test
+    void isLocal_shouldReturnFalse_whenEventComesFromAnotherInstance() {
+        // Act & Assert
+        assertFalse(this.producer.isLocal(
+                new MokadexStreamEventDTO("outra", MokadexEventStream.STAR_COLLECTED, 1L, "ana", 10L)));
+    }
+    //endregion
+}
@@ -0,0 +1,130 @@
+package br.edu.ufpel.rokamoka.component;
+
+import br.edu.ufpel.rokamoka.config.QrCodeSigningConfigProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link QrCodeSigner}, with signing disabled and enabled.
+ *
+ * @see QrCodeSigner
+ */
+class QrCodeSignerTest {
+
+    private static final String SECRET = "segredo-de-teste-rokamoka";
+
+    private static QrCodeSigner signer(String secret) {
+        var properties = new QrCodeSigningConfigProperties();
+        properties.setSecret(secret);
+        return new QrCodeSigner(properties);
+    }
+
+    //region constructor
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenSecretIsTooShort() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> signer("curto"));
+    }
+    //endregion
+
+    //region sign
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void sign_shouldReturnEmpty_whenSecretIsBlank(String secret) {
+        // Arrange
+        var signer = signer(secret);
+
+        // Act
+        var actual = signer.sign(1L, 10L);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void sign_shouldReturnEmpty_whenIdIsMissing() {
+        // Arrange
+        var signer = signer(SECRET);
+
+        // Act & Assert
+        assertTrue(signer.sign(null, 10L).isEmpty());
+        assertTrue(signer.sign(1L, null).isEmpty());
+    }
+
+    @Test
+    void sign_shouldIssueQrCodeResolvedByVerify_whenSecretIsSet() {
+        // Arrange
+        var signer = signer(SECRET);
+
+        // Act
+        var qrCode = signer.sign(1L, 10L).orElseThrow();
+        var actual = signer.verify(qrCode).orElseThrow();
+
+        // Assert
+        assertTrue(qrCode.startsWith("RK1."));
+        assertEquals(1L, actual.getId());
+        assertEquals(10L, actual.getExhibitionId());
+        assertEquals(qrCode, actual.getQrCode());
+    }
+    //endregion
+
+    //region verify
+    @Test
+    void verify_shouldReturnEmpty_whenSecretIsBlank() {
+        // Arrange
+        var qrCode = signer(SECRET).sign(1L, 10L).orElseThrow();
+
+        // Act
+        var actual = signer("").verify(qrCode);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"QR1", "RK2.1.10.AAAAAAAAAAA", "rk1.1.10.AAAAAAAAAAA", "RK1.1.10.AAAAAAAAAAA", "RK1."})
+    void verify_shouldReturnEmpty_whenQrCodeIsNotValidlySigned(String qrCode) {
+        // Arrange
+        var signer = signer(SECRET);
+
+        // Act
+        var actual = signer.verify(qrCode);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_whenQrCodeIsSignedWithAnotherSecret() {
+        // Arrange
+        var qrCode = signer("outro-segredo-de-teste-rokamoka").sign(1L, 10L).orElseThrow();
+
+        // Act
+        var actual = signer(SECRET).verify(qrCode);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_whenIdsOfSignedQrCodeAreChanged() {
+        // Arrange
+        var signer = signer(SECRET);
+        var qrCode = signer.sign(1L, 10L).orElseThrow();
+
+        // Act
+        var actual = signer.verify(qrCode.replace("RK1.1.", "RK1.2."));
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+    //endregion
+}
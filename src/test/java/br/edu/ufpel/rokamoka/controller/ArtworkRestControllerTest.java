@@ -1,25 +1,43 @@
 package br.edu.ufpel.rokamoka.controller;
 
+import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
+import br.edu.ufpel.rokamoka.context.ServiceContext;
 import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkMetadataOutputDTO;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
 import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
 import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +58,8 @@ class ArtworkRestControllerTest implements ControllerResponseValidator {
     private IArtworkService artworkService;
     @Mock
     private ArtworkRepository artworkRepository;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     private ArtworkInputDTO input;
     private Artwork artwork;
@@ -89,17 +109,77 @@ class ArtworkRestControllerTest implements ControllerResponseValidator {
         this.assertListResponse(response, dtoList);
     }
 
+    @Test
+    void streamAllByExhibitionId_shouldWriteSameJsonAsListResponse_whenCalled() throws Exception {
+        // Arrange
+        var dtoList = Instancio.ofList(ArtworkOutputDTO.class).size(3).create();
+        doAnswer(invocation -> {
+            Consumer<ArtworkOutputDTO> action = invocation.getArgument(1);
+            dtoList.forEach(action);
+            return null;
+        }).when(this.artworkService).forEachByExhibitionId(eq(1L), any());
+
+        // Act
+        var response = this.artworkController.streamAllByExhibitionId(1L);
+        var output = new ByteArrayOutputStream();
+        Objects.requireNonNull(response.getBody()).writeTo(output);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        var expected = new ApiResponseWrapper<>(ServiceContext.getContext(), dtoList);
+        assertEquals(this.objectMapper.writeValueAsString(expected), output.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(this.artworkRepository);
+    }
+
+    @Test
+    void streamAllByExhibitionId_shouldLeaveBodyTruncated_whenReadingFailsHalfway() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<ArtworkOutputDTO> action = invocation.getArgument(1);
+            action.accept(this.expected);
+            throw new IllegalStateException("Conexão perdida");
+        }).when(this.artworkService).forEachByExhibitionId(eq(1L), any());
+
+        // Act
+        var response = this.artworkController.streamAllByExhibitionId(1L);
+        var output = new ByteArrayOutputStream();
+        assertThrows(IllegalStateException.class, () -> Objects.requireNonNull(response.getBody()).writeTo(output));
+
+        // Assert
+        assertThrows(JsonProcessingException.class, () -> this.objectMapper.readTree(output.toByteArray()));
+    }
+
+    @Test
+    void getAllMetadataByExhibitionId_shouldReturnArtworkMetadataOutputDTOList_whenCalled() {
+        // Arrange
+        var dtoList = Instancio.ofList(ArtworkMetadataOutputDTO.class).size(2).create();
+        when(this.artworkRepository.findAllMetadataByExhibitionId(1L)).thenReturn(dtoList);
+
+        // Act
+        var response = this.artworkController.getAllMetadataByExhibitionId(1L);
+
+        // Assert
+        verify(this.artworkRepository).findAllMetadataByExhibitionId(1L);
+        verifyNoMoreInteractions(this.artworkRepository);
+        verifyNoInteractions(this.artworkService);
+
+        this.assertListResponse(response, dtoList);
+    }
+
     @Test
     void getArtworkByQrCode_shouldReturnArtworkOutputDTO_whenArtworkExistsByQrCode() {
         // Arrange
-        when(this.artworkService.getByQrCodeOrThrow(anyString())).thenReturn(this.artwork);
+        var summary = mock(ArtworkQrCodeDTO.class);
+
+        when(summary.getId()).thenReturn(1L);
+        when(this.artworkService.getQrCodeSummaryOrThrow(anyString())).thenReturn(summary);
         when(this.artworkRepository.createFullArtworkInfo(anyLong())).thenReturn(this.expected);
 
         // Act
         var response = this.artworkController.getArtworkByQrCode("");
 
         // Assert
-        verify(this.artworkService).getByQrCodeOrThrow(anyString());
+        verify(this.artworkService).getQrCodeSummaryOrThrow(anyString());
         verify(this.artworkRepository).createFullArtworkInfo(anyLong());
         verifyNoMoreInteractions(this.artworkService, this.artworkRepository);
 
@@ -0,0 +1,162 @@
+package br.edu.ufpel.rokamoka.controller;
+
+import br.edu.ufpel.rokamoka.core.Artwork;
+import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.input.UploadInputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.output.UploadOutputDTO;
+import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
+import br.edu.ufpel.rokamoka.service.upload.IUploadService;
+import org.apache.coyote.BadRequestException;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link ArtworkUploadRestController} class, which is responsible for the resumable upload
+ * endpoints.
+ *
+ * @see IUploadService
+ * @see IArtworkService
+ */
+@ExtendWith(MockitoExtension.class)
+class ArtworkUploadRestControllerTest implements ControllerResponseValidator {
+
+    private static final String UPLOAD_ID = "upload";
+
+    @InjectMocks
+    private ArtworkUploadRestController artworkUploadController;
+
+    @Mock
+    private IUploadService uploadService;
+    @Mock
+    private IArtworkService artworkService;
+    @Mock
+    private ArtworkRepository artworkRepository;
+
+    private ArtworkInputDTO input;
+    private Artwork artwork;
+    private ArtworkOutputDTO expected;
+    private MockMultipartFile image;
+
+    @BeforeEach
+    void setUp() {
+        this.input = Instancio.create(ArtworkInputDTO.class);
+        this.artwork = Instancio.create(Artwork.class);
+        this.expected = new ArtworkOutputDTO(this.artwork);
+        this.image = new MockMultipartFile("image", "obra.jpg", "image/jpeg", new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void start_shouldReturnUploadOutputDTO_whenCalled() throws Exception {
+        // Arrange
+        var uploadInput = new UploadInputDTO("obra.jpg", "image/jpeg", 10L);
+        var status = new UploadOutputDTO(UPLOAD_ID, 10, 0, 0, 4, false);
+        when(this.uploadService.start(uploadInput)).thenReturn(status);
+
+        // Act
+        var response = this.artworkUploadController.start(uploadInput);
+
+        // Assert
+        verify(this.uploadService).start(uploadInput);
+        verifyNoMoreInteractions(this.uploadService);
+        verifyNoInteractions(this.artworkService, this.artworkRepository);
+
+        this.assertExpectedResponse(response, status);
+    }
+
+    @Test
+    void appendChunk_shouldReturnUploadOutputDTO_whenChunkIsReceived() throws Exception {
+        // Arrange
+        var content = new ByteArrayInputStream(new byte[]{1, 2, 3, 4});
+        var status = new UploadOutputDTO(UPLOAD_ID, 10, 4, 1, 4, false);
+        when(this.uploadService.appendChunk(UPLOAD_ID, 0, content)).thenReturn(status);
+
+        // Act
+        var response = this.artworkUploadController.appendChunk(UPLOAD_ID, 0, content);
+
+        // Assert
+        verify(this.uploadService).appendChunk(UPLOAD_ID, 0, content);
+        verifyNoMoreInteractions(this.uploadService);
+
+        this.assertExpectedResponse(response, status);
+    }
+
+    @Test
+    void commitRegister_shouldCreateArtworkWithAssembledImageAndDiscardUpload_whenUploadIsComplete()
+    throws Exception {
+        // Arrange
+        when(this.uploadService.getCompletedFile(UPLOAD_ID)).thenReturn(this.image);
+        when(this.artworkService.create(1L, this.input.withImage(this.image))).thenReturn(this.artwork);
+        when(this.artworkRepository.createFullArtworkInfo(anyLong())).thenReturn(this.expected);
+
+        // Act
+        var response = this.artworkUploadController.commitRegister(UPLOAD_ID, 1L, this.input);
+
+        // Assert
+        verify(this.uploadService).getCompletedFile(UPLOAD_ID);
+        verify(this.artworkService).create(1L, this.input.withImage(this.image));
+        verify(this.uploadService).discard(UPLOAD_ID);
+        verify(this.artworkRepository).createFullArtworkInfo(this.artwork.getId());
+        verifyNoMoreInteractions(this.uploadService, this.artworkService, this.artworkRepository);
+
+        this.assertExpectedResponse(response, this.expected);
+    }
+
+    @Test
+    void commitRegister_shouldNotCreateArtwork_whenUploadIsIncomplete() throws Exception {
+        // Arrange
+        when(this.uploadService.getCompletedFile(UPLOAD_ID)).thenThrow(new BadRequestException("Upload incompleto"));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class,
+                () -> this.artworkUploadController.commitRegister(UPLOAD_ID, 1L, this.input));
+
+        verifyNoInteractions(this.artworkService, this.artworkRepository);
+    }
+
+    @Test
+    void commitPatch_shouldUpdateArtworkWithAssembledImageAndDiscardUpload_whenUploadIsComplete() throws Exception {
+        // Arrange
+        when(this.uploadService.getCompletedFile(UPLOAD_ID)).thenReturn(this.image);
+        when(this.artworkService.update(any(ArtworkInputDTO.class))).thenReturn(this.artwork);
+        when(this.artworkRepository.createFullArtworkInfo(anyLong())).thenReturn(this.expected);
+
+        // Act
+        var response = this.artworkUploadController.commitPatch(UPLOAD_ID, this.input);
+
+        // Assert
+        verify(this.artworkService).update(this.input.withImage(this.image));
+        verify(this.uploadService).discard(UPLOAD_ID);
+
+        this.assertExpectedResponse(response, this.expected);
+    }
+
+    @Test
+    void discard_shouldReturnVoidResponse_whenUploadIsDiscarded() throws Exception {
+        // Act
+        var response = this.artworkUploadController.discard(UPLOAD_ID);
+
+        // Assert
+        verify(this.uploadService).discard(UPLOAD_ID);
+        verifyNoMoreInteractions(this.uploadService);
+
+        this.assertVoidResponse(response);
+    }
+}
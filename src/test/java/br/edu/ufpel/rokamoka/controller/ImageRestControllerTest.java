@@ -0,0 +1,134 @@
+package br.edu.ufpel.rokamoka.controller;
+
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import br.edu.ufpel.rokamoka.service.image.IIMageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link ImageRestController} class, which is responsible for serving image content.
+ *
+ * @see IIMageService
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageRestControllerTest {
+
+    private static final String HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @InjectMocks
+    private ImageRestController imageController;
+
+    @Mock
+    private IIMageService imageService;
+
+    //region download
+    @Test
+    void download_shouldReturnContentWithHashETag_whenClientDoesNotHoldImage() throws Exception {
+        // Arrange
+        var content = new byte[] {1, 2, 3};
+
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(new ImageMetadataDTO(1L, 3L, "image/png", HASH, true));
+        when(this.imageService.getContentOrElseThrow(any(ImageMetadataDTO.class)))
+                .thenReturn(new ByteArrayResource(content));
+
+        // Act
+        var response = this.imageController.download(1L, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals('"' + HASH + '"', response.getHeaders().getETag());
+        assertEquals(MediaType.IMAGE_PNG, response.getHeaders().getContentType());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+        assertTrue(response.getHeaders().getCacheControl().contains("private"));
+        assertNotNull(response.getBody());
+        assertArrayEquals(content, response.getBody().getContentAsByteArray());
+    }
+
+    @Test
+    void download_shouldReturnNotModifiedWithoutReadingContent_whenIfNoneMatchMatchesHash() {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(new ImageMetadataDTO(1L, 3L, "image/png", HASH, true));
+
+        // Act
+        var response = this.imageController.download(1L, '"' + HASH + '"');
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals('"' + HASH + '"', response.getHeaders().getETag());
+        assertNull(response.getBody());
+
+        verify(this.imageService, never()).getContentOrElseThrow(any(ImageMetadataDTO.class));
+    }
+
+    @Test
+    void download_shouldReturnOctetStream_whenContentTypeIsUnknown() {
+        // Arrange
+        when(this.imageService.getMetadataOrElseThrow(1L)).thenReturn(new ImageMetadataDTO(1L, 3L, null, HASH, true));
+        when(this.imageService.getContentOrElseThrow(any(ImageMetadataDTO.class)))
+                .thenReturn(new ByteArrayResource(new byte[] {1, 2, 3}));
+
+        // Act
+        var response = this.imageController.download(1L, "\"other\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void download_shouldHandFileOverToConnector_whenConnectorSupportsSendfile(@TempDir Path directory)
+    throws Exception {
+        // Arrange
+        var file = Files.write(directory.resolve(HASH), new byte[] {1, 2, 3});
+        var request = new MockHttpServletRequest("GET", "/image/1");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        when(this.imageService.getMetadataOrElseThrow(1L))
+                .thenReturn(new ImageMetadataDTO(1L, 3L, "image/png", HASH, false));
+        when(this.imageService.getContentOrElseThrow(any(ImageMetadataDTO.class)))
+                .thenReturn(new FileSystemResource(file));
+
+        try {
+            // Act
+            var response = this.imageController.download(1L, null);
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(3L, response.getHeaders().getContentLength());
+            assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+            assertNull(response.getBody());
+            assertEquals(file.toFile().getAbsolutePath(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+            assertEquals(0L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+            assertEquals(3L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+    //endregion
+}
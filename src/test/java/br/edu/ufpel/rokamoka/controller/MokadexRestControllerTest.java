@@ -1,10 +1,15 @@
 package br.edu.ufpel.rokamoka.controller;
 
-import br.edu.ufpel.rokamoka.core.Artwork;
-import br.edu.ufpel.rokamoka.core.Mokadex;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.CollectStarsInputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.CollectStarResultDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexOutputDTO;
 import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexSummaryDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
 import br.edu.ufpel.rokamoka.service.mokadex.MokadexService;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.Test;
@@ -12,14 +17,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,56 +49,91 @@ class MokadexRestControllerTest implements ControllerResponseValidator {
 
     @Mock
     private MokadexService mokadexService;
+    @Mock
+    private IArtworkService artworkService;
 
     //region collectStar
     @Test
     void collectStar_shouldReturnMokadexOutput_whenSuccessful() {
         // Arrange
         var expectedOutput = Instancio.create(MokadexOutputDTO.class);
+        var artwork = mock(ArtworkQrCodeDTO.class);
 
-        when(this.mokadexService.collectStar(anyString())).thenReturn(mock(Mokadex.class));
-        when(this.mokadexService.getMokadexOutputDTOByMokadex(any(Mokadex.class))).thenReturn(expectedOutput);
+        when(this.artworkService.resolveQrCodeOrThrow("qrCode")).thenReturn(artwork);
+        when(this.mokadexService.collectStar(artwork)).thenReturn(1L);
+        when(this.mokadexService.readMokadexOutputDTOByMokadexId(1L)).thenReturn(expectedOutput);
 
         // Act
         var response = this.mokadexController.collectStar("qrCode");
 
         // Assert
-        verify(this.mokadexService, times(1)).collectStar(anyString());
-        verify(this.mokadexService, times(1)).getMokadexOutputDTOByMokadex(any(Mokadex.class));
+        verify(this.artworkService, times(1)).resolveQrCodeOrThrow("qrCode");
+        verify(this.mokadexService, times(1)).collectStar(artwork);
+        verify(this.mokadexService, times(1)).readMokadexOutputDTOByMokadexId(1L);
 
         this.assertExpectedResponse(response, expectedOutput);
     }
+
+    @Test
+    void collectStar_shouldNotCallMokadexService_whenQrCodeIsRejected() {
+        // Arrange
+        when(this.artworkService.resolveQrCodeOrThrow(anyString())).thenThrow(RokaMokaContentNotFoundException.class);
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class, () -> this.mokadexController.collectStar("qrCode"));
+
+        verify(this.mokadexService, never()).collectStar(any());
+    }
+    //endregion
+
+    //region collectStars
+    @Test
+    void collectStars_shouldReturnResultOfEachScan_whenSuccessful() {
+        // Arrange
+        var input = Instancio.create(CollectStarsInputDTO.class);
+        var expectedOutput = Instancio.ofList(CollectStarResultDTO.class).create();
+
+        when(this.mokadexService.collectStars(input)).thenReturn(expectedOutput);
+
+        // Act
+        var response = this.mokadexController.collectStars(input);
+
+        // Assert
+        verify(this.mokadexService, times(1)).collectStars(input);
+
+        this.assertListResponse(response, expectedOutput);
+    }
     //endregion
 
     //region findMissingStarsByExhibition
     @Test
-    void findMissingStarsByExhibition_shouldReturnSetOfArtwork_whenExistMissingStarsToBeCollected() {
+    void findMissingStarsByExhibition_shouldReturnListOfArtwork_whenExistMissingStarsToBeCollected() {
         // Arrange
-        var artworks = Instancio.ofSet(Artwork.class).create();
+        var artworks = Instancio.ofList(ArtworkOutputDTO.class).create();
 
-        when(this.mokadexService.getMissingStarsByExhibition(anyLong())).thenReturn(artworks);
+        when(this.mokadexService.getMissingStarSummariesByExhibition(anyLong())).thenReturn(artworks);
 
         // Act
         var response = this.mokadexController.findMissingStarsByExhibition(1L);
 
         // Assert
-        verify(this.mokadexService, times(1)).getMissingStarsByExhibition(anyLong());
+        verify(this.mokadexService, times(1)).getMissingStarSummariesByExhibition(anyLong());
 
-        this.assertSetResponse(response);
+        this.assertListResponse(response, artworks);
     }
 
     @Test
-    void findMissingStarsByExhibition_shouldReturnEmptySet_whenAllStarsWereCollected() {
+    void findMissingStarsByExhibition_shouldReturnEmptyList_whenAllStarsWereCollected() {
         // Arrange
-        when(this.mokadexService.getMissingStarsByExhibition(anyLong())).thenReturn(Collections.emptySet());
+        when(this.mokadexService.getMissingStarSummariesByExhibition(anyLong())).thenReturn(Collections.emptyList());
 
         // Act
         var response = this.mokadexController.findMissingStarsByExhibition(1L);
 
         // Assert
-        verify(this.mokadexService, times(1)).getMissingStarsByExhibition(anyLong());
+        verify(this.mokadexService, times(1)).getMissingStarSummariesByExhibition(anyLong());
 
-        this.assertEmptySetResponse(response);
+        this.assertEmptyListResponse(response);
     }
     //endregion
 
@@ -100,7 +146,7 @@ class MokadexRestControllerTest implements ControllerResponseValidator {
         when(this.mokadexService.getSummary()).thenReturn(summary);
 
         // Act
-        var response = this.mokadexController.getSummary();
+        var response = this.mokadexController.getSummary(null);
 
         // Assert
         verify(this.mokadexService, times(1)).getSummary();
@@ -116,9 +162,72 @@ class MokadexRestControllerTest implements ControllerResponseValidator {
         when(this.mokadexService.getSummary()).thenThrow(RokaMokaNoUserInContextException.class);
 
         // Act & Assert
-        assertThrows(RokaMokaNoUserInContextException.class, () -> this.mokadexController.getSummary());
+        assertThrows(RokaMokaNoUserInContextException.class, () -> this.mokadexController.getSummary(null));
 
         verify(this.mokadexService, times(1)).getSummary();
     }
+
+    @Test
+    void getSummary_shouldReturnNotModifiedWithoutBuildingSummary_whenETagMatchesCurrentVersion()
+    throws RokaMokaNoUserInContextException {
+        // Arrange
+        var version = this.mockVersion();
+
+        when(this.mokadexService.getLoggedUserVersion()).thenReturn(Optional.of(version));
+
+        // Act
+        var response = this.mokadexController.getSummary("\"1.7\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("W/\"1.7\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+
+        verify(this.mokadexService, never()).getSummary();
+    }
+
+    @Test
+    void getSummary_shouldReturnSummaryTaggedWithCurrentVersion_whenETagDoesNotMatch()
+    throws RokaMokaNoUserInContextException {
+        // Arrange
+        var version = this.mockVersion();
+        var summary = mock(MokadexSummaryDTO.class);
+
+        when(this.mokadexService.getLoggedUserVersion()).thenReturn(Optional.of(version));
+        when(this.mokadexService.getSummary()).thenReturn(summary);
+
+        // Act
+        var response = this.mokadexController.getSummary("W/\"1.6\"");
+
+        // Assert
+        this.assertExpectedResponse(response, summary);
+        assertEquals("W/\"1.7\"", response.getHeaders().getETag());
+
+        verify(this.mokadexService).getSummary();
+    }
     //endregion
+
+    //region stream
+    @Test
+    void stream_shouldReturnEmitterOfLoggedUserMokadex_whenSuccessful() {
+        // Arrange
+        var emitter = new SseEmitter();
+
+        when(this.mokadexService.openEventStream()).thenReturn(emitter);
+
+        // Act
+        var result = this.mokadexController.stream();
+
+        // Assert
+        assertEquals(emitter, result);
+        verify(this.mokadexService).openEventStream();
+    }
+    //endregion
+
+    private MokadexVersionDTO mockVersion() {
+        var version = mock(MokadexVersionDTO.class);
+        when(version.getMokadexId()).thenReturn(1L);
+        when(version.getVersion()).thenReturn(7L);
+        return version;
+    }
 }
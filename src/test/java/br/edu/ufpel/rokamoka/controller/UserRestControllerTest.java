@@ -2,10 +2,12 @@ package br.edu.ufpel.rokamoka.controller;
 
 import br.edu.ufpel.rokamoka.context.ApiResponseWrapper;
 import br.edu.ufpel.rokamoka.dto.authentication.output.AuthOutputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserAnonymousRequestDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserInputDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserAnonymousResponseDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
 import br.edu.ufpel.rokamoka.service.user.UserService;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.Test;
@@ -13,10 +15,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,19 +84,44 @@ class UserRestControllerTest implements ControllerResponseValidator {
 
     //region getLoggedUserInformation
     @Test
-    void getLoggedUserInformation_shouldReturnLoggedUserInformation_whenSuccessful() {
+    void getLoggedUserInformation_shouldReturnLoggedUserInformation_whenSuccessful()
+    throws RokaMokaNoUserInContextException {
         // Arrange
         UserOutputDTO expectedOutput = Instancio.create(UserOutputDTO.class);
 
         when(this.userService.getLoggedUserInformation()).thenReturn(expectedOutput);
 
         // Act
-        ResponseEntity<ApiResponseWrapper<UserOutputDTO>> response = this.userRestController.getLoggedUserInformation();
+        ResponseEntity<ApiResponseWrapper<UserOutputDTO>> response =
+                this.userRestController.getLoggedUserInformation(null);
 
         // Assert
         this.assertExpectedResponse(response, expectedOutput);
 
         verify(this.userService).getLoggedUserInformation();
     }
+
+    @Test
+    void getLoggedUserInformation_shouldReturnNotModified_whenETagMatchesCurrentVersion()
+    throws RokaMokaNoUserInContextException {
+        // Arrange
+        LocalDateTime updatedDate = LocalDateTime.of(2025, 1, 1, 12, 0);
+        MokadexVersionDTO version = mock(MokadexVersionDTO.class);
+        when(version.getMokadexId()).thenReturn(1L);
+        when(version.getVersion()).thenReturn(7L);
+        when(version.getUserUpdatedDate()).thenReturn(updatedDate);
+
+        when(this.userService.getLoggedUserVersion()).thenReturn(Optional.of(version));
+
+        // Act
+        ResponseEntity<ApiResponseWrapper<UserOutputDTO>> response =
+                this.userRestController.getLoggedUserInformation("W/\"1.7." + updatedDate + "\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+
+        verify(this.userService, never()).getLoggedUserInformation();
+    }
     //endregion
 }
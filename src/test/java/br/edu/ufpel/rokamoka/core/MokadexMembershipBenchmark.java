@@ -0,0 +1,93 @@
+package br.edu.ufpel.rokamoka.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link Mokadex} collection kept in an entity {@code HashSet} (whose elements all share the same hash)
+ * against the ID-keyed collections of {@link Mokadex}, end to end: each operation loads the collection, collects one
+ * more artwork and checks whether another one is collected, as a collect request on a freshly loaded Mokadex does.
+ *
+ * <p>Not part of the test suite. To run it:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) br.edu.ufpel.rokamoka.core.MokadexMembershipBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MokadexMembershipBenchmark {
+
+    @Param({"50", "500", "5000"}) private int size;
+
+    private List<Artwork> loaded;
+    private Artwork[] probes;
+    private int next;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MokadexMembershipBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static Artwork artwork(long id) {
+        var artwork = new Artwork();
+        artwork.setId(id);
+        return artwork;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.loaded = new ArrayList<>();
+        for (long id = 1; id <= this.size; id++) {
+            this.loaded.add(artwork(id));
+        }
+
+        // Half hits, half misses, spread over the whole ID range
+        this.probes = new Artwork[1024];
+        for (int i = 0; i < this.probes.length; i++) {
+            long id = (i * 7919L) % (this.size * 2L) + 1;
+            this.probes[i] = artwork(id);
+        }
+    }
+
+    private Artwork nextProbe() {
+        return this.probes[this.next++ & (this.probes.length - 1)];
+    }
+
+    @Benchmark
+    public boolean entityHashSetLoadAddContains() {
+        Set<Artwork> artworks = new HashSet<>(this.loaded);
+        artworks.add(this.nextProbe());
+        return artworks.contains(this.nextProbe());
+    }
+
+    @Benchmark
+    public boolean mokadexLoadAddContains() {
+        var mokadex = new Mokadex();
+        mokadex.setArtworks(this.loaded);
+        mokadex.addArtwork(this.nextProbe());
+        return mokadex.containsArtwork(this.nextProbe());
+    }
+}
@@ -0,0 +1,149 @@
+package br.edu.ufpel.rokamoka.core;
+
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the ID-keyed collections of {@link Mokadex}, ensuring membership stays consistent when they are replaced or
+ * changed directly.
+ *
+ * @see Mokadex
+ */
+class MokadexTest {
+
+    private static Artwork artwork(Long id) {
+        var artwork = new Artwork();
+        artwork.setId(id);
+        return artwork;
+    }
+
+    //region containsArtwork
+    @Test
+    void containsArtwork_shouldReturnTrue_whenArtworkWithSameIdIsCollected() {
+        // Arrange
+        var mokadex = new Mokadex();
+        mokadex.setArtworks(Instancio.ofSet(Artwork.class).size(5).create());
+        var collected = mokadex.getArtworks().iterator().next();
+
+        // Act & Assert
+        assertTrue(mokadex.containsArtwork(artwork(collected.getId())));
+        assertFalse(mokadex.containsArtwork(artwork(-1L)));
+        assertFalse(mokadex.containsArtwork(null));
+    }
+
+    @Test
+    void containsArtwork_shouldReflectNewCollection_whenArtworksAreReplaced() {
+        // Arrange
+        var mokadex = new Mokadex();
+        mokadex.addArtwork(artwork(1L));
+
+        // Act
+        mokadex.setArtworks(new HashSet<>(Set.of(artwork(2L))));
+
+        // Assert
+        assertFalse(mokadex.containsArtwork(artwork(1L)));
+        assertTrue(mokadex.containsArtwork(artwork(2L)));
+    }
+
+    @Test
+    void containsArtwork_shouldReflectChanges_whenArtworkIsSwappedThroughGetterKeepingSize() {
+        // Arrange
+        var mokadex = new Mokadex();
+        var first = artwork(1L);
+        mokadex.addArtwork(first);
+        assertTrue(mokadex.containsArtwork(artwork(1L)));
+
+        // Act
+        mokadex.getArtworks().remove(first);
+        mokadex.getArtworks().add(artwork(2L));
+
+        // Assert
+        assertFalse(mokadex.containsArtwork(artwork(1L)));
+        assertTrue(mokadex.containsArtwork(artwork(2L)));
+    }
+
+    @Test
+    void containsEmblem_shouldReflectChanges_whenEmblemIsRemovedThroughIterator() {
+        // Arrange
+        var mokadex = new Mokadex();
+        var emblem = Instancio.create(Emblem.class);
+        mokadex.addEmblem(emblem);
+        assertTrue(mokadex.containsEmblem(emblem));
+
+        // Act
+        mokadex.getEmblems().removeIf(e -> true);
+        var other = Instancio.create(Emblem.class);
+        mokadex.getEmblems().add(other);
+
+        // Assert
+        assertFalse(mokadex.containsEmblem(emblem));
+        assertTrue(mokadex.containsEmblem(other));
+    }
+
+    //endregion
+
+    //region addArtwork
+    @Test
+    void addArtwork_shouldReturnFalse_whenArtworkWithSameIdIsAlreadyCollected() {
+        // Arrange
+        var mokadex = new Mokadex();
+
+        // Act & Assert
+        assertTrue(mokadex.addArtwork(artwork(1L)));
+        assertFalse(mokadex.addArtwork(artwork(1L)));
+        assertFalse(mokadex.addArtwork(null));
+        assertEquals(1, mokadex.getArtworks().size());
+    }
+
+    @Test
+    void addArtwork_shouldThrowIllegalArgumentException_whenArtworkIsNotPersisted() {
+        // Arrange
+        var mokadex = new Mokadex();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> mokadex.addArtwork(artwork(null)));
+        assertFalse(mokadex.containsArtwork(artwork(null)));
+    }
+    //endregion
+
+    //region setArtworks
+    @Test
+    void setArtworks_shouldKeepOneArtworkPerId_whenArtworksShareAnId() {
+        // Arrange
+        var mokadex = new Mokadex();
+
+        // Act
+        mokadex.setArtworks(List.of(artwork(1L), artwork(1L), artwork(2L)));
+
+        // Assert
+        assertEquals(2, mokadex.getArtworks().size());
+        assertTrue(mokadex.containsArtwork(artwork(1L)));
+    }
+    //endregion
+
+    //region addEmblem
+    @Test
+    void addEmblem_shouldIndexEmblem_whenEmblemIsAdded() {
+        // Arrange
+        var mokadex = new Mokadex();
+        var emblem = Instancio.create(Emblem.class);
+
+        // Act
+        boolean added = mokadex.addEmblem(emblem);
+
+        // Assert
+        assertTrue(added);
+        assertTrue(mokadex.containsEmblem(emblem));
+        assertFalse(mokadex.addEmblem(emblem));
+    }
+    //endregion
+}
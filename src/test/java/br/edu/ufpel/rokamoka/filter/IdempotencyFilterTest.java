@@ -0,0 +1,290 @@
+package br.edu.ufpel.rokamoka.filter;
+
+import br.edu.ufpel.rokamoka.component.InMemoryIdempotencyStore;
+import br.edu.ufpel.rokamoka.config.IdempotencyConfigProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockPart;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests the {@link IdempotencyFilter} against an {@link InMemoryIdempotencyStore}: the first request with a key is
+ * processed and its response replayed to the retries, unless they differ from it or the response was not stored.
+ *
+ * @see IdempotencyFilter
+ */
+class IdempotencyFilterTest {
+
+    private static final String URI = "/mokadex/collect";
+    private static final String KEY = "chave-1";
+    private static final String BODY = "{\"scans\":[{\"qrCode\":\"A\"}]}";
+    private static final String RESPONSE_BODY = "{\"body\":[{\"status\":\"COLLECTED\"}]}";
+
+    private IdempotencyConfigProperties properties;
+    private IdempotencyFilter filter;
+    private final List<byte[]> receivedBodies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new IdempotencyConfigProperties();
+        this.filter = new IdempotencyFilter(new InMemoryIdempotencyStore(this.properties), this.properties,
+                new ObjectMapper());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("usuario", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String uri, String key, String body) {
+        var request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        }
+        return request;
+    }
+
+    private static MockHttpServletRequest multipart(String key, String image) {
+        var request = new MockHttpServletRequest("POST", "/artwork/1");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=limite");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        request.addPart(new MockPart("nome", "Obra".getBytes(StandardCharsets.UTF_8)));
+        request.addPart(new MockPart("image", "obra.png", image.getBytes(StandardCharsets.UTF_8)));
+        return request;
+    }
+
+    private FilterChain respondWith(HttpStatus status) {
+        return (request, response) -> {
+            this.receivedBodies.add(request.getInputStream().readAllBytes());
+            ((HttpServletResponse) response).setStatus(status.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(RESPONSE_BODY);
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain)
+            throws ServletException, IOException {
+        var response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    //region doFilter
+    @Test
+    void doFilter_shouldPassRequestAlong_whenKeyIsMissing() throws ServletException, IOException {
+        // Act
+        this.perform(request(URI, null, BODY), this.respondWith(HttpStatus.OK));
+        var response = this.perform(request(URI, null, BODY), this.respondWith(HttpStatus.OK));
+
+        // Assert
+        assertEquals(2, this.receivedBodies.size());
+        assertNull(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void doFilter_shouldPassRequestAlong_whenUserIsAnonymous() throws ServletException, IOException {
+        // Arrange
+        SecurityContextHolder.clearContext();
+
+        // Act
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.OK));
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.OK));
+
+        // Assert
+        assertEquals(2, this.receivedBodies.size());
+    }
+
+    @Test
+    void doFilter_shouldReturnBadRequest_whenKeyIsBlank() throws ServletException, IOException {
+        // Act
+        var response = this.perform(request(URI, " ", BODY), this.respondWith(HttpStatus.OK));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatus());
+        assertEquals(0, this.receivedBodies.size());
+    }
+
+    @Test
+    void doFilter_shouldProcessRequestWithItsBody_whenKeyIsNew() throws ServletException, IOException {
+        // Act
+        var response = this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertEquals(RESPONSE_BODY, response.getContentAsString());
+        assertNull(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), this.receivedBodies.get(0));
+    }
+
+    @Test
+    void doFilter_shouldReplayStoredResponse_whenKeyIsRetriedWithSameRequest() throws ServletException, IOException {
+        // Arrange
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Act
+        var response = this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(1, this.receivedBodies.size());
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertEquals(RESPONSE_BODY, response.getContentAsString());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals("true", response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void doFilter_shouldReturnConflict_whenRetryArrivesWhileFirstRequestIsProcessed()
+            throws ServletException, IOException {
+        // Arrange
+        var retries = new ArrayList<MockHttpServletResponse>();
+        FilterChain retryingChain = (request, response) -> {
+            retries.add(this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED)));
+            this.respondWith(HttpStatus.CREATED).doFilter(request, response);
+        };
+
+        // Act
+        var response = this.perform(request(URI, KEY, BODY), retryingChain);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT.value(), retries.get(0).getStatus());
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertEquals(1, this.receivedBodies.size());
+    }
+
+    @Test
+    void doFilter_shouldReturnUnprocessableEntity_whenKeyIsReusedWithDifferentBody()
+            throws ServletException, IOException {
+        // Arrange
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Act
+        var response = this.perform(request(URI, KEY, "{\"scans\":[{\"qrCode\":\"B\"}]}"),
+                this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), response.getStatus());
+        assertEquals(1, this.receivedBodies.size());
+    }
+
+    @Test
+    void doFilter_shouldReturnUnprocessableEntity_whenKeyIsReusedForDifferentUri()
+            throws ServletException, IOException {
+        // Arrange
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Act
+        var response = this.perform(request("/mokadex/collect/star", KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), response.getStatus());
+        assertEquals(1, this.receivedBodies.size());
+    }
+
+    @Test
+    void doFilter_shouldProcessRetryAgain_whenResponseIsNotSuccessful() throws ServletException, IOException {
+        // Arrange
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.BAD_REQUEST));
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // Act
+        var response = this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(3, this.receivedBodies.size());
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertNull(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void doFilter_shouldProcessRetryAgain_whenStoredResponseHasExpired()
+            throws ServletException, IOException, InterruptedException {
+        // Arrange
+        this.properties.setTtl(1);
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+        Thread.sleep(10);
+
+        // Act
+        var response = this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(2, this.receivedBodies.size());
+        assertNull(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void doFilter_shouldReplayStoredResponse_whenMultipartRetrySendsSameParts() throws ServletException, IOException {
+        // Arrange
+        this.perform(multipart(KEY, "imagem"), this.respondWith(HttpStatus.CREATED));
+
+        // Act
+        var replayed = this.perform(multipart(KEY, "imagem"), this.respondWith(HttpStatus.CREATED));
+        var rejected = this.perform(multipart(KEY, "outra imagem"), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(1, this.receivedBodies.size());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), rejected.getStatus());
+    }
+
+    @Test
+    void doFilter_shouldProcessRequestAsIfItHadNoKey_whenBodyIsLargerThanMaxBodySize()
+            throws ServletException, IOException {
+        // Arrange
+        this.properties.setMaxBodySize(8);
+
+        // Act
+        this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+        var response = this.perform(request(URI, KEY, BODY), this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertEquals(2, this.receivedBodies.size());
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), this.receivedBodies.get(1));
+        assertNull(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void doFilter_shouldHandOverWholeBody_whenBodyOfUnknownLengthIsLargerThanMaxBodySize()
+            throws ServletException, IOException {
+        // Arrange
+        this.properties.setMaxBodySize(8);
+        var request = new MockHttpServletRequest("POST", URI) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, KEY);
+
+        // Act
+        this.perform(request, this.respondWith(HttpStatus.CREATED));
+
+        // Assert
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), this.receivedBodies.get(0));
+    }
+    //endregion
+}
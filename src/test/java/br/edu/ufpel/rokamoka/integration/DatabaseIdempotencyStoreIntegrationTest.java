@@ -0,0 +1,108 @@
+package br.edu.ufpel.rokamoka.integration;
+
+import br.edu.ufpel.rokamoka.component.IdempotencyStore;
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.Entry;
+import br.edu.ufpel.rokamoka.component.IdempotencyStore.StoredResponse;
+import br.edu.ufpel.rokamoka.core.IdempotencyRecordId;
+import br.edu.ufpel.rokamoka.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the {@code database} {@link IdempotencyStore} against PostgreSQL, where the statements of the
+ * {@link IdempotencyRecordRepository} decide which request takes a key.
+ */
+@TestPropertySource(properties = "idempotency.store=database")
+public class DatabaseIdempotencyStoreIntegrationTest extends BaseIT {
+
+    private static final String USERNAME = "usuario";
+    private static final String FINGERPRINT = "POST /mokadex/collect abc";
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private void expire(String key) {
+        var idempotencyRecord = this.idempotencyRecordRepository.findById(new IdempotencyRecordId(USERNAME, key))
+                .orElseThrow();
+        idempotencyRecord.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        this.idempotencyRecordRepository.save(idempotencyRecord);
+    }
+
+    @Test
+    void reserve_shouldTakeKeyOnce_whenKeyIsFree() {
+        String key = UUID.randomUUID().toString();
+
+        assertTrue(this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT).isEmpty());
+        assertEquals(Optional.of(new Entry(FINGERPRINT, null)),
+                this.idempotencyStore.reserve(USERNAME, key, "PUT /outra def"));
+        assertTrue(this.idempotencyStore.reserve("outro", key, FINGERPRINT).isEmpty());
+    }
+
+    @Test
+    void complete_shouldReplayStoredResponse_whenKeyIsReservedAgain() {
+        String key = UUID.randomUUID().toString();
+        byte[] body = {1, 2, 3};
+        this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT);
+
+        this.idempotencyStore.complete(USERNAME, key, new StoredResponse(201, "application/json", body));
+
+        var entry = this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT).orElseThrow();
+        assertTrue(entry.isCompleted());
+        assertEquals(201, entry.response().status());
+        assertEquals("application/json", entry.response().contentType());
+        assertArrayEquals(body, entry.response().body());
+    }
+
+    @Test
+    void reserve_shouldTakeKeyAgainWithoutStoredResponse_whenRecordHasExpired() {
+        String key = UUID.randomUUID().toString();
+        this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT);
+        this.idempotencyStore.complete(USERNAME, key, new StoredResponse(201, null, new byte[] {1}));
+        this.expire(key);
+
+        assertTrue(this.idempotencyStore.reserve(USERNAME, key, "PUT /outra def").isEmpty());
+        assertEquals(Optional.of(new Entry("PUT /outra def", null)),
+                this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT));
+    }
+
+    @Test
+    void release_shouldFreeKey_whenKeyIsHeld() {
+        String key = UUID.randomUUID().toString();
+        this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT);
+
+        this.idempotencyStore.release(USERNAME, key);
+
+        assertTrue(this.idempotencyStore.reserve(USERNAME, key, FINGERPRINT).isEmpty());
+    }
+
+    @Test
+    void deleteAllExpired_shouldRemoveOnlyExpiredRecords_whenCalled() {
+        String expired = UUID.randomUUID().toString();
+        String held = UUID.randomUUID().toString();
+        this.idempotencyStore.reserve(USERNAME, expired, FINGERPRINT);
+        this.idempotencyStore.reserve(USERNAME, held, FINGERPRINT);
+        this.expire(expired);
+
+        this.transactionTemplate.executeWithoutResult(
+                status -> this.idempotencyRecordRepository.deleteAllExpired(LocalDateTime.now()));
+
+        assertTrue(this.idempotencyRecordRepository.findById(new IdempotencyRecordId(USERNAME, expired)).isEmpty());
+        assertTrue(this.idempotencyRecordRepository.findById(new IdempotencyRecordId(USERNAME, held)).isPresent());
+    }
+}
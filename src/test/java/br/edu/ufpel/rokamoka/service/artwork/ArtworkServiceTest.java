@@ -1,14 +1,23 @@
 package br.edu.ufpel.rokamoka.service.artwork;
 
+import br.edu.ufpel.rokamoka.component.ArtworkQrCodeChangeProducer;
+import br.edu.ufpel.rokamoka.component.ArtworkQrCodeIndex;
+import br.edu.ufpel.rokamoka.component.ExhibitionArtworkIndex;
+import br.edu.ufpel.rokamoka.component.QrCodeSigner;
 import br.edu.ufpel.rokamoka.core.Artwork;
 import br.edu.ufpel.rokamoka.core.Exhibition;
 import br.edu.ufpel.rokamoka.core.Image;
 import br.edu.ufpel.rokamoka.dto.artwork.input.ArtworkInputDTO;
 import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.event.CollectionsRemovedEvent;
+import br.edu.ufpel.rokamoka.event.ImageUploadedEvent;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
+import br.edu.ufpel.rokamoka.repository.CollectionProgressRepository;
 import br.edu.ufpel.rokamoka.repository.EmblemRepository;
 import br.edu.ufpel.rokamoka.repository.ExhibitionRepository;
+import br.edu.ufpel.rokamoka.repository.MokadexRepository;
 import br.edu.ufpel.rokamoka.service.MockRepository;
 import br.edu.ufpel.rokamoka.service.MockUserSession;
 import br.edu.ufpel.rokamoka.service.image.IIMageService;
@@ -22,23 +31,30 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static org.instancio.Select.field;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -66,9 +82,23 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
     private ExhibitionRepository exhibitionRepository;
     @Mock
     private EmblemRepository emblemRepository;
+    @Mock
+    private CollectionProgressRepository collectionProgressRepository;
+    @Mock
+    private MokadexRepository mokadexRepository;
 
     @Mock
     private IIMageService imageService;
+    @Mock
+    private ExhibitionArtworkIndex exhibitionArtworkIndex;
+    @Mock
+    private ArtworkQrCodeIndex artworkQrCodeIndex;
+    @Mock
+    private ArtworkQrCodeChangeProducer artworkQrCodeChangeProducer;
+    @Mock
+    private QrCodeSigner qrCodeSigner;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private Artwork artwork;
 
@@ -139,35 +169,187 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
     }
     //endregion
 
-    //region getByQrCodeOrThrow
+    //region getQrCodeSummaryOrThrow
     @Test
-    void getByQrCodeOrThrow_shouldReturnArtwork_whenArtworkExistsByQrCode() {
+    void getQrCodeSummaryOrThrow_shouldReturnIndexedSummary_whenQrCodeIsIndexed() {
         // Arrange
-        when(this.artworkRepository.findByQrCode(anyString())).thenReturn(Optional.of(this.artwork));
+        var summary = mock(ArtworkQrCodeDTO.class);
+
+        when(this.artworkQrCodeIndex.find("QRCODE")).thenReturn(Optional.of(summary));
 
         // Act
-        Artwork actual = this.artworkService.getByQrCodeOrThrow("");
+        var actual = this.artworkService.getQrCodeSummaryOrThrow("QRCODE");
 
         // Assert
-        assertEquals(this.artwork, actual);
+        assertEquals(summary, actual);
+
+        verify(this.artworkQrCodeIndex).find("QRCODE");
+        verifyNoMoreInteractions(this.artworkQrCodeIndex);
+        verifyNoInteractions(this.artworkRepository, this.exhibitionRepository, this.imageService);
+    }
+
+    @Test
+    void getQrCodeSummaryOrThrow_shouldQueryAndIndexSummary_whenQrCodeIsNotIndexed() {
+        // Arrange
+        var summary = this.mockArtworkQrCode(1L, "QRCODE", 10L);
+
+        when(this.artworkQrCodeIndex.find("QRCODE")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.mightExist("QRCODE")).thenReturn(true);
+        when(this.artworkRepository.findAllQrCodeSummariesByQrCodeIn(List.of("QRCODE"))).thenReturn(List.of(summary));
 
-        verify(this.artworkRepository).findByQrCode(anyString());
+        // Act
+        var actual = this.artworkService.getQrCodeSummaryOrThrow("QRCODE");
+
+        // Assert
+        assertEquals(summary, actual);
+
+        verify(this.artworkRepository).findAllQrCodeSummariesByQrCodeIn(List.of("QRCODE"));
+        verify(this.artworkQrCodeIndex).put(1L, "QRCODE", 10L);
+        verifyNoInteractions(this.artworkQrCodeChangeProducer);
         verifyNoMoreInteractions(this.artworkRepository);
         verifyNoInteractions(this.exhibitionRepository, this.imageService);
     }
 
     @Test
-    void getByQrCodeOrThrow_shouldThrowRokaMokaContentNotFoundException_whenArtworkDoesNotExistByQrCode() {
+    void getQrCodeSummaryOrThrow_shouldThrowRokaMokaContentNotFoundException_whenArtworkDoesNotExistByQrCode() {
         // Arrange
-        when(this.artworkRepository.findByQrCode(anyString())).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.find("QRCODE")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.mightExist("QRCODE")).thenReturn(true);
+        when(this.artworkRepository.findAllQrCodeSummariesByQrCodeIn(List.of("QRCODE"))).thenReturn(List.of());
 
         // Act & Assert
-        assertThrows(RokaMokaContentNotFoundException.class, () -> this.artworkService.getByQrCodeOrThrow("qrCode"));
+        assertThrows(RokaMokaContentNotFoundException.class,
+                () -> this.artworkService.getQrCodeSummaryOrThrow("QRCODE"));
 
-        verify(this.artworkRepository).findByQrCode(anyString());
+        verify(this.artworkRepository).findAllQrCodeSummariesByQrCodeIn(List.of("QRCODE"));
         verifyNoMoreInteractions(this.artworkRepository);
+        verify(this.artworkQrCodeIndex, never()).put(any(), any(), any());
+        verify(this.artworkQrCodeIndex).recordFalsePositives(1);
         verifyNoInteractions(this.exhibitionRepository, this.imageService);
     }
+
+    @Test
+    void getQrCodeSummaryOrThrow_shouldNotQueryRepository_whenFilterRejectsQrCode() {
+        // Arrange
+        when(this.artworkQrCodeIndex.find("QRCODE")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.mightExist("QRCODE")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class,
+                () -> this.artworkService.getQrCodeSummaryOrThrow("QRCODE"));
+
+        verifyNoInteractions(this.artworkRepository);
+    }
+    //endregion
+
+    //region resolveQrCodeOrThrow
+    @Test
+    void resolveQrCodeOrThrow_shouldResolveFromSignature_whenQrCodeIsSigned() {
+        // Arrange
+        var signed = mock(ArtworkQrCodeDTO.class);
+        when(this.qrCodeSigner.verify("RK1.1.10.signature")).thenReturn(Optional.of(signed));
+
+        // Act
+        var actual = this.artworkService.resolveQrCodeOrThrow("RK1.1.10.signature");
+
+        // Assert
+        assertSame(signed, actual);
+        verify(this.qrCodeSigner).verify("RK1.1.10.signature");
+        verifyNoMoreInteractions(this.qrCodeSigner);
+        verifyNoInteractions(this.artworkQrCodeIndex, this.artworkRepository);
+    }
+
+    @Test
+    void resolveQrCodeOrThrow_shouldThrowRokaMokaContentNotFoundException_whenFilterRejectsQrCode() {
+        // Arrange
+        when(this.qrCodeSigner.verify("QRCODE")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.find("QRCODE")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.mightExist("QRCODE")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class, () -> this.artworkService.resolveQrCodeOrThrow("QRCODE"));
+
+        verifyNoInteractions(this.artworkRepository);
+    }
+
+    @Test
+    void resolveQrCodeOrThrow_shouldReturnIndexedSummary_whenQrCodeIsNotSigned() {
+        // Arrange
+        var indexed = mock(ArtworkQrCodeDTO.class);
+        when(this.qrCodeSigner.verify("QRCODE")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.find("QRCODE")).thenReturn(Optional.of(indexed));
+
+        // Act
+        var actual = this.artworkService.resolveQrCodeOrThrow("QRCODE");
+
+        // Assert
+        assertSame(indexed, actual);
+        verifyNoInteractions(this.artworkRepository);
+    }
+    //endregion
+
+    //region findAllByQrCodes
+    @Test
+    void findAllByQrCodes_shouldQueryOnlyMissingQrCodesNotRejectedByFilter_whenSomeAreIndexed() {
+        // Arrange
+        var indexed = mock(ArtworkQrCodeDTO.class);
+        var queried = this.mockArtworkQrCode(2L, "B", 10L);
+
+        when(this.artworkQrCodeIndex.find("A")).thenReturn(Optional.of(indexed));
+        when(this.artworkQrCodeIndex.find("B")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.find("C")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.find("D")).thenReturn(Optional.empty());
+        when(this.artworkQrCodeIndex.mightExist("B")).thenReturn(true);
+        when(this.artworkQrCodeIndex.mightExist("C")).thenReturn(true);
+        when(this.artworkQrCodeIndex.mightExist("D")).thenReturn(false);
+        when(this.artworkRepository.findAllQrCodeSummariesByQrCodeIn(Set.of("B", "C"))).thenReturn(List.of(queried));
+
+        // Act
+        var actual = this.artworkService.findAllByQrCodes(List.of("A", "B", "C", "D"));
+
+        // Assert
+        assertEquals(List.of(indexed, queried), actual);
+
+        verify(this.artworkRepository).findAllQrCodeSummariesByQrCodeIn(Set.of("B", "C"));
+        verify(this.artworkQrCodeIndex).put(2L, "B", 10L);
+        verify(this.artworkQrCodeIndex).recordFalsePositives(1);
+        verifyNoMoreInteractions(this.artworkRepository);
+    }
+
+    @Test
+    void findAllByQrCodes_shouldNotQueryRepository_whenAllQrCodesAreIndexed() {
+        // Arrange
+        var summary = mock(ArtworkQrCodeDTO.class);
+
+        when(this.artworkQrCodeIndex.find(anyString())).thenReturn(Optional.of(summary));
+
+        // Act
+        var actual = this.artworkService.findAllByQrCodes(List.of("A", "B"));
+
+        // Assert
+        assertEquals(List.of(summary, summary), actual);
+
+        verifyNoInteractions(this.artworkRepository);
+    }
+
+    @Test
+    void findAllByQrCodes_shouldNotQueryRepository_whenNoQrCodeIsGiven() {
+        // Act
+        var actual = this.artworkService.findAllByQrCodes(List.of());
+
+        // Assert
+        assertTrue(actual.isEmpty());
+
+        verifyNoInteractions(this.artworkRepository, this.artworkQrCodeIndex);
+    }
+
+    private ArtworkQrCodeDTO mockArtworkQrCode(Long id, String qrCode, Long exhibitionId) {
+        var summary = mock(ArtworkQrCodeDTO.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getQrCode()).thenReturn(qrCode);
+        when(summary.getExhibitionId()).thenReturn(exhibitionId);
+        return summary;
+    }
     //endregion
 
     //region getAllArtworkByExhibitionId
@@ -188,6 +370,28 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
     }
     //endregion
 
+    //region forEachByExhibitionId
+    @Test
+    void forEachByExhibitionId_shouldHandEachSummaryInOrderAndCloseStream_whenCalled() {
+        // Arrange
+        var summaries = Instancio.ofList(ArtworkOutputDTO.class).size(3).create();
+        var closed = new AtomicBoolean();
+        when(this.artworkRepository.streamAllByExhibitionId(1L))
+                .thenReturn(summaries.stream().onClose(() -> closed.set(true)));
+
+        // Act
+        var actual = new ArrayList<ArtworkOutputDTO>();
+        this.artworkService.forEachByExhibitionId(1L, actual::add);
+
+        // Assert
+        assertEquals(summaries, actual);
+        assertTrue(closed.get());
+
+        verify(this.artworkRepository).streamAllByExhibitionId(1L);
+        verifyNoMoreInteractions(this.artworkRepository);
+    }
+    //endregion
+
     //region addArtworksToExhibition
     @ParameterizedTest
     @MethodSource("provideInputAddArtworksToExhibition")
@@ -203,6 +407,12 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
         assertEquals(artworks.size(), actual.size());
 
         verify(this.artworkRepository).saveAll(anyList());
+        if (exhibition != null && !artworks.isEmpty()) {
+            verify(this.exhibitionRepository).incrementArtworkTotal(exhibition.getId(), artworks.size());
+            verify(this.mokadexRepository).incrementVersionByExhibitionId(exhibition.getId());
+            verify(this.exhibitionArtworkIndex).evict(exhibition.getId());
+        }
+        verifyNoMoreInteractions(this.exhibitionRepository);
     }
     //endregion
 
@@ -221,7 +431,15 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
         assertEquals(artworks.size(), actual.size());
 
         verify(this.artworkRepository).findByExhibition_Id(anyLong());
+        verify(this.collectionProgressRepository).deleteAllByExhibitionId(1L);
         verify(this.artworkRepository).deleteAllById(anyList());
+        if (!artworks.isEmpty()) {
+            verify(this.mokadexRepository).incrementVersionByArtworkIds(artworks.stream().map(Artwork::getId).toList());
+            verify(this.exhibitionRepository).incrementArtworkTotal(1L, -artworks.size());
+            verify(this.exhibitionArtworkIndex).evict(1L);
+            verify(this.eventPublisher).publishEvent(new CollectionsRemovedEvent(1L));
+        }
+        verifyNoMoreInteractions(this.exhibitionRepository, this.collectionProgressRepository, this.mokadexRepository);
     }
     //endregion
 
@@ -231,9 +449,10 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
         // Arrange
         Exhibition exhibition = Instancio.create(Exhibition.class);
         ArtworkInputDTO input = Instancio.create(ArtworkInputDTO.class);
+        Set<Image> images = Instancio.ofSet(Image.class).create();
 
         when(this.exhibitionRepository.findById(anyLong())).thenReturn(Optional.of(exhibition));
-        when(this.imageService.upload(input.image())).thenReturn(Instancio.ofSet(Image.class).create());
+        when(this.imageService.upload(input.image())).thenReturn(images);
         when(this.artworkRepository.save(any(Artwork.class))).thenAnswer(inv -> this.mockRepositorySave(inv.getArgument(
                 0)));
 
@@ -252,9 +471,39 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
 
         verify(this.exhibitionRepository).findById(anyLong());
         verify(this.artworkRepository).save(any(Artwork.class));
+        verify(this.exhibitionRepository).incrementArtworkTotal(exhibition.getId(), 1);
+        verify(this.mokadexRepository).incrementVersionByExhibitionId(exhibition.getId());
+        verify(this.exhibitionArtworkIndex).evict(exhibition.getId());
+        verify(this.artworkQrCodeIndex).put(actual.getId(), input.qrCode(), exhibition.getId());
+        verify(this.artworkQrCodeChangeProducer).publishChange(actual.getId(), input.qrCode(), exhibition.getId());
+        images.forEach(image -> verify(this.eventPublisher).publishEvent(new ImageUploadedEvent(image.getId())));
         verifyNoMoreInteractions(this.exhibitionRepository, this.artworkRepository);
     }
 
+    @Test
+    void create_shouldIssueSignedQrCode_whenInputHasNoQrCode() {
+        // Arrange
+        Exhibition exhibition = Instancio.create(Exhibition.class);
+        ArtworkInputDTO input = Instancio.of(ArtworkInputDTO.class).ignore(field(ArtworkInputDTO::qrCode)).create();
+
+        when(this.exhibitionRepository.findById(anyLong())).thenReturn(Optional.of(exhibition));
+        when(this.artworkRepository.save(any(Artwork.class))).thenAnswer(inv -> this.mockRepositorySave(inv.getArgument(
+                0)));
+        when(this.qrCodeSigner.sign(anyLong(), anyLong())).thenAnswer(inv -> Optional.of(
+                "RK1." + inv.getArgument(0) + "." + inv.getArgument(1) + ".signature"));
+
+        // Act
+        Artwork actual = this.artworkService.create(exhibition.getId(), input);
+
+        // Assert
+        var expected = "RK1." + actual.getId() + "." + exhibition.getId() + ".signature";
+        assertEquals(expected, actual.getQrCode());
+
+        verify(this.qrCodeSigner).sign(actual.getId(), exhibition.getId());
+        verify(this.artworkQrCodeIndex).put(actual.getId(), expected, exhibition.getId());
+        verify(this.artworkQrCodeChangeProducer).publishChange(actual.getId(), expected, exhibition.getId());
+    }
+
     @Test
     void create_shouldThrowRokaMokaContentNotFoundException_whenExhibitionDoesNotExistById() {
         // Arrange
@@ -303,6 +552,7 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
 
         // Assert
         verify(this.artworkRepository).findById(anyLong());
+        verify(this.mokadexRepository).incrementVersionByArtworkIds(List.of(input.id()));
         verify(this.emblemRepository).existsEmblemByExhibitionId(anyLong());
         verifyNoMoreInteractions(this.artworkRepository, this.exhibitionRepository);
         verifyNoInteractions(this.imageService);
@@ -334,6 +584,7 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
 
         // Assert
         verify(this.artworkRepository).findById(anyLong());
+        verify(this.mokadexRepository).incrementVersionByArtworkIds(List.of(input.id()));
         verify(this.imageService).upload(input.image());
         verifyNoInteractions(this.exhibitionRepository);
         verifyNoMoreInteractions(this.artworkRepository, this.imageService);
@@ -368,6 +619,7 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
 
         assertArtworkDetailsMatch(spyArtwork, result);
         assertTrue(spyArtwork.getImages().containsAll(images));
+        images.forEach(image -> verify(this.eventPublisher).publishEvent(new ImageUploadedEvent(image.getId())));
     }
     //endregion
 
@@ -383,10 +635,37 @@ class ArtworkServiceTest implements MockUserSession, MockRepository<Artwork> {
         // Assert
         verify(this.artworkRepository).findById(anyLong());
         verify(this.artworkRepository).delete(any(Artwork.class));
+        verifyNoInteractions(this.exhibitionRepository, this.collectionProgressRepository);
 
         assertArtworkDetailsMatch(this.artwork, result);
     }
 
+    @Test
+    void delete_shouldUpdateProgressAndArtworkTotal_whenArtworkBelongsToExhibition() {
+        // Arrange
+        var artwork = Instancio.create(Artwork.class);
+        var exhibitionId = artwork.getExhibition().getId();
+
+        when(this.artworkRepository.findById(anyLong())).thenReturn(Optional.of(artwork));
+
+        // Act
+        var result = this.artworkService.delete(artwork.getId());
+
+        // Assert
+        var inOrder = inOrder(this.collectionProgressRepository, this.mokadexRepository, this.artworkRepository);
+        inOrder.verify(this.collectionProgressRepository).decrementCollectedCountByArtwork(artwork.getId(), exhibitionId);
+        inOrder.verify(this.mokadexRepository).incrementVersionByExhibitionId(exhibitionId);
+        inOrder.verify(this.artworkRepository).delete(artwork);
+        verify(this.exhibitionRepository).incrementArtworkTotal(exhibitionId, -1);
+        verify(this.exhibitionArtworkIndex).evict(exhibitionId);
+        verify(this.artworkQrCodeIndex).remove(artwork.getId());
+        verify(this.artworkQrCodeChangeProducer).publishChange(artwork.getId(), null, null);
+        verify(this.eventPublisher).publishEvent(new CollectionsRemovedEvent(exhibitionId));
+        verifyNoMoreInteractions(this.exhibitionRepository, this.collectionProgressRepository);
+
+        assertArtworkDetailsMatch(artwork, result);
+    }
+
     @Test
     void delete_shouldThrowRokaMokaContentNotFoundException_whenArtworkDoesNotExistById() {
         // Arrange
@@ -13,7 +13,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,11 +24,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import br.edu.ufpel.rokamoka.core.Emblem;
 import br.edu.ufpel.rokamoka.core.Exhibition;
 import br.edu.ufpel.rokamoka.core.Location;
 import br.edu.ufpel.rokamoka.dto.emblem.input.EmblemInputDTO;
+import br.edu.ufpel.rokamoka.event.CollectionsRemovedEvent;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.repository.ArtworkRepository;
 import br.edu.ufpel.rokamoka.repository.EmblemRepository;
@@ -53,6 +57,7 @@ class EmblemServiceTest implements MockRepository<Emblem>, MockUserSession {
     @Mock private IArtworkService artworkService;
     @Mock private ArtworkRepository artworkRepository;
     @Mock private IExhibitionService exhibitionService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Emblem expected;
     private EmblemInputDTO input;
@@ -129,6 +134,34 @@ class EmblemServiceTest implements MockRepository<Emblem>, MockUserSession {
     }
     //endregion
 
+    //region findAllByExhibitionIds
+    @Test
+    void findAllByExhibitionIds_shouldReturnEmblems_whenExhibitionIdsAreInformed() {
+        // Arrange
+        var exhibitionIds = Set.of(1L, 2L);
+        when(this.emblemRepository.findAllByExhibition_IdIn(exhibitionIds)).thenReturn(List.of(this.expected));
+
+        // Act
+        List<Emblem> actual = this.emblemService.findAllByExhibitionIds(exhibitionIds);
+
+        // Assert
+        assertEquals(List.of(this.expected), actual);
+
+        verify(this.emblemRepository).findAllByExhibition_IdIn(exhibitionIds);
+    }
+
+    @Test
+    void findAllByExhibitionIds_shouldReturnEmptyList_whenNoExhibitionIdIsInformed() {
+        // Act
+        List<Emblem> actual = this.emblemService.findAllByExhibitionIds(Set.of());
+
+        // Assert
+        assertTrue(actual.isEmpty());
+
+        verifyNoInteractions(this.emblemRepository);
+    }
+    //endregion
+
     //region create
     @Test
     void create_shouldReturnEmblem_whenSuccessful()
@@ -170,6 +203,8 @@ class EmblemServiceTest implements MockRepository<Emblem>, MockUserSession {
     void delete_shouldReturnEmblem_whenSuccessful() throws RokaMokaContentNotFoundException {
         // Arrange
         when(this.emblemRepository.findById(anyLong())).thenReturn(Optional.of(this.expected));
+        when(this.expected.getExhibition()).thenReturn(this.exhibition);
+        when(this.exhibition.getId()).thenReturn(1L);
 
         // Act
         Emblem actual = this.emblemService.delete(1L);
@@ -179,6 +214,8 @@ class EmblemServiceTest implements MockRepository<Emblem>, MockUserSession {
         assertEquals(this.expected, actual);
 
         verify(this.emblemRepository).findById(anyLong());
+        verify(this.mokadexRepository).incrementVersionByEmblemId(this.expected.getId());
+        verify(this.eventPublisher).publishEvent(new CollectionsRemovedEvent(1L));
     }
 
     @Test
@@ -8,6 +8,7 @@ import br.edu.ufpel.rokamoka.dto.exhibition.input.ExhibitionInputDTO;
 import br.edu.ufpel.rokamoka.dto.exhibition.output.ExhibitionOutputDTO;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.repository.ExhibitionRepository;
+import br.edu.ufpel.rokamoka.repository.MokadexRepository;
 import br.edu.ufpel.rokamoka.service.MockRepository;
 import br.edu.ufpel.rokamoka.service.artwork.IArtworkService;
 import br.edu.ufpel.rokamoka.service.location.ILocationService;
@@ -57,6 +58,7 @@ class ExhibitionServiceTest implements MockRepository<Exhibition> {
     @InjectMocks private ExhibitionService exhibitionService;
 
     @Mock private ExhibitionRepository exhibitionRepository;
+    @Mock private MokadexRepository mokadexRepository;
 
     @Mock private IArtworkService artworkService;
     @Mock private ILocationService locationService;
@@ -308,6 +310,7 @@ class ExhibitionServiceTest implements MockRepository<Exhibition> {
         verify(this.exhibitionRepository).save(this.exhibitionCaptor.capture());
 
         Exhibition updatedExhibition = this.exhibitionCaptor.getValue();
+        verify(this.mokadexRepository).incrementVersionByExhibitionId(updatedExhibition.getId());
         assertExhibitionOutputByExhibition(updatedExhibition, actual);
     }
 
@@ -330,6 +333,7 @@ class ExhibitionServiceTest implements MockRepository<Exhibition> {
         verify(this.exhibitionRepository).save(this.exhibitionCaptor.capture());
 
         Exhibition updatedExhibition = this.exhibitionCaptor.getValue();
+        verify(this.mokadexRepository).incrementVersionByExhibitionId(updatedExhibition.getId());
         assertExhibitionOutputByExhibition(updatedExhibition, actual);
     }
 
@@ -0,0 +1,122 @@
+package br.edu.ufpel.rokamoka.service.image;
+
+import br.edu.ufpel.rokamoka.repository.ImageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import static br.edu.ufpel.rokamoka.service.image.DatabaseContentResource.SLICE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link DatabaseContentResource}, with a mocked repository serving the slices of an in-memory content.
+ *
+ * @see DatabaseContentResource
+ */
+@ExtendWith(MockitoExtension.class)
+class DatabaseContentResourceTest {
+
+    private static final byte[] CONTENT = new byte[SLICE_SIZE * 2 + 100];
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+    }
+
+    @Mock
+    private ImageRepository imageRepository;
+
+    private DatabaseContentResource resource() {
+        when(this.imageRepository.readContentSlice(eq(1L), anyLong(), anyInt())).thenAnswer(inv -> {
+            int offset = Math.toIntExact(inv.<Long>getArgument(1));
+            int length = inv.getArgument(2);
+            return Optional.of(Arrays.copyOfRange(CONTENT, Math.min(offset, CONTENT.length),
+                    Math.min(offset + length, CONTENT.length)));
+        });
+        return new DatabaseContentResource(this.imageRepository, 1L, CONTENT.length);
+    }
+
+    //region getInputStream
+    @Test
+    void getInputStream_shouldReadWholeContentSliceBySlice_whenContentSpansSeveralSlices() throws IOException {
+        // Arrange
+        var resource = this.resource();
+
+        // Act
+        byte[] actual;
+        try (var input = resource.getInputStream()) {
+            actual = input.readAllBytes();
+        }
+
+        // Assert
+        assertArrayEquals(CONTENT, actual);
+        verify(this.imageRepository).readContentSlice(1L, 0L, SLICE_SIZE);
+        verify(this.imageRepository).readContentSlice(1L, SLICE_SIZE, SLICE_SIZE);
+        verify(this.imageRepository).readContentSlice(1L, SLICE_SIZE * 2L, 100);
+        verifyNoMoreInteractions(this.imageRepository);
+    }
+
+    @Test
+    void getInputStream_shouldFetchOnlyTheRequestedRange_whenBytesAreSkipped() throws IOException {
+        // Arrange
+        var resource = this.resource();
+        long start = SLICE_SIZE * 2L + 10;
+
+        // Act
+        byte[] actual;
+        try (var input = resource.getInputStream()) {
+            assertEquals(start, input.skip(start));
+            actual = input.readNBytes(20);
+        }
+
+        // Assert
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, (int) start, (int) start + 20), actual);
+        verify(this.imageRepository).readContentSlice(1L, start, 90);
+        verifyNoMoreInteractions(this.imageRepository);
+    }
+
+    @Test
+    void getInputStream_shouldOpenNewStreamFromTheStart_whenCalledAgain() throws IOException {
+        // Arrange
+        var resource = this.resource();
+        try (var input = resource.getInputStream()) {
+            input.readNBytes(10);
+        }
+
+        // Act
+        int actual;
+        try (var input = resource.getInputStream()) {
+            actual = input.read();
+        }
+
+        // Assert
+        assertEquals(CONTENT[0] & 0xff, actual);
+        assertEquals(CONTENT.length, resource.contentLength());
+    }
+
+    @Test
+    void getInputStream_shouldThrowIOException_whenImageIsRemovedWhileReading() throws IOException {
+        // Arrange
+        when(this.imageRepository.readContentSlice(eq(1L), anyLong(), anyInt())).thenReturn(Optional.empty());
+        var resource = new DatabaseContentResource(this.imageRepository, 1L, 3);
+
+        // Act & Assert
+        try (var input = resource.getInputStream()) {
+            assertThrows(IOException.class, input::read);
+        }
+    }
+    //endregion
+}
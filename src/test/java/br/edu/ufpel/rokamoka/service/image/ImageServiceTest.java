@@ -0,0 +1,320 @@
+package br.edu.ufpel.rokamoka.service.image;
+
+import br.edu.ufpel.rokamoka.component.ImageStore;
+import br.edu.ufpel.rokamoka.config.ImageRenditionConfigProperties;
+import br.edu.ufpel.rokamoka.core.Image;
+import br.edu.ufpel.rokamoka.dto.image.output.ImageMetadataDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
+import br.edu.ufpel.rokamoka.repository.ImageContentRepository.ContentReader;
+import br.edu.ufpel.rokamoka.repository.ImageRepository;
+import br.edu.ufpel.rokamoka.utils.ImageResizer;
+import br.edu.ufpel.rokamoka.utils.ImageResizer.Rendition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link ImageService} class, which is responsible for storing and serving images.
+ *
+ * @see ImageRepository
+ * @see ImageStore
+ */
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+    /** SHA-256 of {@code "abc"}. */
+    private static final String ABC_HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @InjectMocks private ImageService imageService;
+
+    @Mock private ImageRepository imageRepository;
+    @Mock private ImageStore imageStore;
+    @Mock private ImageRenditionConfigProperties imageRenditionConfigProperties;
+
+    @Captor private ArgumentCaptor<Image> imageCaptor;
+
+    //region upload
+    @Test
+    void upload_shouldSaveImageAndStreamContentToStore_whenFileIsNotEmpty() throws Exception {
+        // Arrange
+        var file = new MockMultipartFile("image", "abc.png", "image/png", "abc".getBytes(StandardCharsets.UTF_8));
+        var written = new ByteArrayOutputStream();
+
+        when(this.imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> invocation.<InputStream>getArgument(1).transferTo(written))
+                .when(this.imageStore).write(any(Image.class), any(InputStream.class));
+
+        // Act
+        this.imageService.upload(file);
+
+        // Assert
+        verify(this.imageRepository).save(this.imageCaptor.capture());
+        var saved = this.imageCaptor.getValue();
+        assertEquals("image/png", saved.getTipoConteudo());
+        assertEquals(3L, saved.getTamanhoBytes());
+        assertNull(saved.getConteudo());
+
+        verify(this.imageStore).write(eq(saved), any(InputStream.class));
+        assertArrayEquals(file.getBytes(), written.toByteArray());
+    }
+
+    @Test
+    void upload_shouldReturnNull_whenFileIsEmpty() {
+        // Act & Assert
+        assertNull(this.imageService.upload(new MockMultipartFile("image", new byte[0])));
+
+        verifyNoInteractions(this.imageRepository, this.imageStore);
+    }
+    //endregion
+
+    //region getMetadataOrElseThrow
+    @Test
+    void getMetadataOrElseThrow_shouldReturnMetadataWithoutReadingContent_whenHashIsRecorded() {
+        // Arrange
+        var metadata = new ImageMetadataDTO(1L, 3L, "image/png", ABC_HASH, true);
+
+        when(this.imageRepository.findMetadataById(1L)).thenReturn(Optional.of(metadata));
+
+        // Act
+        var actual = this.imageService.getMetadataOrElseThrow(1L);
+
+        // Assert
+        assertEquals(metadata, actual);
+
+        verify(this.imageRepository).findMetadataById(1L);
+        verifyNoMoreInteractions(this.imageRepository);
+    }
+
+    @Test
+    void getMetadataOrElseThrow_shouldComputeAndStoreHash_whenHashIsNotRecorded() {
+        // Arrange
+        when(this.imageRepository.findMetadataById(1L))
+                .thenReturn(Optional.of(new ImageMetadataDTO(1L, 3L, null, null, true)));
+        when(this.imageRepository.findContentById(1L))
+                .thenReturn(Optional.of("abc".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        var actual = this.imageService.getMetadataOrElseThrow(1L);
+
+        // Assert
+        assertEquals(new ImageMetadataDTO(1L, 3L, null, ABC_HASH, true), actual);
+
+        verify(this.imageRepository).updateHash(1L, ABC_HASH);
+    }
+
+    @Test
+    void getMetadataOrElseThrow_shouldThrowRokaMokaContentNotFoundException_whenImageDoesNotExist() {
+        // Arrange
+        when(this.imageRepository.findMetadataById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class, () -> this.imageService.getMetadataOrElseThrow(1L));
+    }
+    //endregion
+
+    //region getContentOrElseThrow
+    @Test
+    void getContentOrElseThrow_shouldReturnContentFromDatabase_whenStoredInDatabase() throws Exception {
+        // Arrange
+        var content = "abc".getBytes(StandardCharsets.UTF_8);
+
+        when(this.imageRepository.findContentLengthById(1L)).thenReturn(Optional.of(3L));
+        when(this.imageRepository.readContentSlice(1L, 0L, 3)).thenReturn(Optional.of(content));
+
+        // Act
+        var actual = this.imageService.getContentOrElseThrow(new ImageMetadataDTO(1L, 3L, null, ABC_HASH, true));
+
+        // Assert
+        assertEquals(3L, actual.contentLength());
+        assertArrayEquals(content, actual.getContentAsByteArray());
+
+        verifyNoInteractions(this.imageStore);
+    }
+
+    @Test
+    void getContentOrElseThrow_shouldReturnContentFromStore_whenNotStoredInDatabase() {
+        // Arrange
+        var content = new ByteArrayResource("abc".getBytes(StandardCharsets.UTF_8));
+
+        when(this.imageStore.read(ABC_HASH)).thenReturn(Optional.of(content));
+
+        // Act
+        var actual = this.imageService.getContentOrElseThrow(new ImageMetadataDTO(1L, 3L, null, ABC_HASH, false));
+
+        // Assert
+        assertSame(content, actual);
+
+        verifyNoInteractions(this.imageRepository);
+    }
+
+    @Test
+    void getContentOrElseThrow_shouldThrowRokaMokaContentNotFoundException_whenImageDoesNotExist() {
+        // Arrange
+        var metadata = new ImageMetadataDTO(1L, 3L, null, ABC_HASH, true);
+
+        when(this.imageRepository.findContentLengthById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class, () -> this.imageService.getContentOrElseThrow(metadata));
+    }
+
+    @Test
+    void getContentOrElseThrow_shouldThrowRokaMokaContentNotFoundException_whenStoreDoesNotHoldContent() {
+        // Arrange
+        var metadata = new ImageMetadataDTO(1L, 3L, null, ABC_HASH, false);
+
+        when(this.imageStore.read(ABC_HASH)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class, () -> this.imageService.getContentOrElseThrow(metadata));
+    }
+    //endregion
+
+    //region migrateToStore
+    @Test
+    void migrateToStore_shouldStreamEveryImageOfTheChunkToStore_whenImagesAreStoredInDatabase() throws Exception {
+        // Arrange
+        var first = new Image(3L, "image/png");
+        first.setId(1L);
+        var second = new Image(3L, "image/png");
+        second.setId(2L);
+        var streamed = new ArrayList<String>();
+
+        when(this.imageRepository.findIdsStoredInDatabase(Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(this.imageRepository.findById(1L)).thenReturn(Optional.of(first));
+        when(this.imageRepository.findById(2L)).thenReturn(Optional.of(second));
+        when(this.imageRepository.readContent(anyLong(), any())).thenAnswer(invocation -> {
+            var content = new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8));
+            invocation.<ContentReader>getArgument(1).read(content);
+            return true;
+        });
+        doAnswer(invocation -> streamed.add(
+                new String(invocation.<InputStream>getArgument(1).readAllBytes(), StandardCharsets.UTF_8)))
+                .when(this.imageStore).write(any(Image.class), any(InputStream.class));
+
+        // Act
+        var actual = this.imageService.migrateToStore(2);
+
+        // Assert
+        assertEquals(2, actual);
+        assertEquals(List.of("abc", "abc"), streamed);
+
+        var inOrder = inOrder(this.imageRepository, this.imageStore);
+        inOrder.verify(this.imageStore).write(eq(first), any(InputStream.class));
+        inOrder.verify(this.imageRepository).flush();
+        inOrder.verify(this.imageRepository).detach(first);
+        inOrder.verify(this.imageStore).write(eq(second), any(InputStream.class));
+        inOrder.verify(this.imageRepository).flush();
+        inOrder.verify(this.imageRepository).detach(second);
+        verify(this.imageRepository, never()).findAllById(any());
+    }
+    //endregion
+
+    //region saveRenditions
+    @Test
+    void saveRenditions_shouldPointImageAtNarrowestVariantWideEnough_whenVariantsAreWiderThanDisplay()
+    throws Exception {
+        // Arrange
+        var original = new Image(new byte[] {1}, 1L);
+        original.setId(1L);
+        var renditions = List.of(rendition(1280), rendition(640), rendition(320));
+
+        when(this.imageRepository.findById(1L)).thenReturn(Optional.of(original));
+        when(this.imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(this.imageRenditionConfigProperties.getDisplayWidth()).thenReturn(600);
+
+        // Act
+        this.imageService.saveRenditions(1L, renditions);
+
+        // Assert
+        verify(this.imageRepository, times(3)).save(this.imageCaptor.capture());
+        var saved = this.imageCaptor.getAllValues();
+        assertSame(saved.get(1), original.getImagemExibicao());
+        assertEquals(640, saved.get(1).getLargura());
+        assertEquals(ImageResizer.JPEG, saved.get(1).getTipoConteudo());
+        assertTrue(saved.stream().allMatch(image -> image.getImagemOriginal() == original));
+
+        verify(this.imageStore, times(3)).write(any(Image.class), any(InputStream.class));
+    }
+
+    @Test
+    void saveRenditions_shouldPointImageAtItself_whenNoVariantIsWideEnough() {
+        // Arrange
+        var original = new Image(new byte[] {1}, 1L);
+
+        when(this.imageRepository.findById(1L)).thenReturn(Optional.of(original));
+        when(this.imageRepository.save(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(this.imageRenditionConfigProperties.getDisplayWidth()).thenReturn(600);
+
+        // Act
+        this.imageService.saveRenditions(1L, List.of(rendition(320)));
+
+        // Assert
+        assertSame(original, original.getImagemExibicao());
+    }
+
+    @Test
+    void saveRenditions_shouldKeepExistingVariants_whenVariantsWereAlreadyGenerated() {
+        // Arrange
+        var original = new Image(new byte[] {1}, 1L);
+        original.setImagemExibicao(original);
+
+        when(this.imageRepository.findById(1L)).thenReturn(Optional.of(original));
+
+        // Act
+        this.imageService.saveRenditions(1L, List.of(rendition(320)));
+
+        // Assert
+        verify(this.imageRepository, never()).save(any(Image.class));
+        verifyNoInteractions(this.imageStore);
+    }
+
+    @Test
+    void saveRenditions_shouldThrowRokaMokaContentNotFoundException_whenImageDoesNotExist() {
+        // Arrange
+        List<Rendition> renditions = List.of();
+
+        when(this.imageRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(RokaMokaContentNotFoundException.class, () -> this.imageService.saveRenditions(1L, renditions));
+    }
+    //endregion
+
+    private static Rendition rendition(int width) {
+        return new Rendition(width, width / 2, ImageResizer.JPEG, new byte[] {(byte) width});
+    }
+}
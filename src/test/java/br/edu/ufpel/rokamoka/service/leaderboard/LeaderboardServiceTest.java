@@ -0,0 +1,250 @@
+package br.edu.ufpel.rokamoka.service.leaderboard;
+
+import br.edu.ufpel.rokamoka.config.LeaderboardConfigProperties;
+import br.edu.ufpel.rokamoka.context.ServiceContext;
+import br.edu.ufpel.rokamoka.core.LeaderboardMetric;
+import br.edu.ufpel.rokamoka.dto.leaderboard.CollectionCountDTO;
+import br.edu.ufpel.rokamoka.dto.leaderboard.LeaderboardEntryDTO;
+import br.edu.ufpel.rokamoka.dto.leaderboard.MokadexOwnerDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.repository.MokadexRepository;
+import br.edu.ufpel.rokamoka.service.MockUserSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link LeaderboardService} class, which is responsible for the in-memory collector rankings.
+ *
+ * @see ILeaderboardService
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest implements MockUserSession {
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private MokadexRepository mokadexRepository;
+    @Mock
+    private LeaderboardConfigProperties leaderboardConfigProperties;
+
+    //region rebuild
+    @Test
+    void rebuild_shouldRankFromJoinTableCounts_whenCalled() {
+        // Arrange
+        var owners = List.of(this.owner(1L, "ana"), this.owner(2L, "bia"), this.owner(3L, "caio"));
+        var artworkCounts = List.of(this.count(1L, 10L, 2), this.count(1L, 20L, 1), this.count(2L, 10L, 4));
+        var emblemCounts = List.of(this.count(2L, 10L, 1));
+
+        when(this.mokadexRepository.findAllOwners()).thenReturn(owners);
+        when(this.mokadexRepository.countArtworksByMokadexAndExhibition()).thenReturn(artworkCounts);
+        when(this.mokadexRepository.countEmblemsByMokadexAndExhibition()).thenReturn(emblemCounts);
+        when(this.leaderboardConfigProperties.getMaxLimit()).thenReturn(100);
+
+        // Act
+        this.leaderboardService.rebuild();
+
+        // Assert
+        assertEquals(List.of(
+                new LeaderboardEntryDTO(1, 2L, "bia", 4),
+                new LeaderboardEntryDTO(2, 1L, "ana", 3)
+        ), this.leaderboardService.getTop(LeaderboardMetric.STARS, null, 10));
+        assertEquals(List.of(
+                new LeaderboardEntryDTO(1, 2L, "bia", 4),
+                new LeaderboardEntryDTO(2, 1L, "ana", 2)
+        ), this.leaderboardService.getTop(LeaderboardMetric.STARS, 10L, 10));
+        assertEquals(List.of(new LeaderboardEntryDTO(1, 2L, "bia", 1)),
+                this.leaderboardService.getTop(LeaderboardMetric.EMBLEMS, null, 10));
+
+        verify(this.mokadexRepository).findAllOwners();
+        verify(this.mokadexRepository).countArtworksByMokadexAndExhibition();
+        verify(this.mokadexRepository).countEmblemsByMokadexAndExhibition();
+        verifyNoMoreInteractions(this.mokadexRepository);
+    }
+
+    @Test
+    void rebuild_shouldReplayRecordedCollections_whenTheyAreRecordedDuringRebuild() {
+        // Arrange
+        var owners = List.of(this.owner(1L, "ana"));
+        var artworkCounts = List.of(this.count(1L, 10L, 2));
+
+        when(this.mokadexRepository.findAllOwners()).thenReturn(owners);
+        when(this.mokadexRepository.countArtworksByMokadexAndExhibition()).thenAnswer(inv -> {
+            this.leaderboardService.recordStar(2L, "bia", 10L);
+            this.leaderboardService.recordStar(2L, "bia", 10L);
+            this.leaderboardService.recordStar(2L, "bia", 10L);
+            this.leaderboardService.recordEmblem(2L, 10L);
+            return artworkCounts;
+        });
+        when(this.mokadexRepository.countEmblemsByMokadexAndExhibition()).thenReturn(List.of());
+        when(this.leaderboardConfigProperties.getMaxLimit()).thenReturn(100);
+
+        // Act
+        this.leaderboardService.rebuild();
+
+        // Assert
+        assertEquals(List.of(
+                new LeaderboardEntryDTO(1, 2L, "bia", 3),
+                new LeaderboardEntryDTO(2, 1L, "ana", 2)
+        ), this.leaderboardService.getTop(LeaderboardMetric.STARS, 10L, 10));
+        assertEquals(List.of(new LeaderboardEntryDTO(1, 2L, "bia", 1)),
+                this.leaderboardService.getTop(LeaderboardMetric.EMBLEMS, null, 10));
+    }
+
+    @Test
+    void rebuild_shouldKeepCurrentRankings_whenQueryFails() {
+        // Arrange
+        when(this.mokadexRepository.findAllOwners()).thenThrow(new IllegalStateException("Banco indisponível"));
+        when(this.leaderboardConfigProperties.getMaxLimit()).thenReturn(100);
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> this.leaderboardService.rebuild());
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+
+        // Assert
+        assertEquals(List.of(new LeaderboardEntryDTO(1, 1L, "ana", 2)),
+                this.leaderboardService.getTop(LeaderboardMetric.STARS, null, 10));
+    }
+    //endregion
+
+    //region getTop
+    @Test
+    void getTop_shouldReturnEmptyList_whenNothingWasCollected() {
+        // Act
+        var actual = this.leaderboardService.getTop(LeaderboardMetric.STARS, null, 10);
+
+        // Assert
+        assertTrue(actual.isEmpty());
+
+        verifyNoInteractions(this.mokadexRepository);
+    }
+
+    @Test
+    void getTop_shouldCapLimit_whenLimitExceedsMaximum() {
+        // Arrange
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+        this.leaderboardService.recordStar(2L, "bia", 10L);
+        this.leaderboardService.recordStar(3L, "caio", 10L);
+
+        when(this.leaderboardConfigProperties.getMaxLimit()).thenReturn(2);
+
+        // Act
+        var actual = this.leaderboardService.getTop(LeaderboardMetric.STARS, null, 50);
+
+        // Assert
+        assertEquals(2, actual.size());
+    }
+    //endregion
+
+    //region recordStar & recordEmblem
+    @Test
+    void recordStar_shouldUpdateGlobalAndExhibitionRankings_whenStarIsCollected() {
+        // Arrange
+        when(this.leaderboardConfigProperties.getMaxLimit()).thenReturn(100);
+
+        // Act
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+        this.leaderboardService.recordStar(2L, "bia", 10L);
+        this.leaderboardService.recordStar(2L, "bia", 20L);
+
+        // Assert
+        assertEquals(List.of(
+                new LeaderboardEntryDTO(1, 2L, "bia", 2),
+                new LeaderboardEntryDTO(2, 1L, "ana", 1)
+        ), this.leaderboardService.getTop(LeaderboardMetric.STARS, null, 10));
+        assertEquals(List.of(new LeaderboardEntryDTO(1, 2L, "bia", 1)),
+                this.leaderboardService.getTop(LeaderboardMetric.STARS, 20L, 10));
+
+        verifyNoInteractions(this.mokadexRepository);
+    }
+
+    @Test
+    void recordEmblem_shouldUpdateEmblemRankings_whenEmblemIsAwarded() {
+        // Arrange
+        when(this.leaderboardConfigProperties.getMaxLimit()).thenReturn(100);
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+
+        // Act
+        this.leaderboardService.recordEmblem(1L, 10L);
+
+        // Assert
+        assertEquals(List.of(new LeaderboardEntryDTO(1, 1L, "ana", 1)),
+                this.leaderboardService.getTop(LeaderboardMetric.EMBLEMS, 10L, 10));
+    }
+    //endregion
+
+    //region getMyRank
+    @Test
+    void getMyRank_shouldReturnRankOfLoggedUser_whenUserIsRanked() throws RokaMokaNoUserInContextException {
+        // Arrange
+        var mockContext = mock(ServiceContext.class);
+        when(mockContext.getUsernameOrThrow()).thenReturn(LOGGED_USER_NAME);
+
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+        this.leaderboardService.recordStar(2L, LOGGED_USER_NAME, 10L);
+
+        // Act
+        LeaderboardEntryDTO actual;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            actual = this.leaderboardService.getMyRank(LeaderboardMetric.STARS, null);
+        }
+
+        // Assert
+        assertEquals(new LeaderboardEntryDTO(2, 2L, LOGGED_USER_NAME, 1), actual);
+    }
+
+    @Test
+    void getMyRank_shouldReturnRankZero_whenUserHasNotCollectedAnything() throws RokaMokaNoUserInContextException {
+        // Arrange
+        var mockContext = mock(ServiceContext.class);
+        when(mockContext.getUsernameOrThrow()).thenReturn(LOGGED_USER_NAME);
+
+        this.leaderboardService.recordStar(1L, "ana", 10L);
+
+        // Act
+        LeaderboardEntryDTO actual;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            actual = this.leaderboardService.getMyRank(LeaderboardMetric.EMBLEMS, null);
+        }
+
+        // Assert
+        assertEquals(new LeaderboardEntryDTO(0, null, LOGGED_USER_NAME, 0), actual);
+    }
+    //endregion
+
+    private MokadexOwnerDTO owner(Long mokadexId, String username) {
+        var owner = mock(MokadexOwnerDTO.class);
+        when(owner.getMokadexId()).thenReturn(mokadexId);
+        when(owner.getUsername()).thenReturn(username);
+        return owner;
+    }
+
+    private CollectionCountDTO count(Long mokadexId, Long exhibitionId, long total) {
+        var count = mock(CollectionCountDTO.class);
+        when(count.getMokadexId()).thenReturn(mokadexId);
+        when(count.getExhibitionId()).thenReturn(exhibitionId);
+        when(count.getTotal()).thenReturn(total);
+        return count;
+    }
+}
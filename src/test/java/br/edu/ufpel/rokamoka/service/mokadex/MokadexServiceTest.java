@@ -1,21 +1,38 @@
 package br.edu.ufpel.rokamoka.service.mokadex;
 
+import br.edu.ufpel.rokamoka.component.ExhibitionArtworkIndex;
+import br.edu.ufpel.rokamoka.component.MokadexEventStream;
 import br.edu.ufpel.rokamoka.component.CollectEmblemProducer;
 import br.edu.ufpel.rokamoka.context.ServiceContext;
 import br.edu.ufpel.rokamoka.core.Artwork;
+import br.edu.ufpel.rokamoka.core.CollectStarStatus;
 import br.edu.ufpel.rokamoka.core.Emblem;
 import br.edu.ufpel.rokamoka.core.Exhibition;
 import br.edu.ufpel.rokamoka.core.Mokadex;
 import br.edu.ufpel.rokamoka.core.User;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkOutputDTO;
+import br.edu.ufpel.rokamoka.dto.artwork.output.ArtworkQrCodeDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.AwardedEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.emblem.CollectEmblemDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.CollectStarsInputDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.input.QueuedScanDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.CollectStarResultDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexItemDTO;
+import br.edu.ufpel.rokamoka.dto.mokadex.output.MokadexVersionDTO;
+import br.edu.ufpel.rokamoka.event.EmblemAwardedEvent;
+import br.edu.ufpel.rokamoka.event.StarCollectedEvent;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentDuplicatedException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaNoUserInContextException;
+import br.edu.ufpel.rokamoka.repository.CollectionProgressRepository;
 import br.edu.ufpel.rokamoka.repository.MokadexRepository;
 import br.edu.ufpel.rokamoka.service.MockRepository;
 import br.edu.ufpel.rokamoka.service.MockUserSession;
 import br.edu.ufpel.rokamoka.service.artwork.ArtworkService;
 import br.edu.ufpel.rokamoka.service.emblem.EmblemService;
 import br.edu.ufpel.rokamoka.service.exhibition.ExhibitionService;
+import br.edu.ufpel.rokamoka.utils.LongIdSet;
+import org.hibernate.exception.ConstraintViolationException;
 import org.hibernate.service.spi.ServiceException;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.Test;
@@ -24,26 +41,40 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.instancio.Select.field;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -54,6 +85,7 @@ import static org.mockito.Mockito.when;
  *
  * @author MauricioMucci
  * @see MokadexRepository
+ * @see CollectionProgressRepository
  * @see EmblemService
  * @see ArtworkService
  * @see ExhibitionService
@@ -67,6 +99,8 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
 
     @Mock
     private MokadexRepository mokadexRepository;
+    @Mock
+    private CollectionProgressRepository collectionProgressRepository;
 
     @Mock
     private EmblemService emblemService;
@@ -76,18 +110,24 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
     private ExhibitionService exhibitionService;
     @Mock
     private CollectEmblemProducer collectEmblemProducer;
+    @Mock
+    private ExhibitionArtworkIndex exhibitionArtworkIndex;
+    @Mock
+    private MokadexEventStream mokadexEventStream;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     static Stream<Mokadex> provideMokadex() {
         var fullMokadex = Instancio.create(Mokadex.class);
         var emptyArtwork = Instancio.of(Mokadex.class)
-                .set(field(Mokadex::getArtworks), Collections.emptySet())
+                .set(field(Mokadex.class, "artworks"), Collections.emptyMap())
                 .create();
         var emptyEmblem = Instancio.of(Mokadex.class)
-                .set(field(Mokadex::getEmblems), Collections.emptySet())
+                .set(field(Mokadex.class, "emblems"), Collections.emptyMap())
                 .create();
         var emptyMokadex = Instancio.of(Mokadex.class)
-                .set(field(Mokadex::getArtworks), Collections.emptySet())
-                .set(field(Mokadex::getEmblems), Collections.emptySet())
+                .set(field(Mokadex.class, "artworks"), Collections.emptyMap())
+                .set(field(Mokadex.class, "emblems"), Collections.emptyMap())
                 .create();
         return Stream.of(fullMokadex, emptyArtwork, emptyEmblem, emptyMokadex);
     }
@@ -100,7 +140,7 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
                 .create();
         var mokadex = Instancio
                 .of(Mokadex.class)
-                .set(field(Mokadex::getEmblems), new HashSet<>(Set.of(emblem)))
+                .set(field(Mokadex.class, "emblems"), new HashMap<>(Map.of(emblem.getId(), emblem)))
                 .create();
         var artworks = Instancio
                 .ofSet(Artwork.class)
@@ -196,79 +236,266 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
     }
     //endregion
 
+    //region readMokadexOutputDTOByMokadexId
+    @Test
+    void readMokadexOutputDTOByMokadexId_shouldGroupArtworksByExhibitionAndListEmblems_whenMokadexHasItems() {
+        // Arrange
+        var firstArtwork = this.mockItem(MokadexItemDTO.ARTWORK, 1L, 10L);
+        var secondArtwork = this.mockItem(MokadexItemDTO.ARTWORK, 2L, 10L);
+        var otherArtwork = this.mockItem(MokadexItemDTO.ARTWORK, 3L, 20L);
+        var emblem = this.mockItem(MokadexItemDTO.EMBLEM, 5L, 10L);
+        when(emblem.getExhibitionArtworkTotal()).thenReturn(2L);
+
+        when(this.mokadexRepository.findAllItemsByMokadexId(1L))
+                .thenReturn(List.of(firstArtwork, secondArtwork, emblem, otherArtwork));
+
+        // Act
+        var result = this.mokadexService.readMokadexOutputDTOByMokadexId(1L);
+
+        // Assert
+        verify(this.mokadexRepository).findAllItemsByMokadexId(1L);
+        verifyNoMoreInteractions(this.mokadexRepository);
+
+        var collections = List.copyOf(result.collectionSet());
+        assertEquals(2, collections.size());
+        assertEquals(10L, collections.get(0).exhibition().id());
+        assertEquals(2L, collections.get(0).exhibition().numberOfArtworks());
+        assertEquals(2, collections.get(0).artwork().size());
+        assertEquals(20L, collections.get(1).exhibition().id());
+        assertEquals(1L, collections.get(1).exhibition().numberOfArtworks());
+
+        var emblems = List.copyOf(result.emblemSet());
+        assertEquals(1, emblems.size());
+        assertEquals(5L, emblems.get(0).id());
+        assertEquals(10L, emblems.get(0).exhibition().id());
+        assertEquals(2L, emblems.get(0).exhibition().numberOfArtworks());
+    }
+
+    @Test
+    void readMokadexOutputDTOByMokadexId_shouldReturnEmptySets_whenMokadexHasNoItems() {
+        // Arrange
+        when(this.mokadexRepository.findAllItemsByMokadexId(1L)).thenReturn(List.of());
+
+        // Act
+        var result = this.mokadexService.readMokadexOutputDTOByMokadexId(1L);
+
+        // Assert
+        assertTrue(result.collectionSet().isEmpty());
+        assertTrue(result.emblemSet().isEmpty());
+    }
+    //endregion
+
+    //region collectStars
+    @Test
+    void collectStars_shouldThrowServiceException_whenMokadexDoesNotExistForLoggedUser() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var input = new CollectStarsInputDTO(List.of(new QueuedScanDTO("QRCODE", Instant.now())));
+
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            assertThrows(ServiceException.class, () -> this.mokadexService.collectStars(input));
+        }
+
+        verify(this.mokadexRepository).findMokadexIdByUsername(anyString());
+        verifyNoMoreInteractions(this.mokadexRepository);
+        verifyNoInteractions(this.artworkService, this.collectionProgressRepository, this.eventPublisher);
+    }
+
+    @Test
+    void collectStars_shouldReportEachScanInRequestOrder_whenScansMixNewDuplicatedAndUnknownArtworks() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var start = Instant.parse("2025-01-01T10:00:00Z");
+        var input = new CollectStarsInputDTO(List.of(
+                new QueuedScanDTO("A", start.plusSeconds(3)),
+                new QueuedScanDTO("B", start.plusSeconds(1)),
+                new QueuedScanDTO("A", start.plusSeconds(2)),
+                new QueuedScanDTO("X", start),
+                new QueuedScanDTO("C", start.plusSeconds(4))));
+        var artworkA = this.mockArtworkQrCode(10L, "A", 100L);
+        var artworkB = this.mockArtworkQrCode(20L, "B", 100L);
+        var artworkC = mock(ArtworkQrCodeDTO.class);
+        var artworkIds = ArgumentCaptor.forClass(Long[].class);
+        var exhibitionIds = ArgumentCaptor.forClass(Long[].class);
+        var deltas = ArgumentCaptor.forClass(Long[].class);
+
+        when(this.mokadexRepository.findMokadexIdByUsername(LOGGED_USER_NAME)).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.artworkService.findAllByQrCodes(Set.of("A", "B", "C", "X")))
+                .thenReturn(List.of(artworkA, artworkB, artworkC));
+        when(this.mokadexRepository.insertArtworks(eq(DEFAULT_ID), artworkIds.capture())).thenReturn(List.of(10L, 20L));
+        when(artworkC.getId()).thenReturn(30L);
+        when(artworkC.getQrCode()).thenReturn("C");
+        when(this.emblemService.existsEmblemByExhibitionId(100L)).thenReturn(false);
+
+        // Act
+        List<CollectStarResultDTO> result;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            result = this.mokadexService.collectStars(input);
+        }
+
+        // Assert
+        assertArrayEquals(new Long[] {20L, 10L, 30L}, artworkIds.getValue());
+        assertEquals(List.of(
+                        new CollectStarResultDTO("A", start.plusSeconds(3), CollectStarStatus.DUPLICATE, 10L),
+                        new CollectStarResultDTO("B", start.plusSeconds(1), CollectStarStatus.COLLECTED, 20L),
+                        new CollectStarResultDTO("A", start.plusSeconds(2), CollectStarStatus.COLLECTED, 10L),
+                        new CollectStarResultDTO("X", start, CollectStarStatus.UNKNOWN, null),
+                        new CollectStarResultDTO("C", start.plusSeconds(4), CollectStarStatus.DUPLICATE, 30L)),
+                result);
+
+        verify(this.collectionProgressRepository).incrementCollectedCounts(eq(DEFAULT_ID), exhibitionIds.capture(),
+                deltas.capture());
+        assertArrayEquals(new Long[] {100L}, exhibitionIds.getValue());
+        assertArrayEquals(new Long[] {2L}, deltas.getValue());
+        verify(this.eventPublisher, times(2)).publishEvent(new StarCollectedEvent(DEFAULT_ID, LOGGED_USER_NAME, 100L));
+        verify(this.emblemService).existsEmblemByExhibitionId(100L);
+        verifyNoMoreInteractions(this.emblemService, this.collectionProgressRepository);
+        verifyNoInteractions(this.collectEmblemProducer);
+    }
+
+    @Test
+    void collectStars_shouldPublishMessageOncePerExhibition_whenBatchCompletesExhibitionWithEmblem() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var input = new CollectStarsInputDTO(List.of(
+                new QueuedScanDTO("A", null),
+                new QueuedScanDTO("B", null)));
+        var artworkA = this.mockArtworkQrCode(10L, "A", 100L);
+        var artworkB = this.mockArtworkQrCode(20L, "B", 100L);
+
+        when(this.mokadexRepository.findMokadexIdByUsername(LOGGED_USER_NAME)).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.artworkService.findAllByQrCodes(anySet())).thenReturn(List.of(artworkA, artworkB));
+        when(this.mokadexRepository.insertArtworks(eq(DEFAULT_ID), any(Long[].class))).thenReturn(List.of(10L, 20L));
+        when(this.emblemService.existsEmblemByExhibitionId(100L)).thenReturn(true);
+        when(this.collectionProgressRepository.hasCollectedAllArtworksInExhibition(DEFAULT_ID, 100L)).thenReturn(true);
+
+        // Act
+        List<CollectStarResultDTO> result;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            result = this.mokadexService.collectStars(input);
+        }
+
+        // Assert
+        assertTrue(result.stream().allMatch(item -> item.status() == CollectStarStatus.COLLECTED));
+        verify(this.emblemService).existsEmblemByExhibitionId(100L);
+        verify(this.collectionProgressRepository).hasCollectedAllArtworksInExhibition(DEFAULT_ID, 100L);
+        verify(this.collectEmblemProducer).publishCollectEmblem(DEFAULT_ID, 100L);
+        verifyNoMoreInteractions(this.collectEmblemProducer);
+    }
+
+    @Test
+    void collectStars_shouldNotInsertAnything_whenNoQrCodeIsKnown() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var input = new CollectStarsInputDTO(List.of(new QueuedScanDTO("X", null)));
+
+        when(this.mokadexRepository.findMokadexIdByUsername(LOGGED_USER_NAME)).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.artworkService.findAllByQrCodes(anySet())).thenReturn(List.of());
+
+        // Act
+        List<CollectStarResultDTO> result;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            result = this.mokadexService.collectStars(input);
+        }
+
+        // Assert
+        assertEquals(List.of(new CollectStarResultDTO("X", null, CollectStarStatus.UNKNOWN, null)), result);
+        verify(this.mokadexRepository).findMokadexIdByUsername(LOGGED_USER_NAME);
+        verifyNoMoreInteractions(this.mokadexRepository);
+        verifyNoInteractions(this.collectionProgressRepository, this.emblemService, this.eventPublisher);
+    }
+
+    private ArtworkQrCodeDTO mockArtworkQrCode(Long id, String qrCode, Long exhibitionId) {
+        var artwork = mock(ArtworkQrCodeDTO.class);
+        when(artwork.getId()).thenReturn(id);
+        when(artwork.getQrCode()).thenReturn(qrCode);
+        when(artwork.getExhibitionId()).thenReturn(exhibitionId);
+        return artwork;
+    }
+    //endregion
+
     //region collectStar
     @Test
     void collectStar_shouldThrowServiceException_whenMokadexDoesNotExistForLoggedUser() {
         // Arrange
         var mockContext = this.mockServiceContext();
+        var artwork = mock(ArtworkQrCodeDTO.class);
 
-        when(this.mokadexRepository.findMokadexByUsername(anyString())).thenReturn(Optional.empty());
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.empty());
 
         // Act & Assert
         try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
             mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
 
-            assertThrows(ServiceException.class, () -> this.mokadexService.collectStar("QRCODE"));
+            assertThrows(ServiceException.class, () -> this.mokadexService.collectStar(artwork));
         }
 
-        verify(this.mokadexRepository).findMokadexByUsername(anyString());
+        verify(this.mokadexRepository).findMokadexIdByUsername(anyString());
         verifyNoMoreInteractions(this.mokadexRepository);
+        verifyNoInteractions(this.artworkService);
     }
 
     @Test
     void collectStar_shouldPublishMessageAndThrowRokaMokaContentDuplicatedException_whenMokadexAlreadyContainsArtworkButEmblemWasNotCollected() {
         // Arrange
         var mockContext = this.mockServiceContext();
-        var mokadex = mock(Mokadex.class);
-        var artwork = Instancio.create(Artwork.class);
+        var artwork = this.mockArtworkSummary(10L, 100L);
 
-        when(this.mokadexRepository.findMokadexByUsername(anyString())).thenReturn(Optional.of(mokadex));
-        when(this.artworkService.getByQrCodeOrThrow(anyString())).thenReturn(artwork);
-        when(mokadex.containsArtwork(artwork)).thenReturn(true);
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.mokadexRepository.insertArtwork(DEFAULT_ID, artwork.getId())).thenReturn(0);
         when(this.emblemService.existsEmblemByExhibitionId(anyLong())).thenReturn(true);
-        when(mokadex.getId()).thenReturn(1L);
-        when(this.mokadexRepository.hasCollectedAllArtworksInExhibition(anyLong(), anyLong())).thenReturn(true);
+        when(this.collectionProgressRepository.hasCollectedAllArtworksInExhibition(anyLong(), anyLong())).thenReturn(true);
 
         // Act & Assert
         try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
             mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
 
-            assertThrows(RokaMokaContentDuplicatedException.class, () -> this.mokadexService.collectStar("QRCODE"));
+            assertThrows(RokaMokaContentDuplicatedException.class, () -> this.mokadexService.collectStar(artwork));
         }
 
-        verify(this.mokadexRepository).findMokadexByUsername(anyString());
-        verify(this.artworkService).getByQrCodeOrThrow(anyString());
+        verify(this.mokadexRepository).findMokadexIdByUsername(anyString());
+        verify(this.mokadexRepository).insertArtwork(anyLong(), anyLong());
         verify(this.emblemService).existsEmblemByExhibitionId(anyLong());
-        verify(this.mokadexRepository).hasCollectedAllArtworksInExhibition(anyLong(), anyLong());
-        verify(this.collectEmblemProducer).publishCollectEmblem(any(Mokadex.class), any(Exhibition.class));
+        verify(this.collectionProgressRepository).hasCollectedAllArtworksInExhibition(anyLong(), anyLong());
+        verify(this.collectEmblemProducer).publishCollectEmblem(DEFAULT_ID, artwork.getExhibitionId());
         verifyNoMoreInteractions(
                 this.mokadexRepository,
+                this.collectionProgressRepository,
                 this.artworkService,
                 this.emblemService,
                 this.collectEmblemProducer);
     }
 
     @Test
-    void collectStar_shouldThrowServiceException_whenMokadexAlreadyContainsArtworkButEmblemDoesNotExist() {
+    void collectStar_shouldThrowRokaMokaContentDuplicatedException_whenMokadexAlreadyContainsArtworkAndEmblemDoesNotExist() {
         // Arrange
         var mockContext = this.mockServiceContext();
-        var mokadex = mock(Mokadex.class);
-        var artwork = Instancio.create(Artwork.class);
+        var artwork = this.mockArtworkSummary(10L, 100L);
 
-        when(this.mokadexRepository.findMokadexByUsername(anyString())).thenReturn(Optional.of(mokadex));
-        when(this.artworkService.getByQrCodeOrThrow(anyString())).thenReturn(artwork);
-        when(mokadex.containsArtwork(artwork)).thenReturn(true);
-        when(this.emblemService.existsEmblemByExhibitionId(anyLong())).thenReturn(false);
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.mokadexRepository.insertArtwork(anyLong(), anyLong())).thenReturn(0);
+        when(this.emblemService.existsEmblemByExhibitionId(100L)).thenReturn(false);
 
         // Act & Assert
         try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
             mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
 
-            assertThrows(ServiceException.class, () -> this.mokadexService.collectStar("QRCODE"));
+            assertThrows(RokaMokaContentDuplicatedException.class, () -> this.mokadexService.collectStar(artwork));
         }
 
-        verify(this.mokadexRepository).findMokadexByUsername(anyString());
-        verify(this.artworkService).getByQrCodeOrThrow(anyString());
+        verify(this.mokadexRepository).findMokadexIdByUsername(anyString());
+        verify(this.mokadexRepository).insertArtwork(anyLong(), anyLong());
         verify(this.emblemService).existsEmblemByExhibitionId(anyLong());
         verifyNoMoreInteractions(this.mokadexRepository, this.artworkService, this.emblemService);
         verifyNoInteractions(this.collectEmblemProducer);
@@ -278,90 +505,117 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
     void collectStar_shouldThrowRokaMokaContentDuplicatedException_whenMokadexAlreadyContainsArtworkAndEmblemWasAlreadyCollected() {
         // Arrange
         var mockContext = this.mockServiceContext();
-        var mokadex = mock(Mokadex.class);
-        var artwork = Instancio.create(Artwork.class);
+        var artwork = this.mockArtworkSummary(10L, 100L);
 
-        when(this.mokadexRepository.findMokadexByUsername(anyString())).thenReturn(Optional.of(mokadex));
-        when(this.artworkService.getByQrCodeOrThrow(anyString())).thenReturn(artwork);
-        when(mokadex.containsArtwork(artwork)).thenReturn(true);
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.mokadexRepository.insertArtwork(anyLong(), anyLong())).thenReturn(0);
         when(this.emblemService.existsEmblemByExhibitionId(anyLong())).thenReturn(true);
-        when(mokadex.getId()).thenReturn(1L);
-        when(this.mokadexRepository.hasCollectedAllArtworksInExhibition(anyLong(), anyLong())).thenReturn(false);
+        when(this.collectionProgressRepository.hasCollectedAllArtworksInExhibition(anyLong(), anyLong())).thenReturn(false);
 
         // Act & Assert
         try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
             mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
 
-            assertThrows(RokaMokaContentDuplicatedException.class, () -> this.mokadexService.collectStar("QRCODE"));
+            assertThrows(RokaMokaContentDuplicatedException.class, () -> this.mokadexService.collectStar(artwork));
         }
 
-        verify(this.mokadexRepository).findMokadexByUsername(anyString());
-        verify(this.artworkService).getByQrCodeOrThrow(anyString());
+        verify(this.mokadexRepository).findMokadexIdByUsername(anyString());
+        verify(this.mokadexRepository).insertArtwork(anyLong(), anyLong());
         verify(this.emblemService).existsEmblemByExhibitionId(anyLong());
-        verify(this.mokadexRepository).hasCollectedAllArtworksInExhibition(anyLong(), anyLong());
+        verify(this.collectionProgressRepository).hasCollectedAllArtworksInExhibition(anyLong(), anyLong());
         verifyNoMoreInteractions(this.mokadexRepository, this.artworkService, this.emblemService);
         verifyNoInteractions(this.collectEmblemProducer);
     }
 
     @Test
-    void collectStar_shouldThrowServiceException_whenMokadexFailsToCollectStar() {
+    void collectStar_shouldInsertStarAndPublishMessage_whenMokadexDoesNotContainArtwork() {
         // Arrange
         var mockContext = this.mockServiceContext();
-        var mokadex = mock(Mokadex.class);
-        var artwork = Instancio.create(Artwork.class);
+        var artwork = this.mockArtworkSummary(10L, 100L);
+
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.mokadexRepository.insertArtwork(DEFAULT_ID, artwork.getId())).thenReturn(1);
+        when(this.emblemService.existsEmblemByExhibitionId(anyLong())).thenReturn(true);
+        when(this.collectionProgressRepository.hasCollectedAllArtworksInExhibition(anyLong(), anyLong())).thenReturn(true);
+
+        // Act
+        Long actual;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            actual = this.mokadexService.collectStar(artwork);
+        }
 
-        when(this.mokadexRepository.findMokadexByUsername(anyString())).thenReturn(Optional.of(mokadex));
-        when(this.artworkService.getByQrCodeOrThrow(anyString())).thenReturn(artwork);
-        when(mokadex.containsArtwork(artwork)).thenReturn(false);
-        when(mokadex.addArtwork(artwork)).thenReturn(false);
+        // Assert
+        verify(this.mokadexRepository).findMokadexIdByUsername(anyString());
+        verify(this.mokadexRepository).insertArtwork(DEFAULT_ID, artwork.getId());
+        verify(this.collectionProgressRepository).incrementCollectedCount(DEFAULT_ID, artwork.getExhibitionId());
+        verify(this.eventPublisher).publishEvent(
+                new StarCollectedEvent(DEFAULT_ID, LOGGED_USER_NAME, artwork.getExhibitionId()));
+        verify(this.emblemService).existsEmblemByExhibitionId(anyLong());
+        verify(this.collectionProgressRepository).hasCollectedAllArtworksInExhibition(anyLong(), anyLong());
+        verify(this.collectEmblemProducer).publishCollectEmblem(DEFAULT_ID, artwork.getExhibitionId());
+        verifyNoMoreInteractions(
+                this.mokadexRepository,
+                this.collectionProgressRepository,
+                this.artworkService,
+                this.emblemService,
+                this.collectEmblemProducer);
+
+        assertEquals(DEFAULT_ID, actual);
+    }
+
+    @Test
+    void collectStar_shouldThrowRokaMokaContentNotFoundException_whenArtworkWasDeleted() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var artwork = this.mockArtworkSummary(10L, 100L);
+
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.mokadexRepository.insertArtwork(DEFAULT_ID, 10L)).thenThrow(violationOf("fk_obra"));
 
         // Act & Assert
         try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
             mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
 
-            assertThrows(ServiceException.class, () -> this.mokadexService.collectStar("QRCODE"));
+            assertThrows(RokaMokaContentNotFoundException.class,
+                    () -> this.mokadexService.collectStar(artwork));
         }
 
-        verify(this.mokadexRepository).findMokadexByUsername(anyString());
-        verify(this.artworkService).getByQrCodeOrThrow(anyString());
-        verifyNoMoreInteractions(this.mokadexRepository, this.artworkService);
-        verifyNoInteractions(this.emblemService, this.collectEmblemProducer);
+        verifyNoInteractions(this.artworkService, this.collectionProgressRepository, this.eventPublisher);
     }
 
     @Test
-    void collectStar_shouldCollectStarAndUpdateMokadexAndPublishMessage_whenMokadexDoesNotContainArtwork() {
+    void collectStar_shouldRethrowDataIntegrityViolationException_whenInsertViolatesOtherConstraint() {
         // Arrange
         var mockContext = this.mockServiceContext();
-        var mokadex = mock(Mokadex.class);
-        var artwork = Instancio.create(Artwork.class);
+        var artwork = this.mockArtworkSummary(10L, 100L);
+        var violation = violationOf("fk_mokadex");
 
-        when(this.mokadexRepository.findMokadexByUsername(anyString())).thenReturn(Optional.of(mokadex));
-        when(this.artworkService.getByQrCodeOrThrow(anyString())).thenReturn(artwork);
-        when(mokadex.containsArtwork(artwork)).thenReturn(false);
-        when(mokadex.addArtwork(artwork)).thenReturn(true);
-        when(this.mokadexRepository.save(mokadex)).thenAnswer(inv -> this.mockRepositorySave(inv.getArgument(0)));
-        when(this.emblemService.existsEmblemByExhibitionId(anyLong())).thenReturn(true);
-        when(mokadex.getId()).thenReturn(DEFAULT_ID);
-        when(this.mokadexRepository.hasCollectedAllArtworksInExhibition(anyLong(), anyLong())).thenReturn(true);
+        when(this.mokadexRepository.findMokadexIdByUsername(anyString())).thenReturn(Optional.of(DEFAULT_ID));
+        when(this.mokadexRepository.insertArtwork(DEFAULT_ID, 10L)).thenThrow(violation);
 
         // Act & Assert
         try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
             mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
 
-            this.mokadexService.collectStar("QRCODE");
+            assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                    () -> this.mokadexService.collectStar(artwork)));
         }
 
-        verify(this.mokadexRepository).findMokadexByUsername(anyString());
-        verify(this.artworkService).getByQrCodeOrThrow(anyString());
-        verify(this.emblemService).existsEmblemByExhibitionId(anyLong());
-        verify(this.mokadexRepository).save(any(Mokadex.class));
-        verify(this.mokadexRepository).hasCollectedAllArtworksInExhibition(anyLong(), anyLong());
-        verify(this.collectEmblemProducer).publishCollectEmblem(any(Mokadex.class), any(Exhibition.class));
-        verifyNoMoreInteractions(
-                this.mokadexRepository,
-                this.artworkService,
-                this.emblemService,
-                this.collectEmblemProducer);
+        verifyNoInteractions(this.artworkService, this.collectionProgressRepository, this.eventPublisher);
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("violação",
+                new ConstraintViolationException("violação", new SQLException(), constraintName));
+    }
+
+    private ArtworkQrCodeDTO mockArtworkSummary(Long id, Long exhibitionId) {
+        var artwork = mock(ArtworkQrCodeDTO.class);
+        when(artwork.getId()).thenReturn(id);
+        when(artwork.getExhibitionId()).thenReturn(exhibitionId);
+        return artwork;
     }
     //endregion
 
@@ -381,6 +635,8 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
 
         verify(this.mokadexRepository).findById(anyLong());
         verify(this.mokadexRepository).save(mokadex);
+        verify(this.mokadexRepository).incrementVersion(1L);
+        verify(this.eventPublisher).publishEvent(any(EmblemAwardedEvent.class));
         verifyNoMoreInteractions(this.mokadexRepository);
     }
 
@@ -432,6 +688,122 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
     }
     //endregion
 
+    //region collectEmblems
+    @Test
+    void collectEmblems_shouldInsertDistinctEligibleAwardsOnce_whenBatchHasDuplicates() {
+        // Arrange
+        var emblem = Instancio.create(Emblem.class);
+        var exhibitionId = emblem.getExhibition().getId();
+        var withoutEmblemId = exhibitionId + 1;
+        var requests = List.of(
+                new CollectEmblemDTO(1L, exhibitionId),
+                new CollectEmblemDTO(1L, exhibitionId),
+                new CollectEmblemDTO(2L, exhibitionId),
+                new CollectEmblemDTO(3L, withoutEmblemId));
+        var awarded = List.of(mock(AwardedEmblemDTO.class), mock(AwardedEmblemDTO.class));
+
+        when(this.emblemService.findAllByExhibitionIds(Set.of(exhibitionId, withoutEmblemId))).thenReturn(List.of(
+                emblem));
+        when(this.mokadexRepository.insertEmblems(any(Long[].class), any(Long[].class))).thenReturn(awarded);
+
+        // Act
+        var actual = this.mokadexService.collectEmblems(requests);
+
+        // Assert
+        assertEquals(awarded, actual);
+
+        var mokadexIds = ArgumentCaptor.forClass(Long[].class);
+        var emblemIds = ArgumentCaptor.forClass(Long[].class);
+        verify(this.emblemService).findAllByExhibitionIds(anySet());
+        verify(this.mokadexRepository).insertEmblems(mokadexIds.capture(), emblemIds.capture());
+        verify(this.eventPublisher, times(2)).publishEvent(any(EmblemAwardedEvent.class));
+        verifyNoMoreInteractions(this.mokadexRepository, this.emblemService);
+
+        assertArrayEquals(new Long[]{1L, 2L}, mokadexIds.getValue());
+        assertArrayEquals(new Long[]{emblem.getId(), emblem.getId()}, emblemIds.getValue());
+    }
+
+    @Test
+    void collectEmblems_shouldNotInsert_whenNoExhibitionHasEmblem() {
+        // Arrange
+        when(this.emblemService.findAllByExhibitionIds(anySet())).thenReturn(List.of());
+
+        // Act
+        var actual = this.mokadexService.collectEmblems(List.of(new CollectEmblemDTO(1L, 1L)));
+
+        // Assert
+        assertTrue(actual.isEmpty());
+
+        verify(this.emblemService).findAllByExhibitionIds(anySet());
+        verifyNoInteractions(this.mokadexRepository);
+    }
+
+    @Test
+    void collectEmblems_shouldReturnEmptyList_whenBatchIsEmpty() {
+        // Act
+        var actual = this.mokadexService.collectEmblems(List.of());
+
+        // Assert
+        assertTrue(actual.isEmpty());
+
+        verifyNoInteractions(this.mokadexRepository, this.emblemService);
+    }
+    //endregion
+
+    //region getLastMokadexId
+    @Test
+    void getLastMokadexId_shouldReturnHighestMokadexId() {
+        // Arrange
+        when(this.mokadexRepository.findMaxId()).thenReturn(42L);
+
+        // Act
+        var actual = this.mokadexService.getLastMokadexId();
+
+        // Assert
+        assertEquals(42L, actual);
+
+        verify(this.mokadexRepository).findMaxId();
+        verifyNoMoreInteractions(this.mokadexRepository);
+    }
+    //endregion
+
+    //region awardMissingEmblems
+    @Test
+    void awardMissingEmblems_shouldReturnNumberOfAwardedEmblems_whenRangeHasMissingEmblems() {
+        // Arrange
+        var awarded = List.of(mock(AwardedEmblemDTO.class), mock(AwardedEmblemDTO.class), mock(AwardedEmblemDTO.class));
+
+        when(this.mokadexRepository.insertMissingEmblems(anyLong(), anyLong())).thenReturn(awarded);
+
+        // Act
+        var actual = this.mokadexService.awardMissingEmblems(0L, 1000L);
+
+        // Assert
+        assertEquals(3, actual);
+
+        verify(this.mokadexRepository).insertMissingEmblems(0L, 1000L);
+        verify(this.eventPublisher, times(3)).publishEvent(any(EmblemAwardedEvent.class));
+        verifyNoMoreInteractions(this.mokadexRepository, this.eventPublisher);
+        verifyNoInteractions(this.emblemService, this.collectionProgressRepository, this.collectEmblemProducer);
+    }
+
+    @Test
+    void awardMissingEmblems_shouldReturnZero_whenRangeHasNoMissingEmblems() {
+        // Arrange
+        when(this.mokadexRepository.insertMissingEmblems(anyLong(), anyLong())).thenReturn(List.of());
+
+        // Act
+        var actual = this.mokadexService.awardMissingEmblems(1000L, 2000L);
+
+        // Assert
+        assertEquals(0, actual);
+
+        verify(this.mokadexRepository).insertMissingEmblems(1000L, 2000L);
+        verifyNoMoreInteractions(this.mokadexRepository);
+        verifyNoInteractions(this.eventPublisher);
+    }
+    //endregion
+
     //region getMissingStarsByExhibition
     @ParameterizedTest
     @MethodSource("provideGetMissingStarsByExhibitionInput")
@@ -475,6 +847,54 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
     }
     //endregion
 
+    //region getMissingStarSummariesByExhibition
+    @Test
+    void getMissingStarSummariesByExhibition_shouldReturnIndexedArtworksExceptCollected_whenInputIsValid() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var expected = Instancio.ofList(ArtworkOutputDTO.class).create();
+
+        when(this.mokadexRepository.findCollectedArtworkIds(anyString(), anyLong())).thenReturn(List.of(3L, 1L));
+        when(this.exhibitionArtworkIndex.findAllExcept(anyLong(), any(LongIdSet.class))).thenReturn(expected);
+
+        // Act
+        List<ArtworkOutputDTO> actual;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            actual = this.mokadexService.getMissingStarSummariesByExhibition(1L);
+        }
+
+        // Assert
+        assertEquals(expected, actual);
+
+        var collectedIds = ArgumentCaptor.forClass(LongIdSet.class);
+        verify(this.mokadexRepository).findCollectedArtworkIds(anyString(), anyLong());
+        verify(this.exhibitionArtworkIndex).findAllExcept(anyLong(), collectedIds.capture());
+        verifyNoMoreInteractions(this.mokadexRepository, this.exhibitionArtworkIndex);
+        verifyNoInteractions(this.exhibitionService);
+        assertArrayEquals(new long[]{1L, 3L}, collectedIds.getValue().toArray());
+    }
+
+    @Test
+    void getMissingStarSummariesByExhibition_shouldThrowRokaMokaContentNotFoundException_whenExhibitionDoesNotExist() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+
+        when(this.mokadexRepository.findCollectedArtworkIds(anyString(), anyLong())).thenReturn(List.of());
+        when(this.exhibitionArtworkIndex.findAllExcept(anyLong(), any(LongIdSet.class)))
+                .thenThrow(RokaMokaContentNotFoundException.class);
+
+        // Act & Assert
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            assertThrows(RokaMokaContentNotFoundException.class,
+                    () -> this.mokadexService.getMissingStarSummariesByExhibition(1L));
+        }
+    }
+    //endregion
+
     //region getSummary
     @Test
     void getSummary_shouldThrowRokaMokaNoUserInContextException_whenNoUserInContext()
@@ -520,4 +940,78 @@ class MokadexServiceTest implements MockUserSession, MockRepository<Mokadex> {
         }
     }
     //endregion
+
+    //region getLoggedUserVersion
+    @Test
+    void getLoggedUserVersion_shouldReturnVersionOfLoggedUserMokadex_whenUserInContext()
+    throws RokaMokaNoUserInContextException {
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            // Arrange
+            var mockContext = mock(ServiceContext.class);
+            var version = mock(MokadexVersionDTO.class);
+
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+            when(mockContext.getUsernameOrThrow()).thenReturn(LOGGED_USER_NAME);
+            when(this.mokadexRepository.findVersionByUsername(LOGGED_USER_NAME)).thenReturn(Optional.of(version));
+
+            // Act
+            var result = this.mokadexService.getLoggedUserVersion();
+
+            // Assert
+            assertEquals(Optional.of(version), result);
+
+            verify(this.mokadexRepository).findVersionByUsername(LOGGED_USER_NAME);
+            verifyNoMoreInteractions(this.mokadexRepository);
+        }
+    }
+    //endregion
+
+    //region openEventStream
+    @Test
+    void openEventStream_shouldSubscribeToLoggedUserMokadex_whenMokadexExists() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+        var emitter = new SseEmitter();
+
+        when(this.mokadexRepository.findMokadexIdByUsername(LOGGED_USER_NAME)).thenReturn(Optional.of(1L));
+        when(this.mokadexEventStream.subscribe(1L)).thenReturn(emitter);
+
+        // Act
+        SseEmitter result;
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            result = this.mokadexService.openEventStream();
+        }
+
+        // Assert
+        assertEquals(emitter, result);
+        verify(this.mokadexEventStream).subscribe(1L);
+    }
+
+    @Test
+    void openEventStream_shouldThrowServiceException_whenMokadexDoesNotExistForLoggedUser() {
+        // Arrange
+        var mockContext = this.mockServiceContext();
+
+        when(this.mokadexRepository.findMokadexIdByUsername(LOGGED_USER_NAME)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        try (var mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            assertThrows(ServiceException.class, () -> this.mokadexService.openEventStream());
+        }
+
+        verifyNoInteractions(this.mokadexEventStream);
+    }
+    //endregion
+
+    private MokadexItemDTO mockItem(String kind, Long id, Long exhibitionId) {
+        var item = mock(MokadexItemDTO.class);
+        when(item.isEmblem()).thenReturn(MokadexItemDTO.EMBLEM.equals(kind));
+        when(item.getId()).thenReturn(id);
+        when(item.getExhibitionId()).thenReturn(exhibitionId);
+        return item;
+    }
 }
@@ -0,0 +1,134 @@
+package br.edu.ufpel.rokamoka.service.outbox;
+
+import br.edu.ufpel.rokamoka.config.broker.RabbitMQOutboxConfigProperties;
+import br.edu.ufpel.rokamoka.core.OutboxMessage;
+import br.edu.ufpel.rokamoka.repository.OutboxMessageRepository;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the {@link OutboxService} relay flow, ensuring that messages are only removed from the outbox after the broker
+ * confirms them.
+ *
+ * @see OutboxMessageRepository
+ * @see RabbitTemplate
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private RabbitMQOutboxConfigProperties rabbitMQOutboxConfigProperties;
+
+    private RabbitOperations rabbitOperations;
+
+    @BeforeEach
+    void setUp() {
+        this.rabbitOperations = mock(RabbitOperations.class);
+        when(this.rabbitMQOutboxConfigProperties.getBatchSize()).thenReturn(100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockInvoke() {
+        when(this.rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(
+                inv -> inv.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(this.rabbitOperations));
+    }
+
+    //region publishPendingBatch
+    @Test
+    void publishPendingBatch_shouldReturnZero_whenOutboxIsEmpty() {
+        // Arrange
+        when(this.outboxMessageRepository.lockNextBatch(anyInt())).thenReturn(Collections.emptyList());
+
+        // Act
+        int actual = this.outboxService.publishPendingBatch();
+
+        // Assert
+        assertEquals(0, actual);
+
+        verify(this.outboxMessageRepository).lockNextBatch(100);
+        verifyNoMoreInteractions(this.outboxMessageRepository);
+        verifyNoInteractions(this.rabbitTemplate);
+    }
+
+    @Test
+    void publishPendingBatch_shouldPublishAndDeleteBatch_whenBrokerConfirms() {
+        // Arrange
+        List<OutboxMessage> batch = Instancio.ofList(OutboxMessage.class).size(3).create();
+
+        when(this.outboxMessageRepository.lockNextBatch(anyInt())).thenReturn(batch);
+        when(this.rabbitMQOutboxConfigProperties.getConfirmTimeout()).thenReturn(5000L);
+        this.mockInvoke();
+
+        // Act
+        int actual = this.outboxService.publishPendingBatch();
+
+        // Assert
+        assertEquals(batch.size(), actual);
+
+        var captor = ArgumentCaptor.forClass(Message.class);
+        verify(this.rabbitOperations, times(batch.size())).send(anyString(), anyString(), captor.capture());
+        verify(this.rabbitOperations).waitForConfirmsOrDie(5000L);
+        verify(this.outboxMessageRepository).deleteAllInBatch(batch);
+
+        var first = batch.get(0);
+        var sent = captor.getAllValues().get(0);
+        assertEquals(first.getPayload(), new String(sent.getBody(), StandardCharsets.UTF_8));
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, sent.getMessageProperties().getContentType());
+        assertEquals(first.getPayloadType(),
+                sent.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+    }
+
+    @Test
+    void publishPendingBatch_shouldKeepBatch_whenBrokerDoesNotConfirm() {
+        // Arrange
+        List<OutboxMessage> batch = Instancio.ofList(OutboxMessage.class).size(2).create();
+
+        when(this.outboxMessageRepository.lockNextBatch(anyInt())).thenReturn(batch);
+        doThrow(mock(AmqpException.class)).when(this.rabbitOperations).waitForConfirmsOrDie(anyLong());
+        this.mockInvoke();
+
+        // Act & Assert
+        assertThrows(AmqpException.class, () -> this.outboxService.publishPendingBatch());
+
+        verify(this.outboxMessageRepository).lockNextBatch(100);
+        verifyNoMoreInteractions(this.outboxMessageRepository);
+    }
+    //endregion
+}
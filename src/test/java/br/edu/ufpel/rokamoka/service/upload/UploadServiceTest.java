@@ -0,0 +1,298 @@
+package br.edu.ufpel.rokamoka.service.upload;
+
+import br.edu.ufpel.rokamoka.config.UploadConfigProperties;
+import br.edu.ufpel.rokamoka.context.ServiceContext;
+import br.edu.ufpel.rokamoka.dto.upload.input.UploadInputDTO;
+import br.edu.ufpel.rokamoka.dto.upload.output.UploadOutputDTO;
+import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
+import br.edu.ufpel.rokamoka.service.MockUserSession;
+import org.apache.coyote.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link UploadService} class, which is responsible for assembling resumable uploads on disk.
+ *
+ * @see IUploadService
+ */
+@ExtendWith(MockitoExtension.class)
+class UploadServiceTest implements MockUserSession {
+
+    private static final long MAX_CHUNK_SIZE = 4;
+
+    @InjectMocks
+    private UploadService uploadService;
+
+    @Mock
+    private UploadConfigProperties uploadConfigProperties;
+
+    @TempDir
+    private Path directory;
+
+    private ServiceContext mockContext;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mockContext = mock(ServiceContext.class);
+        when(this.mockContext.getUsernameOrThrow()).thenReturn(LOGGED_USER_NAME);
+    }
+
+    //region start
+    @Test
+    void start_shouldCreateEmptyFile_whenSizeIsAllowed() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act
+        UploadOutputDTO actual;
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            actual = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L));
+        }
+
+        // Assert
+        assertEquals(new UploadOutputDTO(actual.id(), 10, 0, 0, MAX_CHUNK_SIZE, false), actual);
+        assertEquals(0, Files.size(this.directory.resolve(actual.id() + ".part")));
+    }
+
+    @Test
+    void start_shouldThrowBadRequestException_whenFileIsTooLarge() {
+        // Arrange
+        when(this.uploadConfigProperties.getMaxFileSize()).thenReturn(100L);
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            assertThrows(BadRequestException.class,
+                    () -> this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 101L)));
+        }
+    }
+    //endregion
+
+    //region appendChunk
+    @Test
+    void appendChunk_shouldAssembleFile_whenChunksArriveInOrder() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act
+        UploadOutputDTO actual;
+        byte[] assembled;
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            this.uploadService.appendChunk(id, 0, this.chunk("0123"));
+            this.uploadService.appendChunk(id, 1, this.chunk("4567"));
+            actual = this.uploadService.appendChunk(id, 2, this.chunk("89"));
+            assembled = this.uploadService.getCompletedFile(id).getBytes();
+        }
+
+        // Assert
+        assertEquals(new UploadOutputDTO(actual.id(), 10, 10, 3, MAX_CHUNK_SIZE, true), actual);
+        assertArrayEquals("0123456789".getBytes(), assembled);
+    }
+
+    @Test
+    void appendChunk_shouldNotWriteAgain_whenChunkWasAlreadyReceived() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act
+        UploadOutputDTO actual;
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            this.uploadService.appendChunk(id, 0, this.chunk("0123"));
+            actual = this.uploadService.appendChunk(id, 0, this.chunk("0123"));
+        }
+
+        // Assert
+        assertEquals(4, actual.receivedBytes());
+        assertEquals(1, actual.nextChunk());
+        assertEquals(4, Files.size(this.directory.resolve(actual.id() + ".part")));
+    }
+
+    @Test
+    void appendChunk_shouldThrowBadRequestException_whenChunkIsOutOfOrder() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+
+            assertThrows(BadRequestException.class, () -> this.uploadService.appendChunk(id, 1, this.chunk("4567")));
+        }
+    }
+
+    @Test
+    void appendChunk_shouldDiscardChunk_whenItExceedsMaxChunkSize() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            this.uploadService.appendChunk(id, 0, this.chunk("0123"));
+
+            assertThrows(BadRequestException.class, () -> this.uploadService.appendChunk(id, 1, this.chunk("45678")));
+            assertEquals(4, this.uploadService.getStatus(id).receivedBytes());
+            assertEquals(4, Files.size(this.directory.resolve(id + ".part")));
+        }
+    }
+
+    @Test
+    void appendChunk_shouldDiscardPartialChunk_whenReadingItFails() throws Exception {
+        // Arrange
+        this.stubConfig();
+        var failing = new SequenceInputStream(this.chunk("45"), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Conexão perdida");
+            }
+        });
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            this.uploadService.appendChunk(id, 0, this.chunk("0123"));
+
+            assertThrows(IOException.class, () -> this.uploadService.appendChunk(id, 1, failing));
+            assertEquals(4, Files.size(this.directory.resolve(id + ".part")));
+
+            var actual = this.uploadService.appendChunk(id, 1, this.chunk("4567"));
+            assertEquals(8, actual.receivedBytes());
+            assertEquals(2, actual.nextChunk());
+        }
+    }
+    //endregion
+
+    //region getCompletedFile
+    @Test
+    void getCompletedFile_shouldThrowBadRequestException_whenUploadIsIncomplete() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            this.uploadService.appendChunk(id, 0, this.chunk("0123"));
+
+            assertThrows(BadRequestException.class, () -> this.uploadService.getCompletedFile(id));
+        }
+    }
+    //endregion
+
+    //region getStatus
+    @Test
+    void getStatus_shouldThrowRokaMokaContentNotFoundException_whenUploadBelongsToAnotherUser() throws Exception {
+        // Arrange
+        this.stubConfig();
+        var otherContext = mock(ServiceContext.class);
+        when(otherContext.getUsernameOrThrow()).thenReturn("outroUsuario");
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(otherContext);
+            assertThrows(RokaMokaContentNotFoundException.class, () -> this.uploadService.getStatus(id));
+        }
+    }
+    //endregion
+
+    //region discard
+    @Test
+    void discard_shouldDeleteFileAndForgetUpload_whenUploadExists() throws Exception {
+        // Arrange
+        this.stubConfig();
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var id = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            this.uploadService.discard(id);
+
+            assertFalse(Files.exists(this.directory.resolve(id + ".part")));
+            assertThrows(RokaMokaContentNotFoundException.class, () -> this.uploadService.getStatus(id));
+        }
+    }
+    //endregion
+
+    //region deleteExpired
+    @Test
+    void deleteExpired_shouldRemoveOnlyUploadsWithoutRecentChunks_whenCalled() throws Exception {
+        // Arrange
+        this.stubConfig();
+        when(this.uploadConfigProperties.getTtl()).thenReturn(60000L);
+        var orphan = Files.createFile(this.directory.resolve("orfao.part"));
+        var longAgo = FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS));
+        Files.setLastModifiedTime(orphan, longAgo);
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(this.mockContext);
+
+            var expired = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            var recent = this.uploadService.start(new UploadInputDTO("obra.jpg", "image/jpeg", 10L)).id();
+            Files.setLastModifiedTime(this.directory.resolve(expired + ".part"), longAgo);
+
+            this.uploadService.deleteExpired();
+
+            assertFalse(Files.exists(orphan));
+            assertFalse(Files.exists(this.directory.resolve(expired + ".part")));
+            assertThrows(RokaMokaContentNotFoundException.class, () -> this.uploadService.getStatus(expired));
+            assertTrue(Files.exists(this.directory.resolve(recent + ".part")));
+        }
+    }
+    //endregion
+
+    private void stubConfig() {
+        when(this.uploadConfigProperties.getDirectory()).thenReturn(this.directory.toString());
+        when(this.uploadConfigProperties.getMaxFileSize()).thenReturn(100L);
+        when(this.uploadConfigProperties.getMaxChunkSize()).thenReturn(MAX_CHUNK_SIZE);
+    }
+
+    private InputStream chunk(String content) {
+        return new ByteArrayInputStream(content.getBytes());
+    }
+}
@@ -13,6 +13,7 @@ import br.edu.ufpel.rokamoka.dto.user.input.UserAnonymousRequestDTO;
 import br.edu.ufpel.rokamoka.dto.user.input.UserInputDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserAnonymousResponseDTO;
 import br.edu.ufpel.rokamoka.dto.user.output.UserOutputDTO;
+import br.edu.ufpel.rokamoka.dto.user.output.UserProfileDTO;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentDuplicatedException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaContentNotFoundException;
 import br.edu.ufpel.rokamoka.exceptions.RokaMokaForbiddenException;
@@ -38,11 +39,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.instancio.Select.field;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -372,7 +375,7 @@ class UserServiceTest implements MockUserSession, MockRepository<User> {
         // Arrange
         ServiceContext mockContext = this.mockServiceContext();
 
-        when(this.userRepository.findByNome(LOGGED_USER_NAME)).thenReturn(Optional.empty());
+        when(this.userRepository.findProfileByNome(LOGGED_USER_NAME)).thenReturn(Optional.empty());
 
         // Act & Assert
         try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
@@ -381,7 +384,7 @@ class UserServiceTest implements MockUserSession, MockRepository<User> {
             assertThrows(RokaMokaContentNotFoundException.class, () -> this.userService.getLoggedUserInformation());
         }
 
-        verify(this.userRepository).findByNome(LOGGED_USER_NAME);
+        verify(this.userRepository).findProfileByNome(LOGGED_USER_NAME);
         verifyNoMoreInteractions(this.userRepository);
         verifyNoInteractions(this.mokadexService, this.deviceService, this.authenticationService, this.roleRepository);
     }
@@ -390,15 +393,17 @@ class UserServiceTest implements MockUserSession, MockRepository<User> {
     void getLoggedUserInformation_shouldReturnUserInformation_whenLoggedInUserIsFound()
     throws RokaMokaContentNotFoundException {
         // Arrange
-        User loggedIn = Instancio.create(User.class);
         ServiceContext mockContext = this.mockServiceContext();
 
-        Mokadex mokadex = Instancio.create(Mokadex.class);
+        UserProfileDTO profile = mock(UserProfileDTO.class);
+        when(profile.getNome()).thenReturn(LOGGED_USER_NAME);
+        when(profile.getEmail()).thenReturn("email");
+        when(profile.getRole()).thenReturn(RoleEnum.USER);
+        when(profile.getMokadexId()).thenReturn(1L);
         MokadexOutputDTO expectedOutput = Instancio.create(MokadexOutputDTO.class);
 
-        when(this.mokadexService.getOrCreateMokadexByUser(loggedIn)).thenReturn(mokadex);
-        when(this.mokadexService.getMokadexOutputDTOByMokadex(mokadex)).thenReturn(expectedOutput);
-        when(this.userRepository.findByNome(LOGGED_USER_NAME)).thenReturn(Optional.of(loggedIn));
+        when(this.userRepository.findProfileByNome(LOGGED_USER_NAME)).thenReturn(Optional.of(profile));
+        when(this.mokadexService.readMokadexOutputDTOByMokadexId(1L)).thenReturn(expectedOutput);
 
         // Act & Assert
         try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
@@ -406,18 +411,49 @@ class UserServiceTest implements MockUserSession, MockRepository<User> {
 
             UserOutputDTO actualUserOutput = this.userService.getLoggedUserInformation();
             assertNotNull(actualUserOutput);
-            assertEquals(loggedIn.getNome(), actualUserOutput.name());
-            assertEquals(loggedIn.getEmail(), actualUserOutput.email());
-            assertEquals(loggedIn.getRole().getName().getDescription(), actualUserOutput.role());
+            assertEquals(LOGGED_USER_NAME, actualUserOutput.name());
+            assertEquals("email", actualUserOutput.email());
+            assertEquals(RoleEnum.USER.getDescription(), actualUserOutput.role());
 
             MokadexOutputDTO actualMokadex = actualUserOutput.mokaDex();
             assertNotNull(actualMokadex);
             assertEquals(expectedOutput, actualMokadex);
         }
 
-        verify(this.userRepository).findByNome(LOGGED_USER_NAME);
+        verify(this.userRepository).findProfileByNome(LOGGED_USER_NAME);
+        verify(this.mokadexService).readMokadexOutputDTOByMokadexId(1L);
+        verifyNoMoreInteractions(this.userRepository, this.mokadexService);
+    }
+
+    @Test
+    void getLoggedUserInformation_shouldCreateMokadex_whenLoggedInUserHasNoMokadex()
+    throws RokaMokaContentNotFoundException {
+        // Arrange
+        User loggedIn = Instancio.create(User.class);
+        ServiceContext mockContext = this.mockServiceContext();
+
+        UserProfileDTO profile = mock(UserProfileDTO.class);
+        when(profile.getMokadexId()).thenReturn(null);
+        Mokadex mokadex = Instancio.create(Mokadex.class);
+        MokadexOutputDTO expectedOutput = new MokadexOutputDTO(Set.of(), Set.of());
+
+        when(this.userRepository.findProfileByNome(LOGGED_USER_NAME)).thenReturn(Optional.of(profile));
+        when(this.userRepository.findByNome(LOGGED_USER_NAME)).thenReturn(Optional.of(loggedIn));
+        when(this.mokadexService.getOrCreateMokadexByUser(loggedIn)).thenReturn(mokadex);
+        when(this.mokadexService.readMokadexOutputDTOByMokadexId(mokadex.getId())).thenReturn(expectedOutput);
+
+        // Act & Assert
+        try (MockedStatic<ServiceContext> mockedServiceContext = mockStatic(ServiceContext.class)) {
+            mockedServiceContext.when(ServiceContext::getContext).thenReturn(mockContext);
+
+            UserOutputDTO actualUserOutput = this.userService.getLoggedUserInformation();
+            assertNotNull(actualUserOutput);
+            assertNull(actualUserOutput.role());
+            assertEquals(expectedOutput, actualUserOutput.mokaDex());
+        }
+
         verify(this.mokadexService).getOrCreateMokadexByUser(loggedIn);
-        verify(this.mokadexService).getMokadexOutputDTOByMokadex(mokadex);
+        verify(this.mokadexService).readMokadexOutputDTOByMokadexId(mokadex.getId());
     }
     //endregion
 
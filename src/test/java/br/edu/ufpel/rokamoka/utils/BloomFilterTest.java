@@ -0,0 +1,93 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link BloomFilter} sizing and membership operations.
+ *
+ * @see BloomFilter
+ */
+class BloomFilterTest {
+
+    //region constructor
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenArgumentsAreOutOfRange() {
+        // Act & Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, Double.NaN))
+        );
+    }
+    //endregion
+
+    //region mightContain
+    @Test
+    void mightContain_shouldReturnFalse_whenFilterIsEmpty() {
+        // Arrange
+        var filter = new BloomFilter(100, 0.01);
+
+        // Act & Assert
+        assertAll(
+                () -> assertFalse(filter.mightContain("QR1")),
+                () -> assertFalse(filter.mightContain("")),
+                () -> assertEquals(0, filter.expectedFalsePositiveProbability())
+        );
+    }
+
+    @Test
+    void mightContain_shouldReturnTrue_whenValueWasAdded() {
+        // Arrange
+        var filter = new BloomFilter(1000, 0.01);
+
+        // Act
+        IntStream.range(0, 1000).forEach(i -> filter.put("QR" + i));
+
+        // Assert
+        assertTrue(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("QR" + i)));
+    }
+
+    @Test
+    void mightContain_shouldRejectMostValuesNeverAdded_whenFilterIsFilledToCapacity() {
+        // Arrange
+        var filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("obra-" + i));
+
+        // Act
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("desconhecida-" + i)).count();
+
+        // Assert
+        double rate = falsePositives / 100_000.0;
+        assertAll(
+                () -> assertTrue(rate < 0.02, "false positive rate " + rate),
+                () -> assertTrue(filter.expectedFalsePositiveProbability() < 0.02),
+                () -> assertEquals(10_000, filter.capacity())
+        );
+    }
+    //endregion
+
+    //region expectedFalsePositiveProbability
+    @Test
+    void expectedFalsePositiveProbability_shouldGrow_whenFilterFillsPastCapacity() {
+        // Arrange
+        var filter = new BloomFilter(100, 0.01);
+        IntStream.range(0, 100).forEach(i -> filter.put("QR" + i));
+        double atCapacity = filter.expectedFalsePositiveProbability();
+
+        // Act
+        IntStream.range(100, 1000).forEach(i -> filter.put("QR" + i));
+
+        // Assert
+        assertTrue(filter.expectedFalsePositiveProbability() > atCapacity);
+    }
+    //endregion
+}
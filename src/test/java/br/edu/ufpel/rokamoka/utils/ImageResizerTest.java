@@ -0,0 +1,129 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ImageResizer} generation of downscaled variants.
+ *
+ * @see ImageResizer
+ */
+class ImageResizerTest {
+
+    //region render
+    @Test
+    void render_shouldReturnJpegVariantsFromWidestDown_whenImageIsOpaque() throws IOException {
+        // Arrange
+        var image = png(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        // Act
+        var result = ImageResizer.render(new ByteArrayInputStream(image), List.of(320, 640, 4000), 0.85f);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertAll(
+                () -> assertEquals(640, result.get(0).width()),
+                () -> assertEquals(320, result.get(0).height()),
+                () -> assertEquals(320, result.get(1).width()),
+                () -> assertEquals(160, result.get(1).height()),
+                () -> assertTrue(result.stream().allMatch(r -> ImageResizer.JPEG.equals(r.contentType())))
+        );
+
+        var decoded = ImageIO.read(new ByteArrayInputStream(result.get(1).content()));
+        assertNotNull(decoded);
+        assertEquals(320, decoded.getWidth());
+        assertEquals(160, decoded.getHeight());
+    }
+
+    @Test
+    void render_shouldReturnPngVariants_whenImageIsTransparent() throws IOException {
+        // Arrange
+        var image = png(400, 300, BufferedImage.TYPE_INT_ARGB);
+
+        // Act
+        var result = ImageResizer.render(new ByteArrayInputStream(image), List.of(100), 0.85f);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(ImageResizer.PNG, result.get(0).contentType());
+        assertEquals(75, result.get(0).height());
+        assertTrue(ImageIO.read(new ByteArrayInputStream(result.get(0).content())).getColorModel().hasAlpha());
+    }
+
+    @Test
+    void render_shouldReturnNoVariant_whenImageIsNarrowerThanEveryWidth() throws IOException {
+        // Arrange
+        var image = png(300, 200, BufferedImage.TYPE_INT_RGB);
+
+        // Act & Assert
+        assertTrue(ImageResizer.render(new ByteArrayInputStream(image), List.of(320, 640), 0.85f).isEmpty());
+    }
+
+    @Test
+    void render_shouldThrowUnreadableImageException_whenContentIsNotAnImage() {
+        // Arrange
+        var content = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(ImageResizer.UnreadableImageException.class,
+                () -> ImageResizer.render(new ByteArrayInputStream(content), List.of(320), 0.85f));
+    }
+
+    @Test
+    void render_shouldThrowUnreadableImageException_whenImageIsTruncated() throws IOException {
+        // Arrange
+        var image = png(800, 600, BufferedImage.TYPE_INT_RGB);
+        var truncated = Arrays.copyOf(image, image.length / 2);
+
+        // Act & Assert
+        assertThrows(ImageResizer.UnreadableImageException.class,
+                () -> ImageResizer.render(new ByteArrayInputStream(truncated), List.of(320), 0.85f));
+    }
+
+    @Test
+    void render_shouldRethrowInputFailure_whenReadingTheInputFails() throws IOException {
+        // Arrange
+        var image = new ByteArrayInputStream(png(800, 600, BufferedImage.TYPE_INT_RGB));
+        var failure = new IOException("Conexão encerrada");
+        var input = new InputStream() {
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (++this.read > 100) {
+                    throw failure;
+                }
+                return image.read();
+            }
+        };
+
+        // Act
+        var thrown = assertThrows(IOException.class, () -> ImageResizer.render(input, List.of(320), 0.85f));
+
+        // Assert
+        assertSame(failure, thrown);
+    }
+    //endregion
+
+    private static byte[] png(int width, int height, int type) throws IOException {
+        var output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", output);
+        return output.toByteArray();
+    }
+}
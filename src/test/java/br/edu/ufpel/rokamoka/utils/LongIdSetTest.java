@@ -0,0 +1,77 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link LongIdSet} construction and membership operations.
+ *
+ * @see LongIdSet
+ */
+class LongIdSetTest {
+
+    //region of
+    @Test
+    void of_shouldReturnEmptySet_whenCollectionIsNull() {
+        // Act
+        var result = LongIdSet.of(null, Function.identity());
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void of_shouldKeepDistinctSortedIdsAndIgnoreNulls_whenCollectionHasDuplicatesAndNulls() {
+        // Arrange
+        List<Long> ids = Arrays.asList(5L, null, 3L, 5L, 1L, null, 3L);
+
+        // Act
+        var result = LongIdSet.of(ids, Function.identity());
+
+        // Assert
+        assertAll(
+                () -> assertEquals(3, result.size()),
+                () -> assertArrayEquals(new long[]{1L, 3L, 5L}, result.toArray()),
+                () -> assertTrue(result.contains(3L)),
+                () -> assertFalse(result.contains(4L))
+        );
+    }
+    //endregion
+
+    //region add
+    @Test
+    void add_shouldKeepIdsSorted_whenIdsAreAddedOutOfOrder() {
+        // Arrange
+        var set = new LongIdSet();
+
+        // Act
+        for (long id = 20; id > 0; id -= 2) {
+            set.add(id);
+        }
+
+        // Assert
+        assertEquals(10, set.size());
+        assertArrayEquals(new long[]{2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L, 20L}, set.toArray());
+    }
+
+    @Test
+    void add_shouldReturnFalse_whenIdIsAlreadyPresent() {
+        // Arrange
+        var set = LongIdSet.of(List.of(1L, 2L), Function.identity());
+
+        // Act & Assert
+        assertFalse(set.add(2L));
+        assertTrue(set.add(3L));
+        assertEquals(3, set.size());
+    }
+    //endregion
+}
@@ -0,0 +1,102 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link QrCodeSignature} signing and verification of QR codes.
+ *
+ * @see QrCodeSignature
+ */
+class QrCodeSignatureTest {
+
+    private final QrCodeSignature signature = new QrCodeSignature(
+            "segredo-de-teste-rokamoka".getBytes(StandardCharsets.UTF_8));
+
+    //region constructor
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenSecretIsTooShort() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new QrCodeSignature("curto".getBytes(StandardCharsets.UTF_8)));
+    }
+    //endregion
+
+    //region sign
+    @Test
+    void sign_shouldReturnSameCompactQrCode_whenSigningSameIdsTwice() {
+        // Act
+        var first = this.signature.sign(123L, 7L);
+        var second = this.signature.sign(123L, 7L);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(first, second),
+                () -> assertTrue(first.startsWith("RK1.123.7.")),
+                () -> assertEquals("RK1.123.7.".length() + 11, first.length()),
+                () -> assertTrue(QrCodeSignature.isSigned(first))
+        );
+    }
+    //endregion
+
+    //region verify
+    @Test
+    void verify_shouldReturnIds_whenQrCodeWasSignedWithSameSecret() {
+        // Act
+        var actual = this.signature.verify(this.signature.sign(123L, 7L));
+
+        // Assert
+        assertEquals(Optional.of(new QrCodeSignature.Payload(123L, 7L)), actual);
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_whenQrCodeIsTamperedWith() {
+        // Arrange
+        var signed = this.signature.sign(123L, 7L);
+        var tag = signed.substring(signed.lastIndexOf('.') + 1);
+        var otherTag = (tag.charAt(0) == 'A' ? 'B' : 'A') + tag.substring(1);
+
+        // Act & Assert
+        assertAll(
+                () -> assertFalse(this.signature.verify("RK1.124.7." + tag).isPresent()),
+                () -> assertFalse(this.signature.verify("RK1.123.8." + tag).isPresent()),
+                () -> assertFalse(this.signature.verify("RK1.123.7." + otherTag).isPresent()),
+                () -> assertFalse(this.signature.verify(signed + "A").isPresent())
+        );
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_whenQrCodeWasSignedWithAnotherSecret() {
+        // Arrange
+        var other = new QrCodeSignature("outro-segredo-rokamoka".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        var actual = this.signature.verify(other.sign(123L, 7L));
+
+        // Assert
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void verify_shouldReturnEmpty_whenQrCodeIsNotSigned() {
+        // Act & Assert
+        assertAll(
+                () -> assertTrue(this.signature.verify(null).isEmpty()),
+                () -> assertTrue(this.signature.verify("QR1").isEmpty()),
+                () -> assertTrue(this.signature.verify("RK1.").isEmpty()),
+                () -> assertTrue(this.signature.verify("RK1.123").isEmpty()),
+                () -> assertTrue(this.signature.verify("RK1.123.7").isEmpty()),
+                () -> assertTrue(this.signature.verify("RK1.123.7.@@@").isEmpty()),
+                () -> assertFalse(QrCodeSignature.isSigned("QR1"))
+        );
+    }
+    //endregion
+}
@@ -0,0 +1,127 @@
+package br.edu.ufpel.rokamoka.utils;
+
+import br.edu.ufpel.rokamoka.utils.ScoreRanking.RankedEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link ScoreRanking} update, top and rank operations.
+ *
+ * @see ScoreRanking
+ */
+class ScoreRankingTest {
+
+    //region increment
+    @Test
+    void increment_shouldAccumulateScore_whenIdIsIncrementedSeveralTimes() {
+        // Arrange
+        var ranking = new ScoreRanking();
+
+        // Act
+        ranking.increment(1L, 2);
+        var result = ranking.increment(1L, 3);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(5, result),
+                () -> assertEquals(5, ranking.scoreOf(1L)),
+                () -> assertEquals(1, ranking.size())
+        );
+    }
+
+    @Test
+    void increment_shouldNotGoBelowZero_whenDeltaIsNegative() {
+        // Arrange
+        var ranking = new ScoreRanking();
+        ranking.increment(1L, 1);
+
+        // Act
+        var result = ranking.increment(1L, -5);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(0, result),
+                () -> assertEquals(1, ranking.rankOf(1L))
+        );
+    }
+    //endregion
+
+    //region top
+    @Test
+    void top_shouldReturnHighestScoresFirstWithSharedRanks_whenScoresAreTied() {
+        // Arrange
+        var ranking = new ScoreRanking();
+        ranking.increment(1L, 3);
+        ranking.increment(2L, 7);
+        ranking.increment(3L, 3);
+        ranking.increment(4L, 1);
+
+        // Act
+        var result = ranking.top(3);
+
+        // Assert
+        assertEquals(List.of(
+                new RankedEntry(1, 2L, 7),
+                new RankedEntry(2, 1L, 3),
+                new RankedEntry(2, 3L, 3)), result);
+    }
+
+    @Test
+    void top_shouldReturnEmptyList_whenRankingIsEmpty() {
+        // Act
+        var result = new ScoreRanking().top(10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+    //endregion
+
+    //region rankOf
+    @Test
+    void rankOf_shouldFollowCompetitionRanking_whenScoresChange() {
+        // Arrange
+        var ranking = new ScoreRanking();
+        ranking.increment(1L, 3);
+        ranking.increment(2L, 7);
+        ranking.increment(3L, 3);
+        ranking.increment(4L, 1);
+
+        // Act
+        ranking.increment(4L, 6);
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1, ranking.rankOf(2L)),
+                () -> assertEquals(1, ranking.rankOf(4L)),
+                () -> assertEquals(3, ranking.rankOf(1L)),
+                () -> assertEquals(3, ranking.rankOf(3L)),
+                () -> assertEquals(0, ranking.rankOf(5L))
+        );
+    }
+
+    @Test
+    void rankOf_shouldMatchTop_whenScoresGrowBeyondInitialCapacity() {
+        // Arrange
+        var ranking = new ScoreRanking();
+        for (long id = 1; id <= 200; id++) {
+            ranking.increment(id, id % 50);
+        }
+        ranking.increment(7L, 1000);
+
+        // Act
+        var top = ranking.top(200);
+
+        // Assert
+        assertEquals(200, top.size());
+        for (RankedEntry entry : top) {
+            assertEquals(entry.rank(), ranking.rankOf(entry.id()));
+        }
+        assertEquals(1, ranking.rankOf(7L));
+    }
+    //endregion
+}